@@ -9,7 +9,8 @@ import {
 import {
   getAllTransactions,
   createTransaction,
-  getDashboardMetrics
+  getDashboardMetrics,
+  subscribeDashboardStream
 } from '../services/api';
 
 // Import Chart.js
@@ -268,24 +269,68 @@ export default function Dashboard() {
     fetchAllData();
   }, []);
 
-  // Auto-refresh
+  // Merge server counters (snapshot or delta) into dashboard metrics
+  const applyCounters = (counters) => {
+    if (!counters || Object.keys(counters).length === 0) return;
+    setMetrics(prev => ({
+      ...prev,
+      ...(counters.totalTransactions !== undefined && { totalTransactions: counters.totalTransactions }),
+      ...(counters.fraudTransactions !== undefined && { fraudTransactions: counters.fraudTransactions }),
+      ...(counters.fraudRatePercentage !== undefined && { fraudRate: counters.fraudRatePercentage }),
+      ...(counters.averageFraudScore !== undefined && { averageFraudScore: counters.averageFraudScore }),
+      ...(counters.lowRiskCount !== undefined && { lowRiskCount: counters.lowRiskCount }),
+      ...(counters.mediumRiskCount !== undefined && { mediumRiskCount: counters.mediumRiskCount }),
+      ...(counters.highRiskCount !== undefined && { highRiskCount: counters.highRiskCount })
+    }));
+  };
+
+  // Live updates: server-pushed deltas, polling only as a fallback
   useEffect(() => {
-    if (autoRefresh && activeTab === 'transactions') {
-      autoRefreshIntervalRef.current = setInterval(() => {
-        fetchAllData();
-      }, 10000);
-    } else {
-      if (autoRefreshIntervalRef.current) {
-        clearInterval(autoRefreshIntervalRef.current);
-      }
+    if (!autoRefresh || activeTab !== 'transactions') {
+      return undefined;
     }
 
+    const startPolling = () => {
+      if (!autoRefreshIntervalRef.current) {
+        autoRefreshIntervalRef.current = setInterval(() => {
+          fetchAllData();
+        }, 10000);
+      }
+    };
+
+    const unsubscribe = subscribeDashboardStream({
+      onSnapshot: (snapshot) => applyCounters(snapshot.counters),
+      onDelta: (delta) => {
+        applyCounters(delta.counters);
+
+        if (delta.transactions?.length > 0) {
+          const incoming = delta.transactions.map(enrichTransaction);
+          setTransactions(prev => [...incoming.reverse(), ...prev].slice(0, 500));
+        }
+
+        if (delta.alerts?.length > 0 && showAlerts) {
+          playAlertSound();
+        }
+
+        // Server buffer overflowed: resync once from REST
+        if (delta.dropped > 0) {
+          fetchAllData();
+        }
+      },
+      onError: () => {
+        console.warn('Dashboard stream closed — falling back to polling');
+        startPolling();
+      }
+    });
+
     return () => {
+      unsubscribe();
       if (autoRefreshIntervalRef.current) {
         clearInterval(autoRefreshIntervalRef.current);
+        autoRefreshIntervalRef.current = null;
       }
     };
-  }, [autoRefresh, activeTab]);
+  }, [autoRefresh, activeTab, showAlerts]);
 
   // Apply filters & sorting (CLIENT-SIDE FILTERING ONLY)
   useEffect(() => {
@@ -110,6 +110,105 @@ export const deleteTransaction = async (id) => {
   return response.data;
 };
 
+/**
+ * =====================================================
+ * LIVE DASHBOARD STREAM (SERVER-SENT EVENTS)
+ * =====================================================
+ */
+
+// Bearer token saved at login; EventSource cannot send it, so the stream uses fetch
+const getAuthToken = () => localStorage.getItem("token");
+
+const STREAM_RETRY_MS = 3000;
+
+/**
+ * Subscribe to analytics snapshot + deltas instead of polling.
+ * The server aggregates once per tick for all viewers.
+ * Reconnects like EventSource after a dropped connection; an auth failure
+ * (401/403) is reported through onError instead.
+ * Returns an unsubscribe function.
+ */
+export const subscribeDashboardStream = ({ onSnapshot, onDelta, onError }) => {
+  const controller = new AbortController();
+  let retryMs = STREAM_RETRY_MS;
+  let retryTimer = null;
+
+  const dispatch = (block) => {
+    let type = "message";
+    const data = [];
+
+    for (const line of block.split(/\r?\n/)) {
+      if (line.startsWith(":")) continue; // comment / keep-alive
+      const colon = line.indexOf(":");
+      const field = colon === -1 ? line : line.slice(0, colon);
+      const value = colon === -1 ? "" : line.slice(colon + 1).replace(/^ /, "");
+
+      if (field === "event") type = value;
+      else if (field === "data") data.push(value);
+      else if (field === "retry" && /^\d+$/.test(value)) retryMs = Number(value);
+    }
+
+    if (data.length === 0) return;
+    if (type === "snapshot") onSnapshot?.(JSON.parse(data.join("\n")));
+    else if (type === "delta") onDelta?.(JSON.parse(data.join("\n")));
+  };
+
+  const connect = async () => {
+    try {
+      const token = getAuthToken();
+      const response = await fetch(`${API_BASE_URL}/analytics/stream`, {
+        headers: {
+          Accept: "text/event-stream",
+          ...(token ? { Authorization: `Bearer ${token}` } : {}),
+        },
+        cache: "no-store",
+        signal: controller.signal,
+      });
+
+      if (response.status === 401 || response.status === 403) {
+        onError?.(new Error(`Dashboard stream refused: ${response.status}`));
+        return;
+      }
+      if (!response.ok || !response.body) {
+        throw new Error(`Dashboard stream failed: ${response.status}`);
+      }
+
+      const reader = response.body.getReader();
+      const decoder = new TextDecoder();
+      let buffer = "";
+
+      for (;;) {
+        const { value, done } = await reader.read();
+        if (done) break;
+        buffer += decoder.decode(value, { stream: true });
+
+        // Events end with a blank line
+        let boundary;
+        while ((boundary = buffer.search(/\r?\n\r?\n/)) !== -1) {
+          const block = buffer.slice(0, boundary);
+          buffer = buffer.slice(boundary).replace(/^\r?\n\r?\n/, "");
+          dispatch(block);
+        }
+      }
+    } catch (error) {
+      if (controller.signal.aborted) return;
+      console.warn("Dashboard stream interrupted:", error.message);
+    }
+
+    // Server closed the stream (emitter timeout) or the network dropped: reconnect
+    if (!controller.signal.aborted) {
+      retryTimer = setTimeout(connect, retryMs);
+    }
+  };
+
+  connect();
+
+  return () => {
+    controller.abort();
+    clearTimeout(retryTimer);
+  };
+};
+
 /**
  * =====================================================
  * DASHBOARD METRICS (SINGLE SOURCE OF TRUTH)
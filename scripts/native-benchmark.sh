@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+#
+# JVM vs native image: startup time, memory footprint, steady-state
+# throughput on POST /api/transactions.
+#
+#   mvn package                       (JVM jar)
+#   mvn -Pnative native:compile       (native binary)
+#   BENCH_TOKEN=<jwt of an active user> scripts/native-benchmark.sh
+#
+# Needs MySQL reachable with the normal application config, curl and wrk.
+# Each target is started on its own, measured, loaded, then stopped.
+
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+PORT="${BENCH_PORT:-8090}"
+DURATION="${BENCH_DURATION:-60s}"
+WARMUP="${BENCH_WARMUP:-20s}"
+CONNECTIONS="${BENCH_CONNECTIONS:-32}"
+THREADS="${BENCH_THREADS:-4}"
+JAR="${BENCH_JAR:-$(ls "$ROOT"/target/fraud-detection-*.jar | grep -v original | head -1)}"
+NATIVE="${BENCH_NATIVE:-$ROOT/target/fraud-detection}"
+
+: "${BENCH_TOKEN:?set BENCH_TOKEN to a JWT for an active user}"
+command -v wrk >/dev/null || { echo "wrk is required" >&2; exit 1; }
+
+HEALTH_URL="http://localhost:$PORT/api/transactions/health"
+TX_URL="http://localhost:$PORT/api/transactions"
+
+rss_kb() {
+    awk '/VmRSS/ {print $2}' "/proc/$1/status"
+}
+
+run() {
+    local name="$1"; shift
+    local log="$ROOT/target/bench-$name.log"
+
+    # 1️⃣ Startup: launch to first successful health check
+    local start end pid
+    start=$(date +%s%N)
+    "$@" --server.port="$PORT" >"$log" 2>&1 &
+    pid=$!
+    until curl -sf "$HEALTH_URL" >/dev/null; do
+        kill -0 "$pid" 2>/dev/null || { echo "$name exited, see $log" >&2; exit 1; }
+        sleep 0.01
+    done
+    end=$(date +%s%N)
+    local startup_ms=$(( (end - start) / 1000000 ))
+    local rss_idle
+    rss_idle=$(rss_kb "$pid")
+
+    # 2️⃣ Warm-up load (discarded), then measured load
+    BENCH_TOKEN="$BENCH_TOKEN" wrk -t"$THREADS" -c"$CONNECTIONS" -d"$WARMUP" \
+        -s "$ROOT/scripts/transactions.lua" "$TX_URL" >/dev/null
+    local result
+    result=$(BENCH_TOKEN="$BENCH_TOKEN" wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency \
+        -s "$ROOT/scripts/transactions.lua" "$TX_URL")
+    local rss_loaded
+    rss_loaded=$(rss_kb "$pid")
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+
+    # 3️⃣ Report
+    local rps p99
+    rps=$(awk '/Requests\/sec/ {print $2}' <<<"$result")
+    p99=$(awk '$1 == "99%" {print $2}' <<<"$result")
+    printf '%-8s startup=%6d ms  rss_idle=%7d kB  rss_loaded=%7d kB  throughput=%10s req/s  p99=%s\n' \
+        "$name" "$startup_ms" "$rss_idle" "$rss_loaded" "$rps" "$p99"
+}
+
+run jvm    java -jar "$JAR"
+run native "$NATIVE"
@@ -0,0 +1,21 @@
+-- wrk script for POST /api/transactions: unique transaction ids, accounts
+-- spread wide enough that velocity and block rules stay quiet.
+
+local counter = 0
+local token = os.getenv("BENCH_TOKEN")
+local run = tostring(os.time())
+
+wrk.method = "POST"
+wrk.headers["Content-Type"] = "application/json"
+wrk.headers["Authorization"] = "Bearer " .. token
+
+request = function()
+    counter = counter + 1
+    local body = string.format(
+        '{"transactionId":"BENCH-%s-%d-%d","accountId":"BENCH%d","customerName":"Benchmark",'
+            .. '"amount":%d,"transactionType":"UPI","city":"Bangalore",'
+            .. '"ipAddress":"10.0.%d.%d","deviceId":"bench-%d"}',
+        run, math.random(1, 1000000000), counter, counter % 20000,
+        100 + counter % 5000, counter % 250, counter % 250, counter % 20000)
+    return wrk.format(nil, nil, nil, body)
+end
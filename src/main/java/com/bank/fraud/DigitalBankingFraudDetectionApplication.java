@@ -1,8 +1,11 @@
 package com.bank.fraud;
 
+import com.bank.fraud.config.NativeRuntimeHints;
+
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
 @ComponentScan(basePackages = {
@@ -12,6 +15,7 @@ import org.springframework.context.annotation.ComponentScan;
         "com.example.fraud_detection.repository",
         "com.example.fraud_detection.entity"
 })
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class DigitalBankingFraudDetectionApplication {
     public static void main(String[] args) {
         SpringApplication.run(DigitalBankingFraudDetectionApplication.class, args);
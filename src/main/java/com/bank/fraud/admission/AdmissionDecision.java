@@ -0,0 +1,7 @@
+package com.bank.fraud.admission;
+
+public enum AdmissionDecision {
+    ACCEPT,
+    DEGRADED,       // Rule-only scoring, deferred audit
+    SHED            // Rejected with 503 before any work is done
+}
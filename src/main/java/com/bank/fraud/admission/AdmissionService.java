@@ -0,0 +1,207 @@
+package com.bank.fraud.admission;
+
+import com.bank.fraud.cluster.ClusterNode;
+import com.bank.fraud.cluster.ConsistentHashRing;
+import com.bank.fraud.cluster.OwnershipChangeListener;
+import com.bank.fraud.dto.TransactionRequestDTO;
+import com.bank.fraud.dto.TransactionResponseDTO;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+public class AdmissionService implements OwnershipChangeListener {
+
+    /*
+     * Admission control for /api/transactions.
+     *
+     * In-flight work (queued on an account lane or running) is capped by an
+     * adaptive limit. Each priority class may fill a different share of it:
+     *
+     *   0 ────── degrade-at ────── low-share ────── 1.0 ────── critical-headroom
+     *   ACCEPT   | DEGRADED (all)  | LOW shed       | NORMAL shed | CRITICAL shed
+     *
+     * so low-value traffic is degraded, then shed, long before a high-value
+     * or already-suspicious transaction is turned away.
+     */
+
+    public record Permit(AdmissionDecision decision, Priority priority, long startNanos, int inflightAtStart) {
+
+        public boolean isDegraded() {
+            return decision == AdmissionDecision.DEGRADED;
+        }
+    }
+
+    private static final Permit UNLIMITED = new Permit(AdmissionDecision.ACCEPT, Priority.NORMAL, 0, 0);
+
+    private final boolean enabled;
+    private final double degradeAt;
+    private final double lowShare;
+    private final double criticalHeadroom;
+    private final double lowValueAmount;
+    private final double highValueAmount;
+    private final long suspicionTtlMillis;
+
+    private final GradientConcurrencyLimiter limiter;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    // accountId -> expiry; accounts that recently scored MEDIUM/HIGH
+    private final Map<String, Long> suspiciousAccounts = new ConcurrentHashMap<>();
+
+    private final Map<Priority, LongAdder> accepted = counters();
+    private final Map<Priority, LongAdder> degraded = counters();
+    private final Map<Priority, LongAdder> shed = counters();
+
+    public AdmissionService(
+            @Value("${admission.enabled:false}") boolean enabled,
+            @Value("${admission.initial-limit:50}") int initialLimit,
+            @Value("${admission.min-limit:10}") int minLimit,
+            @Value("${admission.max-limit:1000}") int maxLimit,
+            @Value("${admission.rtt-tolerance:1.5}") double rttTolerance,
+            @Value("${admission.smoothing:0.2}") double smoothing,
+            @Value("${admission.degrade-at:0.7}") double degradeAt,
+            @Value("${admission.low-share:0.9}") double lowShare,
+            @Value("${admission.critical-headroom:1.25}") double criticalHeadroom,
+            @Value("${admission.low-value-amount:1000}") double lowValueAmount,
+            @Value("${admission.high-value-amount:50000}") double highValueAmount,
+            @Value("${admission.suspicion-ttl-minutes:30}") long suspicionTtlMinutes
+    ) {
+        this.enabled = enabled;
+        this.degradeAt = degradeAt;
+        this.lowShare = lowShare;
+        this.criticalHeadroom = criticalHeadroom;
+        this.lowValueAmount = lowValueAmount;
+        this.highValueAmount = highValueAmount;
+        this.suspicionTtlMillis = TimeUnit.MINUTES.toMillis(suspicionTtlMinutes);
+        this.limiter = new GradientConcurrencyLimiter(initialLimit, minLimit, maxLimit, rttTolerance, smoothing);
+    }
+
+    // --------------------------------------------------
+    // ACQUIRE / RELEASE
+    // --------------------------------------------------
+
+    public Permit tryAcquire(TransactionRequestDTO request) {
+
+        if (!enabled) {
+            return UNLIMITED;
+        }
+
+        Priority priority = classify(request);
+        double limit = limiter.getLimit();
+        double cap = switch (priority) {
+            case LOW -> limit * lowShare;
+            case NORMAL -> limit;
+            case CRITICAL -> limit * criticalHeadroom;
+        };
+
+        while (true) {
+            int current = inflight.get();
+            if (current >= cap) {
+                shed.get(priority).increment();
+                return new Permit(AdmissionDecision.SHED, priority, 0, current);
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                AdmissionDecision decision = current >= limit * degradeAt
+                        ? AdmissionDecision.DEGRADED
+                        : AdmissionDecision.ACCEPT;
+                (decision == AdmissionDecision.DEGRADED ? degraded : accepted).get(priority).increment();
+                return new Permit(decision, priority, System.nanoTime(), current);
+            }
+        }
+    }
+
+    public void release(Permit permit, TransactionResponseDTO response) {
+
+        if (!enabled || permit.decision() == AdmissionDecision.SHED) {
+            return;
+        }
+
+        inflight.decrementAndGet();
+
+        if (response == null) {
+            return;     // Fast failures (duplicate, blocked) say nothing about capacity
+        }
+
+        // Degraded requests skip ML and are faster; don't let them pull the baseline down
+        if (!permit.isDegraded()) {
+            limiter.onSample(System.nanoTime() - permit.startNanos(), permit.inflightAtStart());
+        }
+
+        if ("HIGH".equals(response.getRiskLevel()) || "MEDIUM".equals(response.getRiskLevel())) {
+            suspiciousAccounts.put(response.getAccountId(), System.currentTimeMillis() + suspicionTtlMillis);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpiredSuspicions() {
+        long now = System.currentTimeMillis();
+        suspiciousAccounts.values().removeIf(expiry -> expiry <= now);
+    }
+
+    // Forwarded requests are admitted by the owner, so its suspicion list is the one that counts
+    @Override
+    public void onOwnershipChanged(ClusterNode self, ConsistentHashRing previous, ConsistentHashRing current) {
+        suspiciousAccounts.keySet().removeIf(accountId -> OwnershipChangeListener.ownedElsewhere(accountId, self, current));
+    }
+
+    // --------------------------------------------------
+    // STATUS
+    // --------------------------------------------------
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("limit", Math.round(limiter.getLimit() * 10) / 10.0);
+        status.put("inflight", inflight.get());
+        status.put("shortRttMs", Math.round(limiter.getShortRttMillis() * 100) / 100.0);
+        status.put("baselineRttMs", Math.round(limiter.getLongRttMillis() * 100) / 100.0);
+        status.put("suspiciousAccounts", suspiciousAccounts.size());
+        status.put("accepted", sums(accepted));
+        status.put("degraded", sums(degraded));
+        status.put("shed", sums(shed));
+        return status;
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private Priority classify(TransactionRequestDTO request) {
+
+        Long suspiciousUntil = suspiciousAccounts.get(request.getAccountId());
+        if (suspiciousUntil != null) {
+            if (suspiciousUntil > System.currentTimeMillis()) {
+                return Priority.CRITICAL;
+            }
+            suspiciousAccounts.remove(request.getAccountId(), suspiciousUntil);
+        }
+
+        if (request.getAmount() >= highValueAmount || "UNKNOWN".equalsIgnoreCase(request.getCity())) {
+            return Priority.CRITICAL;
+        }
+        return request.getAmount() < lowValueAmount ? Priority.LOW : Priority.NORMAL;
+    }
+
+    private static Map<Priority, LongAdder> counters() {
+        Map<Priority, LongAdder> counters = new EnumMap<>(Priority.class);
+        for (Priority priority : Priority.values()) {
+            counters.put(priority, new LongAdder());
+        }
+        return counters;
+    }
+
+    private static Map<Priority, Long> sums(Map<Priority, LongAdder> counters) {
+        Map<Priority, Long> sums = new EnumMap<>(Priority.class);
+        counters.forEach((priority, adder) -> sums.put(priority, adder.sum()));
+        return sums;
+    }
+}
@@ -0,0 +1,74 @@
+package com.bank.fraud.admission;
+
+/**
+ * Gradient-style adaptive concurrency limit.
+ *
+ * Tracks a fast EWMA of request latency against a slow EWMA baseline.
+ * While the fast average stays within tolerance of the baseline the
+ * limit keeps probing upwards by sqrt(limit); once queueing inflates
+ * latency, the ratio baseline/short drops below 1 and pulls the limit
+ * down proportionally. The limit therefore settles near the concurrency
+ * the backend can serve without building a queue.
+ */
+final class GradientConcurrencyLimiter {
+
+    private static final double SHORT_ALPHA = 0.1;
+    private static final double LONG_ALPHA = 0.005;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+
+    private volatile double limit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+    }
+
+    synchronized void onSample(long rttNanos, int inflightAtStart) {
+
+        if (shortRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+
+        shortRttNanos += (rttNanos - shortRttNanos) * SHORT_ALPHA;
+        longRttNanos += (rttNanos - longRttNanos) * LONG_ALPHA;
+
+        // Baseline must not drift up and hide a persistent queue
+        if (longRttNanos > shortRttNanos * 2) {
+            longRttNanos *= 0.95;
+        }
+
+        // An under-used limit says nothing about capacity
+        if (inflightAtStart < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / shortRttNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    double getLimit() {
+        return limit;
+    }
+
+    synchronized double getShortRttMillis() {
+        return shortRttNanos / 1_000_000.0;
+    }
+
+    synchronized double getLongRttMillis() {
+        return longRttNanos / 1_000_000.0;
+    }
+}
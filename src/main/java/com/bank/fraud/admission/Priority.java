@@ -0,0 +1,11 @@
+package com.bank.fraud.admission;
+
+/**
+ * Admission priority, lowest first. Lower classes are degraded and shed
+ * at a smaller fraction of the concurrency limit than higher ones.
+ */
+public enum Priority {
+    LOW,
+    NORMAL,
+    CRITICAL
+}
@@ -0,0 +1,64 @@
+package com.bank.fraud.alert;
+
+/**
+ * Output formats rendered from one fraud alert, each with its own
+ * template file under classpath:alerts/ and its own escaping rule.
+ */
+public enum AlertChannel {
+
+    TEXT("fraud-alert.txt"),   // outbox / plain-text email part
+    JSON("fraud-alert.json"),  // STOMP /topic/alerts
+    HTML("fraud-alert.html");  // HTML email part
+
+    private final String templateFile;
+
+    AlertChannel(String templateFile) {
+        this.templateFile = templateFile;
+    }
+
+    public String getTemplateFile() {
+        return templateFile;
+    }
+
+    /**
+     * Appends a string field value, escaped for this channel.
+     */
+    void appendEscaped(CharSequence value, StringBuilder out) {
+
+        if (this == TEXT) {
+            out.append(value);
+            return;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (this == JSON) {
+                switch (c) {
+                    case '"' -> out.append("\\\"");
+                    case '\\' -> out.append("\\\\");
+                    case '\n' -> out.append("\\n");
+                    case '\r' -> out.append("\\r");
+                    case '\t' -> out.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            out.append("\\u00");
+                            out.append(Character.forDigit(c >> 4, 16));
+                            out.append(Character.forDigit(c & 0xF, 16));
+                        } else {
+                            out.append(c);
+                        }
+                    }
+                }
+            } else {
+                switch (c) {
+                    case '<' -> out.append("&lt;");
+                    case '>' -> out.append("&gt;");
+                    case '&' -> out.append("&amp;");
+                    case '"' -> out.append("&quot;");
+                    case '\'' -> out.append("&#39;");
+                    default -> out.append(c);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,393 @@
+package com.bank.fraud.alert;
+
+import com.bank.fraud.model.AlertOutbox;
+import com.bank.fraud.repository.AlertOutboxRepository;
+import com.bank.fraud.service.SchedulerLockService;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.util.HtmlUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class AlertDispatcher {
+
+    /*
+     * Delivers alert_outbox rows written by AlertService.
+     *
+     * One node at a time (scheduler_locks lease) claims a batch of due
+     * rows: they are locked with SKIP LOCKED and their next_attempt_at is
+     * pushed past the claim window in the claiming transaction, so even a
+     * second dispatcher (e.g. after this node's lease lapsed mid-send) does
+     * not see them as due. The outcome update replaces the claim; rows of a
+     * node that dies mid-send are retried once the claim runs out.
+     *
+     * Claimed rows are folded into one digest per recipient + account, the
+     * per-recipient per-minute cap, and sends the digests over a single SMTP
+     * connection that stays open between runs. Failed digests are retried
+     * with exponential backoff; capped ones simply move to the next minute.
+     *
+     * The cap is cluster-wide: the claiming transaction counts each
+     * recipient's digests already sent this minute from sent_at, so the
+     * node that takes the lease next continues from the same count.
+     *
+     * Without a configured spring.mail.host there is no JavaMailSender and
+     * digests are written to the log instead.
+     */
+
+    private static final Logger log = LoggerFactory.getLogger(AlertDispatcher.class);
+
+    private static final String DISPATCH_LOCK = "alert-dispatch";
+
+    private final AlertOutboxRepository alertOutboxRepository;
+    private final SchedulerLockService schedulerLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<JavaMailSender> mailSender;
+
+    private final boolean enabled;
+    private final String from;
+    private final int batchSize;
+    private final int maxPerRecipientPerMinute;
+    private final int maxAttempts;
+    private final long initialBackoffSeconds;
+    private final long maxBackoffSeconds;
+    private final int leaseSeconds;
+    private final int claimSeconds;
+    private final long idleCloseNanos;
+    private final int retentionDays;
+
+    private Transport transport;
+    private long transportLastUsedNanos;
+
+    public AlertDispatcher(
+            AlertOutboxRepository alertOutboxRepository,
+            SchedulerLockService schedulerLockService,
+            TransactionTemplate transactionTemplate,
+            ObjectProvider<JavaMailSender> mailSender,
+            @Value("${alerts.dispatch.enabled:true}") boolean enabled,
+            @Value("${alerts.from:fraud-alerts@bank.local}") String from,
+            @Value("${alerts.dispatch.batch-size:500}") int batchSize,
+            @Value("${alerts.max-per-recipient-per-minute:30}") int maxPerRecipientPerMinute,
+            @Value("${alerts.retry.max-attempts:8}") int maxAttempts,
+            @Value("${alerts.retry.initial-backoff-seconds:30}") long initialBackoffSeconds,
+            @Value("${alerts.retry.max-backoff-seconds:3600}") long maxBackoffSeconds,
+            @Value("${alerts.dispatch.lease-seconds:60}") int leaseSeconds,
+            @Value("${alerts.dispatch.claim-seconds:300}") int claimSeconds,
+            @Value("${alerts.smtp.idle-close-ms:60000}") long idleCloseMs,
+            @Value("${alerts.retention-days:7}") int retentionDays
+    ) {
+        this.alertOutboxRepository = alertOutboxRepository;
+        this.schedulerLockService = schedulerLockService;
+        this.transactionTemplate = transactionTemplate;
+        this.mailSender = mailSender;
+        this.enabled = enabled;
+        this.from = from;
+        this.batchSize = batchSize;
+        this.maxPerRecipientPerMinute = maxPerRecipientPerMinute;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffSeconds = initialBackoffSeconds;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+        this.leaseSeconds = leaseSeconds;
+        this.claimSeconds = claimSeconds;
+        this.idleCloseNanos = TimeUnit.MILLISECONDS.toNanos(idleCloseMs);
+        this.retentionDays = retentionDays;
+    }
+
+    // --------------------------------------------------
+    // SCHEDULED DISPATCH
+    // --------------------------------------------------
+
+    @Scheduled(fixedDelayString = "${alerts.dispatch.interval-ms:2000}")
+    public synchronized void dispatch() {
+
+        if (!enabled || !schedulerLockService.tryAcquire(DISPATCH_LOCK, leaseSeconds)) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime minuteStart = now.truncatedTo(ChronoUnit.MINUTES);
+            Map<String, Integer> sentThisMinute = new HashMap<>();
+            List<AlertOutbox> due = claimDue(now, minuteStart, sentThisMinute);
+            if (due.isEmpty()) {
+                closeIdleTransport();
+                return;
+            }
+
+            // 1️⃣ One digest per recipient + account
+            Map<String, List<AlertOutbox>> digests = new LinkedHashMap<>();
+            for (AlertOutbox row : due) {
+                digests.computeIfAbsent(row.getRecipient() + '\n' + row.getAccountId(), key -> new ArrayList<>())
+                        .add(row);
+            }
+
+            // 2️⃣ Per-recipient cap; over-cap digests wait for the next minute
+            List<List<AlertOutbox>> toSend = new ArrayList<>();
+            List<Long> deferred = new ArrayList<>();
+            for (List<AlertOutbox> digest : digests.values()) {
+                if (takeQuota(sentThisMinute, digest.get(0).getRecipient())) {
+                    toSend.add(digest);
+                } else {
+                    digest.forEach(row -> deferred.add(row.getId()));
+                }
+            }
+
+            // 3️⃣ Send over the pooled connection
+            List<Long> sent = new ArrayList<>();
+            List<AlertOutbox> failed = new ArrayList<>();
+            String lastError = send(toSend, sent, failed);
+
+            // 4️⃣ Record outcomes in one short transaction
+            LocalDateTime nextMinute = minuteStart.plusMinutes(1);
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!sent.isEmpty()) {
+                    alertOutboxRepository.markSent(sent, LocalDateTime.now());
+                }
+                if (!deferred.isEmpty()) {
+                    alertOutboxRepository.deferUntil(deferred, nextMinute);
+                }
+                recordFailures(failed, now, lastError);
+            });
+
+            if (!failed.isEmpty() || !deferred.isEmpty()) {
+                log.warn("Alert dispatch: {} sent, {} failed, {} deferred by per-recipient cap",
+                        sent.size(), failed.size(), deferred.size());
+            }
+        } finally {
+            schedulerLockService.release(DISPATCH_LOCK);
+        }
+    }
+
+    @Scheduled(cron = "${alerts.retention-cron:0 15 2 * * *}")
+    public void purgeSentAlerts() {
+        LocalDateTime cutoff = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+        Integer purged = transactionTemplate.execute(status -> alertOutboxRepository.deleteSentBefore(cutoff));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} sent alert outbox rows older than {}", purged, cutoff);
+        }
+    }
+
+    // --------------------------------------------------
+    // MONITORING
+    // --------------------------------------------------
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", enabled);
+        status.put("transport", mailSender.getIfAvailable() instanceof JavaMailSenderImpl ? "SMTP" : "LOG");
+        status.put("pending", alertOutboxRepository.countByStatus("PENDING"));
+        status.put("sent", alertOutboxRepository.countByStatus("SENT"));
+        status.put("failed", alertOutboxRepository.countByStatus("FAILED"));
+        status.put("maxPerRecipientPerMinute", maxPerRecipientPerMinute);
+        synchronized (this) {
+            status.put("smtpConnected", transport != null && transport.isConnected());
+        }
+        return status;
+    }
+
+    @PreDestroy
+    public synchronized void closeTransport() {
+        if (transport != null) {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("SMTP close failed: {}", e.getMessage());
+            }
+            transport = null;
+        }
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    /**
+     * @param sentThisMinute filled with the digests each claimed recipient was already sent since minuteStart
+     */
+    private List<AlertOutbox> claimDue(LocalDateTime now, LocalDateTime minuteStart,
+                                       Map<String, Integer> sentThisMinute) {
+        List<AlertOutbox> claimed = transactionTemplate.execute(status -> {
+            List<Long> ids = alertOutboxRepository.lockDueIds(now, batchSize);
+            if (ids.isEmpty()) {
+                return List.<AlertOutbox>of();
+            }
+            alertOutboxRepository.deferUntil(ids, now.plusSeconds(claimSeconds));
+            List<AlertOutbox> rows = alertOutboxRepository.findByIdInOrderById(ids);
+
+            Set<String> recipients = new HashSet<>();
+            rows.forEach(row -> recipients.add(row.getRecipient()));
+            for (Object[] count : alertOutboxRepository.countDigestsSentSince(recipients, minuteStart)) {
+                sentThisMinute.put((String) count[0], ((Number) count[1]).intValue());
+            }
+            return rows;
+        });
+        return claimed == null ? List.of() : claimed;
+    }
+
+    /**
+     * @return the last delivery error, or null if every digest went out
+     */
+    private String send(List<List<AlertOutbox>> digests, List<Long> sent, List<AlertOutbox> failed) {
+
+        JavaMailSender sender = mailSender.getIfAvailable();
+        if (!(sender instanceof JavaMailSenderImpl smtp)) {
+            for (List<AlertOutbox> digest : digests) {
+                log.info("[EMAIL ALERT] to={} subject={}\n{}",
+                        digest.get(0).getRecipient(), subject(digest), body(digest));
+                digest.forEach(row -> sent.add(row.getId()));
+            }
+            return null;
+        }
+
+        String lastError = null;
+        for (int i = 0; i < digests.size(); i++) {
+            List<AlertOutbox> digest = digests.get(i);
+            try {
+                deliver(smtp, digest);
+                digest.forEach(row -> sent.add(row.getId()));
+            } catch (MessagingException | RuntimeException e) {
+                lastError = e.getClass().getSimpleName() + ": " + e.getMessage();
+                failed.addAll(digest);
+
+                // A dropped connection fails the rest of the batch rather than reconnecting per digest
+                if (transport == null || !transport.isConnected()) {
+                    closeTransport();
+                    for (int j = i + 1; j < digests.size(); j++) {
+                        failed.addAll(digests.get(j));
+                    }
+                    break;
+                }
+            }
+        }
+        return lastError;
+    }
+
+    private void deliver(JavaMailSenderImpl smtp, List<AlertOutbox> digest) throws MessagingException {
+
+        if (transport == null || !transport.isConnected()) {
+            closeTransport();
+            String protocol = smtp.getProtocol() != null ? smtp.getProtocol() : JavaMailSenderImpl.DEFAULT_PROTOCOL;
+            Transport opened = smtp.getSession().getTransport(protocol);
+            opened.connect(smtp.getHost(), smtp.getPort(), smtp.getUsername(), smtp.getPassword());
+            transport = opened;
+        }
+
+        String html = htmlBody(digest);
+
+        MimeMessage message = smtp.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, html != null, "UTF-8");
+        helper.setFrom(from);
+        helper.setTo(digest.get(0).getRecipient());
+        helper.setSubject(subject(digest));
+        if (html != null) {
+            helper.setText(body(digest), html);
+        } else {
+            helper.setText(body(digest));
+        }
+        message.saveChanges();
+
+        transport.sendMessage(message, message.getAllRecipients());
+        transportLastUsedNanos = System.nanoTime();
+    }
+
+    private void closeIdleTransport() {
+        if (transport != null && System.nanoTime() - transportLastUsedNanos > idleCloseNanos) {
+            closeTransport();
+        }
+    }
+
+    private boolean takeQuota(Map<String, Integer> sentThisMinute, String recipient) {
+        int sent = sentThisMinute.getOrDefault(recipient, 0);
+        if (sent >= maxPerRecipientPerMinute) {
+            return false;
+        }
+        sentThisMinute.put(recipient, sent + 1);
+        return true;
+    }
+
+    private void recordFailures(List<AlertOutbox> failed, LocalDateTime now, String lastError) {
+
+        // Rows sharing an attempt count share a backoff, so one bulk update each
+        Map<Integer, List<Long>> byAttempts = new HashMap<>();
+        for (AlertOutbox row : failed) {
+            byAttempts.computeIfAbsent(row.getAttempts(), key -> new ArrayList<>()).add(row.getId());
+        }
+
+        String error = lastError == null ? null : lastError.substring(0, Math.min(255, lastError.length()));
+        for (Map.Entry<Integer, List<Long>> entry : byAttempts.entrySet()) {
+            int attempts = entry.getKey() + 1;
+            long backoff = Math.min(maxBackoffSeconds, initialBackoffSeconds << Math.min(attempts - 1, 20));
+            alertOutboxRepository.markFailedAttempt(
+                    entry.getValue(),
+                    attempts >= maxAttempts ? "FAILED" : "PENDING",
+                    now.plusSeconds(backoff),
+                    error
+            );
+        }
+    }
+
+    private String subject(List<AlertOutbox> digest) {
+        AlertOutbox first = digest.get(0);
+        return digest.size() == 1
+                ? "[FRAUD ALERT] " + first.getRiskLevel() + " risk on account " + first.getAccountId()
+                : "[FRAUD ALERT] " + digest.size() + " alerts on account " + first.getAccountId();
+    }
+
+    private String body(List<AlertOutbox> digest) {
+        if (digest.size() == 1) {
+            return digest.get(0).getMessage();
+        }
+        StringBuilder body = new StringBuilder()
+                .append(digest.size())
+                .append(" fraud alerts for account ")
+                .append(digest.get(0).getAccountId())
+                .append(":\n");
+        for (AlertOutbox row : digest) {
+            body.append("\n----------------------------------------\n").append(row.getMessage());
+        }
+        return body.toString();
+    }
+
+    // multipart/alternative HTML part; rows queued before V7 have none
+    private String htmlBody(List<AlertOutbox> digest) {
+        StringBuilder html = new StringBuilder("<html><body>");
+        if (digest.size() > 1) {
+            html.append("<h3>")
+                    .append(digest.size())
+                    .append(" fraud alerts for account ")
+                    .append(HtmlUtils.htmlEscape(digest.get(0).getAccountId()))
+                    .append("</h3>");
+        }
+        for (AlertOutbox row : digest) {
+            if (row.getHtmlMessage() == null) {
+                return null;
+            }
+            html.append(row.getHtmlMessage());
+        }
+        return html.append("</body></html>").toString();
+    }
+}
@@ -0,0 +1,126 @@
+package com.bank.fraud.alert;
+
+import com.bank.fraud.model.Transaction;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Placeholders usable in alert templates, as {{name}}.
+ *
+ * Numbers and timestamps are written digit by digit straight into the
+ * target builder; no Formatter, DateTimeFormatter or boxed intermediate
+ * strings are created per alert.
+ */
+enum AlertField {
+
+    TRANSACTION_ID("transactionId") {
+        @Override
+        void append(Transaction transaction, AlertChannel channel, StringBuilder out) {
+            appendString(transaction.getTransactionId(), channel, out);
+        }
+    },
+    ACCOUNT_ID("accountId") {
+        @Override
+        void append(Transaction transaction, AlertChannel channel, StringBuilder out) {
+            appendString(transaction.getAccountId(), channel, out);
+        }
+    },
+    AMOUNT("amount") {
+        @Override
+        void append(Transaction transaction, AlertChannel channel, StringBuilder out) {
+            appendAmount(transaction.getAmount() == null ? 0.0 : transaction.getAmount(), channel, out);
+        }
+    },
+    RISK_LEVEL("riskLevel") {
+        @Override
+        void append(Transaction transaction, AlertChannel channel, StringBuilder out) {
+            appendString(transaction.getRiskLevel(), channel, out);
+        }
+    },
+    FINAL_RISK_SCORE("finalRiskScore") {
+        @Override
+        void append(Transaction transaction, AlertChannel channel, StringBuilder out) {
+            out.append(transaction.getFinalRiskScore() == null ? 0 : transaction.getFinalRiskScore());
+        }
+    },
+    TIME("time") {
+        @Override
+        void append(Transaction transaction, AlertChannel channel, StringBuilder out) {
+            if (transaction.getTransactionTime() != null) {
+                appendTime(transaction.getTransactionTime(), out);
+            }
+        }
+    };
+
+    private final String placeholder;
+
+    AlertField(String placeholder) {
+        this.placeholder = placeholder;
+    }
+
+    abstract void append(Transaction transaction, AlertChannel channel, StringBuilder out);
+
+    static AlertField ofPlaceholder(String name) {
+        for (AlertField field : values()) {
+            if (field.placeholder.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown alert template placeholder: {{" + name + "}}");
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private static void appendString(String value, AlertChannel channel, StringBuilder out) {
+        if (value != null) {
+            channel.appendEscaped(value, out);
+        }
+    }
+
+    // Same text as String.format(Locale.ROOT, "%.2f", amount); NaN / Infinity are null in JSON
+    static void appendAmount(double amount, AlertChannel channel, StringBuilder out) {
+        if (!Double.isFinite(amount)) {
+            out.append(channel == AlertChannel.JSON ? "null" : String.format(Locale.ROOT, "%.2f", amount));
+            return;
+        }
+        // %.2f rounds the shortest decimal form half-up (1.005 -> 1.01) while amount * 100 may
+        // land just below the half cent, so amounts that close to one (or too large) take the slow path
+        double scaled = Math.abs(amount) * 100.0;
+        if (scaled >= 0x1p52 || Math.abs(scaled - Math.floor(scaled) - 0.5) <= 2 * Math.ulp(scaled)) {
+            out.append(String.format(Locale.ROOT, "%.2f", amount));
+            return;
+        }
+        long cents = Math.round(scaled);
+        if (Double.doubleToRawLongBits(amount) < 0) {
+            out.append('-');
+        }
+        out.append(cents / 100).append('.');
+        long fraction = cents % 100;
+        out.append((char) ('0' + fraction / 10)).append((char) ('0' + fraction % 10));
+    }
+
+    // yyyy-MM-dd HH:mm:ss
+    static void appendTime(LocalDateTime time, StringBuilder out) {
+        appendPadded(time.getYear(), 4, out);
+        out.append('-');
+        appendPadded(time.getMonthValue(), 2, out);
+        out.append('-');
+        appendPadded(time.getDayOfMonth(), 2, out);
+        out.append(' ');
+        appendPadded(time.getHour(), 2, out);
+        out.append(':');
+        appendPadded(time.getMinute(), 2, out);
+        out.append(':');
+        appendPadded(time.getSecond(), 2, out);
+    }
+
+    private static void appendPadded(int value, int width, StringBuilder out) {
+        for (int divisor = width == 4 ? 1000 : 10; divisor > 1 && value < divisor; divisor /= 10) {
+            out.append('0');
+        }
+        out.append(value);
+    }
+}
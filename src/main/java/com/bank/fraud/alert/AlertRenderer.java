@@ -0,0 +1,148 @@
+package com.bank.fraud.alert;
+
+import com.bank.fraud.model.Transaction;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+public class AlertRenderer {
+
+    /*
+     * Renders fraud alerts from the templates under classpath:alerts/.
+     *
+     * Templates are compiled once at startup. Each thread renders into its
+     * own reused StringBuilder (and, for byte output, a reused byte array),
+     * so an alert costs the result String or byte[] and little else — which
+     * matters when a fraud storm raises thousands of alerts per second.
+     */
+
+    private static final String TEMPLATE_DIRECTORY = "alerts/";
+
+    // Buffers that grew past this for an unusual alert are dropped, not kept per thread
+    private static final int MAX_RETAINED_CHARS = 16 * 1024;
+
+    private final Map<AlertChannel, AlertTemplate> templates = new EnumMap<>(AlertChannel.class);
+    private final ThreadLocal<RenderBuffers> buffers;
+
+    public AlertRenderer() {
+        int initialCapacity = 0;
+        for (AlertChannel channel : AlertChannel.values()) {
+            AlertTemplate template = AlertTemplate.compile(channel, load(channel));
+            templates.put(channel, template);
+            initialCapacity = Math.max(initialCapacity, template.getLiteralLength() + 256);
+        }
+        int capacity = initialCapacity;
+        this.buffers = ThreadLocal.withInitial(() -> new RenderBuffers(capacity));
+    }
+
+    // --------------------------------------------------
+    // RENDERING
+    // --------------------------------------------------
+
+    public String render(AlertChannel channel, Transaction transaction) {
+        RenderBuffers buffer = buffers.get();
+        StringBuilder chars = buffer.render(templates.get(channel), transaction);
+        String rendered = chars.toString();
+        buffer.trim();
+        return rendered;
+    }
+
+    /**
+     * UTF-8 bytes of the rendered alert, e.g. a STOMP frame payload.
+     */
+    public byte[] renderUtf8(AlertChannel channel, Transaction transaction) {
+        RenderBuffers buffer = buffers.get();
+        byte[] rendered = buffer.encode(buffer.render(templates.get(channel), transaction));
+        buffer.trim();
+        return rendered;
+    }
+
+    /**
+     * Appends the rendered alert to a caller-owned builder (digests, batches).
+     */
+    public void renderTo(AlertChannel channel, Transaction transaction, StringBuilder out) {
+        templates.get(channel).render(transaction, out);
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private static String load(AlertChannel channel) {
+        ClassPathResource resource = new ClassPathResource(TEMPLATE_DIRECTORY + channel.getTemplateFile());
+        try (InputStream in = resource.getInputStream()) {
+            return StreamUtils.copyToString(in, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Missing alert template " + resource.getPath(), e);
+        }
+    }
+
+    private static final class RenderBuffers {
+
+        private final int initialCapacity;
+
+        private StringBuilder chars;
+        private byte[] bytes;
+
+        private RenderBuffers(int initialCapacity) {
+            this.initialCapacity = initialCapacity;
+            this.chars = new StringBuilder(initialCapacity);
+            this.bytes = new byte[initialCapacity * 3];
+        }
+
+        private StringBuilder render(AlertTemplate template, Transaction transaction) {
+            chars.setLength(0);
+            template.render(transaction, chars);
+            return chars;
+        }
+
+        // Straight UTF-8 loop; CharsetEncoder over a StringBuilder is several times slower
+        private byte[] encode(StringBuilder rendered) {
+            int length = rendered.length();
+            if (bytes.length < length * 3) {
+                bytes = new byte[length * 3];
+            }
+            int position = 0;
+            for (int i = 0; i < length; i++) {
+                char c = rendered.charAt(i);
+                if (c < 0x80) {
+                    bytes[position++] = (byte) c;
+                } else if (c < 0x800) {
+                    bytes[position++] = (byte) (0xC0 | (c >> 6));
+                    bytes[position++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(rendered.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, rendered.charAt(++i));
+                    bytes[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    bytes[position++] = '?';
+                } else {
+                    bytes[position++] = (byte) (0xE0 | (c >> 12));
+                    bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    bytes[position++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            return Arrays.copyOf(bytes, position);
+        }
+
+        private void trim() {
+            if (chars.capacity() > MAX_RETAINED_CHARS) {
+                chars = new StringBuilder(initialCapacity);
+                bytes = new byte[initialCapacity * 3];
+            }
+        }
+    }
+}
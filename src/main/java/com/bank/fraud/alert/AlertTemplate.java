@@ -0,0 +1,72 @@
+package com.bank.fraud.alert;
+
+import com.bank.fraud.model.Transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An alert template parsed once into alternating literal / field segments:
+ * <pre>
+ *   literals[0] fields[0] literals[1] fields[1] ... literals[n]
+ * </pre>
+ * Rendering is a straight walk over the two arrays into the caller's
+ * builder; nothing is parsed, looked up or formatted through a pattern
+ * per alert.
+ */
+final class AlertTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final AlertChannel channel;
+    private final String[] literals;
+    private final AlertField[] fields;
+
+    private AlertTemplate(AlertChannel channel, String[] literals, AlertField[] fields) {
+        this.channel = channel;
+        this.literals = literals;
+        this.fields = fields;
+    }
+
+    static AlertTemplate compile(AlertChannel channel, String source) {
+
+        List<String> literals = new ArrayList<>();
+        List<AlertField> fields = new ArrayList<>();
+
+        int position = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                literals.add(source.substring(position));
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in " + channel + " alert template");
+            }
+            literals.add(source.substring(position, open));
+            fields.add(AlertField.ofPlaceholder(source.substring(open + OPEN.length(), close).trim()));
+            position = close + CLOSE.length();
+        }
+
+        return new AlertTemplate(channel, literals.toArray(String[]::new), fields.toArray(AlertField[]::new));
+    }
+
+    void render(Transaction transaction, StringBuilder out) {
+        for (int i = 0; i < fields.length; i++) {
+            out.append(literals[i]);
+            fields[i].append(transaction, channel, out);
+        }
+        out.append(literals[fields.length]);
+    }
+
+    // Literal length, used to presize buffers
+    int getLiteralLength() {
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        return length;
+    }
+}
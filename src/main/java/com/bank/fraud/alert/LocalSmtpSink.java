@@ -0,0 +1,212 @@
+package com.bank.fraud.alert;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Minimal SMTP server on the loopback interface for the local-smtp profile.
+ *
+ * Accepts every message, keeps the most recent ones in memory and exposes
+ * them through /api/admin/alerts/sink, so the outbox, digests, retries and
+ * the per-recipient cap can be exercised end to end without a mail relay.
+ * Understands just enough of RFC 5321 for JavaMail: EHLO/HELO, MAIL, RCPT,
+ * DATA, RSET, NOOP and QUIT, several messages per connection.
+ */
+@Component
+@Profile("local-smtp")
+public class LocalSmtpSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalSmtpSink.class);
+
+    public record ReceivedMail(
+            LocalDateTime receivedAt,
+            String from,
+            List<String> recipients,
+            String data
+    ) {
+    }
+
+    private final int port;
+    private final int capacity;
+
+    private final Deque<ReceivedMail> received = new ArrayDeque<>();
+    private final ExecutorService sessions = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "local-smtp-session");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile ServerSocket serverSocket;
+    private long connections;
+
+    public LocalSmtpSink(
+            @Value("${spring.mail.port:2525}") int port,
+            @Value("${alerts.sink.capacity:1000}") int capacity
+    ) {
+        this.port = port;
+        this.capacity = capacity;
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Local SMTP sink could not bind port " + port, e);
+        }
+
+        Thread acceptor = new Thread(this::acceptLoop, "local-smtp-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+
+        log.info("Local SMTP sink listening on {}:{}", serverSocket.getInetAddress().getHostAddress(), port);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        serverSocket.close();
+        sessions.shutdownNow();
+    }
+
+    // --------------------------------------------------
+    // INSPECTION
+    // --------------------------------------------------
+
+    public synchronized List<ReceivedMail> getReceived() {
+        return new ArrayList<>(received);
+    }
+
+    public synchronized long getConnections() {
+        return connections;
+    }
+
+    public synchronized void clear() {
+        received.clear();
+    }
+
+    // --------------------------------------------------
+    // SMTP SESSION
+    // --------------------------------------------------
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                synchronized (this) {
+                    connections++;
+                }
+                sessions.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    log.warn("Local SMTP sink accept failed: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+
+            reply(out, "220 localhost fraud-detection SMTP sink");
+
+            String from = null;
+            List<String> recipients = new ArrayList<>();
+
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.length() < 4 ? line.toUpperCase() : line.substring(0, 4).toUpperCase();
+
+                switch (command) {
+                    case "EHLO" -> reply(out, "250-localhost\r\n250-8BITMIME\r\n250 SMTPUTF8");
+                    case "HELO" -> reply(out, "250 localhost");
+                    case "MAIL" -> {
+                        from = address(line);
+                        recipients = new ArrayList<>();
+                        reply(out, "250 OK");
+                    }
+                    case "RCPT" -> {
+                        recipients.add(address(line));
+                        reply(out, "250 OK");
+                    }
+                    case "DATA" -> {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        String data = readData(in);
+                        store(new ReceivedMail(LocalDateTime.now(), from, List.copyOf(recipients), data));
+                        from = null;
+                        recipients = new ArrayList<>();
+                        reply(out, "250 OK queued");
+                    }
+                    case "RSET" -> {
+                        from = null;
+                        recipients = new ArrayList<>();
+                        reply(out, "250 OK");
+                    }
+                    case "NOOP" -> reply(out, "250 OK");
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(out, "502 Command not implemented");
+                }
+            }
+        } catch (IOException e) {
+            log.debug("Local SMTP session ended: {}", e.getMessage());
+        }
+    }
+
+    private String readData(BufferedReader in) throws IOException {
+        StringBuilder data = new StringBuilder();
+        String line;
+        while ((line = in.readLine()) != null && !line.equals(".")) {
+            // Dot-stuffing (RFC 5321 4.5.2)
+            data.append(line.startsWith("..") ? line.substring(1) : line).append("\r\n");
+        }
+        return data.toString();
+    }
+
+    private synchronized void store(ReceivedMail mail) {
+        if (received.size() >= capacity) {
+            received.removeFirst();
+        }
+        received.addLast(mail);
+    }
+
+    private static String address(String line) {
+        int open = line.indexOf('<');
+        int close = line.indexOf('>', open + 1);
+        return open >= 0 && close > open ? line.substring(open + 1, close) : line.substring(line.indexOf(':') + 1).trim();
+    }
+
+    private static void reply(Writer out, String response) throws IOException {
+        out.write(response);
+        out.write("\r\n");
+        out.flush();
+    }
+}
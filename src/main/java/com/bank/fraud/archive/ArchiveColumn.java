@@ -0,0 +1,4 @@
+package com.bank.fraud.archive;
+
+public record ArchiveColumn(String name, ColumnType type) {
+}
@@ -0,0 +1,51 @@
+package com.bank.fraud.archive;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Predicates pushed down into archive scans.
+ *
+ * Time bounds prune whole day directories and segment files (via their
+ * min/max header); equality predicates on STRING columns are checked
+ * against segment dictionaries before any row is decoded.
+ */
+public class ArchiveScanFilter {
+
+    private final LocalDateTime from;   // inclusive, null = unbounded
+    private final LocalDateTime to;     // exclusive, null = unbounded
+    private final Map<String, String> equalities = new LinkedHashMap<>();
+
+    public ArchiveScanFilter(LocalDateTime from, LocalDateTime to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    public ArchiveScanFilter withEquals(String column, String value) {
+        if (value != null && !value.isBlank()) {
+            equalities.put(column, value);
+        }
+        return this;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public Map<String, String> getEqualities() {
+        return equalities;
+    }
+
+    long fromMicros() {
+        return from == null ? Long.MIN_VALUE : ArchiveCodec.toEpochMicros(from);
+    }
+
+    long toMicros() {
+        return to == null ? Long.MAX_VALUE : ArchiveCodec.toEpochMicros(to);
+    }
+}
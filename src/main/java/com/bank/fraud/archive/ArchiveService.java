@@ -0,0 +1,322 @@
+package com.bank.fraud.archive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+public class ArchiveService {
+
+    /*
+     * Hot/cold split for transactions and audit_logs.
+     *
+     * Rows older than the retention window are copied, one day and one
+     * id-ordered chunk at a time, into immutable columnar segments under
+     *
+     *     <archive.directory>/<table>/<yyyy-MM-dd>/part-<firstId>-<lastId>.fca
+     *
+     * and deleted from MySQL only after the segment is fsynced. Segment names
+     * carry the id range. After a crash between write and delete, the next
+     * run finds rows that fall inside an existing segment's range: if the
+     * segment holds every one of them it only repeats the delete, otherwise
+     * it stops archiving that day rather than write a second, overlapping
+     * copy (chunk boundaries move when archive.chunk-size changes).
+     */
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveService.class);
+
+    private static final String SEGMENT_SUFFIX = ".fca";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final Path directory;
+    private final int retentionDays;
+    private final int chunkSize;
+
+    public ArchiveService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${archive.enabled:false}") boolean enabled,
+            @Value("${archive.directory:./archive}") String directory,
+            @Value("${archive.retention-days:90}") int retentionDays,
+            @Value("${archive.chunk-size:50000}") int chunkSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+    }
+
+    // --------------------------------------------------
+    // SCHEDULED ARCHIVAL
+    // --------------------------------------------------
+
+    @Scheduled(cron = "${archive.cron:0 30 1 * * *}")
+    public synchronized void archiveExpiredRows() {
+
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+
+        for (ArchiveTable table : ArchiveTable.values()) {
+            try {
+                archiveTable(table, cutoff);
+            } catch (RuntimeException e) {
+                log.error("Archival of {} failed", table.getTableName(), e);
+            }
+        }
+    }
+
+    // --------------------------------------------------
+    // SCAN API (REPLAY / ANALYTICS)
+    // --------------------------------------------------
+
+    /**
+     * Streams archived rows matching the filter, in day order,
+     * until the consumer returns false.
+     */
+    public void scan(ArchiveTable table, ArchiveScanFilter filter, Predicate<ArchivedRow> consumer) {
+
+        Path tableDirectory = directory.resolve(table.getTableName());
+        if (!Files.isDirectory(tableDirectory)) {
+            return;
+        }
+
+        for (Path dayDirectory : listSorted(tableDirectory)) {
+            LocalDate day = parseDay(dayDirectory);
+
+            // Directory-level time pruning
+            if (day == null
+                    || (filter.getFrom() != null && day.plusDays(1).atStartOfDay().isBefore(filter.getFrom()))
+                    || (filter.getTo() != null && !day.atStartOfDay().isBefore(filter.getTo()))) {
+                continue;
+            }
+
+            for (Path segment : listSorted(dayDirectory)) {
+                if (!segment.getFileName().toString().endsWith(SEGMENT_SUFFIX)) {
+                    continue;
+                }
+                try (ColumnarArchiveReader reader = ColumnarArchiveReader.open(segment)) {
+                    if (!reader.scan(filter, consumer)) {
+                        return;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to read archive segment " + segment, e);
+                }
+            }
+        }
+    }
+
+    public List<Map<String, Object>> scan(ArchiveTable table, ArchiveScanFilter filter, int limit) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        scan(table, filter, row -> {
+            rows.add(row.toMap());
+            return rows.size() < limit;
+        });
+        return rows;
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private void archiveTable(ArchiveTable table, LocalDateTime cutoff) {
+
+        LocalDateTime oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(" + table.getTimeColumn() + ") FROM " + table.getTableName()
+                        + " WHERE " + table.getTimeColumn() + " < ?",
+                LocalDateTime.class,
+                cutoff
+        );
+
+        if (oldest == null) {
+            return;
+        }
+
+        for (LocalDate day = oldest.toLocalDate(); day.atStartOfDay().isBefore(cutoff); day = day.plusDays(1)) {
+            long archived = archiveDay(table, day);
+            if (archived > 0) {
+                log.info("Archived {} {} rows for {}", archived, table.getTableName(), day);
+            }
+        }
+    }
+
+    private long archiveDay(ArchiveTable table, LocalDate day) {
+
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = start.plusDays(1);
+
+        String columnList = table.getColumns().stream()
+                .map(ArchiveColumn::name)
+                .collect(Collectors.joining(", "));
+        String select = "SELECT " + columnList + " FROM " + table.getTableName()
+                + " WHERE " + table.getTimeColumn() + " >= ? AND " + table.getTimeColumn() + " < ?"
+                + " AND id > ? ORDER BY id LIMIT ?";
+        String delete = "DELETE FROM " + table.getTableName()
+                + " WHERE " + table.getTimeColumn() + " >= ? AND " + table.getTimeColumn() + " < ?"
+                + " AND id BETWEEN ? AND ?";
+
+        long lastId = 0;
+        long archived = 0;
+
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(
+                    select,
+                    (rs, rowNum) -> readRow(rs, table.getColumns()),
+                    start, end, lastId, chunkSize
+            );
+
+            if (rows.isEmpty()) {
+                return archived;
+            }
+
+            long firstId = (Long) rows.get(0)[0];
+            long chunkLastId = (Long) rows.get(rows.size() - 1)[0];
+
+            Path dayDirectory = directory.resolve(table.getTableName()).resolve(day.toString());
+
+            // Left behind by a run that crashed before its delete: finish that delete, then re-read
+            SegmentRange written = findSegmentHolding(dayDirectory, rows);
+            if (written != null) {
+                requireArchived(written, rows);
+                jdbcTemplate.update(delete, start, end, written.firstId(), written.lastId());
+                continue;
+            }
+
+            Path segment = dayDirectory.resolve(
+                    String.format("part-%019d-%019d%s", firstId, chunkLastId, SEGMENT_SUFFIX));
+
+            try {
+                ColumnarArchiveWriter.write(segment, table.getColumns(), table.getTimeColumn(), rows);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write archive segment " + segment, e);
+            }
+
+            jdbcTemplate.update(delete, start, end, firstId, chunkLastId);
+
+            archived += rows.size();
+            lastId = chunkLastId;
+        }
+    }
+
+    // First segment whose id range takes in any of the rows (rows are in id order)
+    private SegmentRange findSegmentHolding(Path dayDirectory, List<Object[]> rows) {
+        if (!Files.isDirectory(dayDirectory)) {
+            return null;
+        }
+        for (Path segment : listSorted(dayDirectory)) {
+            SegmentRange range = SegmentRange.parse(segment);
+            if (range == null
+                    || range.lastId() < (Long) rows.get(0)[0]
+                    || range.firstId() > (Long) rows.get(rows.size() - 1)[0]) {
+                continue;
+            }
+            for (Object[] row : rows) {
+                long id = (Long) row[0];
+                if (id > range.lastId()) {
+                    break;
+                }
+                if (id >= range.firstId()) {
+                    return range;
+                }
+            }
+        }
+        return null;
+    }
+
+    // Every live row inside the segment's id range must already be in it, or the delete would lose rows
+    private void requireArchived(SegmentRange segment, List<Object[]> rows) {
+
+        Set<Long> archivedIds = new HashSet<>();
+        try (ColumnarArchiveReader reader = ColumnarArchiveReader.open(segment.path())) {
+            for (long id : reader.readLongs("id")) {
+                archivedIds.add(id);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read archive segment " + segment.path(), e);
+        }
+
+        for (Object[] row : rows) {
+            long id = (Long) row[0];
+            if (id >= segment.firstId() && id <= segment.lastId() && !archivedIds.contains(id)) {
+                throw new IllegalStateException("Row " + id + " lies inside archive segment "
+                        + segment.path() + " but is not in it; not archiving this day");
+            }
+        }
+    }
+
+    private Object[] readRow(ResultSet rs, List<ArchiveColumn> columns) throws SQLException {
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            String name = columns.get(i).name();
+            values[i] = switch (columns.get(i).type()) {
+                case STRING -> rs.getString(name);
+                case LONG -> rs.getLong(name);
+                case INT -> rs.getInt(name);
+                case DOUBLE -> rs.getDouble(name);
+                case BOOLEAN -> rs.getBoolean(name);
+                case TIMESTAMP -> rs.getObject(name, LocalDateTime.class);
+            };
+        }
+        return values;
+    }
+
+    private List<Path> listSorted(Path parent) {
+        try (Stream<Path> children = Files.list(parent)) {
+            return children.sorted().toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list " + parent, e);
+        }
+    }
+
+    private LocalDate parseDay(Path dayDirectory) {
+        try {
+            return LocalDate.parse(dayDirectory.getFileName().toString());
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private record SegmentRange(Path path, long firstId, long lastId) {
+
+        // part-<firstId>-<lastId>.fca, or null for anything else (e.g. a leftover .tmp)
+        static SegmentRange parse(Path segment) {
+            String name = segment.getFileName().toString();
+            if (!name.startsWith("part-") || !name.endsWith(SEGMENT_SUFFIX)) {
+                return null;
+            }
+            String[] ids = name.substring(5, name.length() - SEGMENT_SUFFIX.length()).split("-");
+            try {
+                return ids.length == 2
+                        ? new SegmentRange(segment, Long.parseLong(ids[0]), Long.parseLong(ids[1]))
+                        : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.bank.fraud.archive;
+
+import java.util.List;
+
+/**
+ * OLTP tables that can be moved to cold columnar storage.
+ *
+ * Column names are the physical MySQL column names. The time column
+ * drives day bucketing and the time-range predicate.
+ */
+public enum ArchiveTable {
+
+    TRANSACTIONS("transactions", "transaction_time", List.of(
+            new ArchiveColumn("id", ColumnType.LONG),
+            new ArchiveColumn("transaction_id", ColumnType.STRING),
+            new ArchiveColumn("account_id", ColumnType.STRING),
+            new ArchiveColumn("customer_name", ColumnType.STRING),
+            new ArchiveColumn("amount", ColumnType.DOUBLE),
+            new ArchiveColumn("transaction_type", ColumnType.STRING),
+            new ArchiveColumn("city", ColumnType.STRING),
+            new ArchiveColumn("ip_address", ColumnType.STRING),
+            new ArchiveColumn("device_id", ColumnType.STRING),
+            new ArchiveColumn("rule_score", ColumnType.INT),
+            new ArchiveColumn("ml_score", ColumnType.INT),
+            new ArchiveColumn("final_risk_score", ColumnType.INT),
+            new ArchiveColumn("risk_level", ColumnType.STRING),
+            new ArchiveColumn("status", ColumnType.STRING),
+            new ArchiveColumn("fraud_detected", ColumnType.BOOLEAN),
+            new ArchiveColumn("transaction_time", ColumnType.TIMESTAMP),
+            new ArchiveColumn("processing_time_ms", ColumnType.LONG),
+            new ArchiveColumn("explanation", ColumnType.STRING)
+    )),
+
+    AUDIT_LOGS("audit_logs", "event_time", List.of(
+            new ArchiveColumn("id", ColumnType.LONG),
+            new ArchiveColumn("entity_type", ColumnType.STRING),
+            new ArchiveColumn("entity_id", ColumnType.STRING),
+            new ArchiveColumn("action", ColumnType.STRING),
+            new ArchiveColumn("performed_by", ColumnType.STRING),
+            new ArchiveColumn("description", ColumnType.STRING),
+            new ArchiveColumn("event_time", ColumnType.TIMESTAMP),
+            new ArchiveColumn("ip_address", ColumnType.STRING)
+    ));
+
+    private final String tableName;
+    private final String timeColumn;
+    private final List<ArchiveColumn> columns;
+
+    ArchiveTable(String tableName, String timeColumn, List<ArchiveColumn> columns) {
+        this.tableName = tableName;
+        this.timeColumn = timeColumn;
+        this.columns = columns;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getTimeColumn() {
+        return timeColumn;
+    }
+
+    public List<ArchiveColumn> getColumns() {
+        return columns;
+    }
+}
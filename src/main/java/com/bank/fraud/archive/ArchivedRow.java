@@ -0,0 +1,36 @@
+package com.bank.fraud.archive;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One decoded row from a columnar archive segment.
+ */
+public class ArchivedRow {
+
+    private final List<ArchiveColumn> columns;
+    private final Object[] values;
+
+    ArchivedRow(List<ArchiveColumn> columns, Object[] values) {
+        this.columns = columns;
+        this.values = values;
+    }
+
+    public Object get(String column) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).name().equals(column)) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            map.put(columns.get(i).name(), values[i]);
+        }
+        return map;
+    }
+}
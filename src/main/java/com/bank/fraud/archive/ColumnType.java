@@ -0,0 +1,14 @@
+package com.bank.fraud.archive;
+
+/**
+ * Physical encodings used by the columnar archive format.
+ */
+public enum ColumnType {
+
+    STRING,     // dictionary encoded: distinct values + varint codes
+    LONG,       // zigzag varint of the delta to the previous row
+    INT,        // zigzag varint
+    DOUBLE,     // raw IEEE-754 bits
+    BOOLEAN,    // bit-packed
+    TIMESTAMP   // LocalDateTime as epoch micros (UTC), delta encoded
+}
@@ -0,0 +1,303 @@
+package com.bank.fraud.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Reads a segment written by {@link ColumnarArchiveWriter}.
+ *
+ * Only the header is read on open; column blocks are fetched and
+ * decompressed on demand, so segments rejected by the time range or a
+ * dictionary lookup cost a single small read.
+ */
+public final class ColumnarArchiveReader implements Closeable {
+
+    private final FileChannel channel;
+    private final long dataStart;
+
+    private final String timeColumn;
+    private final int rowCount;
+    private final long minTime;
+    private final long maxTime;
+    private final List<ArchiveColumn> columns = new ArrayList<>();
+    private final List<long[][]> blocks = new ArrayList<>(); // per column: [block][offset, length, rawLength]
+
+    private ColumnarArchiveReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+
+        ByteBuffer prelude = ByteBuffer.allocate(9);
+        readFully(prelude, 0);
+        prelude.flip();
+        if (prelude.getInt() != ArchiveCodec.MAGIC) {
+            throw new IOException("Not a columnar archive segment");
+        }
+        byte version = prelude.get();
+        if (version != ArchiveCodec.VERSION) {
+            throw new IOException("Unsupported archive version " + version);
+        }
+        int headerLength = prelude.getInt();
+
+        ByteBuffer headerBuffer = ByteBuffer.allocate(headerLength);
+        readFully(headerBuffer, 9);
+        this.dataStart = 9L + headerLength;
+
+        DataInputStream header = new DataInputStream(new ByteArrayInputStream(headerBuffer.array()));
+        this.timeColumn = header.readUTF();
+        this.rowCount = header.readInt();
+        this.minTime = header.readLong();
+        this.maxTime = header.readLong();
+
+        int columnCount = header.readShort();
+        for (int c = 0; c < columnCount; c++) {
+            String name = header.readUTF();
+            ColumnType type = ColumnType.values()[header.readByte()];
+            int blockCount = header.readByte();
+            long[][] columnBlocks = new long[blockCount][3];
+            for (int b = 0; b < blockCount; b++) {
+                columnBlocks[b][0] = header.readLong();
+                columnBlocks[b][1] = header.readInt();
+                columnBlocks[b][2] = header.readInt();
+            }
+            columns.add(new ArchiveColumn(name, type));
+            blocks.add(columnBlocks);
+        }
+    }
+
+    public static ColumnarArchiveReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new ColumnarArchiveReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // --------------------------------------------------
+    // SCAN WITH PREDICATE PUSHDOWN
+    // --------------------------------------------------
+
+    /**
+     * Streams matching rows to the consumer until it returns false.
+     *
+     * @return false if the consumer asked to stop, true otherwise
+     */
+    public boolean scan(ArchiveScanFilter filter, Predicate<ArchivedRow> consumer) throws IOException {
+
+        // 1️⃣ Segment-level time pruning
+        if (rowCount == 0 || maxTime < filter.fromMicros() || minTime >= filter.toMicros()) {
+            return true;
+        }
+
+        // 2️⃣ Dictionary pruning: resolve each equality to a code
+        int[] predicateColumns = new int[filter.getEqualities().size()];
+        int[] predicateCodes = new int[predicateColumns.length];
+        int p = 0;
+        for (Map.Entry<String, String> equality : filter.getEqualities().entrySet()) {
+            int column = indexOf(equality.getKey());
+            if (column < 0 || columns.get(column).type() != ColumnType.STRING) {
+                return true;
+            }
+            int code = dictionaryCode(column, equality.getValue());
+            if (code < 0) {
+                return true;
+            }
+            predicateColumns[p] = column;
+            predicateCodes[p] = code;
+            p++;
+        }
+
+        // 3️⃣ Row-level filtering on time + dictionary codes only
+        BitSet matches = new BitSet(rowCount);
+        matches.set(0, rowCount);
+
+        int timeIndex = indexOf(timeColumn);
+        long[] times = decodeLongs(timeIndex);
+        long from = filter.fromMicros();
+        long to = filter.toMicros();
+        for (int r = 0; r < rowCount; r++) {
+            if (times[r] < from || times[r] >= to) {
+                matches.clear(r);
+            }
+        }
+
+        for (int i = 0; i < predicateColumns.length && !matches.isEmpty(); i++) {
+            int[] codes = decodeCodes(predicateColumns[i]);
+            for (int r = matches.nextSetBit(0); r >= 0; r = matches.nextSetBit(r + 1)) {
+                if (codes[r] != predicateCodes[i]) {
+                    matches.clear(r);
+                }
+            }
+        }
+
+        if (matches.isEmpty()) {
+            return true;
+        }
+
+        // 4️⃣ Materialise remaining columns for matching rows
+        Object[][] decoded = new Object[columns.size()][];
+        for (int c = 0; c < columns.size(); c++) {
+            decoded[c] = decodeColumn(c);
+        }
+
+        for (int r = matches.nextSetBit(0); r >= 0; r = matches.nextSetBit(r + 1)) {
+            Object[] values = new Object[columns.size()];
+            for (int c = 0; c < columns.size(); c++) {
+                values[c] = decoded[c][r];
+            }
+            if (!consumer.test(new ArchivedRow(columns, values))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * All values of a LONG column, in row order (e.g. the ids a segment holds).
+     */
+    long[] readLongs(String column) throws IOException {
+        int index = indexOf(column);
+        if (index < 0 || columns.get(index).type() != ColumnType.LONG) {
+            throw new IllegalArgumentException("Not a LONG archive column: " + column);
+        }
+        return decodeLongs(index);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // --------------------------------------------------
+    // COLUMN DECODERS
+    // --------------------------------------------------
+
+    private Object[] decodeColumn(int column) throws IOException {
+
+        Object[] values = new Object[rowCount];
+
+        switch (columns.get(column).type()) {
+            case STRING -> {
+                String[] dictionary = readDictionary(column);
+                int[] codes = decodeCodes(column);
+                for (int r = 0; r < rowCount; r++) {
+                    values[r] = codes[r] < 0 ? null : dictionary[codes[r]];
+                }
+            }
+            case LONG -> {
+                long[] longs = decodeLongs(column);
+                for (int r = 0; r < rowCount; r++) {
+                    values[r] = longs[r];
+                }
+            }
+            case TIMESTAMP -> {
+                long[] micros = decodeLongs(column);
+                for (int r = 0; r < rowCount; r++) {
+                    values[r] = ArchiveCodec.fromEpochMicros(micros[r]);
+                }
+            }
+            case INT -> {
+                ByteBuffer in = readBlock(column, 0);
+                for (int r = 0; r < rowCount; r++) {
+                    values[r] = (int) ArchiveCodec.unZigZag(ArchiveCodec.readVarLong(in));
+                }
+            }
+            case DOUBLE -> {
+                ByteBuffer in = readBlock(column, 0);
+                for (int r = 0; r < rowCount; r++) {
+                    values[r] = in.getDouble();
+                }
+            }
+            case BOOLEAN -> {
+                ByteBuffer in = readBlock(column, 0);
+                for (int r = 0; r < rowCount; r++) {
+                    values[r] = (in.get(r >>> 3) & (1 << (r & 7))) != 0;
+                }
+            }
+        }
+        return values;
+    }
+
+    private long[] decodeLongs(int column) throws IOException {
+        ByteBuffer in = readBlock(column, 0);
+        long[] values = new long[rowCount];
+        long previous = 0;
+        for (int r = 0; r < rowCount; r++) {
+            previous += ArchiveCodec.unZigZag(ArchiveCodec.readVarLong(in));
+            values[r] = previous;
+        }
+        return values;
+    }
+
+    // Codes are stored +1 so that 0 can mean null; returned codes use -1 for null
+    private int[] decodeCodes(int column) throws IOException {
+        ByteBuffer in = readBlock(column, 1);
+        int[] codes = new int[rowCount];
+        for (int r = 0; r < rowCount; r++) {
+            codes[r] = (int) ArchiveCodec.readVarLong(in) - 1;
+        }
+        return codes;
+    }
+
+    private String[] readDictionary(int column) throws IOException {
+        ByteBuffer in = readBlock(column, 0);
+        String[] dictionary = new String[(int) ArchiveCodec.readVarLong(in)];
+        for (int i = 0; i < dictionary.length; i++) {
+            byte[] utf8 = new byte[(int) ArchiveCodec.readVarLong(in)];
+            in.get(utf8);
+            dictionary[i] = new String(utf8, StandardCharsets.UTF_8);
+        }
+        return dictionary;
+    }
+
+    private int dictionaryCode(int column, String value) throws IOException {
+        String[] dictionary = readDictionary(column);
+        for (int i = 0; i < dictionary.length; i++) {
+            if (dictionary[i].equals(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private ByteBuffer readBlock(int column, int block) throws IOException {
+        long[] location = blocks.get(column)[block];
+        ByteBuffer compressed = ByteBuffer.allocate((int) location[1]);
+        readFully(compressed, dataStart + location[0]);
+        return ArchiveCodec.decompress(compressed.array(), (int) location[2]);
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).name().equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, position + buffer.position());
+            if (n < 0) {
+                throw new IOException("Truncated archive segment");
+            }
+        }
+    }
+}
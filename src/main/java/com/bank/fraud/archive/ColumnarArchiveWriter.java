@@ -0,0 +1,210 @@
+package com.bank.fraud.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes one immutable columnar segment file.
+ *
+ * Layout:
+ * <pre>
+ *   int magic | byte version | int headerLength | header | column blocks
+ *
+ *   header = timeColumn, rowCount, minTime, maxTime,
+ *            columns[ name, type, blocks[ offset, length, rawLength ] ]
+ * </pre>
+ * Every column is stored in its own deflate-compressed block(s); STRING
+ * columns have a dictionary block and a codes block so readers can check
+ * an equality predicate against the dictionary without touching any row data.
+ */
+public final class ColumnarArchiveWriter {
+
+    private ColumnarArchiveWriter() {
+    }
+
+    /**
+     * Writes rows (values in schema order) to target, atomically.
+     */
+    public static void write(
+            Path target,
+            List<ArchiveColumn> columns,
+            String timeColumn,
+            List<Object[]> rows
+    ) throws IOException {
+
+        int timeIndex = indexOf(columns, timeColumn);
+
+        long minTime = Long.MAX_VALUE;
+        long maxTime = Long.MIN_VALUE;
+        for (Object[] row : rows) {
+            long micros = ArchiveCodec.toEpochMicros((LocalDateTime) row[timeIndex]);
+            minTime = Math.min(minTime, micros);
+            maxTime = Math.max(maxTime, micros);
+        }
+
+        // 1️⃣ Encode + compress each column
+        List<List<byte[]>> rawBlocks = new ArrayList<>();
+        for (int c = 0; c < columns.size(); c++) {
+            rawBlocks.add(encodeColumn(columns.get(c).type(), rows, c));
+        }
+
+        List<List<byte[]>> compressedBlocks = new ArrayList<>();
+        for (List<byte[]> blocks : rawBlocks) {
+            List<byte[]> compressed = new ArrayList<>();
+            for (byte[] block : blocks) {
+                compressed.add(ArchiveCodec.compress(block));
+            }
+            compressedBlocks.add(compressed);
+        }
+
+        // 2️⃣ Header with block directory (offsets relative to data start)
+        ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(headerBytes);
+        header.writeUTF(timeColumn);
+        header.writeInt(rows.size());
+        header.writeLong(rows.isEmpty() ? 0 : minTime);
+        header.writeLong(rows.isEmpty() ? 0 : maxTime);
+        header.writeShort(columns.size());
+
+        long offset = 0;
+        for (int c = 0; c < columns.size(); c++) {
+            header.writeUTF(columns.get(c).name());
+            header.writeByte(columns.get(c).type().ordinal());
+            header.writeByte(compressedBlocks.get(c).size());
+            for (int b = 0; b < compressedBlocks.get(c).size(); b++) {
+                int length = compressedBlocks.get(c).get(b).length;
+                header.writeLong(offset);
+                header.writeInt(length);
+                header.writeInt(rawBlocks.get(c).get(b).length);
+                offset += length;
+            }
+        }
+        header.flush();
+
+        // 3️⃣ Write to temp file, fsync, then atomically publish
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+
+            ByteBuffer prelude = ByteBuffer.allocate(9);
+            prelude.putInt(ArchiveCodec.MAGIC);
+            prelude.put(ArchiveCodec.VERSION);
+            prelude.putInt(headerBytes.size());
+            prelude.flip();
+            writeFully(channel, prelude);
+            writeFully(channel, ByteBuffer.wrap(headerBytes.toByteArray()));
+
+            for (List<byte[]> blocks : compressedBlocks) {
+                for (byte[] block : blocks) {
+                    writeFully(channel, ByteBuffer.wrap(block));
+                }
+            }
+            channel.force(true);
+        }
+
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // --------------------------------------------------
+    // COLUMN ENCODERS
+    // --------------------------------------------------
+
+    private static List<byte[]> encodeColumn(ColumnType type, List<Object[]> rows, int column) {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(rows.size() * 2);
+
+        switch (type) {
+            case STRING -> {
+                Map<String, Integer> dictionary = new HashMap<>();
+                List<String> values = new ArrayList<>();
+                for (Object[] row : rows) {
+                    String value = (String) row[column];
+                    if (value == null) {
+                        ArchiveCodec.writeVarLong(out, 0);
+                        continue;
+                    }
+                    Integer code = dictionary.get(value);
+                    if (code == null) {
+                        code = values.size();
+                        dictionary.put(value, code);
+                        values.add(value);
+                    }
+                    ArchiveCodec.writeVarLong(out, code + 1L);
+                }
+
+                ByteArrayOutputStream dict = new ByteArrayOutputStream();
+                ArchiveCodec.writeVarLong(dict, values.size());
+                for (String value : values) {
+                    byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                    ArchiveCodec.writeVarLong(dict, utf8.length);
+                    dict.writeBytes(utf8);
+                }
+                return List.of(dict.toByteArray(), out.toByteArray());
+            }
+            case LONG, TIMESTAMP -> {
+                long previous = 0;
+                for (Object[] row : rows) {
+                    long value = type == ColumnType.TIMESTAMP
+                            ? ArchiveCodec.toEpochMicros((LocalDateTime) row[column])
+                            : ((Number) row[column]).longValue();
+                    ArchiveCodec.writeVarLong(out, ArchiveCodec.zigZag(value - previous));
+                    previous = value;
+                }
+            }
+            case INT -> {
+                for (Object[] row : rows) {
+                    ArchiveCodec.writeVarLong(out, ArchiveCodec.zigZag(((Number) row[column]).intValue()));
+                }
+            }
+            case DOUBLE -> {
+                ByteBuffer buffer = ByteBuffer.allocate(rows.size() * Double.BYTES);
+                for (Object[] row : rows) {
+                    buffer.putDouble(((Number) row[column]).doubleValue());
+                }
+                return List.of(buffer.array());
+            }
+            case BOOLEAN -> {
+                byte[] bits = new byte[(rows.size() + 7) / 8];
+                for (int r = 0; r < rows.size(); r++) {
+                    if (Boolean.TRUE.equals(rows.get(r)[column])) {
+                        bits[r >>> 3] |= (byte) (1 << (r & 7));
+                    }
+                }
+                return List.of(bits);
+            }
+        }
+        return List.of(out.toByteArray());
+    }
+
+    private static int indexOf(List<ArchiveColumn> columns, String name) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).name().equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown archive column: " + name);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
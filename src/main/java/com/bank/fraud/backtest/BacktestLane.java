@@ -0,0 +1,141 @@
+package com.bank.fraud.backtest;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * One single-threaded backtest lane. The reader routes every account to a
+ * fixed lane (AccountShardedExecutor.laneOf), so the velocity state of an
+ * account is only ever touched by one thread, in row order.
+ *
+ * Velocity state is the last velocityMinCount transaction times per
+ * account — enough to answer "at least N in the window" — and accounts
+ * idle for longer than the window are swept, so memory follows the number
+ * of recently active accounts, not the size of the history.
+ */
+final class BacktestLane implements Runnable {
+
+    static final List<HistoricalTransaction> END_OF_STREAM = List.of();
+
+    private static final int SWEEP_INTERVAL_ROWS = 1 << 20;
+
+    private final BlockingQueue<List<HistoricalTransaction>> inbox;
+    private final BacktestPolicy policy;
+    private final BacktestTally tally = new BacktestTally();
+
+    // account -> ring of the last velocityMinCount epoch seconds; slot [n] counts writes
+    private final Map<String, long[]> recent = new HashMap<>();
+
+    private long rowsSinceSweep;
+    private long latestSecond = Long.MIN_VALUE;
+
+    private volatile RuntimeException failure;
+
+    BacktestLane(BacktestPolicy policy, int queueCapacity) {
+        this.policy = policy;
+        this.inbox = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    // --------------------------------------------------
+    // FEED (READER THREAD)
+    // --------------------------------------------------
+
+    void put(List<HistoricalTransaction> batch) throws InterruptedException {
+        inbox.put(batch);
+    }
+
+    // --------------------------------------------------
+    // REPLAY (LANE THREAD)
+    // --------------------------------------------------
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                List<HistoricalTransaction> batch = inbox.take();
+                if (batch == END_OF_STREAM) {
+                    return;
+                }
+
+                // After a failure keep draining so the reader never blocks on a dead lane
+                if (failure == null) {
+                    try {
+                        replay(batch);
+                    } catch (RuntimeException e) {
+                        failure = e;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    RuntimeException getFailure() {
+        return failure;
+    }
+
+    BacktestTally getTally() {
+        return tally;
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private void replay(List<HistoricalTransaction> batch) {
+
+        int velocityMinCount = policy.getVelocityMinCount();
+        long windowSeconds = policy.getVelocityWindowSeconds();
+
+        for (HistoricalTransaction row : batch) {
+
+            long second = row.epochSecond();
+            long[] ring = recent.computeIfAbsent(row.accountId(), id -> newRing(velocityMinCount));
+
+            // Live engine: COUNT(*) of the account's rows with time >= now - window
+            int recentCount = 0;
+            long from = second - windowSeconds;
+            for (int i = 0; i < velocityMinCount; i++) {
+                if (ring[i] >= from) {
+                    recentCount++;
+                }
+            }
+
+            int ruleScore = policy.ruleScore(
+                    row.amountPaise() / 100.0,
+                    row.hour(),
+                    row.unknownLocation(),
+                    recentCount,
+                    row.rateLimitPoints()
+            );
+            int candidateScore = policy.finalRiskScore(ruleScore, row.mlScore(), row.ruleOnly());
+            tally.record(row, candidateScore, policy.riskLevel(candidateScore));
+
+            ring[(int) (ring[velocityMinCount]++ % velocityMinCount)] = second;
+            latestSecond = Math.max(latestSecond, second);
+        }
+
+        rowsSinceSweep += batch.size();
+        if (rowsSinceSweep >= SWEEP_INTERVAL_ROWS) {
+            rowsSinceSweep = 0;
+            long cutoff = latestSecond - windowSeconds;
+            recent.values().removeIf(ring -> newest(ring, velocityMinCount) < cutoff);
+        }
+    }
+
+    private static long[] newRing(int size) {
+        long[] ring = new long[size + 1];
+        for (int i = 0; i < size; i++) {
+            ring[i] = Long.MIN_VALUE;
+        }
+        return ring;
+    }
+
+    private static long newest(long[] ring, int size) {
+        return ring[(int) ((ring[size] - 1) % size)];
+    }
+}
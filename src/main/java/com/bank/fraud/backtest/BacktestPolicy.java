@@ -0,0 +1,134 @@
+package com.bank.fraud.backtest;
+
+import com.bank.fraud.dto.BacktestRequestDTO;
+import com.bank.fraud.service.FraudPolicy;
+
+/**
+ * Candidate rule and risk-scoring configuration replayed by a backtest.
+ *
+ * Every value left null in the request keeps the live engine's setting
+ * (FraudPolicy, which the engine itself scores with), so a request that
+ * only changes one threshold measures exactly that change.
+ */
+public final class BacktestPolicy {
+
+    private final int amountOver100kPoints;
+    private final int amountOver50kPoints;
+    private final int amountOver20kPoints;
+    private final int amountOver10kPoints;
+    private final int velocityWindowSeconds;
+    private final int velocityMinCount;
+    private final int velocityPoints;
+    private final int lateNightStartHour;
+    private final int lateNightEndHour;
+    private final int lateNightPoints;
+    private final int unknownLocationPoints;
+    private final double ruleWeight;
+    private final double mlWeight;
+    private final int lowRiskMax;
+    private final int mediumRiskMax;
+
+    private BacktestPolicy(BacktestRequestDTO request) {
+        this.amountOver100kPoints = valueOr(request.getAmountOver100kPoints(), FraudPolicy.AMOUNT_OVER_100K_POINTS);
+        this.amountOver50kPoints = valueOr(request.getAmountOver50kPoints(), FraudPolicy.AMOUNT_OVER_50K_POINTS);
+        this.amountOver20kPoints = valueOr(request.getAmountOver20kPoints(), FraudPolicy.AMOUNT_OVER_20K_POINTS);
+        this.amountOver10kPoints = valueOr(request.getAmountOver10kPoints(), FraudPolicy.AMOUNT_OVER_10K_POINTS);
+        this.velocityWindowSeconds = valueOr(request.getVelocityWindowMinutes(), FraudPolicy.VELOCITY_WINDOW_MINUTES) * 60;
+        this.velocityMinCount = valueOr(request.getVelocityMinCount(), FraudPolicy.VELOCITY_MIN_COUNT);
+        this.velocityPoints = valueOr(request.getVelocityPoints(), FraudPolicy.VELOCITY_POINTS);
+        this.lateNightStartHour = valueOr(request.getLateNightStartHour(), FraudPolicy.LATE_NIGHT_START_HOUR);
+        this.lateNightEndHour = valueOr(request.getLateNightEndHour(), FraudPolicy.LATE_NIGHT_END_HOUR);
+        this.lateNightPoints = valueOr(request.getLateNightPoints(), FraudPolicy.LATE_NIGHT_POINTS);
+        this.unknownLocationPoints = valueOr(request.getUnknownLocationPoints(), FraudPolicy.UNKNOWN_LOCATION_POINTS);
+        this.ruleWeight = request.getRuleWeight() != null ? request.getRuleWeight() : FraudPolicy.RULE_WEIGHT;
+        this.mlWeight = request.getMlWeight() != null ? request.getMlWeight() : FraudPolicy.ML_WEIGHT;
+        this.lowRiskMax = valueOr(request.getLowRiskMax(), FraudPolicy.LOW_RISK_MAX);
+        this.mediumRiskMax = valueOr(request.getMediumRiskMax(), FraudPolicy.MEDIUM_RISK_MAX);
+
+        if (lowRiskMax >= mediumRiskMax) {
+            throw new IllegalArgumentException("lowRiskMax must be below mediumRiskMax");
+        }
+        if (velocityMinCount < 1) {
+            throw new IllegalArgumentException("velocityMinCount must be at least 1");
+        }
+    }
+
+    public static BacktestPolicy from(BacktestRequestDTO request) {
+        return new BacktestPolicy(request);
+    }
+
+    // --------------------------------------------------
+    // SCORING (MIRRORS THE LIVE ENGINE)
+    // --------------------------------------------------
+
+    /**
+     * @param recentCount     earlier transactions of the account inside the velocity window
+     * @param rateLimitPoints rate-limit points recorded at decision time (not replayable)
+     */
+    int ruleScore(double amount, int hour, boolean unknownLocation, int recentCount, int rateLimitPoints) {
+
+        int ruleScore = 0;
+
+        if (amount > FraudPolicy.AMOUNT_TIER_100K) {
+            ruleScore += amountOver100kPoints;
+        } else if (amount > FraudPolicy.AMOUNT_TIER_50K) {
+            ruleScore += amountOver50kPoints;
+        } else if (amount > FraudPolicy.AMOUNT_TIER_20K) {
+            ruleScore += amountOver20kPoints;
+        } else if (amount > FraudPolicy.AMOUNT_TIER_10K) {
+            ruleScore += amountOver10kPoints;
+        }
+
+        if (recentCount >= velocityMinCount) {
+            ruleScore += velocityPoints;
+        }
+
+        if (FraudPolicy.isLateNight(hour, lateNightStartHour, lateNightEndHour)) {
+            ruleScore += lateNightPoints;
+        }
+
+        if (unknownLocation) {
+            ruleScore += unknownLocationPoints;
+        }
+
+        return Math.min(ruleScore + rateLimitPoints, FraudPolicy.MAX_RULE_SCORE);
+    }
+
+    /**
+     * @param ruleOnly the row was decided in degraded mode, without an ML score;
+     *                 like the live engine, rules then carry the full weight
+     */
+    int finalRiskScore(int ruleScore, int mlScore, boolean ruleOnly) {
+        if (ruleOnly) {
+            return (int) Math.round((ruleScore * FraudPolicy.RULE_ONLY_RULE_WEIGHT)
+                    + (mlScore * FraudPolicy.RULE_ONLY_ML_WEIGHT));
+        }
+        return (int) Math.round((ruleScore * ruleWeight) + (mlScore * mlWeight));
+    }
+
+    /**
+     * @return 0 = LOW, 1 = MEDIUM, 2 = HIGH
+     */
+    int riskLevel(int finalRiskScore) {
+        if (finalRiskScore <= lowRiskMax) {
+            return 0;
+        }
+        return finalRiskScore <= mediumRiskMax ? 1 : 2;
+    }
+
+    int getVelocityWindowSeconds() {
+        return velocityWindowSeconds;
+    }
+
+    int getVelocityMinCount() {
+        return velocityMinCount;
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private static int valueOr(Integer value, int defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+}
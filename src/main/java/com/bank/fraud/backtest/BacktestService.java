@@ -0,0 +1,489 @@
+package com.bank.fraud.backtest;
+
+import com.bank.fraud.dto.BacktestReportDTO;
+import com.bank.fraud.dto.BacktestRequestDTO;
+import com.bank.fraud.pipeline.AccountShardedExecutor;
+import com.bank.fraud.service.FraudExplanation;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+public class BacktestService {
+
+    /*
+     * Replays historical transactions rows through a candidate policy.
+     *
+     * One reader thread walks the window in keyset chunks over
+     * (transaction_time, id) on the replica: a range read on
+     * idx_transaction_time, which InnoDB orders by the primary key after
+     * the time, touching only the monthly partitions of the window. It
+     * decodes the few columns a replay needs and hands each row to its
+     * account's lane, so every lane sees its accounts in time order.
+     * Lanes run in parallel, each owning the velocity state of its accounts,
+     * and keep plain counters that are merged once the stream has drained.
+     * Reading the next chunk overlaps with the lanes scoring the last one;
+     * bounded lane queues push back on the reader if scoring falls behind.
+     *
+     * ML scores and rate-limit hits are taken as recorded: the model is not
+     * what is being tested, and rate-limiter state cannot be replayed. Rows
+     * decided in rule-only degraded mode are replayed the same way, with
+     * rules at full weight. No flag is stored for them; they are the rows
+     * with ml_score 0 and a final score equal to a non-zero rule score,
+     * which a blended decision cannot produce.
+     */
+
+    private static final Logger log = LoggerFactory.getLogger(BacktestService.class);
+
+    private static final List<String> RISK_LEVELS = List.of("LOW", "MEDIUM", "HIGH");
+
+    private static final String SELECT_CHUNK = """
+            SELECT id, transaction_id, account_id, amount, city, transaction_time,
+                   rule_score, ml_score, final_risk_score, risk_level, explanation
+            FROM transactions
+            WHERE transaction_time >= ? AND transaction_time < ?
+              AND (transaction_time > ? OR id > ?)
+            ORDER BY transaction_time, id
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+
+    private final int laneCount;
+    private final int chunkSize;
+    private final int laneQueueCapacity;
+    private final int maxDays;
+    private final int retainedRuns;
+
+    // Newest last; one run at a time, finished runs kept for reporting
+    private final Map<String, BacktestRun> runs = new LinkedHashMap<>();
+
+    public BacktestService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${backtest.lanes:0}") int laneCount,
+            @Value("${backtest.chunk-size:20000}") int chunkSize,
+            @Value("${backtest.lane-queue-capacity:8}") int laneQueueCapacity,
+            @Value("${backtest.max-days:400}") int maxDays,
+            @Value("${backtest.retained-runs:10}") int retainedRuns
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.laneCount = laneCount > 0 ? laneCount : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.chunkSize = chunkSize;
+        this.laneQueueCapacity = laneQueueCapacity;
+        this.maxDays = maxDays;
+        this.retainedRuns = retainedRuns;
+
+        // Historical scans read from the replica (see ReadReplicaRoutingDataSource)
+        this.readOnlyTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    // --------------------------------------------------
+    // START / INSPECT / CANCEL
+    // --------------------------------------------------
+
+    public synchronized BacktestReportDTO start(BacktestRequestDTO request) {
+
+        if (request.getFrom().isAfter(request.getTo())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(request.getFrom(), request.getTo()) >= maxDays) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Backtest window exceeds " + maxDays + " days");
+        }
+
+        BacktestPolicy policy;
+        try {
+            policy = BacktestPolicy.from(request);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        for (BacktestRun run : runs.values()) {
+            if ("RUNNING".equals(run.status)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Backtest " + run.id + " is still running");
+            }
+        }
+
+        BacktestRun run = new BacktestRun(UUID.randomUUID().toString(), request, policy);
+        runs.put(run.id, run);
+        while (runs.size() > retainedRuns) {
+            runs.remove(runs.keySet().iterator().next());
+        }
+
+        Thread reader = new Thread(() -> execute(run), "backtest-reader");
+        reader.setDaemon(true);
+        reader.start();
+
+        return toReport(run);
+    }
+
+    public synchronized BacktestReportDTO getRun(String runId) {
+        return toReport(findRun(runId));
+    }
+
+    public synchronized List<BacktestReportDTO> getRuns() {
+        List<BacktestReportDTO> reports = new ArrayList<>(runs.size());
+        for (BacktestRun run : runs.values()) {
+            reports.add(toReport(run));
+        }
+        return reports;
+    }
+
+    public synchronized BacktestReportDTO cancel(String runId) {
+        BacktestRun run = findRun(runId);
+        run.cancelled = true;
+        return toReport(run);
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        for (BacktestRun run : runs.values()) {
+            run.cancelled = true;
+        }
+    }
+
+    // --------------------------------------------------
+    // REPLAY (READER THREAD)
+    // --------------------------------------------------
+
+    private void execute(BacktestRun run) {
+
+        // 1️⃣ Start the lanes
+        BacktestLane[] lanes = new BacktestLane[laneCount];
+        Thread[] threads = new Thread[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new BacktestLane(run.policy, laneQueueCapacity);
+            threads[i] = new Thread(lanes[i], "backtest-lane-" + i);
+            threads[i].setDaemon(true);
+            threads[i].start();
+        }
+
+        String status = "COMPLETED";
+        String error = null;
+
+        try {
+            // 2️⃣ Analyst outcomes are the ground truth
+            Map<String, Boolean> labels = loadLabels();
+
+            // 3️⃣ Stream the window in (transaction_time, id) order, routing rows by account
+            if (!stream(run, labels, lanes)) {
+                status = "CANCELLED";
+            }
+        } catch (RuntimeException e) {
+            status = "FAILED";
+            error = e.getMessage();
+            log.error("Backtest {} failed", run.id, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = "CANCELLED";
+        } finally {
+            // 4️⃣ Drain the lanes and merge their counters
+            for (BacktestLane lane : lanes) {
+                try {
+                    lane.put(BacktestLane.END_OF_STREAM);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            for (Thread thread : threads) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        BacktestTally total = new BacktestTally();
+        for (BacktestLane lane : lanes) {
+            if (lane.getFailure() != null && error == null) {
+                status = "FAILED";
+                error = lane.getFailure().getMessage();
+                log.error("Backtest {} lane failed", run.id, lane.getFailure());
+            }
+            total.merge(lane.getTally());
+        }
+
+        synchronized (this) {
+            run.tally = total;
+            run.error = error;
+            run.finishedAt = LocalDateTime.now();
+            run.status = status;
+        }
+
+        log.info("Backtest {} {}: {} rows in {} s", run.id, status, run.rowsScanned,
+                ChronoUnit.SECONDS.between(run.startedAt, run.finishedAt));
+    }
+
+    /**
+     * @return false when the run was cancelled
+     */
+    private boolean stream(
+            BacktestRun run,
+            Map<String, Boolean> labels,
+            BacktestLane[] lanes
+    ) throws InterruptedException {
+
+        LocalDateTime end = run.request.getTo().plusDays(1).atStartOfDay();
+        KeysetCursor cursor = new KeysetCursor(run.request.getFrom().atStartOfDay());
+        run.currentDay = run.request.getFrom();
+
+        while (true) {
+            if (run.cancelled) {
+                return false;
+            }
+            for (BacktestLane lane : lanes) {
+                if (lane.getFailure() != null) {
+                    throw lane.getFailure();
+                }
+            }
+
+            List<List<HistoricalTransaction>> batches = new ArrayList<>(lanes.length);
+            for (int i = 0; i < lanes.length; i++) {
+                batches.add(new ArrayList<>(chunkSize / lanes.length + 16));
+            }
+
+            int rows = readChunk(cursor, end, labels, batches);
+            if (rows == 0) {
+                return true;
+            }
+
+            for (int i = 0; i < lanes.length; i++) {
+                if (!batches.get(i).isEmpty()) {
+                    lanes[i].put(batches.get(i));
+                }
+            }
+
+            run.rowsScanned += rows;
+            run.currentDay = cursor.lastTime.toLocalDate();
+
+            if (rows < chunkSize) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reads the chunk after the cursor and moves the cursor to its last row.
+     *
+     * @return rows read
+     */
+    private int readChunk(
+            KeysetCursor cursor,
+            LocalDateTime end,
+            Map<String, Boolean> labels,
+            List<List<HistoricalTransaction>> batches
+    ) {
+        int[] rows = {0};
+        LocalDateTime afterTime = cursor.lastTime;
+        long afterId = cursor.lastId;
+        int laneCount = batches.size();
+
+        readOnlyTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+                SELECT_CHUNK,
+                (ResultSet rs) -> {
+                    String accountId = rs.getString(3);
+                    LocalDateTime time = rs.getObject(6, LocalDateTime.class);
+                    Boolean fraud = labels.get(rs.getString(2));
+                    int ruleScore = rs.getInt(7);
+                    int mlScore = rs.getInt(8);
+                    int finalRiskScore = rs.getInt(9);
+
+                    HistoricalTransaction row = new HistoricalTransaction(
+                            accountId,
+                            Math.round(rs.getDouble(4) * 100),
+                            time.getHour(),
+                            time.toEpochSecond(ZoneOffset.UTC),
+                            "UNKNOWN".equalsIgnoreCase(rs.getString(5)),
+                            mlScore,
+                            finalRiskScore,
+                            riskLevelIndex(rs.getString(10)),
+                            mlScore == 0 && ruleScore > 0 && finalRiskScore == ruleScore,
+                            rateLimitPoints(rs.getString(11)),
+                            fraud == null ? -1 : (fraud ? 1 : 0)
+                    );
+                    batches.get(AccountShardedExecutor.laneOf(accountId, laneCount)).add(row);
+
+                    rows[0]++;
+                    cursor.lastTime = time;
+                    cursor.lastId = rs.getLong(1);
+                },
+                afterTime, end, afterTime, afterId, chunkSize
+        ));
+        return rows[0];
+    }
+
+    private Map<String, Boolean> loadLabels() {
+        Map<String, Boolean> labels = new HashMap<>();
+        readOnlyTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+                "SELECT transaction_id, resolution FROM review_cases WHERE status = 'RESOLVED'",
+                (ResultSet rs) -> {
+                    labels.put(rs.getString(1), "CONFIRMED_FRAUD".equals(rs.getString(2)));
+                }
+        ));
+        return labels;
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private static int riskLevelIndex(String riskLevel) {
+        if ("HIGH".equals(riskLevel)) {
+            return 2;
+        }
+        return "MEDIUM".equals(riskLevel) ? 1 : 0;
+    }
+
+    // Rate-limit hits as recorded in the stored explanation (none before V8)
+    private static int rateLimitPoints(String explanation) {
+        if (explanation == null || !explanation.contains("rate_limit_")) {
+            return 0;
+        }
+        int points = 0;
+        for (FraudExplanation.RuleContribution rule : FraudExplanation.decode(explanation).getRules()) {
+            if (rule.id().startsWith("rate_limit_")) {
+                points += rule.points();
+            }
+        }
+        return points;
+    }
+
+    private BacktestRun findRun(String runId) {
+        BacktestRun run = runs.get(runId);
+        if (run == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Backtest not found: " + runId);
+        }
+        return run;
+    }
+
+    private BacktestReportDTO toReport(BacktestRun run) {
+
+        BacktestReportDTO report = new BacktestReportDTO();
+        report.setRunId(run.id);
+        report.setStatus(run.status);
+        report.setError(run.error);
+        report.setFrom(run.request.getFrom());
+        report.setTo(run.request.getTo());
+        report.setCurrentDay("RUNNING".equals(run.status) ? run.currentDay : null);
+        report.setStartedAt(run.startedAt);
+        report.setFinishedAt(run.finishedAt);
+        report.setRowsScanned(run.rowsScanned);
+        report.setPolicy(run.request);
+
+        LocalDateTime until = run.finishedAt != null ? run.finishedAt : LocalDateTime.now();
+        long millis = Math.max(1, ChronoUnit.MILLIS.between(run.startedAt, until));
+        report.setRowsPerSecond(run.rowsScanned * 1000 / millis);
+
+        BacktestTally tally = run.tally;
+        if (tally == null || !"COMPLETED".equals(run.status)) {
+            return report;
+        }
+
+        long[][] migration = new long[BacktestTally.LEVELS][BacktestTally.LEVELS];
+        for (int i = 0; i < tally.levelMigration.length; i++) {
+            migration[i / BacktestTally.LEVELS][i % BacktestTally.LEVELS] = tally.levelMigration[i];
+        }
+
+        report.setLabelledRows(tally.labelled);
+        report.setRiskLevels(RISK_LEVELS);
+        report.setLiveLevelCounts(tally.liveLevels);
+        report.setCandidateLevelCounts(tally.candidateLevels);
+        report.setLevelMigration(migration);
+        report.setLiveAmountByLevel(toRupees(tally.liveAmountPaise));
+        report.setCandidateAmountByLevel(toRupees(tally.candidateAmountPaise));
+        report.setLiveConfusion(toConfusion(tally.liveConfusion));
+        report.setCandidateConfusion(toConfusion(tally.candidateConfusion));
+        report.setLiveScoreHistogram(tally.liveScores);
+        report.setCandidateScoreHistogram(tally.candidateScores);
+        report.setCandidateFraudScoreHistogram(tally.candidateFraudScores);
+        report.setCandidateLegitimateScoreHistogram(tally.candidateLegitimateScores);
+        return report;
+    }
+
+    private static BacktestReportDTO.Confusion toConfusion(long[] cells) {
+
+        long trueNegatives = cells[0];
+        long falsePositives = cells[1];
+        long falseNegatives = cells[2];
+        long truePositives = cells[3];
+
+        BacktestReportDTO.Confusion confusion = new BacktestReportDTO.Confusion();
+        confusion.setTruePositives(truePositives);
+        confusion.setFalsePositives(falsePositives);
+        confusion.setTrueNegatives(trueNegatives);
+        confusion.setFalseNegatives(falseNegatives);
+        confusion.setPrecision(ratio(truePositives, truePositives + falsePositives));
+        confusion.setRecall(ratio(truePositives, truePositives + falseNegatives));
+        confusion.setFalsePositiveRate(ratio(falsePositives, falsePositives + trueNegatives));
+        return confusion;
+    }
+
+    private static Double ratio(long numerator, long denominator) {
+        return denominator == 0 ? null : Math.round(numerator * 10000.0 / denominator) / 10000.0;
+    }
+
+    private static double[] toRupees(long[] paise) {
+        double[] rupees = new double[paise.length];
+        for (int i = 0; i < paise.length; i++) {
+            rupees[i] = paise[i] / 100.0;
+        }
+        return rupees;
+    }
+
+    // Last (transaction_time, id) read; the next chunk starts strictly after it
+    private static final class KeysetCursor {
+
+        private LocalDateTime lastTime;
+        private long lastId;
+
+        private KeysetCursor(LocalDateTime start) {
+            this.lastTime = start;
+        }
+    }
+
+    private static final class BacktestRun {
+
+        private final String id;
+        private final BacktestRequestDTO request;
+        private final BacktestPolicy policy;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+
+        private volatile String status = "RUNNING";
+        private volatile boolean cancelled;
+        private volatile LocalDate currentDay;
+        private volatile long rowsScanned;     // written by the reader thread only
+
+        private String error;
+        private LocalDateTime finishedAt;
+        private BacktestTally tally;
+
+        private BacktestRun(String id, BacktestRequestDTO request, BacktestPolicy policy) {
+            this.id = id;
+            this.request = request;
+            this.policy = policy;
+        }
+    }
+}
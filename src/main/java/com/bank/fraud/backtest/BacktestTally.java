@@ -0,0 +1,86 @@
+package com.bank.fraud.backtest;
+
+/**
+ * Counters for one backtest lane. Plain arrays: a lane is single-threaded,
+ * and lane tallies are merged once the run has drained.
+ *
+ * Risk levels are indexed LOW = 0, MEDIUM = 1, HIGH = 2; scores 0–100 each
+ * get their own histogram bucket. Confusion cells are indexed
+ * label * 2 + flagged (flagged = HIGH, the level that blocks):
+ * 0 = true negative, 1 = false positive, 2 = false negative, 3 = true positive.
+ */
+final class BacktestTally {
+
+    static final int LEVELS = 3;
+    static final int SCORE_BUCKETS = 101;
+
+    final long[] liveLevels = new long[LEVELS];
+    final long[] candidateLevels = new long[LEVELS];
+    final long[] levelMigration = new long[LEVELS * LEVELS];
+    final long[] liveAmountPaise = new long[LEVELS];
+    final long[] candidateAmountPaise = new long[LEVELS];
+
+    final long[] liveConfusion = new long[4];
+    final long[] candidateConfusion = new long[4];
+
+    final long[] liveScores = new long[SCORE_BUCKETS];
+    final long[] candidateScores = new long[SCORE_BUCKETS];
+    final long[] candidateFraudScores = new long[SCORE_BUCKETS];
+    final long[] candidateLegitimateScores = new long[SCORE_BUCKETS];
+
+    long rows;
+    long labelled;
+
+    void record(HistoricalTransaction row, int candidateScore, int candidateLevel) {
+
+        int liveLevel = row.liveRiskLevel();
+
+        rows++;
+        liveLevels[liveLevel]++;
+        candidateLevels[candidateLevel]++;
+        levelMigration[liveLevel * LEVELS + candidateLevel]++;
+        liveAmountPaise[liveLevel] += row.amountPaise();
+        candidateAmountPaise[candidateLevel] += row.amountPaise();
+        liveScores[bucket(row.liveFinalRiskScore())]++;
+        candidateScores[bucket(candidateScore)]++;
+
+        if (row.label() < 0) {
+            return;
+        }
+
+        labelled++;
+        liveConfusion[row.label() * 2 + (liveLevel == 2 ? 1 : 0)]++;
+        candidateConfusion[row.label() * 2 + (candidateLevel == 2 ? 1 : 0)]++;
+        (row.label() == 1 ? candidateFraudScores : candidateLegitimateScores)[bucket(candidateScore)]++;
+    }
+
+    void merge(BacktestTally other) {
+        add(liveLevels, other.liveLevels);
+        add(candidateLevels, other.candidateLevels);
+        add(levelMigration, other.levelMigration);
+        add(liveAmountPaise, other.liveAmountPaise);
+        add(candidateAmountPaise, other.candidateAmountPaise);
+        add(liveConfusion, other.liveConfusion);
+        add(candidateConfusion, other.candidateConfusion);
+        add(liveScores, other.liveScores);
+        add(candidateScores, other.candidateScores);
+        add(candidateFraudScores, other.candidateFraudScores);
+        add(candidateLegitimateScores, other.candidateLegitimateScores);
+        rows += other.rows;
+        labelled += other.labelled;
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private static int bucket(int score) {
+        return Math.max(0, Math.min(SCORE_BUCKETS - 1, score));
+    }
+
+    private static void add(long[] target, long[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += source[i];
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.bank.fraud.backtest;
+
+/**
+ * The columns of one transactions row a backtest needs, decoded once by
+ * the reader.
+ *
+ * @param epochSecond     transaction_time as seconds (only differences matter)
+ * @param liveRiskLevel   stored decision: 0 = LOW, 1 = MEDIUM, 2 = HIGH
+ * @param ruleOnly        decided in degraded mode, so mlScore is not a model score
+ * @param label           analyst review outcome: -1 none, 0 legitimate, 1 confirmed fraud
+ */
+record HistoricalTransaction(
+        String accountId,
+        long amountPaise,
+        int hour,
+        long epochSecond,
+        boolean unknownLocation,
+        int mlScore,
+        int liveFinalRiskScore,
+        int liveRiskLevel,
+        boolean ruleOnly,
+        int rateLimitPoints,
+        int label
+) {
+}
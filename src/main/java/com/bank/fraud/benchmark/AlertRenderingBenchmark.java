@@ -0,0 +1,147 @@
+package com.bank.fraud.benchmark;
+
+import com.bank.fraud.alert.AlertChannel;
+import com.bank.fraud.alert.AlertRenderer;
+import com.bank.fraud.model.Transaction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.ToIntFunction;
+
+/**
+ * Alert rendering benchmark: the precompiled templates in AlertRenderer
+ * against the String.format + DateTimeFormatter message AlertService
+ * used to build for every fraud alert.
+ * <pre>
+ *   mvn spring-boot:run -Dspring-boot.run.profiles=benchmark
+ * </pre>
+ * Reports ns/alert and bytes allocated per alert on the calling thread.
+ * No database rows are touched.
+ */
+@Component
+@Profile("benchmark")
+public class AlertRenderingBenchmark implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(AlertRenderingBenchmark.class);
+
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final int SAMPLE_SIZE = 1024;
+
+    private final AlertRenderer alertRenderer;
+    private final int iterations;
+    private final int warmupIterations;
+
+    public AlertRenderingBenchmark(
+            AlertRenderer alertRenderer,
+            @Value("${benchmark.alerts.iterations:500000}") int iterations,
+            @Value("${benchmark.alerts.warmup-iterations:200000}") int warmupIterations
+    ) {
+        this.alertRenderer = alertRenderer;
+        this.iterations = iterations;
+        this.warmupIterations = warmupIterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+
+        Transaction[] sample = new Transaction[SAMPLE_SIZE];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            sample[i] = syntheticTransaction(i);
+        }
+
+        // Same text either way, or the comparison means nothing
+        for (Transaction transaction : sample) {
+            if (!legacyMessage(transaction).equals(alertRenderer.render(AlertChannel.TEXT, transaction))) {
+                log.warn("[ALERT BENCHMARK] compiled TEXT template differs from the legacy message for {}",
+                        transaction.getTransactionId());
+                break;
+            }
+        }
+
+        measure("legacy String.format", sample, tx -> legacyMessage(tx).length());
+        measure("compiled TEXT", sample, tx -> alertRenderer.render(AlertChannel.TEXT, tx).length());
+        measure("compiled JSON (UTF-8 bytes)", sample, tx -> alertRenderer.renderUtf8(AlertChannel.JSON, tx).length);
+        measure("compiled HTML", sample, tx -> alertRenderer.render(AlertChannel.HTML, tx).length());
+        measure("compiled TEXT+JSON+HTML", sample, tx ->
+                alertRenderer.render(AlertChannel.TEXT, tx).length()
+                        + alertRenderer.renderUtf8(AlertChannel.JSON, tx).length
+                        + alertRenderer.render(AlertChannel.HTML, tx).length());
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private void measure(String name, Transaction[] sample, ToIntFunction<Transaction> renderer) {
+
+        long blackhole = loop(sample, renderer, warmupIterations);
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        blackhole += loop(sample, renderer, iterations);
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+
+        log.info("[ALERT BENCHMARK] {}: iterations={} {} ns/alert {} bytes/alert {} alerts/s (checksum {})",
+                name,
+                iterations,
+                String.format("%.1f", (double) elapsedNanos / iterations),
+                allocated / iterations,
+                String.format("%.0f", iterations / (elapsedNanos / 1_000_000_000.0)),
+                blackhole);
+    }
+
+    private long loop(Transaction[] sample, ToIntFunction<Transaction> renderer, int count) {
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += renderer.applyAsInt(sample[i & (SAMPLE_SIZE - 1)]);
+        }
+        return total;
+    }
+
+    // The message AlertService built before the templates
+    private String legacyMessage(Transaction transaction) {
+
+        return String.format(
+                "🚨 FRAUD ALERT 🚨\n" +
+                        "Transaction ID: %s\n" +
+                        "Account ID: %s\n" +
+                        "Amount: ₹%.2f\n" +
+                        "Risk Level: %s\n" +
+                        "Final Risk Score: %d\n" +
+                        "Time: %s\n",
+                transaction.getTransactionId(),
+                transaction.getAccountId(),
+                transaction.getAmount(),
+                transaction.getRiskLevel(),
+                transaction.getFinalRiskScore(),
+                transaction.getTransactionTime().format(TIME_FORMAT)
+        );
+    }
+
+    private Transaction syntheticTransaction(int i) {
+        Transaction tx = new Transaction();
+        tx.setTransactionId("TXN" + (100000000L + i * 7919L));
+        tx.setAccountId("ACC" + (10000 + i % 500));
+        tx.setAmount(10000.0 + (i * 37 % 90000) + (i % 100) / 100.0);
+        tx.setRiskLevel(i % 3 == 0 ? "MEDIUM" : "HIGH");
+        tx.setFinalRiskScore(55 + i % 45);
+        tx.setTransactionTime(LocalDateTime.of(2024, 1 + i % 12, 1 + i % 28, i % 24, i % 60, i % 60));
+        return tx;
+    }
+}
@@ -0,0 +1,161 @@
+package com.bank.fraud.benchmark;
+
+import com.bank.fraud.model.AuditLog;
+import com.bank.fraud.model.Transaction;
+import com.bank.fraud.repository.AuditLogRepository;
+import com.bank.fraud.repository.TransactionRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Insert-throughput benchmark for the persistence profile.
+ *
+ * Run once with and once without the prod profile and compare rows/s:
+ * <pre>
+ *   mvn spring-boot:run -Dspring-boot.run.profiles=benchmark
+ *   mvn spring-boot:run -Dspring-boot.run.profiles=prod,benchmark
+ * </pre>
+ * Each unit of work is one transaction + one audit row, committed in
+ * groups of benchmark.persistence.unit-of-work, like a busy decision path.
+ * Rows are tagged BENCH- and deleted afterwards.
+ */
+@Component
+@Profile("benchmark")
+public class PersistenceBenchmark implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PersistenceBenchmark.class);
+
+    private static final String ID_PREFIX = "BENCH-";
+
+    private final TransactionRepository transactionRepository;
+    private final AuditLogRepository auditLogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final Environment environment;
+
+    private final int rows;
+    private final int unitOfWork;
+    private final int warmupRows;
+
+    public PersistenceBenchmark(
+            TransactionRepository transactionRepository,
+            AuditLogRepository auditLogRepository,
+            TransactionTemplate transactionTemplate,
+            JdbcTemplate jdbcTemplate,
+            Environment environment,
+            @Value("${benchmark.persistence.rows:20000}") int rows,
+            @Value("${benchmark.persistence.unit-of-work:100}") int unitOfWork,
+            @Value("${benchmark.persistence.warmup-rows:2000}") int warmupRows
+    ) {
+        this.transactionRepository = transactionRepository;
+        this.auditLogRepository = auditLogRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.environment = environment;
+        this.rows = rows;
+        this.unitOfWork = unitOfWork;
+        this.warmupRows = warmupRows;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+
+        try {
+            insert(runId + "W", warmupRows);
+
+            long start = System.nanoTime();
+            insert(runId, rows);
+            long elapsedNanos = System.nanoTime() - start;
+
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            log.info("[PERSISTENCE BENCHMARK] profiles={} batch_size={} rows={} unitOfWork={} "
+                            + "elapsed={}s throughput={} rows/s (transaction + audit per row)",
+                    String.join(",", environment.getActiveProfiles()),
+                    environment.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size", "none"),
+                    rows,
+                    unitOfWork,
+                    String.format("%.2f", seconds),
+                    String.format("%.0f", rows / seconds));
+        } finally {
+            cleanUp();
+        }
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private void insert(String runId, int count) {
+        for (int offset = 0; offset < count; offset += unitOfWork) {
+            int from = offset;
+            int to = Math.min(count, offset + unitOfWork);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Transaction> transactions = new ArrayList<>(to - from);
+                List<AuditLog> auditLogs = new ArrayList<>(to - from);
+
+                for (int i = from; i < to; i++) {
+                    Transaction transaction = syntheticTransaction(runId, i);
+                    transactions.add(transaction);
+                    auditLogs.add(syntheticAuditLog(transaction));
+                }
+
+                transactionRepository.saveAll(transactions);
+                auditLogRepository.saveAll(auditLogs);
+            });
+        }
+    }
+
+    private Transaction syntheticTransaction(String runId, int i) {
+        Transaction tx = new Transaction();
+        tx.setTransactionId(ID_PREFIX + runId + "-" + i);
+        tx.setAccountId("BENCH" + (i % 1000));
+        tx.setCustomerName("Benchmark Customer");
+        tx.setAmount(100.0 + (i % 5000));
+        tx.setTransactionType("UPI");
+        tx.setCity("Bangalore");
+        tx.setIpAddress("127.0.0.1");
+        tx.setDeviceId("bench-device");
+        tx.setRuleScore(10);
+        tx.setMlScore(20);
+        tx.setFinalRiskScore(16);
+        tx.setRiskLevel("LOW");
+        tx.setStatus("SUCCESS");
+        tx.setFraudDetected(false);
+        tx.setTransactionTime(LocalDateTime.now());
+        tx.setProcessingTimeMs(0L);
+        return tx;
+    }
+
+    private AuditLog syntheticAuditLog(Transaction transaction) {
+        AuditLog auditLog = new AuditLog();
+        auditLog.setEntityType("TRANSACTION");
+        auditLog.setEntityId(transaction.getTransactionId());
+        auditLog.setAction("BENCHMARK");
+        auditLog.setPerformedBy("SYSTEM");
+        auditLog.setDescription("Persistence benchmark row");
+        auditLog.setEventTime(LocalDateTime.now());
+        auditLog.setIpAddress("127.0.0.1");
+        return auditLog;
+    }
+
+    private void cleanUp() {
+        jdbcTemplate.update("DELETE FROM audit_logs WHERE action = 'BENCHMARK'");
+        jdbcTemplate.update("DELETE FROM transactions WHERE transaction_id LIKE '" + ID_PREFIX + "%'");
+    }
+}
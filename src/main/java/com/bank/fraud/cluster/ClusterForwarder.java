@@ -0,0 +1,117 @@
+package com.bank.fraud.cluster;
+
+import com.bank.fraud.dto.TransactionRequestDTO;
+import com.bank.fraud.dto.TransactionResponseDTO;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@ConditionalOnProperty(name = "cluster.enabled", havingValue = "true")
+public class ClusterForwarder {
+
+    /*
+     * Node-to-node RPC: the request DTO is posted as JSON to the owner's
+     * internal endpoint over a shared, keep-alive HTTP/1.1 client. The
+     * call is non-blocking, so a forwarding node holds no thread while
+     * the owner scores the transaction.
+     */
+
+    public static final String TOKEN_HEADER = "X-Cluster-Token";
+    public static final String FORWARDED_BY_HEADER = "X-Cluster-Forwarded-By";
+    public static final String INTERNAL_PATH = "/internal/cluster/transactions";
+
+    // Any node holding the token can submit transactions as an owner would accept them
+    static final int MIN_TOKEN_LENGTH = 32;
+    private static final String OLD_PLACEHOLDER_TOKEN = "change-me-cluster-token";
+
+    private final ObjectMapper objectMapper;
+    private final String token;
+    private final Duration requestTimeout;
+    private final HttpClient httpClient;
+
+    public ClusterForwarder(
+            ObjectMapper objectMapper,
+            @Value("${cluster.token}") String token,
+            @Value("${cluster.connect-timeout-ms:500}") long connectTimeoutMs,
+            @Value("${cluster.request-timeout-ms:5000}") long requestTimeoutMs
+    ) {
+        if (token == null || token.isBlank() || token.equals(OLD_PLACEHOLDER_TOKEN)
+                || token.length() < MIN_TOKEN_LENGTH) {
+            throw new IllegalStateException("cluster.token (CLUSTER_TOKEN) must be set to a secret of at least "
+                    + MIN_TOKEN_LENGTH + " characters when cluster.enabled is true");
+        }
+        this.objectMapper = objectMapper;
+        this.token = token;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+    }
+
+    // --------------------------------------------------
+    // FORWARD TO OWNER
+    // --------------------------------------------------
+
+    public CompletableFuture<TransactionResponseDTO> forward(
+            ClusterNode self,
+            ClusterNode owner,
+            TransactionRequestDTO request
+    ) {
+        HttpRequest httpRequest;
+        try {
+            httpRequest = HttpRequest.newBuilder(URI.create(owner.baseUrl() + INTERNAL_PATH))
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .header(TOKEN_HEADER, token)
+                    .header(FORWARDED_BY_HEADER, self.id())
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(request)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                                "Owner node " + owner.id() + " unreachable", error);
+                    }
+                    if (response.statusCode() / 100 != 2) {
+                        // Surface the owner's status (duplicate, blocked, saturated...) unchanged
+                        throw new ResponseStatusException(HttpStatus.valueOf(response.statusCode()),
+                                "Owner node " + owner.id() + " rejected the transaction");
+                    }
+                    try {
+                        return objectMapper.readValue(response.body(), TransactionResponseDTO.class);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    public boolean isValidToken(String presented) {
+        return presented != null && MessageDigest.isEqual(
+                presented.getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -0,0 +1,226 @@
+package com.bank.fraud.cluster;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Component
+@ConditionalOnProperty(name = "cluster.enabled", havingValue = "true")
+public class ClusterMembership {
+
+    /*
+     * Who is in the cluster, and therefore who owns which account.
+     *
+     * STATIC: members come from cluster.static-members and never change.
+     * FILE:   a shared directory stands in for a coordination service.
+     *         Every node rewrites <dir>/<nodeId>.node each heartbeat; a file
+     *         older than heartbeat-ttl-ms means that node has left. Running
+     *         several JVMs on one machine only needs a common directory.
+     */
+
+    public enum Mode {
+        STATIC,
+        FILE
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterMembership.class);
+
+    private static final String NODE_SUFFIX = ".node";
+
+    private final ClusterNode self;
+    private final Mode mode;
+    private final Path directory;
+    private final long heartbeatTtlMs;
+    private final int virtualNodes;
+    private final ObjectProvider<OwnershipChangeListener> listeners;
+
+    private volatile ConsistentHashRing ring;
+
+    public ClusterMembership(
+            ObjectProvider<OwnershipChangeListener> listeners,
+            @Value("${cluster.node-id}") String nodeId,
+            @Value("${cluster.advertise-url:http://localhost:${server.port:8080}}") String advertiseUrl,
+            @Value("${cluster.membership:FILE}") Mode mode,
+            @Value("${cluster.static-members:}") String[] staticMembers,
+            @Value("${cluster.directory:./cluster-members}") String directory,
+            @Value("${cluster.heartbeat-ttl-ms:6000}") long heartbeatTtlMs,
+            @Value("${cluster.virtual-nodes:128}") int virtualNodes
+    ) {
+        this.listeners = listeners;
+        this.self = new ClusterNode(nodeId, advertiseUrl);
+        this.mode = mode;
+        this.directory = Paths.get(directory);
+        this.heartbeatTtlMs = heartbeatTtlMs;
+        this.virtualNodes = virtualNodes;
+
+        if (mode == Mode.STATIC) {
+            List<ClusterNode> nodes = new ArrayList<>();
+            for (String member : staticMembers) {
+                // id=url, e.g. node-2=http://localhost:8082
+                String[] parts = member.trim().split("=", 2);
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Invalid cluster member (expected id=url): " + member);
+                }
+                nodes.add(new ClusterNode(parts[0].trim(), parts[1].trim()));
+            }
+            if (nodes.stream().noneMatch(node -> node.id().equals(nodeId))) {
+                nodes.add(self);
+            }
+            this.ring = new ConsistentHashRing(nodes, virtualNodes);
+        } else {
+            // Initial view is taken without notifying listeners (nothing owned yet)
+            ConsistentHashRing initial;
+            try {
+                writeOwnHeartbeat();
+                initial = new ConsistentHashRing(readLiveMembers(), virtualNodes);
+            } catch (IOException e) {
+                log.warn("Cluster directory {} not usable yet: {}", directory, e.getMessage());
+                initial = new ConsistentHashRing(List.of(self), virtualNodes);
+            }
+            this.ring = initial;
+        }
+
+        log.info("Cluster node {} ({}) started with {} membership, members={}",
+                nodeId, advertiseUrl, mode, memberIds(ring));
+    }
+
+    // --------------------------------------------------
+    // OWNERSHIP
+    // --------------------------------------------------
+
+    public ClusterNode ownerOf(String accountId) {
+        return ring.ownerOf(accountId);
+    }
+
+    public boolean isLocal(String accountId) {
+        return self.id().equals(ring.ownerOf(accountId).id());
+    }
+
+    public ClusterNode getSelf() {
+        return self;
+    }
+
+    public ConsistentHashRing getRing() {
+        return ring;
+    }
+
+    // --------------------------------------------------
+    // HEARTBEAT + MEMBERSHIP REFRESH (FILE MODE)
+    // --------------------------------------------------
+
+    @Scheduled(fixedDelayString = "${cluster.heartbeat-interval-ms:2000}")
+    public synchronized void heartbeat() {
+
+        if (mode != Mode.FILE) {
+            return;
+        }
+
+        try {
+            writeOwnHeartbeat();
+            List<ClusterNode> members = readLiveMembers();
+            if (!memberIds(members).equals(memberIds(ring))) {
+                rebalance(new ConsistentHashRing(members, virtualNodes));
+            }
+        } catch (IOException e) {
+            log.warn("Cluster heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    // Graceful leave: peers rebalance on their next heartbeat instead of after the TTL
+    @PreDestroy
+    public void leave() {
+        if (mode == Mode.FILE) {
+            try {
+                Files.deleteIfExists(directory.resolve(self.id() + NODE_SUFFIX));
+            } catch (IOException e) {
+                log.warn("Could not remove heartbeat file for {}: {}", self.id(), e.getMessage());
+            }
+        }
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private void rebalance(ConsistentHashRing next) {
+
+        ConsistentHashRing previous = this.ring;
+        this.ring = next;
+
+        log.info("Cluster membership changed: {} -> {}", memberIds(previous), memberIds(next));
+
+        listeners.orderedStream().forEach(listener -> {
+            try {
+                listener.onOwnershipChanged(self, previous, next);
+            } catch (RuntimeException e) {
+                log.error("Ownership listener {} failed", listener.getClass().getSimpleName(), e);
+            }
+        });
+    }
+
+    private void writeOwnHeartbeat() throws IOException {
+        Files.createDirectories(directory);
+        Path target = directory.resolve(self.id() + NODE_SUFFIX);
+        Path temp = directory.resolve(self.id() + NODE_SUFFIX + ".tmp");
+        Files.writeString(temp, self.baseUrl(), StandardCharsets.UTF_8);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private List<ClusterNode> readLiveMembers() throws IOException {
+
+        long cutoff = System.currentTimeMillis() - heartbeatTtlMs;
+        List<ClusterNode> members = new ArrayList<>();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (!name.endsWith(NODE_SUFFIX)) {
+                    continue;
+                }
+                try {
+                    if (Files.getLastModifiedTime(file).toMillis() < cutoff) {
+                        continue;
+                    }
+                    String id = name.substring(0, name.length() - NODE_SUFFIX.length());
+                    members.add(new ClusterNode(id, Files.readString(file, StandardCharsets.UTF_8).trim()));
+                } catch (IOException e) {
+                    // File vanished between list and read: that node just left
+                }
+            }
+        }
+
+        if (members.stream().noneMatch(node -> node.id().equals(self.id()))) {
+            members.add(self);
+        }
+        members.sort(Comparator.comparing(ClusterNode::id));
+        return members;
+    }
+
+    private static List<String> memberIds(ConsistentHashRing ring) {
+        return memberIds(ring.getMembers());
+    }
+
+    private static List<String> memberIds(List<ClusterNode> nodes) {
+        return nodes.stream()
+                .map(node -> node.id() + "@" + node.baseUrl())
+                .sorted()
+                .toList();
+    }
+}
@@ -0,0 +1,8 @@
+package com.bank.fraud.cluster;
+
+/**
+ * A cluster member: stable id (hashed onto the ring) and the base URL
+ * other members use to reach it, e.g. http://localhost:8081.
+ */
+public record ClusterNode(String id, String baseUrl) {
+}
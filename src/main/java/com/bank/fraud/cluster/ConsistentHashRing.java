@@ -0,0 +1,67 @@
+package com.bank.fraud.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable consistent-hash ring with virtual nodes.
+ *
+ * Each member is placed at virtualNodes points, so when a member joins or
+ * leaves only ~1/N of accounts change owner and the moved load spreads
+ * over every remaining member instead of a single neighbour.
+ */
+public final class ConsistentHashRing {
+
+    private final NavigableMap<Long, ClusterNode> ring = new TreeMap<>();
+    private final List<ClusterNode> members;
+
+    public ConsistentHashRing(Collection<ClusterNode> nodes, int virtualNodes) {
+        this.members = List.copyOf(nodes);
+        for (ClusterNode node : members) {
+            for (int v = 0; v < virtualNodes; v++) {
+                ring.put(hash(node.id() + "#" + v), node);
+            }
+        }
+    }
+
+    public ClusterNode ownerOf(String accountId) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, ClusterNode> entry = ring.ceilingEntry(hash(accountId));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public List<ClusterNode> getMembers() {
+        return Collections.unmodifiableList(members);
+    }
+
+    public boolean isEmpty() {
+        return members.isEmpty();
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    // First 8 bytes of MD5: stable across JVMs and well distributed
+    static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            long hash = 0;
+            for (int i = 0; i < 8; i++) {
+                hash = (hash << 8) | (digest[i] & 0xFF);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+}
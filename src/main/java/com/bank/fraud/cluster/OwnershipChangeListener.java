@@ -0,0 +1,24 @@
+package com.bank.fraud.cluster;
+
+/**
+ * Notified after the ring changes (member joined, left or timed out).
+ * Implementations holding per-account state should drop or hand off the
+ * accounts this node no longer owns.
+ *
+ * Current implementations drop: rate-limit buckets (TransactionRateLimiter),
+ * strike scores (AccountBlockService) and admission suspicion
+ * (AdmissionService). The new owner starts those accounts from scratch;
+ * blocks themselves live in MySQL and are unaffected.
+ */
+public interface OwnershipChangeListener {
+
+    void onOwnershipChanged(ClusterNode self, ConsistentHashRing previous, ConsistentHashRing current);
+
+    /**
+     * True if the ring now places the account on another member.
+     */
+    static boolean ownedElsewhere(String accountId, ClusterNode self, ConsistentHashRing ring) {
+        ClusterNode owner = ring.ownerOf(accountId);
+        return owner != null && !self.id().equals(owner.id());
+    }
+}
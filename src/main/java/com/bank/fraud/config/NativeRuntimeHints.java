@@ -0,0 +1,69 @@
+package com.bank.fraud.config;
+
+import com.bank.fraud.dto.AnalyticsDTO;
+import com.bank.fraud.dto.DashboardDeltaDTO;
+import com.bank.fraud.dto.TransactionRequestDTO;
+import com.bank.fraud.dto.TransactionResponseDTO;
+import com.bank.fraud.eventlog.DecisionEvent;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Reachability metadata for the native image (mvn -Pnative native:compile).
+ *
+ * Spring AOT already covers beans, controller signatures, JPA entities,
+ * Flyway migrations and the STOMP broker. What it cannot see:
+ * <ul>
+ *   <li>jjwt 0.11, which instantiates its implementation classes by name
+ *       and finds its JSON codec through ServiceLoader</li>
+ *   <li>types bound with an injected ObjectMapper or sent over SSE
+ *       (cluster forwarding, event log payloads, dashboard deltas)</li>
+ *   <li>alert templates, loaded from the classpath by AlertRenderer</li>
+ * </ul>
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String[] JJWT_IMPL_CLASSES = {
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    };
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+
+        // 1️⃣ jjwt: reflective construction + service files
+        for (String className : JJWT_IMPL_CLASSES) {
+            hints.reflection().registerType(
+                    TypeReference.of(className),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS
+            );
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+        // 2️⃣ JSON binding outside controller signatures
+        bindingRegistrar.registerReflectionHints(
+                hints.reflection(),
+                TransactionRequestDTO.class,
+                TransactionResponseDTO.class,
+                AnalyticsDTO.class,
+                DashboardDeltaDTO.class,
+                DashboardDeltaDTO.AlertEvent.class,
+                DecisionEvent.class
+        );
+
+        // 3️⃣ Alert templates (text / JSON / HTML)
+        hints.resources().registerPattern("alerts/*");
+    }
+}
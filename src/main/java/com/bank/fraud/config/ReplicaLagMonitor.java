@@ -0,0 +1,83 @@
+package com.bank.fraud.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Periodically checks replication lag on the read replica.
+ *
+ * The replica is only used while the last check succeeded and the lag is
+ * within the configured bound; otherwise read-only work falls back to the
+ * primary until the replica catches up.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagSeconds;
+
+    private volatile boolean replicaUsable = false;
+    private volatile long lastLagSeconds = -1;
+
+    public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, long maxLagSeconds) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${replica.lag-check-interval-ms:5000}")
+    public void checkLag() {
+
+        try {
+            List<Map<String, Object>> status = replicaJdbcTemplate.queryForList("SHOW REPLICA STATUS");
+
+            if (status.isEmpty()) {
+                // Not configured as a replica (e.g. local dev pointing at one server)
+                update(0);
+                return;
+            }
+
+            Object lag = status.get(0).get("Seconds_Behind_Source");
+            if (lag == null) {
+                // Replication SQL/IO thread stopped
+                update(-1);
+                return;
+            }
+
+            update(((Number) lag).longValue());
+
+        } catch (RuntimeException e) {
+            log.warn("Replica lag check failed; routing reads to primary: {}", e.getMessage());
+            update(-1);
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public long getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+
+    // --------------------------------------------------
+    // HELPER METHOD
+    // --------------------------------------------------
+
+    private void update(long lagSeconds) {
+        boolean usable = lagSeconds >= 0 && lagSeconds <= maxLagSeconds;
+
+        if (usable != replicaUsable) {
+            log.info("Read replica {} (lag={}s, max={}s)",
+                    usable ? "enabled" : "disabled", lagSeconds, maxLagSeconds);
+        }
+
+        lastLagSeconds = lagSeconds;
+        replicaUsable = usable;
+    }
+}
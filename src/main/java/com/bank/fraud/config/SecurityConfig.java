@@ -1,11 +1,14 @@
 package com.bank.fraud.config;
 
+import jakarta.servlet.DispatcherType;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.expression.WebExpressionAuthorizationManager;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 
@@ -27,13 +30,26 @@ public class SecurityConfig {
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // SSE completion re-dispatches; the original request was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api/transactions/health",
                                 "/api/analytics/health",
                                 "/api/notifications/health"
                         ).permitAll()
+                        // Scrape endpoint: loopback only (local Prometheus agent / sidecar)
+                        .requestMatchers("/actuator/prometheus", "/actuator/health").access(
+                                new WebExpressionAuthorizationManager("hasIpAddress('127.0.0.1') or hasIpAddress('::1')")
+                        )
+                        // Node-to-node RPC, authenticated by the shared cluster token
+                        .requestMatchers("/internal/cluster/**").permitAll()
                         .requestMatchers("/api/analytics/**").hasRole("ADMIN")
+                        .requestMatchers("/api/archive/**").hasRole("ADMIN")
+                        .requestMatchers("/api/eventlog/**").hasRole("ADMIN")
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/notifications/**").hasAnyRole("ADMIN", "ANALYST")
+                        .requestMatchers("/api/cases/**").hasAnyRole("ADMIN", "ANALYST")
+                        .requestMatchers("/api/transactions/*/explanation").hasAnyRole("ADMIN", "ANALYST")
                         .requestMatchers("/api/transactions/**").authenticated()
                         .anyRequest().denyAll()
                 )
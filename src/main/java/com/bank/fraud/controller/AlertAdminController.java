@@ -0,0 +1,69 @@
+package com.bank.fraud.controller;
+
+import com.bank.fraud.alert.AlertDispatcher;
+import com.bank.fraud.alert.LocalSmtpSink;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+
+@Lazy
+@RestController
+@RequestMapping("/api/admin/alerts")
+public class AlertAdminController {
+
+    private final AlertDispatcher alertDispatcher;
+    private final ObjectProvider<LocalSmtpSink> localSmtpSink;
+
+    public AlertAdminController(
+            AlertDispatcher alertDispatcher,
+            ObjectProvider<LocalSmtpSink> localSmtpSink
+    ) {
+        this.alertDispatcher = alertDispatcher;
+        this.localSmtpSink = localSmtpSink;
+    }
+
+    // --------------------------------------------------
+    // OUTBOX STATUS
+    // --------------------------------------------------
+
+    @GetMapping("/outbox")
+    public ResponseEntity<Map<String, Object>> getOutboxStatus() {
+        Map<String, Object> status = alertDispatcher.getStatus();
+        LocalSmtpSink sink = localSmtpSink.getIfAvailable();
+        if (sink != null) {
+            status.put("sinkConnections", sink.getConnections());
+            status.put("sinkMessages", sink.getReceived().size());
+        }
+        return ResponseEntity.ok(status);
+    }
+
+    // --------------------------------------------------
+    // LOCAL SMTP SINK (local-smtp PROFILE ONLY)
+    // --------------------------------------------------
+
+    @GetMapping("/sink")
+    public ResponseEntity<List<LocalSmtpSink.ReceivedMail>> getSinkMessages() {
+        return ResponseEntity.ok(sink().getReceived());
+    }
+
+    @DeleteMapping("/sink")
+    public ResponseEntity<Void> clearSink() {
+        sink().clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    private LocalSmtpSink sink() {
+        LocalSmtpSink sink = localSmtpSink.getIfAvailable();
+        if (sink == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Local SMTP sink is not active");
+        }
+        return sink;
+    }
+}
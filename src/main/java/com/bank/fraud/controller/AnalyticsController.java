@@ -1,19 +1,51 @@
 package com.bank.fraud.controller;
 
+import com.bank.fraud.admission.AdmissionService;
+import com.bank.fraud.drift.DriftMonitorService;
 import com.bank.fraud.dto.AnalyticsDTO;
+import com.bank.fraud.dto.DriftReportDTO;
+import com.bank.fraud.dto.ShadowScoringReportDTO;
+import com.bank.fraud.ratelimit.TransactionRateLimiter;
 import com.bank.fraud.service.AnalyticsService;
+import com.bank.fraud.service.DashboardStreamService;
+import com.bank.fraud.shadow.ShadowScoringService;
+import com.bank.fraud.startup.StartupMetrics;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/analytics")
 public class AnalyticsController {
 
     private final AnalyticsService analyticsService;
+    private final ShadowScoringService shadowScoringService;
+    private final DashboardStreamService dashboardStreamService;
+    private final AdmissionService admissionService;
+    private final TransactionRateLimiter transactionRateLimiter;
+    private final StartupMetrics startupMetrics;
+    private final DriftMonitorService driftMonitorService;
 
-    public AnalyticsController(AnalyticsService analyticsService) {
+    public AnalyticsController(
+            AnalyticsService analyticsService,
+            ShadowScoringService shadowScoringService,
+            DashboardStreamService dashboardStreamService,
+            AdmissionService admissionService,
+            TransactionRateLimiter transactionRateLimiter,
+            StartupMetrics startupMetrics,
+            DriftMonitorService driftMonitorService
+    ) {
         this.analyticsService = analyticsService;
+        this.shadowScoringService = shadowScoringService;
+        this.dashboardStreamService = dashboardStreamService;
+        this.admissionService = admissionService;
+        this.transactionRateLimiter = transactionRateLimiter;
+        this.startupMetrics = startupMetrics;
+        this.driftMonitorService = driftMonitorService;
     }
 
     // --------------------------------------------------
@@ -22,10 +54,77 @@ public class AnalyticsController {
 
     @GetMapping
     public ResponseEntity<AnalyticsDTO> getAnalytics() {
-        AnalyticsDTO analytics = analyticsService.getSystemAnalytics();
+        AnalyticsDTO analytics = analyticsService.getCachedSystemAnalytics();
         return ResponseEntity.ok(analytics);
     }
 
+    // --------------------------------------------------
+    // LIVE DASHBOARD STREAM (SSE: snapshot, then deltas)
+    // --------------------------------------------------
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAnalytics() {
+        return dashboardStreamService.subscribe();
+    }
+
+    // --------------------------------------------------
+    // SHADOW SCORING AGREEMENT REPORT
+    // --------------------------------------------------
+
+    @GetMapping("/shadow")
+    public ResponseEntity<ShadowScoringReportDTO> getShadowReport() {
+        return ResponseEntity.ok(shadowScoringService.getReport());
+    }
+
+    // --------------------------------------------------
+    // ADMISSION CONTROL (LIMIT, IN-FLIGHT, SHED COUNTS)
+    // --------------------------------------------------
+
+    @GetMapping("/admission")
+    public ResponseEntity<Map<String, Object>> getAdmissionStatus() {
+        return ResponseEntity.ok(admissionService.getStatus());
+    }
+
+    // --------------------------------------------------
+    // RATE LIMITS (MODE, LIMITED COUNT, TRACKED KEYS)
+    // --------------------------------------------------
+
+    @GetMapping("/rate-limits")
+    public ResponseEntity<Map<String, Object>> getRateLimitStatus() {
+        return ResponseEntity.ok(transactionRateLimiter.getStatus());
+    }
+
+    // --------------------------------------------------
+    // STARTUP (TIME TO READY, TIME TO STABLE P99)
+    // --------------------------------------------------
+
+    @GetMapping("/startup")
+    public ResponseEntity<Map<String, Object>> getStartupMetrics() {
+        return ResponseEntity.ok(startupMetrics.getStatus());
+    }
+
+    // --------------------------------------------------
+    // SCORE / FEATURE DRIFT (PSI, KS) AND DETECTION ACCURACY
+    // --------------------------------------------------
+
+    @GetMapping("/drift")
+    public ResponseEntity<DriftReportDTO> getDriftReport() {
+        return ResponseEntity.ok(driftMonitorService.getReport());
+    }
+
+    /**
+     * Pins the current window as the drift reference (DELETE returns to the rolling reference).
+     */
+    @PostMapping("/drift/reference")
+    public ResponseEntity<DriftReportDTO> pinDriftReference() {
+        return ResponseEntity.ok(driftMonitorService.pinReference());
+    }
+
+    @DeleteMapping("/drift/reference")
+    public ResponseEntity<DriftReportDTO> clearDriftReference() {
+        return ResponseEntity.ok(driftMonitorService.clearPinnedReference());
+    }
+
     // --------------------------------------------------
     // HEALTH CHECK (OPTIONAL)
     // --------------------------------------------------
@@ -0,0 +1,78 @@
+package com.bank.fraud.controller;
+
+import com.bank.fraud.archive.ArchiveScanFilter;
+import com.bank.fraud.archive.ArchiveService;
+import com.bank.fraud.archive.ArchiveTable;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Lazy
+@RestController
+@RequestMapping("/api/archive")
+public class ArchiveController {
+
+    private static final int MAX_LIMIT = 10000;
+
+    private final ArchiveService archiveService;
+
+    public ArchiveController(ArchiveService archiveService) {
+        this.archiveService = archiveService;
+    }
+
+    // --------------------------------------------------
+    // SCAN ARCHIVED TRANSACTIONS
+    // --------------------------------------------------
+
+    @GetMapping("/transactions")
+    public ResponseEntity<List<Map<String, Object>>> scanTransactions(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String accountId,
+            @RequestParam(required = false) String riskLevel,
+            @RequestParam(defaultValue = "1000") int limit
+    ) {
+        ArchiveScanFilter filter = new ArchiveScanFilter(from, to)
+                .withEquals("account_id", accountId)
+                .withEquals("risk_level", riskLevel);
+
+        return ResponseEntity.ok(
+                archiveService.scan(ArchiveTable.TRANSACTIONS, filter, clamp(limit))
+        );
+    }
+
+    // --------------------------------------------------
+    // SCAN ARCHIVED AUDIT LOGS
+    // --------------------------------------------------
+
+    @GetMapping("/audit-logs")
+    public ResponseEntity<List<Map<String, Object>>> scanAuditLogs(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String entityId,
+            @RequestParam(required = false) String action,
+            @RequestParam(defaultValue = "1000") int limit
+    ) {
+        ArchiveScanFilter filter = new ArchiveScanFilter(from, to)
+                .withEquals("entity_id", entityId)
+                .withEquals("action", action);
+
+        return ResponseEntity.ok(
+                archiveService.scan(ArchiveTable.AUDIT_LOGS, filter, clamp(limit))
+        );
+    }
+
+    // --------------------------------------------------
+    // HELPER METHOD
+    // --------------------------------------------------
+
+    private int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
@@ -0,0 +1,57 @@
+package com.bank.fraud.controller;
+
+import com.bank.fraud.backtest.BacktestService;
+import com.bank.fraud.dto.BacktestReportDTO;
+import com.bank.fraud.dto.BacktestRequestDTO;
+
+import jakarta.validation.Valid;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Lazy
+@RestController
+@RequestMapping("/api/analytics/backtests")
+public class BacktestController {
+
+    private final BacktestService backtestService;
+
+    public BacktestController(BacktestService backtestService) {
+        this.backtestService = backtestService;
+    }
+
+    // --------------------------------------------------
+    // START A BACKTEST (RUNS IN THE BACKGROUND)
+    // --------------------------------------------------
+
+    /**
+     * Returns immediately with the run id; poll GET /{runId} for progress and results.
+     */
+    @PostMapping
+    public ResponseEntity<BacktestReportDTO> start(@Valid @RequestBody BacktestRequestDTO request) {
+        return new ResponseEntity<>(backtestService.start(request), HttpStatus.ACCEPTED);
+    }
+
+    // --------------------------------------------------
+    // PROGRESS / RESULTS
+    // --------------------------------------------------
+
+    @GetMapping
+    public ResponseEntity<List<BacktestReportDTO>> getRuns() {
+        return ResponseEntity.ok(backtestService.getRuns());
+    }
+
+    @GetMapping("/{runId}")
+    public ResponseEntity<BacktestReportDTO> getRun(@PathVariable String runId) {
+        return ResponseEntity.ok(backtestService.getRun(runId));
+    }
+
+    @DeleteMapping("/{runId}")
+    public ResponseEntity<BacktestReportDTO> cancel(@PathVariable String runId) {
+        return ResponseEntity.ok(backtestService.cancel(runId));
+    }
+}
@@ -0,0 +1,56 @@
+package com.bank.fraud.controller;
+
+import com.bank.fraud.eventlog.DecisionCountersProjector;
+import com.bank.fraud.eventlog.EventLogService;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@Lazy
+@RestController
+@RequestMapping("/api/eventlog")
+@ConditionalOnProperty(name = "eventlog.enabled", havingValue = "true")
+public class EventLogController {
+
+    private final EventLogService eventLogService;
+    private final DecisionCountersProjector decisionCountersProjector;
+
+    public EventLogController(
+            EventLogService eventLogService,
+            DecisionCountersProjector decisionCountersProjector
+    ) {
+        this.eventLogService = eventLogService;
+        this.decisionCountersProjector = decisionCountersProjector;
+    }
+
+    // --------------------------------------------------
+    // LOG + PROJECTION STATUS (OFFSETS, LAG)
+    // --------------------------------------------------
+
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> getStatus() {
+        return ResponseEntity.ok(eventLogService.getStatus());
+    }
+
+    @GetMapping("/counters")
+    public ResponseEntity<Map<String, Long>> getCounters() {
+        return ResponseEntity.ok(decisionCountersProjector.snapshot());
+    }
+
+    // --------------------------------------------------
+    // REPLAY A PROJECTOR FROM AN OFFSET
+    // --------------------------------------------------
+
+    @PostMapping("/projectors/{name}/replay")
+    public ResponseEntity<String> replay(
+            @PathVariable String name,
+            @RequestParam(defaultValue = "0") long fromOffset
+    ) {
+        eventLogService.replay(name, fromOffset);
+        return ResponseEntity.accepted().body("Replay of " + name + " requested from offset " + fromOffset);
+    }
+}
@@ -0,0 +1,88 @@
+package com.bank.fraud.controller;
+
+import com.bank.fraud.cluster.ClusterForwarder;
+import com.bank.fraud.cluster.ClusterMembership;
+import com.bank.fraud.cluster.ClusterNode;
+import com.bank.fraud.dto.TransactionRequestDTO;
+import com.bank.fraud.dto.TransactionResponseDTO;
+import com.bank.fraud.pipeline.TransactionIngress;
+
+import jakarta.validation.Valid;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/internal/cluster")
+@ConditionalOnProperty(name = "cluster.enabled", havingValue = "true")
+public class InternalClusterController {
+
+    private static final Logger log = LoggerFactory.getLogger(InternalClusterController.class);
+
+    private final ClusterMembership clusterMembership;
+    private final ClusterForwarder clusterForwarder;
+    private final TransactionIngress transactionIngress;
+
+    public InternalClusterController(
+            ClusterMembership clusterMembership,
+            ClusterForwarder clusterForwarder,
+            TransactionIngress transactionIngress
+    ) {
+        this.clusterMembership = clusterMembership;
+        this.clusterForwarder = clusterForwarder;
+        this.transactionIngress = transactionIngress;
+    }
+
+    // --------------------------------------------------
+    // FORWARDED TRANSACTIONS (FROM OTHER MEMBERS)
+    // --------------------------------------------------
+
+    @PostMapping("/transactions")
+    public CompletableFuture<ResponseEntity<TransactionResponseDTO>> processForwarded(
+            @RequestHeader(value = ClusterForwarder.TOKEN_HEADER, required = false) String token,
+            @RequestHeader(value = ClusterForwarder.FORWARDED_BY_HEADER, required = false) String forwardedBy,
+            @Valid @RequestBody TransactionRequestDTO request
+    ) {
+        requireToken(token);
+
+        // Never forward again: during a rebalance the sender's view wins for this one request
+        if (!clusterMembership.isLocal(request.getAccountId())) {
+            log.debug("Processing {} from {} although ring says owner is {}",
+                    request.getTransactionId(), forwardedBy,
+                    clusterMembership.ownerOf(request.getAccountId()).id());
+        }
+
+        return transactionIngress.processLocally(request)
+                .thenApply(response -> new ResponseEntity<>(response, HttpStatus.OK));
+    }
+
+    // --------------------------------------------------
+    // CURRENT MEMBERSHIP VIEW
+    // --------------------------------------------------
+
+    @GetMapping("/members")
+    public ResponseEntity<List<ClusterNode>> getMembers(
+            @RequestHeader(value = ClusterForwarder.TOKEN_HEADER, required = false) String token
+    ) {
+        requireToken(token);
+        return ResponseEntity.ok(clusterMembership.getRing().getMembers());
+    }
+
+    // --------------------------------------------------
+    // HELPER METHOD
+    // --------------------------------------------------
+
+    private void requireToken(String token) {
+        if (!clusterForwarder.isValidToken(token)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Invalid cluster token");
+        }
+    }
+}
@@ -1,35 +1,72 @@
 package com.bank.fraud.controller;
 
-import com.bank.fraud.model.AuditLog;
-import com.bank.fraud.repository.AuditLogRepository;
+import com.bank.fraud.dto.NotificationPageDTO;
+import com.bank.fraud.service.NotificationService;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
+@Lazy
 @RestController
 @RequestMapping("/api/notifications")
 public class NotificationController {
 
-    private final AuditLogRepository auditLogRepository;
+    private final NotificationService notificationService;
 
-    public NotificationController(AuditLogRepository auditLogRepository) {
-        this.auditLogRepository = auditLogRepository;
+    public NotificationController(NotificationService notificationService) {
+        this.notificationService = notificationService;
     }
 
     // --------------------------------------------------
     // FETCH RECENT FRAUD / SECURITY NOTIFICATIONS
     // --------------------------------------------------
 
+    /**
+     * Newest first. Pass the returned nextCursor as ?cursor= for the next page.
+     * An empty action (?action=) disables the action filter.
+     */
     @GetMapping
-    public ResponseEntity<List<AuditLog>> getRecentNotifications() {
+    public ResponseEntity<NotificationPageDTO> getRecentNotifications(
+            @RequestParam(required = false) String entityType,
+            @RequestParam(defaultValue = NotificationService.DEFAULT_ACTION) String action,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        return ResponseEntity.ok(
+                notificationService.getNotifications(entityType, action, from, to, cursor, limit)
+        );
+    }
 
-        // Fetch recent security-related audit logs
-        List<AuditLog> notifications =
-                auditLogRepository.findByAction("BLOCKED");
+    // --------------------------------------------------
+    // DELTA: ONLY NOTIFICATIONS NEWER THAN A CURSOR
+    // --------------------------------------------------
 
-        return ResponseEntity.ok(notifications);
+    /**
+     * Oldest first. Seed with latestCursor from the first page and keep
+     * polling with the returned nextCursor.
+     *
+     * Every notification that commits within notifications.since-overlap-seconds
+     * of its event time is returned by some poll. A notification may be
+     * returned more than once, so clients dedupe by id.
+     */
+    @GetMapping("/since")
+    public ResponseEntity<NotificationPageDTO> getNotificationsSince(
+            @RequestParam String cursor,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(defaultValue = NotificationService.DEFAULT_ACTION) String action,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        return ResponseEntity.ok(
+                notificationService.getNotificationsSince(entityType, action, cursor, limit)
+        );
     }
 
     // --------------------------------------------------
@@ -0,0 +1,68 @@
+package com.bank.fraud.controller;
+
+import com.bank.fraud.profiling.ProfilingService;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+@Lazy
+@RestController
+@RequestMapping("/api/admin/profiling")
+public class ProfilingController {
+
+    private final ProfilingService profilingService;
+
+    public ProfilingController(ProfilingService profilingService) {
+        this.profilingService = profilingService;
+    }
+
+    // --------------------------------------------------
+    // LIST / START / STOP RECORDINGS
+    // --------------------------------------------------
+
+    @GetMapping("/recordings")
+    public ResponseEntity<List<Map<String, Object>>> listRecordings() {
+        return ResponseEntity.ok(profilingService.list());
+    }
+
+    @PostMapping("/recordings")
+    public ResponseEntity<Map<String, Object>> startRecording(
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "5") long durationMinutes
+    ) {
+        return ResponseEntity.ok(profilingService.start(name, durationMinutes));
+    }
+
+    @PostMapping("/recordings/{id}/stop")
+    public ResponseEntity<Map<String, Object>> stopRecording(@PathVariable long id) {
+        return ResponseEntity.ok(profilingService.stop(id));
+    }
+
+    @DeleteMapping("/recordings/{id}")
+    public ResponseEntity<Void> closeRecording(@PathVariable long id) {
+        profilingService.close(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    // --------------------------------------------------
+    // DUMP (.jfr DOWNLOAD, ALSO KEPT IN THE DUMP DIRECTORY)
+    // --------------------------------------------------
+
+    @GetMapping("/recordings/{id}/dump")
+    public ResponseEntity<Resource> dumpRecording(@PathVariable long id) {
+        Path file = profilingService.dump(id);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(new FileSystemResource(file));
+    }
+}
@@ -0,0 +1,87 @@
+package com.bank.fraud.controller;
+
+import com.bank.fraud.dto.CaseResolutionDTO;
+import com.bank.fraud.model.ReviewCase;
+import com.bank.fraud.service.ReviewCaseService;
+
+import jakarta.validation.Valid;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+
+@Lazy
+@RestController
+@RequestMapping("/api/cases")
+public class ReviewCaseController {
+
+    private final ReviewCaseService reviewCaseService;
+
+    public ReviewCaseController(ReviewCaseService reviewCaseService) {
+        this.reviewCaseService = reviewCaseService;
+    }
+
+    // --------------------------------------------------
+    // CLAIM THE NEXT CASES (LEASED TO THE CALLER)
+    // --------------------------------------------------
+
+    @PostMapping("/claim")
+    public ResponseEntity<List<ReviewCase>> claim(
+            @RequestParam(defaultValue = "1") int limit,
+            Principal principal
+    ) {
+        return ResponseEntity.ok(reviewCaseService.claim(principal.getName(), limit));
+    }
+
+    @GetMapping("/mine")
+    public ResponseEntity<List<ReviewCase>> getMine(Principal principal) {
+        return ResponseEntity.ok(reviewCaseService.getClaimedBy(principal.getName()));
+    }
+
+    // --------------------------------------------------
+    // LEASE HOLDER ACTIONS (409 ONCE THE LEASE IS LOST)
+    // --------------------------------------------------
+
+    @PostMapping("/{caseId}/renew")
+    public ResponseEntity<ReviewCase> renew(@PathVariable long caseId, Principal principal) {
+        return ResponseEntity.ok(reviewCaseService.renew(caseId, principal.getName()));
+    }
+
+    @PostMapping("/{caseId}/release")
+    public ResponseEntity<Void> release(@PathVariable long caseId, Principal principal) {
+        reviewCaseService.release(caseId, principal.getName());
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{caseId}/resolve")
+    public ResponseEntity<ReviewCase> resolve(
+            @PathVariable long caseId,
+            @Valid @RequestBody CaseResolutionDTO request,
+            Principal principal
+    ) {
+        return ResponseEntity.ok(reviewCaseService.resolve(
+                caseId,
+                principal.getName(),
+                request.getResolution(),
+                request.getNote()
+        ));
+    }
+
+    // --------------------------------------------------
+    // QUEUE OVERVIEW
+    // --------------------------------------------------
+
+    @GetMapping("/open")
+    public ResponseEntity<List<ReviewCase>> peekOpen(@RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(reviewCaseService.peekOpen(limit));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return ResponseEntity.ok(reviewCaseService.getStats());
+    }
+}
@@ -1,23 +1,41 @@
 package com.bank.fraud.controller;
 
+import com.bank.fraud.cluster.ClusterForwarder;
+import com.bank.fraud.cluster.ClusterMembership;
+import com.bank.fraud.dto.ExplanationDTO;
 import com.bank.fraud.dto.TransactionRequestDTO;
 import com.bank.fraud.dto.TransactionResponseDTO;
-import com.bank.fraud.service.TransactionService;
+import com.bank.fraud.pipeline.TransactionIngress;
+import com.bank.fraud.service.ExplanationService;
 
 import jakarta.validation.Valid;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/transactions")
 public class TransactionController {
 
-    private final TransactionService transactionService;
+    private final TransactionIngress transactionIngress;
+    private final ClusterMembership clusterMembership;   // null unless cluster.enabled
+    private final ClusterForwarder clusterForwarder;
+    private final ExplanationService explanationService;
 
-    public TransactionController(TransactionService transactionService) {
-        this.transactionService = transactionService;
+    public TransactionController(
+            TransactionIngress transactionIngress,
+            ObjectProvider<ClusterMembership> clusterMembership,
+            ObjectProvider<ClusterForwarder> clusterForwarder,
+            ExplanationService explanationService
+    ) {
+        this.transactionIngress = transactionIngress;
+        this.explanationService = explanationService;
+        this.clusterMembership = clusterMembership.getIfAvailable();
+        this.clusterForwarder = clusterForwarder.getIfAvailable();
     }
 
     // --------------------------------------------------
@@ -25,13 +43,32 @@ public class TransactionController {
     // --------------------------------------------------
 
     @PostMapping
-    public ResponseEntity<TransactionResponseDTO> createTransaction(
+    public CompletableFuture<ResponseEntity<TransactionResponseDTO>> createTransaction(
             @Valid @RequestBody TransactionRequestDTO request
     ) {
-        TransactionResponseDTO response =
-                transactionService.processTransaction(request);
+        CompletableFuture<TransactionResponseDTO> response;
+
+        // Cluster mode: the account's owner node processes it, wherever the request landed
+        if (clusterMembership != null && !clusterMembership.isLocal(request.getAccountId())) {
+            response = clusterForwarder.forward(
+                    clusterMembership.getSelf(),
+                    clusterMembership.ownerOf(request.getAccountId()),
+                    request
+            );
+        } else {
+            response = transactionIngress.processLocally(request);
+        }
+
+        return response.thenApply(body -> new ResponseEntity<>(body, HttpStatus.OK));
+    }
+
+    // --------------------------------------------------
+    // DECISION EXPLANATION (ANALYSTS, STORED WITH THE ROW)
+    // --------------------------------------------------
 
-        return new ResponseEntity<>(response, HttpStatus.OK);
+    @GetMapping("/{transactionId}/explanation")
+    public ResponseEntity<ExplanationDTO> getExplanation(@PathVariable String transactionId) {
+        return ResponseEntity.ok(explanationService.getExplanation(transactionId));
     }
 
     // --------------------------------------------------
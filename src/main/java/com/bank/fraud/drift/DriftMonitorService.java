@@ -0,0 +1,291 @@
+package com.bank.fraud.drift;
+
+import com.bank.fraud.dto.DriftReportDTO;
+import com.bank.fraud.dto.FraudScoreDTO;
+import com.bank.fraud.dto.TransactionRequestDTO;
+import com.bank.fraud.ml.ModelFeatureMapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Service
+public class DriftMonitorService {
+
+    /*
+     * Streaming score and input drift.
+     *
+     * Every stored decision adds one count per signal (ML score, final risk
+     * score, each ModelFeatureMapper feature) to the current time slot of a
+     * fixed ring. The decision sites record it (TransactionService after
+     * commit, TransactionPipeline persistence), so warm-up and other
+     * unstored scoring never reach the reference; rule-only decisions have
+     * no ML score and are left out. Once a minute the last window is merged and compared
+     * with the reference — the hours before it, or a pinned snapshot — by
+     * PSI and KS, and the report is cached for the analytics endpoints.
+     *
+     * Detection accuracy comes from analyst outcomes: the share of review
+     * cases resolved in the trailing days where the analyst agreed with the
+     * decision (HIGH confirmed as fraud, MEDIUM found legitimate). Review
+     * cases are the MEDIUM and borderline HIGH decisions, so this is
+     * accuracy on the hard cases, not on all traffic.
+     */
+
+    private static final Logger log = LoggerFactory.getLogger(DriftMonitorService.class);
+
+    private static final double MODERATE_PSI = 0.1;
+    private static final double SIGNIFICANT_PSI = 0.25;
+    private static final List<String> STATUS_ORDER =
+            List.of("INSUFFICIENT_DATA", "STABLE", "MODERATE", "SIGNIFICANT");
+
+    private final ModelFeatureMapper modelFeatureMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+
+    private final boolean enabled;
+    private final int windowMinutes;
+    private final int referenceHours;
+    private final long minSamples;
+    private final int accuracyDays;
+    private final int windowSlots;
+    private final int referenceSlots;
+
+    private final List<DriftSignal> signals = DriftSignal.layout();
+    private final DriftSignal mlScoreSignal = signals.get(0);
+    private final DriftSignal finalScoreSignal = signals.get(1);
+    private final List<DriftSignal> featureSignals = signals.subList(2, signals.size());
+    private final DriftWindowRing ring;
+
+    private volatile long[] pinnedReference;
+    private volatile LocalDateTime pinnedAt;
+
+    private volatile DriftReportDTO latestReport;
+    private volatile Double detectionAccuracy;
+    private volatile long labelledCases;
+
+    public DriftMonitorService(
+            ModelFeatureMapper modelFeatureMapper,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${drift.enabled:true}") boolean enabled,
+            @Value("${drift.slot-seconds:300}") int slotSeconds,
+            @Value("${drift.window-minutes:60}") int windowMinutes,
+            @Value("${drift.reference-hours:24}") int referenceHours,
+            @Value("${drift.min-samples:500}") long minSamples,
+            @Value("${drift.accuracy-days:30}") int accuracyDays
+    ) {
+        this.modelFeatureMapper = modelFeatureMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.windowMinutes = windowMinutes;
+        this.referenceHours = referenceHours;
+        this.minSamples = minSamples;
+        this.accuracyDays = accuracyDays;
+
+        this.windowSlots = Math.max(1, windowMinutes * 60 / slotSeconds);
+        this.referenceSlots = Math.max(1, referenceHours * 3600 / slotSeconds);
+
+        DriftSignal last = signals.get(signals.size() - 1);
+        this.ring = new DriftWindowRing(
+                windowSlots + referenceSlots + 1,
+                slotSeconds * 1000L,
+                last.getOffset() + last.getBuckets()
+        );
+
+        // Outcome counts read from the replica (see ReadReplicaRoutingDataSource)
+        this.readOnlyTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    // --------------------------------------------------
+    // RECORD (DECISION SITES)
+    // --------------------------------------------------
+
+    public void record(TransactionRequestDTO request, FraudScoreDTO score) {
+
+        if (!enabled || score.isRuleOnly()) {
+            return;
+        }
+        int mlScore = score.getMlScore();
+        int finalRiskScore = score.getFinalRiskScore();
+
+        double[] features = modelFeatureMapper.mapToVector(request);
+        AtomicLongArray slot = ring.slotFor(ring.epochOf(System.currentTimeMillis()));
+
+        slot.incrementAndGet(mlScoreSignal.scorePosition(mlScore));
+        slot.incrementAndGet(finalScoreSignal.scorePosition(finalRiskScore));
+        for (DriftSignal signal : featureSignals) {
+            slot.incrementAndGet(signal.featurePosition(features[signal.getFeature().ordinal()]));
+        }
+    }
+
+    // --------------------------------------------------
+    // REPORTING
+    // --------------------------------------------------
+
+    public DriftReportDTO getReport() {
+        DriftReportDTO report = latestReport;
+        return report != null ? report : evaluate();
+    }
+
+    /**
+     * @return percentage of resolved review cases the engine got right, or null before any are resolved
+     */
+    public Double getDetectionAccuracy() {
+        return detectionAccuracy;
+    }
+
+    /**
+     * Freezes the current window as the reference, e.g. right after a model
+     * or threshold change has been validated.
+     */
+    public DriftReportDTO pinReference() {
+        long now = ring.epochOf(System.currentTimeMillis());
+        pinnedReference = ring.sum(now - windowSlots + 1, now);
+        pinnedAt = LocalDateTime.now();
+        return evaluate();
+    }
+
+    public DriftReportDTO clearPinnedReference() {
+        pinnedReference = null;
+        pinnedAt = null;
+        return evaluate();
+    }
+
+    @Scheduled(fixedDelayString = "${drift.evaluate-interval-ms:60000}")
+    public void refresh() {
+        evaluate();
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private DriftReportDTO evaluate() {
+
+        refreshDetectionAccuracy();
+
+        long now = ring.epochOf(System.currentTimeMillis());
+        long[] current = ring.sum(now - windowSlots + 1, now);
+        long[] pinned = pinnedReference;
+        long[] reference = pinned != null
+                ? pinned
+                : ring.sum(now - windowSlots - referenceSlots + 1, now - windowSlots);
+
+        List<DriftReportDTO.SignalDrift> signalReports = new ArrayList<>(signals.size());
+        String overall = "INSUFFICIENT_DATA";
+        for (DriftSignal signal : signals) {
+            DriftReportDTO.SignalDrift signalReport = compare(signal, current, reference);
+            signalReports.add(signalReport);
+            if (STATUS_ORDER.indexOf(signalReport.getStatus()) > STATUS_ORDER.indexOf(overall)) {
+                overall = signalReport.getStatus();
+            }
+        }
+
+        DriftReportDTO report = new DriftReportDTO();
+        report.setEnabled(enabled);
+        report.setStatus(overall);
+        report.setEvaluatedAt(LocalDateTime.now());
+        report.setWindowMinutes(windowMinutes);
+        report.setReferenceHours(referenceHours);
+        report.setReferencePinnedAt(pinned != null ? pinnedAt : null);
+        report.setDetectionAccuracy(detectionAccuracy);
+        report.setLabelledCases(labelledCases);
+        report.setAccuracyDays(accuracyDays);
+        report.setSignals(signalReports);
+
+        if ("SIGNIFICANT".equals(overall) && latestReport != null && !"SIGNIFICANT".equals(latestReport.getStatus())) {
+            log.warn("Significant score/feature drift against the {} reference",
+                    pinned != null ? "pinned" : "rolling");
+        }
+
+        latestReport = report;
+        return report;
+    }
+
+    private DriftReportDTO.SignalDrift compare(DriftSignal signal, long[] current, long[] reference) {
+
+        int offset = signal.getOffset();
+        int buckets = signal.getBuckets();
+        long currentCount = DriftStatistics.total(current, offset, buckets);
+        long referenceCount = DriftStatistics.total(reference, offset, buckets);
+
+        DriftReportDTO.SignalDrift report = new DriftReportDTO.SignalDrift();
+        report.setName(signal.getName());
+        report.setKind(signal.getKind().name());
+        report.setCurrentCount(currentCount);
+        report.setReferenceCount(referenceCount);
+
+        if (signal.getKind() == DriftSignal.Kind.SCORE) {
+            report.setCurrentMean(round(DriftStatistics.mean(current, offset, buckets)));
+            report.setReferenceMean(round(DriftStatistics.mean(reference, offset, buckets)));
+            report.setCurrentP50(DriftStatistics.quantile(current, offset, buckets, 0.50));
+            report.setCurrentP90(DriftStatistics.quantile(current, offset, buckets, 0.90));
+            report.setCurrentP99(DriftStatistics.quantile(current, offset, buckets, 0.99));
+            report.setReferenceP50(DriftStatistics.quantile(reference, offset, buckets, 0.50));
+            report.setReferenceP90(DriftStatistics.quantile(reference, offset, buckets, 0.90));
+            report.setReferenceP99(DriftStatistics.quantile(reference, offset, buckets, 0.99));
+        } else {
+            report.setCurrentShares(DriftStatistics.shares(current, offset, buckets));
+            report.setReferenceShares(DriftStatistics.shares(reference, offset, buckets));
+        }
+
+        if (currentCount < minSamples || referenceCount < minSamples) {
+            report.setStatus("INSUFFICIENT_DATA");
+            return report;
+        }
+
+        double psi = DriftStatistics.psi(current, reference, offset, buckets, signal.psiGroupWidth());
+        report.setPsi(round(psi));
+        report.setKs(round(DriftStatistics.ks(current, reference, offset, buckets)));
+        report.setStatus(psi >= SIGNIFICANT_PSI ? "SIGNIFICANT" : psi >= MODERATE_PSI ? "MODERATE" : "STABLE");
+        return report;
+    }
+
+    // Covered by idx_case_resolved; one small grouped read per evaluation
+    private void refreshDetectionAccuracy() {
+
+        long[] outcome = new long[2];   // {agreed, total}
+        try {
+            readOnlyTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+                    """
+                    SELECT risk_level, resolution, COUNT(*)
+                    FROM review_cases
+                    WHERE status = 'RESOLVED' AND resolved_at >= ?
+                    GROUP BY risk_level, resolution
+                    """,
+                    (ResultSet rs) -> {
+                        boolean flagged = "HIGH".equals(rs.getString(1));
+                        boolean fraud = "CONFIRMED_FRAUD".equals(rs.getString(2));
+                        long count = rs.getLong(3);
+                        outcome[1] += count;
+                        if (flagged == fraud) {
+                            outcome[0] += count;
+                        }
+                    },
+                    LocalDateTime.now().minusDays(accuracyDays)
+            ));
+        } catch (DataAccessException e) {
+            log.warn("Detection accuracy refresh failed, keeping the previous value: {}", e.getMessage());
+            return;
+        }
+
+        labelledCases = outcome[1];
+        detectionAccuracy = outcome[1] == 0 ? null : Math.round(outcome[0] * 10000.0 / outcome[1]) / 100.0;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10000.0) / 10000.0;
+    }
+}
@@ -0,0 +1,109 @@
+package com.bank.fraud.drift;
+
+import com.bank.fraud.ml.ModelFeature;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One monitored distribution and where its buckets sit in a window slot.
+ *
+ * Every monitored value has a small bounded domain — scores are integers
+ * 0–100, mapped features are flags, an hour or a normalized amount — so a
+ * fixed-bucket histogram is an exact, constant-size and trivially
+ * mergeable sketch of it.
+ */
+final class DriftSignal {
+
+    enum Kind {
+        SCORE,
+        FEATURE
+    }
+
+    private static final int SCORE_BUCKETS = 101;
+    private static final int AMOUNT_BUCKETS = 10;
+    private static final int HOUR_BUCKETS = 24;
+
+    private final String name;
+    private final Kind kind;
+    private final ModelFeature feature;     // null for scores
+    private final int offset;
+    private final int buckets;
+
+    private DriftSignal(String name, Kind kind, ModelFeature feature, int offset, int buckets) {
+        this.name = name;
+        this.kind = kind;
+        this.feature = feature;
+        this.offset = offset;
+        this.buckets = buckets;
+    }
+
+    /**
+     * ml_score, final_risk_score, then every ModelFeature, laid out back to back.
+     */
+    static List<DriftSignal> layout() {
+        List<DriftSignal> signals = new ArrayList<>();
+        int offset = 0;
+
+        signals.add(new DriftSignal("ml_score", Kind.SCORE, null, offset, SCORE_BUCKETS));
+        offset += SCORE_BUCKETS;
+        signals.add(new DriftSignal("final_risk_score", Kind.SCORE, null, offset, SCORE_BUCKETS));
+        offset += SCORE_BUCKETS;
+
+        for (ModelFeature feature : ModelFeature.values()) {
+            int buckets = switch (feature) {
+                case AMOUNT -> AMOUNT_BUCKETS;
+                case TRANSACTION_HOUR -> HOUR_BUCKETS;
+                default -> 2;
+            };
+            signals.add(new DriftSignal(feature.getId(), Kind.FEATURE, feature, offset, buckets));
+            offset += buckets;
+        }
+        return signals;
+    }
+
+    // --------------------------------------------------
+    // BUCKETING
+    // --------------------------------------------------
+
+    int scorePosition(int score) {
+        return offset + Math.max(0, Math.min(buckets - 1, score));
+    }
+
+    int featurePosition(double value) {
+        int bucket = switch (feature) {
+            case AMOUNT -> (int) (value * AMOUNT_BUCKETS);      // normalized 0–1
+            case TRANSACTION_HOUR -> (int) value;
+            default -> value >= 0.5 ? 1 : 0;
+        };
+        return offset + Math.max(0, Math.min(buckets - 1, bucket));
+    }
+
+    /**
+     * Buckets folded together for PSI: ten 10-point bands for scores, so
+     * sparse single-score buckets do not dominate the statistic.
+     */
+    int psiGroupWidth() {
+        return kind == Kind.SCORE ? 10 : 1;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    ModelFeature getFeature() {
+        return feature;
+    }
+
+    int getOffset() {
+        return offset;
+    }
+
+    int getBuckets() {
+        return buckets;
+    }
+}
@@ -0,0 +1,102 @@
+package com.bank.fraud.drift;
+
+/**
+ * Distribution statistics over one signal's buckets inside a merged
+ * window snapshot (counts[offset .. offset + buckets)).
+ */
+final class DriftStatistics {
+
+    // Share given to empty buckets so PSI stays finite
+    private static final double EMPTY_BUCKET_SHARE = 1e-4;
+
+    private DriftStatistics() {
+    }
+
+    static long total(long[] counts, int offset, int buckets) {
+        long total = 0;
+        for (int i = 0; i < buckets; i++) {
+            total += counts[offset + i];
+        }
+        return total;
+    }
+
+    /**
+     * Population stability index, sum of (cur - ref) * ln(cur / ref) over
+     * bucket groups of groupWidth. Below 0.1 is usually read as stable,
+     * above 0.25 as a significant shift.
+     */
+    static double psi(long[] current, long[] reference, int offset, int buckets, int groupWidth) {
+
+        long currentTotal = total(current, offset, buckets);
+        long referenceTotal = total(reference, offset, buckets);
+
+        double psi = 0.0;
+        for (int start = 0; start < buckets; start += groupWidth) {
+            long currentCount = 0;
+            long referenceCount = 0;
+            for (int i = start; i < Math.min(buckets, start + groupWidth); i++) {
+                currentCount += current[offset + i];
+                referenceCount += reference[offset + i];
+            }
+            double currentShare = Math.max(EMPTY_BUCKET_SHARE, (double) currentCount / currentTotal);
+            double referenceShare = Math.max(EMPTY_BUCKET_SHARE, (double) referenceCount / referenceTotal);
+            psi += (currentShare - referenceShare) * Math.log(currentShare / referenceShare);
+        }
+        return psi;
+    }
+
+    /**
+     * Two-sample Kolmogorov–Smirnov statistic: the largest gap between the
+     * two cumulative distributions (0 = identical, 1 = disjoint).
+     */
+    static double ks(long[] current, long[] reference, int offset, int buckets) {
+
+        long currentTotal = total(current, offset, buckets);
+        long referenceTotal = total(reference, offset, buckets);
+
+        long currentCumulative = 0;
+        long referenceCumulative = 0;
+        double ks = 0.0;
+        for (int i = 0; i < buckets; i++) {
+            currentCumulative += current[offset + i];
+            referenceCumulative += reference[offset + i];
+            ks = Math.max(ks, Math.abs(
+                    (double) currentCumulative / currentTotal - (double) referenceCumulative / referenceTotal));
+        }
+        return ks;
+    }
+
+    /**
+     * Smallest bucket index whose cumulative share reaches q.
+     */
+    static int quantile(long[] counts, int offset, int buckets, double q) {
+        long total = total(counts, offset, buckets);
+        long target = (long) Math.ceil(q * total);
+        long cumulative = 0;
+        for (int i = 0; i < buckets; i++) {
+            cumulative += counts[offset + i];
+            if (cumulative >= target && cumulative > 0) {
+                return i;
+            }
+        }
+        return buckets - 1;
+    }
+
+    static double mean(long[] counts, int offset, int buckets) {
+        long total = total(counts, offset, buckets);
+        double sum = 0.0;
+        for (int i = 0; i < buckets; i++) {
+            sum += (double) i * counts[offset + i];
+        }
+        return total == 0 ? 0.0 : sum / total;
+    }
+
+    static double[] shares(long[] counts, int offset, int buckets) {
+        long total = total(counts, offset, buckets);
+        double[] shares = new double[buckets];
+        for (int i = 0; i < buckets; i++) {
+            shares[i] = total == 0 ? 0.0 : Math.round(counts[offset + i] * 10000.0 / total) / 10000.0;
+        }
+        return shares;
+    }
+}
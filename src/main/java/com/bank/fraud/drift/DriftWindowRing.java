@@ -0,0 +1,68 @@
+package com.bank.fraud.drift;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed ring of time slots, each holding every signal's bucket counts.
+ *
+ * Memory is slots × buckets longs whatever the traffic. A slot is reused
+ * once its time comes round again: the first writer of the new period
+ * claims it by CAS on the slot's epoch and zeroes it. A writer racing that
+ * reset can lose an increment at the slot boundary, which is noise at
+ * these volumes and keeps the hot path to plain atomic increments.
+ */
+final class DriftWindowRing {
+
+    private final long slotMillis;
+    private final int width;
+    private final AtomicLongArray epochs;
+    private final AtomicLongArray[] slots;
+
+    DriftWindowRing(int slotCount, long slotMillis, int width) {
+        this.slotMillis = slotMillis;
+        this.width = width;
+        this.epochs = new AtomicLongArray(slotCount);
+        this.slots = new AtomicLongArray[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            epochs.set(i, -1);
+            slots[i] = new AtomicLongArray(width);
+        }
+    }
+
+    long epochOf(long millis) {
+        return millis / slotMillis;
+    }
+
+    /**
+     * The slot for the given epoch, reset first if it still holds an older period.
+     */
+    AtomicLongArray slotFor(long epoch) {
+        int index = (int) Math.floorMod(epoch, (long) slots.length);
+        long current = epochs.get(index);
+        if (current < epoch && epochs.compareAndSet(index, current, epoch)) {
+            AtomicLongArray slot = slots[index];
+            for (int i = 0; i < width; i++) {
+                slot.set(i, 0);
+            }
+        }
+        return slots[index];
+    }
+
+    /**
+     * Bucket counts merged over epochs [from, to]; slots holding other periods are skipped.
+     */
+    long[] sum(long fromEpoch, long toEpoch) {
+        long[] merged = new long[width];
+        for (long epoch = Math.max(0, fromEpoch); epoch <= toEpoch; epoch++) {
+            int index = (int) Math.floorMod(epoch, (long) slots.length);
+            if (epochs.get(index) != epoch) {
+                continue;
+            }
+            AtomicLongArray slot = slots[index];
+            for (int i = 0; i < width; i++) {
+                merged[i] += slot.get(i);
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,320 @@
+package com.bank.fraud.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class BacktestReportDTO {
+
+    private String runId;
+    private String status;              // RUNNING, COMPLETED, FAILED, CANCELLED
+    private String error;
+
+    private LocalDate from;
+    private LocalDate to;
+    private LocalDate currentDay;       // Day being read while RUNNING
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Long rowsScanned;
+    private Long rowsPerSecond;
+    private Long labelledRows;          // Rows with a resolved analyst review case
+
+    private BacktestRequestDTO policy;
+
+    // Result sections below are only filled once the run has COMPLETED
+
+    // ---------- Volume impact ----------
+
+    private List<String> riskLevels;
+    private long[] liveLevelCounts;
+    private long[] candidateLevelCounts;
+    private long[][] levelMigration;    // Rows = live risk level, columns = candidate risk level
+    private double[] liveAmountByLevel;
+    private double[] candidateAmountByLevel;
+
+    // ---------- Against analyst labels (flagged = HIGH) ----------
+
+    private Confusion liveConfusion;
+    private Confusion candidateConfusion;
+
+    // ---------- Score distributions (index = score 0–100) ----------
+
+    private long[] liveScoreHistogram;
+    private long[] candidateScoreHistogram;
+    private long[] candidateFraudScoreHistogram;
+    private long[] candidateLegitimateScoreHistogram;
+
+    // ---------- Constructors ----------
+
+    public BacktestReportDTO() {
+    }
+
+    // ---------- Getters & Setters ----------
+
+    public String getRunId() {
+        return runId;
+    }
+
+    public void setRunId(String runId) {
+        this.runId = runId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public LocalDate getCurrentDay() {
+        return currentDay;
+    }
+
+    public void setCurrentDay(LocalDate currentDay) {
+        this.currentDay = currentDay;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public Long getRowsScanned() {
+        return rowsScanned;
+    }
+
+    public void setRowsScanned(Long rowsScanned) {
+        this.rowsScanned = rowsScanned;
+    }
+
+    public Long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(Long rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public Long getLabelledRows() {
+        return labelledRows;
+    }
+
+    public void setLabelledRows(Long labelledRows) {
+        this.labelledRows = labelledRows;
+    }
+
+    public BacktestRequestDTO getPolicy() {
+        return policy;
+    }
+
+    public void setPolicy(BacktestRequestDTO policy) {
+        this.policy = policy;
+    }
+
+    public List<String> getRiskLevels() {
+        return riskLevels;
+    }
+
+    public void setRiskLevels(List<String> riskLevels) {
+        this.riskLevels = riskLevels;
+    }
+
+    public long[] getLiveLevelCounts() {
+        return liveLevelCounts;
+    }
+
+    public void setLiveLevelCounts(long[] liveLevelCounts) {
+        this.liveLevelCounts = liveLevelCounts;
+    }
+
+    public long[] getCandidateLevelCounts() {
+        return candidateLevelCounts;
+    }
+
+    public void setCandidateLevelCounts(long[] candidateLevelCounts) {
+        this.candidateLevelCounts = candidateLevelCounts;
+    }
+
+    public long[][] getLevelMigration() {
+        return levelMigration;
+    }
+
+    public void setLevelMigration(long[][] levelMigration) {
+        this.levelMigration = levelMigration;
+    }
+
+    public double[] getLiveAmountByLevel() {
+        return liveAmountByLevel;
+    }
+
+    public void setLiveAmountByLevel(double[] liveAmountByLevel) {
+        this.liveAmountByLevel = liveAmountByLevel;
+    }
+
+    public double[] getCandidateAmountByLevel() {
+        return candidateAmountByLevel;
+    }
+
+    public void setCandidateAmountByLevel(double[] candidateAmountByLevel) {
+        this.candidateAmountByLevel = candidateAmountByLevel;
+    }
+
+    public Confusion getLiveConfusion() {
+        return liveConfusion;
+    }
+
+    public void setLiveConfusion(Confusion liveConfusion) {
+        this.liveConfusion = liveConfusion;
+    }
+
+    public Confusion getCandidateConfusion() {
+        return candidateConfusion;
+    }
+
+    public void setCandidateConfusion(Confusion candidateConfusion) {
+        this.candidateConfusion = candidateConfusion;
+    }
+
+    public long[] getLiveScoreHistogram() {
+        return liveScoreHistogram;
+    }
+
+    public void setLiveScoreHistogram(long[] liveScoreHistogram) {
+        this.liveScoreHistogram = liveScoreHistogram;
+    }
+
+    public long[] getCandidateScoreHistogram() {
+        return candidateScoreHistogram;
+    }
+
+    public void setCandidateScoreHistogram(long[] candidateScoreHistogram) {
+        this.candidateScoreHistogram = candidateScoreHistogram;
+    }
+
+    public long[] getCandidateFraudScoreHistogram() {
+        return candidateFraudScoreHistogram;
+    }
+
+    public void setCandidateFraudScoreHistogram(long[] candidateFraudScoreHistogram) {
+        this.candidateFraudScoreHistogram = candidateFraudScoreHistogram;
+    }
+
+    public long[] getCandidateLegitimateScoreHistogram() {
+        return candidateLegitimateScoreHistogram;
+    }
+
+    public void setCandidateLegitimateScoreHistogram(long[] candidateLegitimateScoreHistogram) {
+        this.candidateLegitimateScoreHistogram = candidateLegitimateScoreHistogram;
+    }
+
+    // --------------------------------------------------
+    // CONFUSION MATRIX
+    // --------------------------------------------------
+
+    public static class Confusion {
+
+        private Long truePositives;
+        private Long falsePositives;
+        private Long trueNegatives;
+        private Long falseNegatives;
+        private Double precision;
+        private Double recall;
+        private Double falsePositiveRate;
+
+        public Confusion() {
+        }
+
+        public Long getTruePositives() {
+            return truePositives;
+        }
+
+        public void setTruePositives(Long truePositives) {
+            this.truePositives = truePositives;
+        }
+
+        public Long getFalsePositives() {
+            return falsePositives;
+        }
+
+        public void setFalsePositives(Long falsePositives) {
+            this.falsePositives = falsePositives;
+        }
+
+        public Long getTrueNegatives() {
+            return trueNegatives;
+        }
+
+        public void setTrueNegatives(Long trueNegatives) {
+            this.trueNegatives = trueNegatives;
+        }
+
+        public Long getFalseNegatives() {
+            return falseNegatives;
+        }
+
+        public void setFalseNegatives(Long falseNegatives) {
+            this.falseNegatives = falseNegatives;
+        }
+
+        public Double getPrecision() {
+            return precision;
+        }
+
+        public void setPrecision(Double precision) {
+            this.precision = precision;
+        }
+
+        public Double getRecall() {
+            return recall;
+        }
+
+        public void setRecall(Double recall) {
+            this.recall = recall;
+        }
+
+        public Double getFalsePositiveRate() {
+            return falsePositiveRate;
+        }
+
+        public void setFalsePositiveRate(Double falsePositiveRate) {
+            this.falsePositiveRate = falsePositiveRate;
+        }
+    }
+}
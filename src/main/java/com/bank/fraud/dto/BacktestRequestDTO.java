@@ -0,0 +1,214 @@
+package com.bank.fraud.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+/**
+ * Backtest window (days, inclusive) and candidate policy. Any policy field
+ * left null keeps the live engine's value.
+ */
+public class BacktestRequestDTO {
+
+    @NotNull(message = "from is required")
+    private LocalDate from;
+
+    @NotNull(message = "to is required")
+    private LocalDate to;
+
+    // ---------- Rule points ----------
+
+    @Min(0) @Max(100)
+    private Integer amountOver100kPoints;
+
+    @Min(0) @Max(100)
+    private Integer amountOver50kPoints;
+
+    @Min(0) @Max(100)
+    private Integer amountOver20kPoints;
+
+    @Min(0) @Max(100)
+    private Integer amountOver10kPoints;
+
+    @Min(1) @Max(1440)
+    private Integer velocityWindowMinutes;
+
+    @Min(1) @Max(100)
+    private Integer velocityMinCount;
+
+    @Min(0) @Max(100)
+    private Integer velocityPoints;
+
+    @Min(0) @Max(23)
+    private Integer lateNightStartHour;
+
+    @Min(0) @Max(23)
+    private Integer lateNightEndHour;
+
+    @Min(0) @Max(100)
+    private Integer lateNightPoints;
+
+    @Min(0) @Max(100)
+    private Integer unknownLocationPoints;
+
+    // ---------- Final risk ----------
+
+    @DecimalMin("0.0") @DecimalMax("1.0")
+    private Double ruleWeight;
+
+    @DecimalMin("0.0") @DecimalMax("1.0")
+    private Double mlWeight;
+
+    @Min(0) @Max(100)
+    private Integer lowRiskMax;         // LOW up to and including this score
+
+    @Min(0) @Max(100)
+    private Integer mediumRiskMax;      // MEDIUM up to and including this score, HIGH above
+
+    // ---------- Constructors ----------
+
+    public BacktestRequestDTO() {
+    }
+
+    // ---------- Getters & Setters ----------
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public Integer getAmountOver100kPoints() {
+        return amountOver100kPoints;
+    }
+
+    public void setAmountOver100kPoints(Integer amountOver100kPoints) {
+        this.amountOver100kPoints = amountOver100kPoints;
+    }
+
+    public Integer getAmountOver50kPoints() {
+        return amountOver50kPoints;
+    }
+
+    public void setAmountOver50kPoints(Integer amountOver50kPoints) {
+        this.amountOver50kPoints = amountOver50kPoints;
+    }
+
+    public Integer getAmountOver20kPoints() {
+        return amountOver20kPoints;
+    }
+
+    public void setAmountOver20kPoints(Integer amountOver20kPoints) {
+        this.amountOver20kPoints = amountOver20kPoints;
+    }
+
+    public Integer getAmountOver10kPoints() {
+        return amountOver10kPoints;
+    }
+
+    public void setAmountOver10kPoints(Integer amountOver10kPoints) {
+        this.amountOver10kPoints = amountOver10kPoints;
+    }
+
+    public Integer getVelocityWindowMinutes() {
+        return velocityWindowMinutes;
+    }
+
+    public void setVelocityWindowMinutes(Integer velocityWindowMinutes) {
+        this.velocityWindowMinutes = velocityWindowMinutes;
+    }
+
+    public Integer getVelocityMinCount() {
+        return velocityMinCount;
+    }
+
+    public void setVelocityMinCount(Integer velocityMinCount) {
+        this.velocityMinCount = velocityMinCount;
+    }
+
+    public Integer getVelocityPoints() {
+        return velocityPoints;
+    }
+
+    public void setVelocityPoints(Integer velocityPoints) {
+        this.velocityPoints = velocityPoints;
+    }
+
+    public Integer getLateNightStartHour() {
+        return lateNightStartHour;
+    }
+
+    public void setLateNightStartHour(Integer lateNightStartHour) {
+        this.lateNightStartHour = lateNightStartHour;
+    }
+
+    public Integer getLateNightEndHour() {
+        return lateNightEndHour;
+    }
+
+    public void setLateNightEndHour(Integer lateNightEndHour) {
+        this.lateNightEndHour = lateNightEndHour;
+    }
+
+    public Integer getLateNightPoints() {
+        return lateNightPoints;
+    }
+
+    public void setLateNightPoints(Integer lateNightPoints) {
+        this.lateNightPoints = lateNightPoints;
+    }
+
+    public Integer getUnknownLocationPoints() {
+        return unknownLocationPoints;
+    }
+
+    public void setUnknownLocationPoints(Integer unknownLocationPoints) {
+        this.unknownLocationPoints = unknownLocationPoints;
+    }
+
+    public Double getRuleWeight() {
+        return ruleWeight;
+    }
+
+    public void setRuleWeight(Double ruleWeight) {
+        this.ruleWeight = ruleWeight;
+    }
+
+    public Double getMlWeight() {
+        return mlWeight;
+    }
+
+    public void setMlWeight(Double mlWeight) {
+        this.mlWeight = mlWeight;
+    }
+
+    public Integer getLowRiskMax() {
+        return lowRiskMax;
+    }
+
+    public void setLowRiskMax(Integer lowRiskMax) {
+        this.lowRiskMax = lowRiskMax;
+    }
+
+    public Integer getMediumRiskMax() {
+        return mediumRiskMax;
+    }
+
+    public void setMediumRiskMax(Integer mediumRiskMax) {
+        this.mediumRiskMax = mediumRiskMax;
+    }
+}
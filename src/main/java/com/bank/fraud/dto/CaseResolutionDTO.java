@@ -0,0 +1,38 @@
+package com.bank.fraud.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+public class CaseResolutionDTO {
+
+    @NotBlank(message = "Resolution is required")
+    @Pattern(regexp = "CONFIRMED_FRAUD|LEGITIMATE", message = "Resolution must be CONFIRMED_FRAUD or LEGITIMATE")
+    private String resolution;
+
+    @Size(max = 255)
+    private String note;
+
+    // ---------- Constructors ----------
+
+    public CaseResolutionDTO() {
+    }
+
+    // ---------- Getters & Setters ----------
+
+    public String getResolution() {
+        return resolution;
+    }
+
+    public void setResolution(String resolution) {
+        this.resolution = resolution;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public void setNote(String note) {
+        this.note = note;
+    }
+}
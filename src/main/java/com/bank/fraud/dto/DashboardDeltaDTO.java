@@ -0,0 +1,140 @@
+package com.bank.fraud.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public class DashboardDeltaDTO {
+
+    private Long sequence;
+    private Boolean snapshot;           // true => counters are complete, not a diff
+
+    private Map<String, Object> counters;           // Only changed counters on a delta
+    private List<TransactionResponseDTO> transactions;
+    private List<AlertEvent> alerts;
+    private Long dropped;               // Events lost to buffer overflow since last tick
+
+    // ---------- Constructors ----------
+
+    public DashboardDeltaDTO() {
+    }
+
+    // ---------- Getters & Setters ----------
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
+    public Boolean getSnapshot() {
+        return snapshot;
+    }
+
+    public void setSnapshot(Boolean snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public Map<String, Object> getCounters() {
+        return counters;
+    }
+
+    public void setCounters(Map<String, Object> counters) {
+        this.counters = counters;
+    }
+
+    public List<TransactionResponseDTO> getTransactions() {
+        return transactions;
+    }
+
+    public void setTransactions(List<TransactionResponseDTO> transactions) {
+        this.transactions = transactions;
+    }
+
+    public List<AlertEvent> getAlerts() {
+        return alerts;
+    }
+
+    public void setAlerts(List<AlertEvent> alerts) {
+        this.alerts = alerts;
+    }
+
+    public Long getDropped() {
+        return dropped;
+    }
+
+    public void setDropped(Long dropped) {
+        this.dropped = dropped;
+    }
+
+    // --------------------------------------------------
+    // ALERT EVENT
+    // --------------------------------------------------
+
+    public static class AlertEvent {
+
+        private String transactionId;
+        private String accountId;
+        private Double amount;
+        private String riskLevel;
+        private Integer finalRiskScore;
+        private LocalDateTime alertTime;
+
+        // ---------- Constructors ----------
+
+        public AlertEvent() {
+        }
+
+        // ---------- Getters & Setters ----------
+
+        public String getTransactionId() {
+            return transactionId;
+        }
+
+        public void setTransactionId(String transactionId) {
+            this.transactionId = transactionId;
+        }
+
+        public String getAccountId() {
+            return accountId;
+        }
+
+        public void setAccountId(String accountId) {
+            this.accountId = accountId;
+        }
+
+        public Double getAmount() {
+            return amount;
+        }
+
+        public void setAmount(Double amount) {
+            this.amount = amount;
+        }
+
+        public String getRiskLevel() {
+            return riskLevel;
+        }
+
+        public void setRiskLevel(String riskLevel) {
+            this.riskLevel = riskLevel;
+        }
+
+        public Integer getFinalRiskScore() {
+            return finalRiskScore;
+        }
+
+        public void setFinalRiskScore(Integer finalRiskScore) {
+            this.finalRiskScore = finalRiskScore;
+        }
+
+        public LocalDateTime getAlertTime() {
+            return alertTime;
+        }
+
+        public void setAlertTime(LocalDateTime alertTime) {
+            this.alertTime = alertTime;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.bank.fraud.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class DriftReportDTO {
+
+    private Boolean enabled;
+    private String status;                  // Worst signal status
+    private LocalDateTime evaluatedAt;
+
+    private Integer windowMinutes;          // Current window: the last N minutes
+    private Integer referenceHours;         // Rolling reference: the N hours before it
+    private LocalDateTime referencePinnedAt; // Set when a fixed reference replaces the rolling one
+
+    // Analyst-resolved review cases that agreed with the decision (null until any are resolved)
+    private Double detectionAccuracy;
+    private Long labelledCases;
+    private Integer accuracyDays;
+
+    private List<SignalDrift> signals;
+
+    // ---------- Constructors ----------
+
+    public DriftReportDTO() {
+    }
+
+    // ---------- Getters & Setters ----------
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getEvaluatedAt() {
+        return evaluatedAt;
+    }
+
+    public void setEvaluatedAt(LocalDateTime evaluatedAt) {
+        this.evaluatedAt = evaluatedAt;
+    }
+
+    public Integer getWindowMinutes() {
+        return windowMinutes;
+    }
+
+    public void setWindowMinutes(Integer windowMinutes) {
+        this.windowMinutes = windowMinutes;
+    }
+
+    public Integer getReferenceHours() {
+        return referenceHours;
+    }
+
+    public void setReferenceHours(Integer referenceHours) {
+        this.referenceHours = referenceHours;
+    }
+
+    public LocalDateTime getReferencePinnedAt() {
+        return referencePinnedAt;
+    }
+
+    public void setReferencePinnedAt(LocalDateTime referencePinnedAt) {
+        this.referencePinnedAt = referencePinnedAt;
+    }
+
+    public Double getDetectionAccuracy() {
+        return detectionAccuracy;
+    }
+
+    public void setDetectionAccuracy(Double detectionAccuracy) {
+        this.detectionAccuracy = detectionAccuracy;
+    }
+
+    public Long getLabelledCases() {
+        return labelledCases;
+    }
+
+    public void setLabelledCases(Long labelledCases) {
+        this.labelledCases = labelledCases;
+    }
+
+    public Integer getAccuracyDays() {
+        return accuracyDays;
+    }
+
+    public void setAccuracyDays(Integer accuracyDays) {
+        this.accuracyDays = accuracyDays;
+    }
+
+    public List<SignalDrift> getSignals() {
+        return signals;
+    }
+
+    public void setSignals(List<SignalDrift> signals) {
+        this.signals = signals;
+    }
+
+    // --------------------------------------------------
+    // PER-SIGNAL DRIFT
+    // --------------------------------------------------
+
+    public static class SignalDrift {
+
+        private String name;                // ml_score, final_risk_score or a model feature id
+        private String kind;                // SCORE or FEATURE
+        private Long currentCount;
+        private Long referenceCount;
+        private Double psi;
+        private Double ks;
+        private String status;              // INSUFFICIENT_DATA, STABLE, MODERATE, SIGNIFICANT
+
+        // Scores only
+        private Double currentMean;
+        private Double referenceMean;
+        private Integer currentP50;
+        private Integer currentP90;
+        private Integer currentP99;
+        private Integer referenceP50;
+        private Integer referenceP90;
+        private Integer referenceP99;
+
+        // Features only: share of each bucket
+        private double[] currentShares;
+        private double[] referenceShares;
+
+        public SignalDrift() {
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getKind() {
+            return kind;
+        }
+
+        public void setKind(String kind) {
+            this.kind = kind;
+        }
+
+        public Long getCurrentCount() {
+            return currentCount;
+        }
+
+        public void setCurrentCount(Long currentCount) {
+            this.currentCount = currentCount;
+        }
+
+        public Long getReferenceCount() {
+            return referenceCount;
+        }
+
+        public void setReferenceCount(Long referenceCount) {
+            this.referenceCount = referenceCount;
+        }
+
+        public Double getPsi() {
+            return psi;
+        }
+
+        public void setPsi(Double psi) {
+            this.psi = psi;
+        }
+
+        public Double getKs() {
+            return ks;
+        }
+
+        public void setKs(Double ks) {
+            this.ks = ks;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public Double getCurrentMean() {
+            return currentMean;
+        }
+
+        public void setCurrentMean(Double currentMean) {
+            this.currentMean = currentMean;
+        }
+
+        public Double getReferenceMean() {
+            return referenceMean;
+        }
+
+        public void setReferenceMean(Double referenceMean) {
+            this.referenceMean = referenceMean;
+        }
+
+        public Integer getCurrentP50() {
+            return currentP50;
+        }
+
+        public void setCurrentP50(Integer currentP50) {
+            this.currentP50 = currentP50;
+        }
+
+        public Integer getCurrentP90() {
+            return currentP90;
+        }
+
+        public void setCurrentP90(Integer currentP90) {
+            this.currentP90 = currentP90;
+        }
+
+        public Integer getCurrentP99() {
+            return currentP99;
+        }
+
+        public void setCurrentP99(Integer currentP99) {
+            this.currentP99 = currentP99;
+        }
+
+        public Integer getReferenceP50() {
+            return referenceP50;
+        }
+
+        public void setReferenceP50(Integer referenceP50) {
+            this.referenceP50 = referenceP50;
+        }
+
+        public Integer getReferenceP90() {
+            return referenceP90;
+        }
+
+        public void setReferenceP90(Integer referenceP90) {
+            this.referenceP90 = referenceP90;
+        }
+
+        public Integer getReferenceP99() {
+            return referenceP99;
+        }
+
+        public void setReferenceP99(Integer referenceP99) {
+            this.referenceP99 = referenceP99;
+        }
+
+        public double[] getCurrentShares() {
+            return currentShares;
+        }
+
+        public void setCurrentShares(double[] currentShares) {
+            this.currentShares = currentShares;
+        }
+
+        public double[] getReferenceShares() {
+            return referenceShares;
+        }
+
+        public void setReferenceShares(double[] referenceShares) {
+            this.referenceShares = referenceShares;
+        }
+    }
+}
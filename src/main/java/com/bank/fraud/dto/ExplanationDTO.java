@@ -0,0 +1,194 @@
+package com.bank.fraud.dto;
+
+import java.util.List;
+
+/**
+ * Analyst view of a stored decision explanation. Rule messages and feature
+ * descriptions are the shared FraudRule / ModelFeature constants.
+ */
+public class ExplanationDTO {
+
+    private String transactionId;
+    private String riskLevel;
+    private Integer ruleScore;
+    private Integer mlScore;
+    private Integer finalRiskScore;
+    private List<RuleContribution> rules;           // Rules that fired, in evaluation order
+    private List<FeatureContribution> topFeatures;  // Largest ML feature contributions
+    private Integer mlUnexplained;                  // ML score not attributed to a feature
+
+    // ---------- Constructors ----------
+
+    public ExplanationDTO() {
+    }
+
+    // ---------- Getters & Setters ----------
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public void setTransactionId(String transactionId) {
+        this.transactionId = transactionId;
+    }
+
+    public String getRiskLevel() {
+        return riskLevel;
+    }
+
+    public void setRiskLevel(String riskLevel) {
+        this.riskLevel = riskLevel;
+    }
+
+    public Integer getRuleScore() {
+        return ruleScore;
+    }
+
+    public void setRuleScore(Integer ruleScore) {
+        this.ruleScore = ruleScore;
+    }
+
+    public Integer getMlScore() {
+        return mlScore;
+    }
+
+    public void setMlScore(Integer mlScore) {
+        this.mlScore = mlScore;
+    }
+
+    public Integer getFinalRiskScore() {
+        return finalRiskScore;
+    }
+
+    public void setFinalRiskScore(Integer finalRiskScore) {
+        this.finalRiskScore = finalRiskScore;
+    }
+
+    public List<RuleContribution> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<RuleContribution> rules) {
+        this.rules = rules;
+    }
+
+    public List<FeatureContribution> getTopFeatures() {
+        return topFeatures;
+    }
+
+    public void setTopFeatures(List<FeatureContribution> topFeatures) {
+        this.topFeatures = topFeatures;
+    }
+
+    public Integer getMlUnexplained() {
+        return mlUnexplained;
+    }
+
+    public void setMlUnexplained(Integer mlUnexplained) {
+        this.mlUnexplained = mlUnexplained;
+    }
+
+    // --------------------------------------------------
+    // RULE CONTRIBUTION
+    // --------------------------------------------------
+
+    public static class RuleContribution {
+
+        private String ruleId;
+        private Integer points;
+        private String message;
+
+        // ---------- Constructors ----------
+
+        public RuleContribution() {
+        }
+
+        public RuleContribution(
+                String ruleId,
+                Integer points,
+                String message
+        ) {
+            this.ruleId = ruleId;
+            this.points = points;
+            this.message = message;
+        }
+
+        // ---------- Getters & Setters ----------
+
+        public String getRuleId() {
+            return ruleId;
+        }
+
+        public void setRuleId(String ruleId) {
+            this.ruleId = ruleId;
+        }
+
+        public Integer getPoints() {
+            return points;
+        }
+
+        public void setPoints(Integer points) {
+            this.points = points;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+
+    // --------------------------------------------------
+    // FEATURE CONTRIBUTION
+    // --------------------------------------------------
+
+    public static class FeatureContribution {
+
+        private String featureId;
+        private Integer points;
+        private String description;
+
+        // ---------- Constructors ----------
+
+        public FeatureContribution() {
+        }
+
+        public FeatureContribution(
+                String featureId,
+                Integer points,
+                String description
+        ) {
+            this.featureId = featureId;
+            this.points = points;
+            this.description = description;
+        }
+
+        // ---------- Getters & Setters ----------
+
+        public String getFeatureId() {
+            return featureId;
+        }
+
+        public void setFeatureId(String featureId) {
+            this.featureId = featureId;
+        }
+
+        public Integer getPoints() {
+            return points;
+        }
+
+        public void setPoints(Integer points) {
+            this.points = points;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public void setDescription(String description) {
+            this.description = description;
+        }
+    }
+}
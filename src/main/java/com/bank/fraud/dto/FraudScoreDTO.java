@@ -1,5 +1,7 @@
 package com.bank.fraud.dto;
 
+import com.bank.fraud.service.FraudExplanation;
+
 import java.util.List;
 
 public class FraudScoreDTO {
@@ -12,6 +14,8 @@ public class FraudScoreDTO {
     private Boolean fraudDetected;
 
     private List<String> ruleTriggers;  // Explainable reasons
+    private FraudExplanation explanation;   // Rule ids + points, top ML features
+    private boolean ruleOnly;               // Degraded mode: ML skipped, mlScore is 0
 
     // ---------- Constructors ----------
 
@@ -67,4 +71,20 @@ public class FraudScoreDTO {
     public void setRuleTriggers(List<String> ruleTriggers) {
         this.ruleTriggers = ruleTriggers;
     }
+
+    public FraudExplanation getExplanation() {
+        return explanation;
+    }
+
+    public void setExplanation(FraudExplanation explanation) {
+        this.explanation = explanation;
+    }
+
+    public boolean isRuleOnly() {
+        return ruleOnly;
+    }
+
+    public void setRuleOnly(boolean ruleOnly) {
+        this.ruleOnly = ruleOnly;
+    }
 }
@@ -0,0 +1,64 @@
+package com.bank.fraud.dto;
+
+import com.bank.fraud.model.AuditLog;
+
+import java.util.List;
+
+public class NotificationPageDTO {
+
+    private List<AuditLog> notifications;
+    private String nextCursor;      // Pass back as ?cursor= for the next page / delta
+    private Boolean hasMore;
+    private String latestCursor;    // Newest row in this response; seed for ?since=
+
+    // ---------- Constructors ----------
+
+    public NotificationPageDTO() {
+    }
+
+    public NotificationPageDTO(
+            List<AuditLog> notifications,
+            String nextCursor,
+            Boolean hasMore,
+            String latestCursor
+    ) {
+        this.notifications = notifications;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+        this.latestCursor = latestCursor;
+    }
+
+    // ---------- Getters & Setters ----------
+
+    public List<AuditLog> getNotifications() {
+        return notifications;
+    }
+
+    public void setNotifications(List<AuditLog> notifications) {
+        this.notifications = notifications;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public Boolean getHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(Boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public String getLatestCursor() {
+        return latestCursor;
+    }
+
+    public void setLatestCursor(String latestCursor) {
+        this.latestCursor = latestCursor;
+    }
+}
@@ -0,0 +1,146 @@
+package com.bank.fraud.dto;
+
+import java.util.List;
+
+public class ShadowScoringReportDTO {
+
+    private Boolean enabled;
+    private Long submitted;
+    private Long shed;              // Dropped because the shadow pool was saturated
+    private Integer queueDepth;
+
+    private List<CandidateReport> candidates;
+
+    // ---------- Constructors ----------
+
+    public ShadowScoringReportDTO() {
+    }
+
+    // ---------- Getters & Setters ----------
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Long getSubmitted() {
+        return submitted;
+    }
+
+    public void setSubmitted(Long submitted) {
+        this.submitted = submitted;
+    }
+
+    public Long getShed() {
+        return shed;
+    }
+
+    public void setShed(Long shed) {
+        this.shed = shed;
+    }
+
+    public Integer getQueueDepth() {
+        return queueDepth;
+    }
+
+    public void setQueueDepth(Integer queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    public List<CandidateReport> getCandidates() {
+        return candidates;
+    }
+
+    public void setCandidates(List<CandidateReport> candidates) {
+        this.candidates = candidates;
+    }
+
+    // --------------------------------------------------
+    // PER-CANDIDATE REPORT
+    // --------------------------------------------------
+
+    public static class CandidateReport {
+
+        private String name;
+        private Long evaluations;
+        private Long errors;
+        private Double agreementPercentage;
+
+        // Rows = live risk level, columns = candidate risk level
+        private List<String> riskLevels;
+        private long[][] agreementMatrix;
+
+        private Double averageLatencyMs;
+        private Double maxLatencyMs;
+
+        public CandidateReport() {
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Long getEvaluations() {
+            return evaluations;
+        }
+
+        public void setEvaluations(Long evaluations) {
+            this.evaluations = evaluations;
+        }
+
+        public Long getErrors() {
+            return errors;
+        }
+
+        public void setErrors(Long errors) {
+            this.errors = errors;
+        }
+
+        public Double getAgreementPercentage() {
+            return agreementPercentage;
+        }
+
+        public void setAgreementPercentage(Double agreementPercentage) {
+            this.agreementPercentage = agreementPercentage;
+        }
+
+        public List<String> getRiskLevels() {
+            return riskLevels;
+        }
+
+        public void setRiskLevels(List<String> riskLevels) {
+            this.riskLevels = riskLevels;
+        }
+
+        public long[][] getAgreementMatrix() {
+            return agreementMatrix;
+        }
+
+        public void setAgreementMatrix(long[][] agreementMatrix) {
+            this.agreementMatrix = agreementMatrix;
+        }
+
+        public Double getAverageLatencyMs() {
+            return averageLatencyMs;
+        }
+
+        public void setAverageLatencyMs(Double averageLatencyMs) {
+            this.averageLatencyMs = averageLatencyMs;
+        }
+
+        public Double getMaxLatencyMs() {
+            return maxLatencyMs;
+        }
+
+        public void setMaxLatencyMs(Double maxLatencyMs) {
+            this.maxLatencyMs = maxLatencyMs;
+        }
+    }
+}
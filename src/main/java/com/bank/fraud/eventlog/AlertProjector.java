@@ -0,0 +1,50 @@
+package com.bank.fraud.eventlog;
+
+import com.bank.fraud.model.Transaction;
+import com.bank.fraud.service.AlertService;
+import com.bank.fraud.service.DashboardStreamService;
+import com.bank.fraud.service.TransactionService;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Sends fraud alerts and dashboard events for logged decisions.
+ * Replaying this projector re-sends alerts, so rewind it deliberately.
+ */
+@Component
+@ConditionalOnProperty(name = "eventlog.enabled", havingValue = "true")
+public class AlertProjector implements EventProjector {
+
+    private final AlertService alertService;
+    private final DashboardStreamService dashboardStreamService;
+    private final TransactionService transactionService;
+
+    public AlertProjector(
+            AlertService alertService,
+            DashboardStreamService dashboardStreamService,
+            TransactionService transactionService
+    ) {
+        this.alertService = alertService;
+        this.dashboardStreamService = dashboardStreamService;
+        this.transactionService = transactionService;
+    }
+
+    @Override
+    public String getName() {
+        return "alerts";
+    }
+
+    @Override
+    public void project(List<DecisionEvent> events) {
+        for (DecisionEvent event : events) {
+            Transaction transaction = event.toTransaction();
+            if (Boolean.TRUE.equals(event.fraudDetected())) {
+                alertService.sendFraudAlert(transaction);
+            }
+            dashboardStreamService.publishTransaction(transactionService.buildResponseDTO(transaction));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.bank.fraud.eventlog;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory decision counters, rebuilt from the log on every start.
+ */
+@Component
+@ConditionalOnProperty(name = "eventlog.enabled", havingValue = "true")
+public class DecisionCountersProjector implements EventProjector {
+
+    private final LongAdder total = new LongAdder();
+    private final LongAdder fraud = new LongAdder();
+    private final LongAdder blocked = new LongAdder();
+    private final LongAdder low = new LongAdder();
+    private final LongAdder medium = new LongAdder();
+    private final LongAdder high = new LongAdder();
+
+    @Override
+    public String getName() {
+        return "counters";
+    }
+
+    @Override
+    public boolean isDurable() {
+        return false;
+    }
+
+    @Override
+    public void project(List<DecisionEvent> events) {
+        for (DecisionEvent event : events) {
+            total.increment();
+            if (Boolean.TRUE.equals(event.fraudDetected())) {
+                fraud.increment();
+            }
+            if ("BLOCKED".equals(event.status())) {
+                blocked.increment();
+            }
+            switch (String.valueOf(event.riskLevel())) {
+                case "HIGH" -> high.increment();
+                case "MEDIUM" -> medium.increment();
+                default -> low.increment();
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        total.reset();
+        fraud.reset();
+        blocked.reset();
+        low.reset();
+        medium.reset();
+        high.reset();
+    }
+
+    public Map<String, Long> snapshot() {
+        Map<String, Long> counters = new LinkedHashMap<>();
+        counters.put("totalTransactions", total.sum());
+        counters.put("fraudTransactions", fraud.sum());
+        counters.put("blockedTransactions", blocked.sum());
+        counters.put("lowRiskCount", low.sum());
+        counters.put("mediumRiskCount", medium.sum());
+        counters.put("highRiskCount", high.sum());
+        return counters;
+    }
+}
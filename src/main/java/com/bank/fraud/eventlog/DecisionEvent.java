@@ -0,0 +1,78 @@
+package com.bank.fraud.eventlog;
+
+import com.bank.fraud.model.Transaction;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A transaction decision as recorded in the event log. Carries everything
+ * the projectors need to rebuild the transaction row, its audit entry,
+ * alerts and counters without going back to the request.
+ */
+public record DecisionEvent(
+        String transactionId,
+        String accountId,
+        String customerName,
+        Double amount,
+        String transactionType,
+        String city,
+        String ipAddress,
+        String deviceId,
+        Integer ruleScore,
+        Integer mlScore,
+        Integer finalRiskScore,
+        String riskLevel,
+        String status,
+        Boolean fraudDetected,
+        LocalDateTime transactionTime,
+        Long processingTimeMs,
+        List<String> ruleTriggers,
+        String explanation
+) {
+
+    public static DecisionEvent from(Transaction tx, List<String> ruleTriggers) {
+        return new DecisionEvent(
+                tx.getTransactionId(),
+                tx.getAccountId(),
+                tx.getCustomerName(),
+                tx.getAmount(),
+                tx.getTransactionType(),
+                tx.getCity(),
+                tx.getIpAddress(),
+                tx.getDeviceId(),
+                tx.getRuleScore(),
+                tx.getMlScore(),
+                tx.getFinalRiskScore(),
+                tx.getRiskLevel(),
+                tx.getStatus(),
+                tx.getFraudDetected(),
+                tx.getTransactionTime(),
+                tx.getProcessingTimeMs(),
+                ruleTriggers,
+                tx.getExplanation()
+        );
+    }
+
+    public Transaction toTransaction() {
+        Transaction tx = new Transaction();
+        tx.setTransactionId(transactionId);
+        tx.setAccountId(accountId);
+        tx.setCustomerName(customerName);
+        tx.setAmount(amount);
+        tx.setTransactionType(transactionType);
+        tx.setCity(city);
+        tx.setIpAddress(ipAddress);
+        tx.setDeviceId(deviceId);
+        tx.setRuleScore(ruleScore);
+        tx.setMlScore(mlScore);
+        tx.setFinalRiskScore(finalRiskScore);
+        tx.setRiskLevel(riskLevel);
+        tx.setStatus(status);
+        tx.setFraudDetected(fraudDetected);
+        tx.setTransactionTime(transactionTime);
+        tx.setProcessingTimeMs(processingTimeMs);
+        tx.setExplanation(explanation);
+        return tx;
+    }
+}
@@ -0,0 +1,132 @@
+package com.bank.fraud.eventlog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Sequential cursor over the log. Only durable records are returned, so
+ * a projection never materialises something that could be lost on crash.
+ */
+public final class EventLogReader implements Closeable {
+
+    private final SegmentedEventLog eventLog;
+    private final ByteBuffer header = ByteBuffer.allocate(SegmentedEventLog.FRAME_HEADER_BYTES);
+
+    private long segmentBase;
+    private FileChannel channel;
+    private long position;
+    private long nextOffset;
+
+    EventLogReader(SegmentedEventLog eventLog, long fromOffset) {
+        this.eventLog = eventLog;
+
+        Map.Entry<Long, Path> segment = eventLog.segmentFor(fromOffset);
+        openSegment(segment);
+        this.nextOffset = segment.getKey();
+
+        // Skip forward inside the segment to the requested offset
+        long target = Math.max(fromOffset, segment.getKey());
+        while (nextOffset < target && nextOffset <= eventLog.getDurableOffset()) {
+            if (readFrame(true) == null) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Returns up to max durable records starting at {@link #getNextOffset()}.
+     */
+    public List<LogRecord> poll(int max) {
+
+        List<LogRecord> records = new ArrayList<>();
+        long durable = eventLog.getDurableOffset();
+
+        while (records.size() < max && nextOffset <= durable) {
+            LogRecord record = readFrame(false);
+            if (record == null) {
+                break;
+            }
+            records.add(record);
+        }
+        return records;
+    }
+
+    public long getNextOffset() {
+        return nextOffset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private LogRecord readFrame(boolean skipPayload) {
+        try {
+            while (true) {
+                header.clear();
+                int length = 0;
+                if (position + SegmentedEventLog.FRAME_HEADER_BYTES <= channel.size()) {
+                    channel.read(header, position);
+                    header.flip();
+                    length = header.getInt();
+                }
+
+                if (length <= 0) {
+                    // End of this segment: continue with the next one, if any
+                    Map.Entry<Long, Path> next = eventLog.segmentAfter(segmentBase);
+                    if (next == null || nextOffset < next.getKey()) {
+                        return null;
+                    }
+                    channel.close();
+                    openSegment(next);
+                    continue;
+                }
+
+                int storedCrc = header.getInt();
+                long offset = nextOffset;
+                byte[] payload = null;
+
+                if (!skipPayload) {
+                    ByteBuffer buffer = ByteBuffer.allocate(length);
+                    while (buffer.hasRemaining()) {
+                        channel.read(buffer, position + SegmentedEventLog.FRAME_HEADER_BYTES + buffer.position());
+                    }
+                    payload = buffer.array();
+                    CRC32C crc = new CRC32C();
+                    crc.update(payload);
+                    if ((int) crc.getValue() != storedCrc) {
+                        throw new IllegalStateException("Corrupt event log record at offset " + offset);
+                    }
+                }
+
+                position += SegmentedEventLog.FRAME_HEADER_BYTES + length;
+                nextOffset++;
+                return new LogRecord(offset, payload);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read event log", e);
+        }
+    }
+
+    private void openSegment(Map.Entry<Long, Path> segment) {
+        try {
+            this.segmentBase = segment.getKey();
+            this.channel = FileChannel.open(segment.getValue(), StandardOpenOption.READ);
+            this.position = 0;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open event log segment " + segment.getValue(), e);
+        }
+    }
+}
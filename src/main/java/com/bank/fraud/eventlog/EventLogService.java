@@ -0,0 +1,257 @@
+package com.bank.fraud.eventlog;
+
+import com.bank.fraud.model.Transaction;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+@ConditionalOnProperty(name = "eventlog.enabled", havingValue = "true")
+public class EventLogService {
+
+    /*
+     * Decision log as the system of record.
+     *
+     * The request path appends one DecisionEvent and waits only for the
+     * group-commit fsync. MySQL rows, audit entries, alerts and counters
+     * are projections that catch up asynchronously from their own
+     * checkpoints and can be rewound to any retained offset.
+     *
+     * Until the MySQL projection has applied a decision, duplicate and
+     * velocity checks find it in the UnprojectedDecisionIndex instead.
+     */
+
+    private static final Logger log = LoggerFactory.getLogger(EventLogService.class);
+
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<EventProjector> projectors;
+    private final UnprojectedDecisionIndex unprojected;
+    private final SegmentedEventLog eventLog;
+    private final Path checkpointDirectory;
+    private final long appendTimeoutMs;
+    private final int projectionBatchSize;
+    private final long projectionIdleMs;
+    private final boolean deleteProjectedSegments;
+
+    private final List<ProjectionRunner> runners = new ArrayList<>();
+    private final List<Thread> threads = new ArrayList<>();
+
+    public EventLogService(
+            ObjectMapper objectMapper,
+            ObjectProvider<EventProjector> projectors,
+            UnprojectedDecisionIndex unprojected,
+            @Value("${eventlog.directory:./eventlog}") String directory,
+            @Value("${eventlog.segment-bytes:67108864}") int segmentBytes,
+            @Value("${eventlog.append-timeout-ms:2000}") long appendTimeoutMs,
+            @Value("${eventlog.projection.batch-size:500}") int projectionBatchSize,
+            @Value("${eventlog.projection.idle-ms:5}") long projectionIdleMs,
+            @Value("${eventlog.delete-projected-segments:false}") boolean deleteProjectedSegments
+    ) throws IOException {
+        this.objectMapper = objectMapper;
+        this.projectors = projectors;
+        this.unprojected = unprojected;
+        this.appendTimeoutMs = appendTimeoutMs;
+        this.projectionBatchSize = projectionBatchSize;
+        this.projectionIdleMs = projectionIdleMs;
+        this.deleteProjectedSegments = deleteProjectedSegments;
+
+        Path root = Paths.get(directory);
+        this.eventLog = SegmentedEventLog.open(root.resolve("segments"), segmentBytes);
+        this.checkpointDirectory = Files.createDirectories(root.resolve("checkpoints"));
+
+        log.info("Event log opened at {}: next offset {}, {} segment(s)",
+                root, eventLog.getNextOffset(), eventLog.getSegmentCount());
+    }
+
+    // --------------------------------------------------
+    // APPEND (HOT PATH)
+    // --------------------------------------------------
+
+    /**
+     * Appends the decision and returns its offset once it is on disk.
+     */
+    public long appendDecision(Transaction transaction, List<String> ruleTriggers) {
+
+        // Indexed first, so the projector can never remove it before it is added
+        unprojected.add(transaction.getTransactionId(), transaction.getAccountId(), transaction.getTransactionTime());
+        try {
+            byte[] payload = objectMapper.writeValueAsBytes(DecisionEvent.from(transaction, ruleTriggers));
+            CompletableFuture<Long> append = eventLog.append(payload);
+            // A timed-out append may still land, so the entry goes only once the write has failed
+            append.whenComplete((offset, error) -> {
+                if (error != null) {
+                    unprojected.remove(transaction.getTransactionId(), transaction.getAccountId());
+                }
+            });
+            return append.get(appendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (JsonProcessingException e) {
+            unprojected.remove(transaction.getTransactionId(), transaction.getAccountId());
+            throw new IllegalStateException("Could not serialise decision event", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Decision could not be made durable", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while appending decision", e);
+        }
+    }
+
+    /**
+     * True if the decision is in the log but not yet in the transactions table.
+     */
+    public boolean isUnprojected(String transactionId) {
+        return unprojected.contains(transactionId);
+    }
+
+    /**
+     * The account's decisions since fromTime that the transactions table does not have yet.
+     */
+    public int countUnprojected(String accountId, LocalDateTime fromTime) {
+        return unprojected.countSince(accountId, fromTime);
+    }
+
+    // --------------------------------------------------
+    // PROJECTIONS
+    // --------------------------------------------------
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startProjections() {
+        projectors.orderedStream().forEach(projector -> {
+            ProjectionRunner runner = new ProjectionRunner(
+                    projector, eventLog, objectMapper, checkpointDirectory,
+                    projectionBatchSize, projectionIdleMs
+            );
+            if (projector instanceof MySqlProjector) {
+                indexUnprojected(runner.getCheckpoint());
+            }
+            Thread thread = new Thread(runner, "projector-" + projector.getName());
+            thread.setDaemon(true);
+            runners.add(runner);
+            threads.add(thread);
+            thread.start();
+
+            log.info("Projector {} starting at offset {}", projector.getName(), runner.getCheckpoint());
+        });
+    }
+
+    public void replay(String projectorName, long fromOffset) {
+        ProjectionRunner runner = runners.stream()
+                .filter(r -> r.getName().equals(projectorName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown projector: " + projectorName));
+        runner.requestReplay(fromOffset);
+    }
+
+    public Map<String, Object> getStatus() {
+
+        long durable = eventLog.getDurableOffset();
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("firstOffset", eventLog.getFirstOffset());
+        status.put("nextOffset", eventLog.getNextOffset());
+        status.put("durableOffset", durable);
+        status.put("segments", eventLog.getSegmentCount());
+        status.put("unprojectedDecisions", unprojected.size());
+
+        List<Map<String, Object>> projections = new ArrayList<>();
+        for (ProjectionRunner runner : runners) {
+            Map<String, Object> projection = new LinkedHashMap<>();
+            projection.put("name", runner.getName());
+            projection.put("durable", runner.isDurable());
+            projection.put("checkpoint", runner.getCheckpoint());
+            projection.put("lag", Math.max(0, durable + 1 - runner.getCheckpoint()));
+            projection.put("lastError", runner.getLastError());
+            projections.add(projection);
+        }
+        status.put("projectors", projections);
+        return status;
+    }
+
+    // --------------------------------------------------
+    // RETENTION (OPTIONAL)
+    // --------------------------------------------------
+
+    @Scheduled(fixedDelayString = "${eventlog.retention-check-ms:60000}")
+    public void deleteProjectedSegments() {
+
+        if (!deleteProjectedSegments || runners.isEmpty()) {
+            return;
+        }
+
+        // Only what every durable projector has already applied may go
+        long safeOffset = runners.stream()
+                .filter(ProjectionRunner::isDurable)
+                .mapToLong(ProjectionRunner::getCheckpoint)
+                .min()
+                .orElse(0);
+
+        int deleted = eventLog.deleteSegmentsBefore(safeOffset);
+        if (deleted > 0) {
+            log.info("Deleted {} fully projected event log segment(s) below offset {}", deleted, safeOffset);
+        }
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    // Start-up: decisions after the MySQL checkpoint are not in the table yet
+    private void indexUnprojected(long fromOffset) {
+        int indexed = 0;
+        try (EventLogReader reader = eventLog.reader(fromOffset)) {
+            List<LogRecord> records;
+            while (!(records = reader.poll(projectionBatchSize)).isEmpty()) {
+                for (LogRecord record : records) {
+                    DecisionEvent event = objectMapper.readValue(record.payload(), DecisionEvent.class);
+                    unprojected.add(event.transactionId(), event.accountId(), event.transactionTime());
+                    indexed++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not index unprojected decisions from offset {}: {}", fromOffset, e.getMessage());
+        }
+        if (indexed > 0) {
+            log.info("Indexed {} decisions not yet projected to MySQL", indexed);
+        }
+    }
+
+    // --------------------------------------------------
+    // SHUTDOWN
+    // --------------------------------------------------
+
+    @PreDestroy
+    public void shutdown() throws IOException, InterruptedException {
+        for (ProjectionRunner runner : runners) {
+            runner.halt();
+        }
+        for (Thread thread : threads) {
+            thread.join(5_000);
+        }
+        eventLog.close();
+    }
+}
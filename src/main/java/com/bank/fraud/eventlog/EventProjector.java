@@ -0,0 +1,31 @@
+package com.bank.fraud.eventlog;
+
+import java.util.List;
+
+/**
+ * Materialises some view from the decision log.
+ *
+ * Delivery is at-least-once: a batch is retried if project() throws and
+ * may be re-delivered after a crash, so implementations must tolerate
+ * seeing the same event twice.
+ */
+public interface EventProjector {
+
+    String getName();
+
+    void project(List<DecisionEvent> events);
+
+    /**
+     * Durable projectors resume from a checkpoint file; in-memory ones
+     * are rebuilt from the start of the log on every boot.
+     */
+    default boolean isDurable() {
+        return true;
+    }
+
+    /**
+     * Called before a replay so in-memory state can be cleared.
+     */
+    default void reset() {
+    }
+}
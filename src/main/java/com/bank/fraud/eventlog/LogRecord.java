@@ -0,0 +1,7 @@
+package com.bank.fraud.eventlog;
+
+/**
+ * One entry read back from the log: its logical offset and raw payload.
+ */
+public record LogRecord(long offset, byte[] payload) {
+}
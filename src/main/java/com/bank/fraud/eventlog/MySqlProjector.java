@@ -0,0 +1,77 @@
+package com.bank.fraud.eventlog;
+
+import com.bank.fraud.model.Transaction;
+import com.bank.fraud.repository.TransactionRepository;
+import com.bank.fraud.service.AuditLogService;
+import com.bank.fraud.service.ReviewCaseService;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Materialises the transactions, audit_logs and review_cases tables from the log, one
+ * batched commit per poll. Events whose transaction row already exists
+ * (re-delivery, replay) are skipped. After the commit the batch leaves the
+ * UnprojectedDecisionIndex.
+ */
+@Component
+@ConditionalOnProperty(name = "eventlog.enabled", havingValue = "true")
+public class MySqlProjector implements EventProjector {
+
+    private final TransactionRepository transactionRepository;
+    private final AuditLogService auditLogService;
+    private final ReviewCaseService reviewCaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final UnprojectedDecisionIndex unprojected;
+
+    public MySqlProjector(
+            TransactionRepository transactionRepository,
+            AuditLogService auditLogService,
+            ReviewCaseService reviewCaseService,
+            TransactionTemplate transactionTemplate,
+            UnprojectedDecisionIndex unprojected
+    ) {
+        this.transactionRepository = transactionRepository;
+        this.auditLogService = auditLogService;
+        this.reviewCaseService = reviewCaseService;
+        this.transactionTemplate = transactionTemplate;
+        this.unprojected = unprojected;
+    }
+
+    @Override
+    public String getName() {
+        return "mysql";
+    }
+
+    @Override
+    public void project(List<DecisionEvent> events) {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<String> ids = new HashSet<>();
+            for (DecisionEvent event : events) {
+                ids.add(event.transactionId());
+            }
+            Set<String> existing = new HashSet<>(transactionRepository.findExistingTransactionIds(ids));
+
+            List<Transaction> transactions = new ArrayList<>(events.size());
+            for (DecisionEvent event : events) {
+                if (existing.add(event.transactionId())) {
+                    transactions.add(event.toTransaction());
+                }
+            }
+
+            if (!transactions.isEmpty()) {
+                transactionRepository.saveAll(transactions);
+                auditLogService.logTransactionEvents(transactions);
+                reviewCaseService.openCases(transactions);
+            }
+        });
+        unprojected.removeAll(events);
+    }
+}
@@ -0,0 +1,168 @@
+package com.bank.fraud.eventlog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives one projector on its own thread: read a batch of durable
+ * records, project it, then persist the next offset as the checkpoint.
+ */
+final class ProjectionRunner implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectionRunner.class);
+
+    private static final long RETRY_BACKOFF_MS = 1_000;
+
+    private final EventProjector projector;
+    private final SegmentedEventLog eventLog;
+    private final ObjectMapper objectMapper;
+    private final Path checkpointFile;
+    private final int batchSize;
+    private final long idleMs;
+
+    private volatile boolean running = true;
+    private volatile long checkpoint;
+    private volatile long replayFrom = -1;
+    private volatile String lastError;
+
+    ProjectionRunner(
+            EventProjector projector,
+            SegmentedEventLog eventLog,
+            ObjectMapper objectMapper,
+            Path checkpointDirectory,
+            int batchSize,
+            long idleMs
+    ) {
+        this.projector = projector;
+        this.eventLog = eventLog;
+        this.objectMapper = objectMapper;
+        this.checkpointFile = checkpointDirectory.resolve(projector.getName() + ".offset");
+        this.batchSize = batchSize;
+        this.idleMs = idleMs;
+        this.checkpoint = projector.isDurable() ? readCheckpoint() : eventLog.getFirstOffset();
+    }
+
+    @Override
+    public void run() {
+
+        EventLogReader reader = eventLog.reader(checkpoint);
+
+        while (running) {
+            try {
+                // Replay request: rewind and let the projector clear its state
+                long rewindTo = replayFrom;
+                if (rewindTo >= 0) {
+                    replayFrom = -1;
+                    reader.close();
+                    projector.reset();
+                    reader = eventLog.reader(rewindTo);
+                    saveCheckpoint(reader.getNextOffset());
+                }
+
+                List<LogRecord> records = reader.poll(batchSize);
+                if (records.isEmpty()) {
+                    TimeUnit.MILLISECONDS.sleep(idleMs);
+                    continue;
+                }
+
+                List<DecisionEvent> events = new ArrayList<>(records.size());
+                for (LogRecord record : records) {
+                    events.add(objectMapper.readValue(record.payload(), DecisionEvent.class));
+                }
+
+                projector.project(events);
+                saveCheckpoint(reader.getNextOffset());
+                lastError = null;
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                // Rewind to the last checkpoint and retry the same batch
+                lastError = e.getMessage();
+                log.error("Projector {} failed at offset {}, retrying", projector.getName(), checkpoint, e);
+                try {
+                    reader.close();
+                    TimeUnit.MILLISECONDS.sleep(RETRY_BACKOFF_MS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (IOException ignored) {
+                    // Reader is being replaced anyway
+                }
+                reader = eventLog.reader(checkpoint);
+            }
+        }
+
+        try {
+            reader.close();
+        } catch (IOException ignored) {
+            // Shutting down
+        }
+    }
+
+    void requestReplay(long fromOffset) {
+        this.replayFrom = Math.max(0, fromOffset);
+    }
+
+    void halt() {
+        running = false;
+    }
+
+    String getName() {
+        return projector.getName();
+    }
+
+    long getCheckpoint() {
+        return checkpoint;
+    }
+
+    String getLastError() {
+        return lastError;
+    }
+
+    boolean isDurable() {
+        return projector.isDurable();
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private void saveCheckpoint(long nextOffset) {
+        this.checkpoint = nextOffset;
+        if (!projector.isDurable()) {
+            return;
+        }
+        try {
+            Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+            Files.writeString(temp, Long.toString(nextOffset), StandardCharsets.UTF_8);
+            Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write checkpoint for " + projector.getName(), e);
+        }
+    }
+
+    private long readCheckpoint() {
+        try {
+            if (Files.exists(checkpointFile)) {
+                return Long.parseLong(Files.readString(checkpointFile, StandardCharsets.UTF_8).trim());
+            }
+        } catch (IOException | NumberFormatException e) {
+            log.warn("Unreadable checkpoint for {}, starting from the beginning", projector.getName());
+        }
+        return eventLog.getFirstOffset();
+    }
+}
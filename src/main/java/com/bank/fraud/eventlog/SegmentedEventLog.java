@@ -0,0 +1,415 @@
+package com.bank.fraud.eventlog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log split into fixed-size, memory-mapped segment files.
+ *
+ * Segment files are named after the offset of their first record
+ * (<code>%020d.log</code>). Every record is framed as
+ * <pre>
+ *   int length | int crc32c(payload) | payload
+ * </pre>
+ * and a zero length marks the end of written data. Appends only copy
+ * into the mapped segment; a single flusher thread msyncs whatever has
+ * accumulated and completes every waiting append up to that point
+ * (group commit), so N concurrent writers share one fsync.
+ *
+ * A failed msync is fail-stop: every append not yet durable fails, the
+ * active segment is cut back to the last durable record, and the log
+ * rejects appends until the process restarts and recovers it. Retrying
+ * the msync instead could make the failed records durable after their
+ * writers were told they were lost.
+ */
+public final class SegmentedEventLog implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(SegmentedEventLog.class);
+
+    static final int FRAME_HEADER_BYTES = 8;
+    static final String SEGMENT_SUFFIX = ".log";
+
+    private record PendingAppend(long offset, CompletableFuture<Long> future) {
+    }
+
+    // Seam for tests: msync of a mapped segment
+    interface SegmentSync {
+        void force(MappedByteBuffer buffer);
+    }
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final SegmentSync sync;
+    private final NavigableMap<Long, Path> segments = new ConcurrentSkipListMap<>();
+
+    // ---------- Writer state, guarded by this ----------
+    private FileChannel activeChannel;
+    private MappedByteBuffer activeBuffer;
+    private long nextOffset;
+    private long writtenOffset;
+    private int durablePosition;            // Bytes of the active segment known to be on disk
+    private final Deque<PendingAppend> pending = new ArrayDeque<>();
+    private boolean running = true;
+    private IOException failure;            // Set once a sync fails; the log stays failed
+
+    private volatile long durableOffset;
+
+    private final Thread flusher;
+
+    SegmentedEventLog(Path directory, int segmentBytes, SegmentSync sync) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.sync = sync;
+
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(SEGMENT_SUFFIX)) {
+                    segments.put(Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())), file);
+                }
+            }
+        }
+
+        if (segments.isEmpty()) {
+            openSegment(0);
+            this.nextOffset = 0;
+        } else {
+            Map.Entry<Long, Path> last = segments.lastEntry();
+            openSegment(last.getKey());
+            this.nextOffset = last.getKey() + recover(activeBuffer);
+        }
+
+        this.writtenOffset = nextOffset - 1;
+        this.durableOffset = nextOffset - 1;
+        this.durablePosition = activeBuffer.position();
+
+        this.flusher = new Thread(this::flushLoop, "event-log-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    public static SegmentedEventLog open(Path directory, int segmentBytes) throws IOException {
+        return new SegmentedEventLog(directory, segmentBytes, MappedByteBuffer::force);
+    }
+
+    // --------------------------------------------------
+    // APPEND (GROUP COMMIT)
+    // --------------------------------------------------
+
+    /**
+     * Appends one record. The future completes with the record's offset
+     * once it (and everything before it) has been forced to disk.
+     */
+    public CompletableFuture<Long> append(byte[] payload) {
+
+        int frameBytes = FRAME_HEADER_BYTES + payload.length;
+        if (frameBytes + FRAME_HEADER_BYTES > segmentBytes) {
+            throw new IllegalArgumentException("Record of " + payload.length + " bytes exceeds segment size");
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        CompletableFuture<Long> future = new CompletableFuture<>();
+
+        synchronized (this) {
+            if (failure != null) {
+                throw new IllegalStateException("Event log failed to sync; restart to recover", failure);
+            }
+            if (!running) {
+                throw new IllegalStateException("Event log is closed");
+            }
+
+            // Keep room for the zero end marker
+            if (activeBuffer.remaining() < frameBytes + FRAME_HEADER_BYTES) {
+                roll();
+            }
+
+            long offset = nextOffset++;
+            activeBuffer.putInt(payload.length);
+            activeBuffer.putInt((int) crc.getValue());
+            activeBuffer.put(payload);
+
+            writtenOffset = offset;
+            pending.addLast(new PendingAppend(offset, future));
+            notifyAll();
+        }
+        return future;
+    }
+
+    // --------------------------------------------------
+    // READ SIDE
+    // --------------------------------------------------
+
+    public EventLogReader reader(long fromOffset) {
+        return new EventLogReader(this, fromOffset);
+    }
+
+    public long getDurableOffset() {
+        return durableOffset;
+    }
+
+    public synchronized long getNextOffset() {
+        return nextOffset;
+    }
+
+    public long getFirstOffset() {
+        return segments.firstKey();
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    Map.Entry<Long, Path> segmentFor(long offset) {
+        Map.Entry<Long, Path> entry = segments.floorEntry(offset);
+        return entry != null ? entry : segments.firstEntry();
+    }
+
+    Map.Entry<Long, Path> segmentAfter(long baseOffset) {
+        return segments.higherEntry(baseOffset);
+    }
+
+    // --------------------------------------------------
+    // RETENTION
+    // --------------------------------------------------
+
+    /**
+     * Deletes closed segments whose records all lie below the given offset.
+     */
+    public int deleteSegmentsBefore(long offset) {
+        int deleted = 0;
+        for (Map.Entry<Long, Path> entry : segments.entrySet()) {
+            Long nextBase = segments.higherKey(entry.getKey());
+            if (nextBase == null || nextBase > offset) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(entry.getValue());
+                segments.remove(entry.getKey());
+                deleted++;
+            } catch (IOException e) {
+                log.warn("Could not delete event log segment {}: {}", entry.getValue(), e.getMessage());
+                break;
+            }
+        }
+        return deleted;
+    }
+
+    // --------------------------------------------------
+    // SHUTDOWN
+    // --------------------------------------------------
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            running = false;
+            notifyAll();
+        }
+        try {
+            flusher.join(5_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            if (failure == null) {
+                sync.force(activeBuffer);
+            }
+            activeChannel.close();
+        }
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private void flushLoop() {
+
+        while (true) {
+            MappedByteBuffer buffer;
+            long upTo;
+            int upToPosition;
+
+            synchronized (this) {
+                while (running && pending.isEmpty()) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (pending.isEmpty()) {
+                    return;
+                }
+                upTo = writtenOffset;
+                upToPosition = activeBuffer.position();
+                buffer = activeBuffer;
+            }
+
+            // Writers keep appending into the same mapping while this runs.
+            // A roll may already have synced everything up to upTo.
+            IOException syncFailure = null;
+            if (upTo > durableOffset) {
+                try {
+                    sync.force(buffer);
+                } catch (UncheckedIOException e) {
+                    syncFailure = e.getCause();
+                }
+            }
+
+            List<PendingAppend> completed = new ArrayList<>();
+            List<PendingAppend> failed = new ArrayList<>();
+            IOException cause;
+            synchronized (this) {
+                if (syncFailure == null && upTo > durableOffset) {
+                    durableOffset = upTo;
+                    if (buffer == activeBuffer) {
+                        durablePosition = upToPosition;
+                    }
+                } else if (syncFailure != null) {
+                    failStop(syncFailure);
+                }
+                while (!pending.isEmpty() && pending.peekFirst().offset() <= durableOffset) {
+                    completed.add(pending.pollFirst());
+                }
+                if (failure != null) {
+                    failed.addAll(pending);
+                    pending.clear();
+                }
+                cause = failure;
+            }
+
+            for (PendingAppend append : completed) {
+                append.future().complete(append.offset());
+            }
+            for (PendingAppend append : failed) {
+                append.future().completeExceptionally(cause);
+            }
+            if (cause != null) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Called with the lock held. Stops the log and cuts the active segment
+     * back to its last durable record, so a restart does not recover
+     * records whose appends were failed. The zeroed tail is not synced
+     * (syncing just failed); recovery treats whatever survives as torn.
+     */
+    private void failStop(IOException cause) {
+        if (failure != null) {
+            return;
+        }
+        failure = cause;
+        running = false;
+        log.error("Event log sync failed; appends rejected until restart, records after offset {} dropped",
+                durableOffset, cause);
+
+        int end = Math.min(activeBuffer.position() + FRAME_HEADER_BYTES, activeBuffer.capacity());
+        for (int i = durablePosition; i < end; i++) {
+            activeBuffer.put(i, (byte) 0);
+        }
+        activeBuffer.position(durablePosition);
+        nextOffset = durableOffset + 1;
+        writtenOffset = durableOffset;
+        notifyAll();
+    }
+
+    // Called with the lock held
+    private void roll() {
+        try {
+            activeBuffer.putInt(0);         // explicit end marker
+            sync.force(activeBuffer);
+        } catch (UncheckedIOException e) {
+            activeBuffer.position(activeBuffer.position() - Integer.BYTES);
+            failStop(e.getCause());
+            throw new IllegalStateException("Event log failed to sync; restart to recover", e.getCause());
+        }
+
+        // Everything written so far is on disk now
+        durableOffset = writtenOffset;
+        durablePosition = activeBuffer.position();
+        try {
+            activeChannel.close();
+            openSegment(nextOffset);
+            durablePosition = 0;
+        } catch (IOException e) {
+            failStop(e);
+            throw new IllegalStateException("Failed to roll event log segment", e);
+        }
+    }
+
+    private void openSegment(long baseOffset) throws IOException {
+        Path file = directory.resolve(String.format("%020d%s", baseOffset, SEGMENT_SUFFIX));
+        activeChannel = FileChannel.open(file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        activeBuffer = activeChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        segments.put(baseOffset, file);
+    }
+
+    /**
+     * Scans the active segment, positions the buffer after the last intact
+     * record and zeroes any torn tail. Returns the number of intact records.
+     */
+    private static long recover(MappedByteBuffer buffer) {
+
+        long records = 0;
+        int position = 0;
+        boolean torn = false;
+
+        while (position + FRAME_HEADER_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length == 0) {
+                break;
+            }
+            if (length < 0 || position + FRAME_HEADER_BYTES + length > buffer.capacity()) {
+                torn = true;
+                break;
+            }
+            int storedCrc = buffer.getInt(position + 4);
+            ByteBuffer payload = buffer.slice(position + FRAME_HEADER_BYTES, length);
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            if ((int) crc.getValue() != storedCrc) {
+                torn = true;
+                break;
+            }
+            position += FRAME_HEADER_BYTES + length;
+            records++;
+        }
+
+        if (torn) {
+            log.warn("Event log: torn record at byte {}, truncating", position);
+            for (int i = position; i < buffer.capacity(); i++) {
+                buffer.put(i, (byte) 0);
+            }
+            buffer.force();
+        }
+        buffer.position(position);
+        return records;
+    }
+}
@@ -0,0 +1,76 @@
+package com.bank.fraud.eventlog;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decisions that are in the event log but not yet in the transactions
+ * table, so duplicate and velocity checks on the request path still see
+ * them while the MySQL projection lags.
+ *
+ * An entry is added before the append and removed only after the
+ * projector's commit, so checking here before MySQL never misses a
+ * decision; for a moment after a commit it can be counted twice, which
+ * errs towards flagging. Size is bounded by the projection lag (see
+ * /api/eventlog/status) and rebuilt from the log on start-up.
+ */
+@Component
+@ConditionalOnProperty(name = "eventlog.enabled", havingValue = "true")
+public class UnprojectedDecisionIndex {
+
+    private final Set<String> transactionIds = ConcurrentHashMap.newKeySet();
+
+    // accountId -> (transactionId -> transaction time); inner maps only touched inside compute()
+    private final Map<String, Map<String, LocalDateTime>> byAccount = new ConcurrentHashMap<>();
+
+    void add(String transactionId, String accountId, LocalDateTime transactionTime) {
+        transactionIds.add(transactionId);
+        byAccount.compute(accountId, (id, decisions) -> {
+            Map<String, LocalDateTime> result = decisions != null ? decisions : new HashMap<>();
+            result.put(transactionId, transactionTime);
+            return result;
+        });
+    }
+
+    void remove(String transactionId, String accountId) {
+        byAccount.computeIfPresent(accountId, (id, decisions) -> {
+            decisions.remove(transactionId);
+            return decisions.isEmpty() ? null : decisions;
+        });
+        transactionIds.remove(transactionId);
+    }
+
+    void removeAll(List<DecisionEvent> events) {
+        for (DecisionEvent event : events) {
+            remove(event.transactionId(), event.accountId());
+        }
+    }
+
+    public boolean contains(String transactionId) {
+        return transactionIds.contains(transactionId);
+    }
+
+    public int countSince(String accountId, LocalDateTime fromTime) {
+        int[] count = new int[1];
+        byAccount.computeIfPresent(accountId, (id, decisions) -> {
+            for (LocalDateTime time : decisions.values()) {
+                if (!time.isBefore(fromTime)) {
+                    count[0]++;
+                }
+            }
+            return decisions;
+        });
+        return count[0];
+    }
+
+    public int size() {
+        return transactionIds.size();
+    }
+}
@@ -0,0 +1,253 @@
+package com.bank.fraud.metrics;
+
+import com.bank.fraud.dto.FraudScoreDTO;
+import com.bank.fraud.dto.TransactionResponseDTO;
+import com.bank.fraud.service.FraudExplanation;
+import com.bank.fraud.service.FraudRule;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class FraudMetrics {
+
+    /*
+     * Every meter is registered up front and held in arrays indexed by
+     * small enums / switch-mapped ints, so recording is an array lookup
+     * plus an increment: no tag maps, no registry lookups, no allocation.
+     * Tag values are closed sets; anything unexpected maps to OTHER.
+     */
+
+    public enum Cache {
+        BLOCK,
+        ANALYTICS
+    }
+
+    private static final String[] TYPES = {"UPI", "NEFT", "IMPS", "RTGS", "CARD", "OTHER"};
+    private static final String[] STATUSES = {"SUCCESS", "BLOCKED", "OTHER"};
+    private static final String[] RISK_LEVELS = {"LOW", "MEDIUM", "HIGH", "OTHER"};
+    private static final String[] ERRORS = {"RATE_LIMITED", "OVERLOADED", "INVALID", "REFUSED", "ERROR"};
+
+    private static final double[] SCORE_BUCKETS = {10, 20, 30, 40, 50, 60, 70, 80, 90, 100};
+
+    private final Counter[][][] transactions;
+    private final Timer[] latencyByRisk;
+    private final Timer errorLatency;
+    private final Counter[] errors;
+    private final Counter[] rules;
+    private final DistributionSummary mlScore;
+    private final DistributionSummary ruleScore;
+    private final Counter blocked;
+    private final Counter unblocked;
+    private final Timer unblockLag;
+    private final Counter[][] cacheRequests;
+
+    public FraudMetrics(MeterRegistry registry) {
+
+        // 1️⃣ Transactions by type x status x risk level
+        transactions = new Counter[TYPES.length][STATUSES.length][RISK_LEVELS.length];
+        for (int t = 0; t < TYPES.length; t++) {
+            for (int s = 0; s < STATUSES.length; s++) {
+                for (int r = 0; r < RISK_LEVELS.length; r++) {
+                    transactions[t][s][r] = Counter.builder("fraud.transactions")
+                            .description("Processed transactions")
+                            .tag("type", TYPES[t])
+                            .tag("status", STATUSES[s])
+                            .tag("risk", RISK_LEVELS[r])
+                            .register(registry);
+                }
+            }
+        }
+
+        // 2️⃣ End-to-end latency (ingress to decision) by outcome
+        latencyByRisk = new Timer[RISK_LEVELS.length];
+        for (int r = 0; r < RISK_LEVELS.length; r++) {
+            latencyByRisk[r] = latencyTimer(registry, RISK_LEVELS[r]);
+        }
+        errorLatency = latencyTimer(registry, "ERROR");
+
+        errors = new Counter[ERRORS.length];
+        for (int e = 0; e < ERRORS.length; e++) {
+            errors[e] = Counter.builder("fraud.transactions.rejected")
+                    .description("Transactions rejected before a decision")
+                    .tag("reason", ERRORS[e])
+                    .register(registry);
+        }
+
+        // 3️⃣ Rule triggers by rule id
+        FraudRule[] fraudRules = FraudRule.values();
+        rules = new Counter[fraudRules.length];
+        for (FraudRule rule : fraudRules) {
+            rules[rule.ordinal()] = Counter.builder("fraud.rule.triggered")
+                    .description("Rule triggers by rule id")
+                    .tag("rule", rule.getId())
+                    .register(registry);
+        }
+
+        // 4️⃣ Score distributions
+        mlScore = DistributionSummary.builder("fraud.score.ml")
+                .description("ML fraud score (0-100)")
+                .serviceLevelObjectives(SCORE_BUCKETS)
+                .register(registry);
+        ruleScore = DistributionSummary.builder("fraud.score.rules")
+                .description("Capped rule score (0-100)")
+                .serviceLevelObjectives(SCORE_BUCKETS)
+                .register(registry);
+
+        // 5️⃣ Blocks / unblocks
+        blocked = Counter.builder("fraud.accounts.blocked")
+                .description("Accounts moved into an active block")
+                .register(registry);
+        unblocked = Counter.builder("fraud.accounts.unblocked")
+                .description("Accounts released from a block")
+                .register(registry);
+        unblockLag = Timer.builder("fraud.accounts.unblock.lag")
+                .description("Block expiry to actual unblock")
+                .publishPercentileHistogram()
+                .register(registry);
+
+        // 6️⃣ Cache hits / misses
+        Cache[] caches = Cache.values();
+        cacheRequests = new Counter[caches.length][2];
+        for (Cache cache : caches) {
+            for (int hit = 0; hit < 2; hit++) {
+                cacheRequests[cache.ordinal()][hit] = Counter.builder("fraud.cache.requests")
+                        .description("Cache lookups")
+                        .tag("cache", cache.name())
+                        .tag("result", hit == 1 ? "hit" : "miss")
+                        .register(registry);
+            }
+        }
+    }
+
+    // --------------------------------------------------
+    // RECORDING (HOT PATH)
+    // --------------------------------------------------
+
+    public void recordTransaction(TransactionResponseDTO response, long latencyNanos) {
+        int risk = riskIndex(response.getRiskLevel());
+        transactions[typeIndex(response.getTransactionType())][statusIndex(response.getStatus())][risk]
+                .increment();
+        latencyByRisk[risk].record(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRejected(Throwable error, long latencyNanos) {
+        errors[errorIndex(error)].increment();
+        errorLatency.record(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Scores and rule triggers of a committed decision. Called by the
+     * decision sites once the decision is stored, never from scoring
+     * itself, so warm-up, shadow and backtest runs do not show up here.
+     */
+    public void recordDecision(FraudScoreDTO score) {
+        ruleScore.record(score.getRuleScore());
+        if (!score.isRuleOnly()) {
+            mlScore.record(score.getMlScore());
+        }
+        FraudExplanation explanation = score.getExplanation();
+        if (explanation != null) {
+            for (FraudExplanation.RuleContribution contribution : explanation.getRules()) {
+                if (contribution.rule() != null) {
+                    rules[contribution.rule().ordinal()].increment();
+                }
+            }
+        }
+    }
+
+    public void accountBlocked() {
+        blocked.increment();
+    }
+
+    public void accountsUnblocked(int count) {
+        unblocked.increment(count);
+    }
+
+    public void recordUnblockLag(long lagMillis) {
+        unblockLag.record(Math.max(0, lagMillis), TimeUnit.MILLISECONDS);
+    }
+
+    public void cacheLookup(Cache cache, boolean hit) {
+        cacheRequests[cache.ordinal()][hit ? 1 : 0].increment();
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS (CLOSED TAG SETS)
+    // --------------------------------------------------
+
+    private static Timer latencyTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("fraud.transaction.latency")
+                .description("Ingress to decision")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static int typeIndex(String type) {
+        if (type == null) {
+            return TYPES.length - 1;
+        }
+        return switch (type) {
+            case "UPI" -> 0;
+            case "NEFT" -> 1;
+            case "IMPS" -> 2;
+            case "RTGS" -> 3;
+            case "CARD" -> 4;
+            default -> TYPES.length - 1;
+        };
+    }
+
+    private static int statusIndex(String status) {
+        if (status == null) {
+            return STATUSES.length - 1;
+        }
+        return switch (status) {
+            case "SUCCESS" -> 0;
+            case "BLOCKED" -> 1;
+            default -> STATUSES.length - 1;
+        };
+    }
+
+    private static int riskIndex(String riskLevel) {
+        if (riskLevel == null) {
+            return RISK_LEVELS.length - 1;
+        }
+        return switch (riskLevel) {
+            case "LOW" -> 0;
+            case "MEDIUM" -> 1;
+            case "HIGH" -> 2;
+            default -> RISK_LEVELS.length - 1;
+        };
+    }
+
+    private static int errorIndex(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause()
+                : error;
+        if (cause instanceof ResponseStatusException statusException) {
+            int status = statusException.getStatusCode().value();
+            if (status == 429) {
+                return 0;
+            }
+            if (status == 503) {
+                return 1;
+            }
+        }
+        if (cause instanceof IllegalArgumentException) {
+            return 2;
+        }
+        if (cause instanceof IllegalStateException) {
+            return 3;
+        }
+        return ERRORS.length - 1;
+    }
+}
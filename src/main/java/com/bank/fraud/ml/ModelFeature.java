@@ -0,0 +1,45 @@
+package com.bank.fraud.ml;
+
+/**
+ * Features produced by ModelFeatureMapper.
+ *
+ * The id is the feature key in the mapped feature vector and in stored
+ * explanations; the description is the analyst-facing text.
+ */
+public enum ModelFeature {
+
+    AMOUNT("amount", "Transaction amount (scaled)"),
+    IS_UPI("is_upi", "UPI transfer"),
+    IS_CARD("is_card", "Card payment"),
+    IS_WALLET("is_wallet", "Wallet payment"),
+    IS_NET_BANKING("is_net_banking", "Net banking transfer"),
+    TRANSACTION_HOUR("transaction_hour", "Hour of day"),
+    IS_LATE_NIGHT("is_late_night", "Late-night hours (23:00–04:59)"),
+    IS_UNKNOWN_LOCATION("is_unknown_location", "Unrecognized location"),
+    DEVICE_PRESENT("device_present", "Device id supplied");
+
+    private final String id;
+    private final String description;
+
+    ModelFeature(String id, String description) {
+        this.id = id;
+        this.description = description;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static ModelFeature fromId(String id) {
+        for (ModelFeature feature : values()) {
+            if (feature.id.equals(id)) {
+                return feature;
+            }
+        }
+        throw new IllegalArgumentException("Unknown model feature: " + id);
+    }
+}
@@ -17,46 +17,61 @@ public class ModelFeatureMapper {
      */
     public Map<String, Double> mapToFeatures(TransactionRequestDTO request) {
 
+        double[] vector = mapToVector(request);
+
         Map<String, Double> features = new HashMap<>();
+        for (ModelFeature feature : ModelFeature.values()) {
+            features.put(feature.getId(), vector[feature.ordinal()]);
+        }
+        return features;
+    }
+
+    /**
+     * Same features as an array indexed by ModelFeature ordinal, for
+     * per-transaction callers that should not build a map (drift monitoring).
+     */
+    public double[] mapToVector(TransactionRequestDTO request) {
+
+        double[] features = new double[ModelFeature.values().length];
 
         // --------------------------------------------------
         // BASIC NUMERICAL FEATURES
         // --------------------------------------------------
 
-        features.put("amount", request.getAmount());
+        features[ModelFeature.AMOUNT.ordinal()] = request.getAmount();
 
         // --------------------------------------------------
         // TRANSACTION TYPE (ONE-HOT / ENCODED)
         // --------------------------------------------------
 
-        features.put("is_upi",
-                "UPI".equalsIgnoreCase(request.getTransactionType()) ? 1.0 : 0.0);
-        features.put("is_card",
-                "CARD".equalsIgnoreCase(request.getTransactionType()) ? 1.0 : 0.0);
-        features.put("is_wallet",
-                "WALLET".equalsIgnoreCase(request.getTransactionType()) ? 1.0 : 0.0);
-        features.put("is_net_banking",
-                "NET_BANKING".equalsIgnoreCase(request.getTransactionType()) ? 1.0 : 0.0);
+        features[ModelFeature.IS_UPI.ordinal()] =
+                "UPI".equalsIgnoreCase(request.getTransactionType()) ? 1.0 : 0.0;
+        features[ModelFeature.IS_CARD.ordinal()] =
+                "CARD".equalsIgnoreCase(request.getTransactionType()) ? 1.0 : 0.0;
+        features[ModelFeature.IS_WALLET.ordinal()] =
+                "WALLET".equalsIgnoreCase(request.getTransactionType()) ? 1.0 : 0.0;
+        features[ModelFeature.IS_NET_BANKING.ordinal()] =
+                "NET_BANKING".equalsIgnoreCase(request.getTransactionType()) ? 1.0 : 0.0;
 
         // --------------------------------------------------
         // TIME-BASED FEATURES
         // --------------------------------------------------
 
         int hour = LocalDateTime.now().getHour();
-        features.put("transaction_hour", (double) hour);
+        features[ModelFeature.TRANSACTION_HOUR.ordinal()] = hour;
 
         boolean isLateNight = (hour >= 23 || hour <= 4);
-        features.put("is_late_night", isLateNight ? 1.0 : 0.0);
+        features[ModelFeature.IS_LATE_NIGHT.ordinal()] = isLateNight ? 1.0 : 0.0;
 
         // --------------------------------------------------
         // LOCATION / DEVICE FEATURES (SIMULATED)
         // --------------------------------------------------
 
-        features.put("is_unknown_location",
-                "UNKNOWN".equalsIgnoreCase(request.getCity()) ? 1.0 : 0.0);
+        features[ModelFeature.IS_UNKNOWN_LOCATION.ordinal()] =
+                "UNKNOWN".equalsIgnoreCase(request.getCity()) ? 1.0 : 0.0;
 
-        features.put("device_present",
-                request.getDeviceId() != null ? 1.0 : 0.0);
+        features[ModelFeature.DEVICE_PRESENT.ordinal()] =
+                request.getDeviceId() != null ? 1.0 : 0.0;
 
         // --------------------------------------------------
         // NORMALIZATION / DEFAULT HANDLING
@@ -71,12 +86,10 @@ public class ModelFeatureMapper {
      * Simple normalization logic.
      * In real systems, this matches training-time normalization.
      */
-    private void normalize(Map<String, Double> features) {
+    private void normalize(double[] features) {
 
         // Normalize amount (example scaling)
-        if (features.containsKey("amount")) {
-            double amount = features.get("amount");
-            features.put("amount", Math.min(amount / 200000.0, 1.0));
-        }
+        int amount = ModelFeature.AMOUNT.ordinal();
+        features[amount] = Math.min(features[amount] / 200000.0, 1.0);
     }
 }
@@ -7,15 +7,16 @@ import java.time.LocalDateTime;
 @Table(
         name = "audit_logs",
         indexes = {
-                @Index(name = "idx_audit_entity", columnList = "entityType"),
-                @Index(name = "idx_audit_action", columnList = "action"),
+                @Index(name = "idx_audit_entity_time", columnList = "entityType, eventTime, id"),
+                @Index(name = "idx_audit_action_time", columnList = "action, eventTime, id"),
                 @Index(name = "idx_audit_time", columnList = "eventTime")
         }
 )
 public class AuditLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_log_id_gen")
+    @SequenceGenerator(name = "audit_log_id_gen", sequenceName = "audit_logs_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 50)
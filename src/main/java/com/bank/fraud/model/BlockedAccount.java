@@ -8,13 +8,14 @@ import java.time.LocalDateTime;
         name = "blocked_accounts",
         indexes = {
                 @Index(name = "idx_blocked_account_id", columnList = "accountId"),
-                @Index(name = "idx_block_until", columnList = "blockedUntil")
+                @Index(name = "idx_block_active_until", columnList = "activeBlock, blockedUntil")
         }
 )
 public class BlockedAccount {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "blocked_account_id_gen")
+    @SequenceGenerator(name = "blocked_account_id_gen", sequenceName = "blocked_accounts_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 20, unique = true)
@@ -35,6 +36,14 @@ public class BlockedAccount {
     @Column(nullable = false, length = 100)
     private String blockReason;
 
+    @Column(nullable = false)
+    private Double strikeHigh = 0.0;    // strike counters decayed to strikesAt
+
+    @Column(nullable = false)
+    private Double strikeMedium = 0.0;
+
+    private LocalDateTime strikesAt;
+
     // ---------- Constructors ----------
 
     public BlockedAccount() {
@@ -94,4 +103,28 @@ public class BlockedAccount {
     public void setBlockReason(String blockReason) {
         this.blockReason = blockReason;
     }
+
+    public Double getStrikeHigh() {
+        return strikeHigh;
+    }
+
+    public void setStrikeHigh(Double strikeHigh) {
+        this.strikeHigh = strikeHigh;
+    }
+
+    public Double getStrikeMedium() {
+        return strikeMedium;
+    }
+
+    public void setStrikeMedium(Double strikeMedium) {
+        this.strikeMedium = strikeMedium;
+    }
+
+    public LocalDateTime getStrikesAt() {
+        return strikesAt;
+    }
+
+    public void setStrikesAt(LocalDateTime strikesAt) {
+        this.strikesAt = strikesAt;
+    }
 }
@@ -0,0 +1,188 @@
+package com.bank.fraud.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "review_cases",
+        indexes = {
+                @Index(name = "idx_case_claim", columnList = "status, priority DESC, id"),
+                @Index(name = "idx_case_lease", columnList = "status, leaseUntil"),
+                @Index(name = "idx_case_analyst", columnList = "claimedBy, status"),
+                @Index(name = "idx_case_resolved", columnList = "status, resolvedAt, riskLevel, resolution")
+        }
+)
+public class ReviewCase {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_case_id_gen")
+    @SequenceGenerator(name = "review_case_id_gen", sequenceName = "review_cases_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 30, unique = true)
+    private String transactionId;
+
+    @Column(nullable = false, length = 20)
+    private String accountId;
+
+    @Column(nullable = false)
+    private Double amount;
+
+    @Column(nullable = false)
+    private Integer finalRiskScore;
+
+    @Column(nullable = false, length = 10)
+    private String riskLevel;
+
+    @Column(nullable = false)
+    private Long priority;              // risk score, then amount (see ReviewCaseService)
+
+    @Column(nullable = false, length = 10)
+    private String status;              // OPEN, CLAIMED, RESOLVED
+
+    @Column(length = 50)
+    private String claimedBy;
+
+    @Column
+    private LocalDateTime leaseUntil;
+
+    @Column(nullable = false)
+    private Integer claimCount;
+
+    @Column(length = 20)
+    private String resolution;          // CONFIRMED_FRAUD, LEGITIMATE
+
+    @Column(length = 255)
+    private String resolutionNote;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column
+    private LocalDateTime resolvedAt;
+
+    // ---------- Constructors ----------
+
+    public ReviewCase() {
+        // Required by JPA
+    }
+
+    // ---------- Getters & Setters ----------
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public void setTransactionId(String transactionId) {
+        this.transactionId = transactionId;
+    }
+
+    public String getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(String accountId) {
+        this.accountId = accountId;
+    }
+
+    public Double getAmount() {
+        return amount;
+    }
+
+    public void setAmount(Double amount) {
+        this.amount = amount;
+    }
+
+    public Integer getFinalRiskScore() {
+        return finalRiskScore;
+    }
+
+    public void setFinalRiskScore(Integer finalRiskScore) {
+        this.finalRiskScore = finalRiskScore;
+    }
+
+    public String getRiskLevel() {
+        return riskLevel;
+    }
+
+    public void setRiskLevel(String riskLevel) {
+        this.riskLevel = riskLevel;
+    }
+
+    public Long getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Long priority) {
+        this.priority = priority;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+
+    public void setClaimedBy(String claimedBy) {
+        this.claimedBy = claimedBy;
+    }
+
+    public LocalDateTime getLeaseUntil() {
+        return leaseUntil;
+    }
+
+    public void setLeaseUntil(LocalDateTime leaseUntil) {
+        this.leaseUntil = leaseUntil;
+    }
+
+    public Integer getClaimCount() {
+        return claimCount;
+    }
+
+    public void setClaimCount(Integer claimCount) {
+        this.claimCount = claimCount;
+    }
+
+    public String getResolution() {
+        return resolution;
+    }
+
+    public void setResolution(String resolution) {
+        this.resolution = resolution;
+    }
+
+    public String getResolutionNote() {
+        return resolutionNote;
+    }
+
+    public void setResolutionNote(String resolutionNote) {
+        this.resolutionNote = resolutionNote;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getResolvedAt() {
+        return resolvedAt;
+    }
+
+    public void setResolvedAt(LocalDateTime resolvedAt) {
+        this.resolvedAt = resolvedAt;
+    }
+}
@@ -7,18 +7,25 @@ import java.time.LocalDateTime;
 @Table(
         name = "transactions",
         indexes = {
-                @Index(name = "idx_account_id", columnList = "accountId"),
+                @Index(name = "idx_account_time", columnList = "accountId, transactionTime"),
+                @Index(name = "idx_transaction_ref", columnList = "transactionId"),
                 @Index(name = "idx_transaction_time", columnList = "transactionTime"),
                 @Index(name = "idx_status", columnList = "status")
         }
 )
+// Schema is managed by Flyway (db/migration): the table is range-partitioned
+// by month on transaction_time, so transactionId uniqueness is enforced by
+// TransactionService rather than a global unique key.
 public class Transaction {
 
+    // Pooled (hi/lo style) allocation keeps JDBC insert batching possible;
+    // IDENTITY forces an immediate insert per persist.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transaction_id_gen")
+    @SequenceGenerator(name = "transaction_id_gen", sequenceName = "transactions_seq", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 30)
+    @Column(nullable = false, length = 30)
     private String transactionId;
 
     @Column(nullable = false, length = 20)
@@ -66,6 +73,9 @@ public class Transaction {
     @Column(nullable = false)
     private Long processingTimeMs;
 
+    @Column(length = 512)
+    private String explanation;         // FraudExplanation, compact form
+
     // ---------- Constructors ----------
 
     public Transaction() {
@@ -205,4 +215,12 @@ public class Transaction {
     public void setProcessingTimeMs(Long processingTimeMs) {
         this.processingTimeMs = processingTimeMs;
     }
+
+    public String getExplanation() {
+        return explanation;
+    }
+
+    public void setExplanation(String explanation) {
+        this.explanation = explanation;
+    }
 }
@@ -0,0 +1,110 @@
+package com.bank.fraud.pipeline;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class AccountShardedExecutor {
+
+    /*
+     * N single-threaded lanes; an account always maps to the same lane.
+     *
+     * Work for one account therefore runs strictly one at a time and in
+     * submission order (velocity reads see the previous commit, block
+     * counters are never updated concurrently), while different accounts
+     * spread across all lanes with no shared lock.
+     */
+
+    private static final Logger log = LoggerFactory.getLogger(AccountShardedExecutor.class);
+
+    private final ThreadPoolExecutor[] lanes;
+
+    public AccountShardedExecutor(
+            @Value("${account-lanes.count:16}") int laneCount,
+            @Value("${account-lanes.queue-capacity:1000}") int queueCapacity
+    ) {
+        this.lanes = new ThreadPoolExecutor[laneCount];
+
+        for (int i = 0; i < laneCount; i++) {
+            String threadName = "account-lane-" + i;
+            lanes[i] = new ThreadPoolExecutor(
+                    1,
+                    1,
+                    0L,
+                    TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, threadName);
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    new ThreadPoolExecutor.AbortPolicy()
+            );
+        }
+    }
+
+    // --------------------------------------------------
+    // SUBMIT (ORDERED PER ACCOUNT)
+    // --------------------------------------------------
+
+    public <T> CompletableFuture<T> submit(String accountId, Supplier<T> task) {
+
+        try {
+            return CompletableFuture.supplyAsync(task, lanes[laneOf(accountId, lanes.length)]);
+        } catch (RejectedExecutionException e) {
+            // Lane queue full: fail fast rather than queueing unbounded work
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("Account lane saturated, retry later"));
+        }
+    }
+
+    /**
+     * Lane for an account; shared with the staged pipeline so both
+     * paths partition accounts the same way.
+     */
+    public static int laneOf(String accountId, int laneCount) {
+        int hash = accountId.hashCode();
+        hash ^= (hash >>> 16);                  // spread low-entropy ids like ACC001..ACC999
+        return Math.floorMod(hash * 0x9E3779B9, laneCount);
+    }
+
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    public int getQueuedTasks() {
+        int queued = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            queued += lane.getQueue().size();
+        }
+        return queued;
+    }
+
+    // --------------------------------------------------
+    // SHUTDOWN
+    // --------------------------------------------------
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        for (ThreadPoolExecutor lane : lanes) {
+            if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Account lane did not drain within 10s, {} tasks dropped",
+                        lane.shutdownNow().size());
+            }
+        }
+    }
+}
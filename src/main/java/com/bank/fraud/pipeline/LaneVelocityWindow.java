@@ -0,0 +1,99 @@
+package com.bank.fraud.pipeline;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Recent transaction times per account for one decision lane.
+ *
+ * A lane decides every transaction of its accounts, so it knows about
+ * decisions the persistence stage has not committed yet; counting from
+ * MySQL instead would miss them. Only the last minCount times are kept —
+ * enough to answer "at least N in the window" — and an account is seeded
+ * from the committed rows the first time the lane sees it (or sees it
+ * again after a quiet window). Not thread-safe: owned by the lane thread.
+ */
+final class LaneVelocityWindow {
+
+    private final int minCount;
+    private final long windowMillis;
+
+    // account -> ring of the last minCount epoch millis; slot [minCount] counts writes
+    private final Map<String, long[]> recent = new HashMap<>();
+    private long lastSweepMillis;
+
+    LaneVelocityWindow(int minCount, long windowMillis) {
+        this.minCount = minCount;
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * Earlier transactions of the account inside the window, capped at minCount.
+     *
+     * @param seed committed transaction times (epoch millis, newest first) for an account not tracked yet
+     */
+    int countRecent(String accountId, long nowMillis, Function<String, List<Long>> seed) {
+
+        long[] ring = recent.get(accountId);
+        if (ring == null) {
+            ring = newRing();
+            List<Long> committed = seed.apply(accountId);
+            for (int i = committed.size() - 1; i >= 0; i--) {
+                append(ring, committed.get(i));      // oldest first, so the last write is the newest
+            }
+            recent.put(accountId, ring);
+        }
+
+        long from = nowMillis - windowMillis;
+        int count = 0;
+        for (int i = 0; i < minCount; i++) {
+            if (ring[i] >= from) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Adds a decided transaction; call after countRecent for the same account.
+     */
+    void record(String accountId, long nowMillis) {
+        long[] ring = recent.get(accountId);
+        if (ring != null) {
+            append(ring, nowMillis);
+        }
+        sweep(nowMillis);
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    // Accounts quiet for a whole window are dropped, and re-seeded if they come back
+    private void sweep(long nowMillis) {
+        if (nowMillis - lastSweepMillis < windowMillis) {
+            return;
+        }
+        lastSweepMillis = nowMillis;
+        long cutoff = nowMillis - windowMillis;
+        recent.values().removeIf(ring -> newest(ring) < cutoff);
+    }
+
+    private long[] newRing() {
+        long[] ring = new long[minCount + 1];
+        for (int i = 0; i < minCount; i++) {
+            ring[i] = Long.MIN_VALUE;
+        }
+        return ring;
+    }
+
+    private void append(long[] ring, long millis) {
+        ring[(int) (ring[minCount]++ % minCount)] = millis;
+    }
+
+    private long newest(long[] ring) {
+        return ring[minCount] == 0 ? Long.MIN_VALUE : ring[(int) ((ring[minCount] - 1) % minCount)];
+    }
+}
@@ -0,0 +1,88 @@
+package com.bank.fraud.pipeline;
+
+import com.bank.fraud.eventlog.DecisionEvent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Local spool for pipeline batches that were acknowledged (ack-mode
+ * DECISION) but could not be committed. One JSON-lines file of
+ * DecisionEvents per batch, fsynced and moved into place atomically, so a
+ * crash leaves either a complete file or none.
+ */
+final class PersistenceSpool {
+
+    private static final String SUFFIX = ".jsonl";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong sequence = new AtomicLong();
+
+    PersistenceSpool(Path directory, ObjectMapper objectMapper) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.objectMapper = objectMapper;
+    }
+
+    Path write(List<DecisionEvent> decisions) throws IOException {
+
+        StringBuilder lines = new StringBuilder();
+        for (DecisionEvent decision : decisions) {
+            lines.append(objectMapper.writeValueAsString(decision)).append('\n');
+        }
+
+        String name = String.format("batch-%d-%06d", System.currentTimeMillis(), sequence.incrementAndGet());
+        Path temp = directory.resolve(name + ".tmp");
+        Path target = directory.resolve(name + SUFFIX);
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        return Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Spooled batches, oldest first.
+     */
+    List<Path> pending() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    List<DecisionEvent> read(Path file) throws IOException {
+        List<DecisionEvent> decisions = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                decisions.add(objectMapper.readValue(line, DecisionEvent.class));
+            }
+        }
+        return decisions;
+    }
+
+    void delete(Path file) throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+}
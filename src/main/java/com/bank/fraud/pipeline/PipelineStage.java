@@ -0,0 +1,100 @@
+package com.bank.fraud.pipeline;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A single-threaded consumer of the ring. It waits until its upstream
+ * sequences have moved past its own, hands the whole available range to
+ * the handler in one call (natural batching under load), then advances.
+ */
+final class PipelineStage implements Runnable {
+
+    /**
+     * Processes the inclusive range [from, to]. Must not throw.
+     */
+    interface Handler {
+        void onBatch(TransactionRingBuffer ring, long from, long to);
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(PipelineStage.class);
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+
+    private final String name;
+    private final TransactionRingBuffer ring;
+    private final Sequence[] dependencies;
+    private final Handler handler;
+    private final int maxBatch;
+    private final long idleParkNanos;
+
+    private final Sequence sequence = new Sequence(-1);
+    private volatile boolean running = true;
+
+    PipelineStage(
+            String name,
+            TransactionRingBuffer ring,
+            Sequence[] dependencies,
+            Handler handler,
+            int maxBatch,
+            long idleParkNanos
+    ) {
+        this.name = name;
+        this.ring = ring;
+        this.dependencies = dependencies;
+        this.handler = handler;
+        this.maxBatch = maxBatch;
+        this.idleParkNanos = idleParkNanos;
+    }
+
+    @Override
+    public void run() {
+
+        long next = sequence.get() + 1;
+        int idle = 0;
+
+        while (running) {
+            long available = Sequence.minimum(dependencies, Long.MAX_VALUE);
+
+            if (available < next) {
+                // Spin -> yield -> park: low latency when busy, cheap when idle
+                if (idle < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else if (idle < SPIN_TRIES + YIELD_TRIES) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(idleParkNanos);
+                }
+                idle++;
+                continue;
+            }
+            idle = 0;
+
+            long end = Math.min(available, next + maxBatch - 1);
+            try {
+                handler.onBatch(ring, next, end);
+            } catch (RuntimeException e) {
+                // A handler bug must not stall the ring
+                log.error("Pipeline stage {} failed on [{}, {}]", name, next, end, e);
+            }
+
+            sequence.set(end);
+            next = end + 1;
+        }
+    }
+
+    void halt() {
+        running = false;
+    }
+
+    Sequence getSequence() {
+        return sequence;
+    }
+
+    String getName() {
+        return name;
+    }
+}
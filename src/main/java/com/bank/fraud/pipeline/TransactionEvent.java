@@ -0,0 +1,56 @@
+package com.bank.fraud.pipeline;
+
+import com.bank.fraud.dto.FraudScoreDTO;
+import com.bank.fraud.dto.TransactionRequestDTO;
+import com.bank.fraud.dto.TransactionResponseDTO;
+import com.bank.fraud.model.Transaction;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * One ring buffer slot. Slots are allocated once at start-up and reused
+ * for every transaction that passes through that position; stages hand
+ * results to each other by writing fields, never by allocating messages.
+ */
+final class TransactionEvent {
+
+    // Written by the producer
+    TransactionRequestDTO request;
+    boolean degraded;               // Admitted under overload: rule-only scoring, deferred audit
+    long startMillis;
+    CompletableFuture<TransactionResponseDTO> reply;
+
+    // Written by the decision stage
+    FraudScoreDTO fraudScore;
+    Transaction transaction;
+    TransactionResponseDTO response;
+    boolean rejected;               // Duplicate / blocked / scoring error: nothing to persist
+
+    // Written by the persistence stage
+    boolean persisted;
+
+    void prepare(
+            TransactionRequestDTO request,
+            boolean degraded,
+            CompletableFuture<TransactionResponseDTO> reply
+    ) {
+        this.request = request;
+        this.degraded = degraded;
+        this.startMillis = System.currentTimeMillis();
+        this.reply = reply;
+        this.fraudScore = null;
+        this.transaction = null;
+        this.response = null;
+        this.rejected = false;
+        this.persisted = false;
+    }
+
+    // Drop references once the last stage is done so a slot doesn't pin old data
+    void clear() {
+        this.request = null;
+        this.reply = null;
+        this.fraudScore = null;
+        this.transaction = null;
+        this.response = null;
+    }
+}
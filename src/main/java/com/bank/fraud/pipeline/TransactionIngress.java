@@ -0,0 +1,98 @@
+package com.bank.fraud.pipeline;
+
+import com.bank.fraud.admission.AdmissionDecision;
+import com.bank.fraud.admission.AdmissionService;
+import com.bank.fraud.dto.TransactionRequestDTO;
+import com.bank.fraud.dto.TransactionResponseDTO;
+import com.bank.fraud.metrics.FraudMetrics;
+import com.bank.fraud.ratelimit.TransactionRateLimiter;
+import com.bank.fraud.service.TransactionService;
+import com.bank.fraud.startup.StartupMetrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Single entry point for processing a transaction on this node, used by
+ * the public API and by requests forwarded from other cluster members.
+ */
+@Component
+public class TransactionIngress {
+
+    private final TransactionService transactionService;
+    private final AccountShardedExecutor accountShardedExecutor;
+    private final AdmissionService admissionService;
+    private final TransactionRateLimiter transactionRateLimiter;
+    private final StartupMetrics startupMetrics;
+    private final FraudMetrics fraudMetrics;
+    private final TransactionPipeline transactionPipeline;   // null unless pipeline.enabled
+
+    public TransactionIngress(
+            TransactionService transactionService,
+            AccountShardedExecutor accountShardedExecutor,
+            AdmissionService admissionService,
+            TransactionRateLimiter transactionRateLimiter,
+            StartupMetrics startupMetrics,
+            FraudMetrics fraudMetrics,
+            ObjectProvider<TransactionPipeline> transactionPipeline
+    ) {
+        this.transactionService = transactionService;
+        this.accountShardedExecutor = accountShardedExecutor;
+        this.admissionService = admissionService;
+        this.transactionRateLimiter = transactionRateLimiter;
+        this.startupMetrics = startupMetrics;
+        this.fraudMetrics = fraudMetrics;
+        this.transactionPipeline = transactionPipeline.getIfAvailable();
+    }
+
+    public CompletableFuture<TransactionResponseDTO> processLocally(TransactionRequestDTO request) {
+
+        long start = System.nanoTime();
+
+        // Rate limits (REJECT mode): cut off card-testing bursts before any DB work
+        if (transactionRateLimiter.isRejectMode()
+                && transactionRateLimiter.check(request).isLimited()) {
+            return reject(HttpStatus.TOO_MANY_REQUESTS, "Rate limit exceeded", start);
+        }
+
+        // Admission control: shed before any work is queued
+        AdmissionService.Permit permit = admissionService.tryAcquire(request);
+        if (permit.decision() == AdmissionDecision.SHED) {
+            return reject(HttpStatus.SERVICE_UNAVAILABLE, "Overloaded, retry later", start);
+        }
+
+        CompletableFuture<TransactionResponseDTO> result;
+
+        if (transactionPipeline != null) {
+            // Pipeline mode: the request thread is released as soon as the event is published
+            result = transactionPipeline.submit(request, permit.isDegraded());
+        } else {
+            // Same-account requests run one at a time, in order, on the account's lane
+            result = accountShardedExecutor.submit(
+                    request.getAccountId(),
+                    () -> transactionService.processTransaction(request, permit.isDegraded())
+            );
+        }
+
+        return result.whenComplete((response, error) -> {
+            long latencyNanos = System.nanoTime() - start;
+            admissionService.release(permit, response);
+            startupMetrics.recordRequestLatency(latencyNanos);
+            if (response != null) {
+                fraudMetrics.recordTransaction(response, latencyNanos);
+            } else {
+                fraudMetrics.recordRejected(error, latencyNanos);
+            }
+        });
+    }
+
+    private CompletableFuture<TransactionResponseDTO> reject(HttpStatus status, String reason, long start) {
+        ResponseStatusException error = new ResponseStatusException(status, reason);
+        fraudMetrics.recordRejected(error, System.nanoTime() - start);
+        return CompletableFuture.failedFuture(error);
+    }
+}
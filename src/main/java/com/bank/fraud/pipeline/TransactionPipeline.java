@@ -0,0 +1,599 @@
+package com.bank.fraud.pipeline;
+
+import com.bank.fraud.drift.DriftMonitorService;
+import com.bank.fraud.dto.FraudScoreDTO;
+import com.bank.fraud.dto.TransactionRequestDTO;
+import com.bank.fraud.dto.TransactionResponseDTO;
+import com.bank.fraud.eventlog.DecisionEvent;
+import com.bank.fraud.metrics.FraudMetrics;
+import com.bank.fraud.model.Transaction;
+import com.bank.fraud.repository.TransactionRepository;
+import com.bank.fraud.service.AccountBlockService;
+import com.bank.fraud.service.AlertService;
+import com.bank.fraud.service.AuditLogService;
+import com.bank.fraud.service.ReviewCaseService;
+import com.bank.fraud.service.DashboardStreamService;
+import com.bank.fraud.service.FraudDetectionService;
+import com.bank.fraud.service.FraudPolicy;
+import com.bank.fraud.service.TransactionIdRegistry;
+import com.bank.fraud.service.TransactionService;
+import com.bank.fraud.shadow.ShadowScoringService;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "pipeline.enabled", havingValue = "true")
+public class TransactionPipeline {
+
+    /*
+     * Staged alternative to TransactionService.processTransaction.
+     *
+     *   request threads ──► [ring] ──► decision (N lanes) ──► persistence ──► alerts
+     *
+     * Decision lanes are chosen by account hash, so one account is always
+     * decided by the same thread, in arrival order. Persistence commits
+     * everything the decision lanes have released in one JDBC batch.
+     * The HTTP reply completes after the decision (ack-mode DECISION) or
+     * after the batch commit (ack-mode DURABLE); either way nothing is
+     * acknowledged as persisted until its batch has committed.
+     *
+     * A batch that fails to commit is retried with backoff. If it still
+     * fails, DURABLE replies fail; DECISION replies have already gone out,
+     * so the batch is spooled to local disk and replayed until it commits.
+     *
+     * Velocity counts come from the lane, not MySQL: the lane has seen
+     * every decision for its accounts, including those still waiting for
+     * the persistence stage.
+     *
+     * Requests admitted while degraded are scored rule-only and audited by
+     * the deferred flush after their batch commits, as on the direct path.
+     * Event log mode is not supported; startup fails if both are enabled.
+     */
+
+    public enum AckMode {
+        DECISION,
+        DURABLE
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionPipeline.class);
+
+    private final TransactionRepository transactionRepository;
+    private final FraudDetectionService fraudDetectionService;
+    private final AccountBlockService accountBlockService;
+    private final AlertService alertService;
+    private final AuditLogService auditLogService;
+    private final ReviewCaseService reviewCaseService;
+    private final ShadowScoringService shadowScoringService;
+    private final DashboardStreamService dashboardStreamService;
+    private final TransactionService transactionService;
+    private final TransactionIdRegistry transactionIdRegistry;
+    private final FraudMetrics fraudMetrics;
+    private final DriftMonitorService driftMonitorService;
+    private final TransactionTemplate transactionTemplate;
+    private final PersistenceSpool spool;
+
+    private final AckMode ackMode;
+    private final long claimTimeoutNanos;
+    private final int persistAttempts;
+    private final long persistBackoffMs;
+
+    private final TransactionRingBuffer ring;
+    private final List<PipelineStage> stages = new ArrayList<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private final PipelineStage alertStage;
+    private final LaneVelocityWindow[] velocityWindows;
+
+    // Transaction ids decided but not yet persisted (duplicate check)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public TransactionPipeline(
+            TransactionRepository transactionRepository,
+            FraudDetectionService fraudDetectionService,
+            AccountBlockService accountBlockService,
+            AlertService alertService,
+            AuditLogService auditLogService,
+            ReviewCaseService reviewCaseService,
+            ShadowScoringService shadowScoringService,
+            DashboardStreamService dashboardStreamService,
+            TransactionService transactionService,
+            TransactionIdRegistry transactionIdRegistry,
+            FraudMetrics fraudMetrics,
+            DriftMonitorService driftMonitorService,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            @Value("${pipeline.ring-size:65536}") int ringSize,
+            @Value("${pipeline.decision-lanes:4}") int decisionLanes,
+            @Value("${pipeline.persistence-batch-size:500}") int persistenceBatchSize,
+            @Value("${pipeline.ack-mode:DECISION}") AckMode ackMode,
+            @Value("${pipeline.claim-timeout-ms:50}") long claimTimeoutMs,
+            @Value("${pipeline.idle-park-micros:50}") long idleParkMicros,
+            @Value("${pipeline.persist-attempts:3}") int persistAttempts,
+            @Value("${pipeline.persist-backoff-ms:200}") long persistBackoffMs,
+            @Value("${pipeline.spool-directory:./pipeline-spool}") String spoolDirectory,
+            @Value("${eventlog.enabled:false}") boolean eventLogEnabled
+    ) throws IOException {
+        // The persistence stage writes MySQL directly; it knows nothing of the log or its projectors
+        if (eventLogEnabled) {
+            throw new IllegalStateException("pipeline.enabled and eventlog.enabled cannot both be true");
+        }
+
+        this.transactionRepository = transactionRepository;
+        this.fraudDetectionService = fraudDetectionService;
+        this.accountBlockService = accountBlockService;
+        this.alertService = alertService;
+        this.auditLogService = auditLogService;
+        this.reviewCaseService = reviewCaseService;
+        this.shadowScoringService = shadowScoringService;
+        this.dashboardStreamService = dashboardStreamService;
+        this.transactionService = transactionService;
+        this.transactionIdRegistry = transactionIdRegistry;
+        this.fraudMetrics = fraudMetrics;
+        this.driftMonitorService = driftMonitorService;
+        this.transactionTemplate = transactionTemplate;
+        this.ackMode = ackMode;
+        this.claimTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(claimTimeoutMs);
+        this.persistAttempts = Math.max(1, persistAttempts);
+        this.persistBackoffMs = persistBackoffMs;
+        this.spool = new PersistenceSpool(Paths.get(spoolDirectory), objectMapper);
+
+        this.ring = new TransactionRingBuffer(ringSize);
+        long idleParkNanos = TimeUnit.MICROSECONDS.toNanos(idleParkMicros);
+
+        // 1️⃣ Decision lanes, all reading straight off the cursor
+        Sequence[] decisionSequences = new Sequence[decisionLanes];
+        this.velocityWindows = new LaneVelocityWindow[decisionLanes];
+        for (int lane = 0; lane < decisionLanes; lane++) {
+            velocityWindows[lane] = new LaneVelocityWindow(
+                    FraudPolicy.VELOCITY_MIN_COUNT,
+                    TimeUnit.MINUTES.toMillis(FraudPolicy.VELOCITY_WINDOW_MINUTES)
+            );
+            int ownLane = lane;
+            PipelineStage stage = new PipelineStage(
+                    "decision-" + lane,
+                    ring,
+                    new Sequence[]{ring.getCursor()},
+                    (r, from, to) -> decide(r, from, to, ownLane, decisionLanes),
+                    persistenceBatchSize,
+                    idleParkNanos
+            );
+            decisionSequences[lane] = stage.getSequence();
+            stages.add(stage);
+        }
+
+        // 2️⃣ Persistence, gated on every decision lane
+        PipelineStage persistenceStage = new PipelineStage(
+                "persistence",
+                ring,
+                decisionSequences,
+                this::persist,
+                persistenceBatchSize,
+                idleParkNanos
+        );
+        stages.add(persistenceStage);
+
+        // 3️⃣ Alerts / dashboard, then the slot is free again
+        this.alertStage = new PipelineStage(
+                "alerts",
+                ring,
+                new Sequence[]{persistenceStage.getSequence()},
+                this::alert,
+                persistenceBatchSize,
+                idleParkNanos
+        );
+        stages.add(alertStage);
+
+        ring.setGatingSequences(alertStage.getSequence());
+
+        for (PipelineStage stage : stages) {
+            Thread thread = new Thread(stage, "tx-pipeline-" + stage.getName());
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+
+        log.info("Transaction pipeline started: ring={} decisionLanes={} batch={} ack={}",
+                ringSize, decisionLanes, persistenceBatchSize, ackMode);
+    }
+
+    // --------------------------------------------------
+    // PRODUCER (HTTP REQUEST THREADS)
+    // --------------------------------------------------
+
+    /**
+     * @param degraded under overload: rule-only scoring and deferred audit
+     */
+    public CompletableFuture<TransactionResponseDTO> submit(TransactionRequestDTO request, boolean degraded) {
+
+        CompletableFuture<TransactionResponseDTO> reply = new CompletableFuture<>();
+
+        long sequence = ring.tryClaim(claimTimeoutNanos);
+        if (sequence < 0) {
+            reply.completeExceptionally(new IllegalStateException("Transaction pipeline saturated"));
+            return reply;
+        }
+
+        ring.get(sequence).prepare(request, degraded, reply);
+        ring.publish(sequence);
+
+        return reply;
+    }
+
+    public long getBacklog() {
+        return ring.getClaimed() - alertStage.getSequence().get();
+    }
+
+    // --------------------------------------------------
+    // STAGE 1: DECISION
+    // --------------------------------------------------
+
+    private void decide(TransactionRingBuffer r, long from, long to, int lane, int lanes) {
+
+        LaneVelocityWindow velocity = velocityWindows[lane];
+
+        for (long sequence = from; sequence <= to; sequence++) {
+            TransactionEvent event = r.get(sequence);
+            if (AccountShardedExecutor.laneOf(event.request.getAccountId(), lanes) != lane) {
+                continue;
+            }
+
+            try {
+                TransactionRequestDTO request = event.request;
+
+                // Duplicate check covers both committed and in-flight transactions
+                if (!inFlight.add(request.getTransactionId())) {
+                    reject(event, new IllegalArgumentException("Duplicate transaction detected"), false);
+                    continue;
+                }
+                if (transactionRepository.existsByTransactionId(request.getTransactionId())) {
+                    reject(event, new IllegalArgumentException("Duplicate transaction detected"), true);
+                    continue;
+                }
+
+                if (accountBlockService.isAccountBlocked(request.getAccountId())) {
+                    reject(event, new IllegalStateException("Account is temporarily blocked"), true);
+                    continue;
+                }
+
+                long now = System.currentTimeMillis();
+                int recentTxnCount = velocity.countRecent(request.getAccountId(), now, this::committedTimes);
+                FraudScoreDTO fraudScore = fraudDetectionService.evaluateFraud(request, event.degraded, recentTxnCount);
+                velocity.record(request.getAccountId(), now);
+                shadowScoringService.submit(request, fraudScore);
+
+                String status;
+                if ("HIGH".equals(fraudScore.getRiskLevel())) {
+                    status = "BLOCKED";
+                    accountBlockService.blockAccount(request.getAccountId(), fraudScore.getRuleTriggers());
+                } else {
+                    status = "SUCCESS";
+                    if ("MEDIUM".equals(fraudScore.getRiskLevel())) {
+                        accountBlockService.recordStrike(
+                                request.getAccountId(), "MEDIUM", fraudScore.getRuleTriggers());
+                    }
+                }
+
+                Transaction transaction = transactionService.buildTransactionEntity(
+                        request, fraudScore, status, event.startMillis
+                );
+
+                event.fraudScore = fraudScore;
+                event.transaction = transaction;
+                event.response = transactionService.buildResponseDTO(transaction);
+
+                if (ackMode == AckMode.DECISION) {
+                    event.reply.complete(event.response);
+                }
+            } catch (RuntimeException e) {
+                reject(event, e, true);
+            }
+        }
+    }
+
+    // --------------------------------------------------
+    // STAGE 2: BATCHED PERSISTENCE
+    // --------------------------------------------------
+
+    private void persist(TransactionRingBuffer r, long from, long to) {
+
+        List<Transaction> decided = new ArrayList<>((int) (to - from + 1));
+        Set<String> degraded = new HashSet<>();
+        for (long sequence = from; sequence <= to; sequence++) {
+            TransactionEvent event = r.get(sequence);
+            if (!event.rejected) {
+                decided.add(event.transaction);
+                if (event.degraded) {
+                    degraded.add(event.request.getTransactionId());
+                }
+            }
+        }
+
+        if (decided.isEmpty()) {
+            return;
+        }
+
+        RuntimeException failure = null;
+        boolean retried = false;
+        Set<String> duplicates = Set.of();
+        try {
+            duplicates = transactionTemplate.execute(status -> {
+                // The decision stage's exists-check can race with another node or the direct path
+                Set<String> taken = transactionIdRegistry.claimAll(
+                        decided.stream().map(Transaction::getTransactionId).toList());
+
+                List<Transaction> batch = new ArrayList<>(decided.size());
+                List<Transaction> audited = new ArrayList<>(decided.size());
+                List<Transaction> frauds = new ArrayList<>();
+                for (Transaction transaction : decided) {
+                    if (!taken.contains(transaction.getTransactionId())) {
+                        batch.add(transaction);
+                        if (!degraded.contains(transaction.getTransactionId())) {
+                            audited.add(transaction);
+                        }
+                        if (Boolean.TRUE.equals(transaction.getFraudDetected())) {
+                            frauds.add(transaction);
+                        }
+                    }
+                }
+
+                if (!batch.isEmpty()) {
+                    transactionRepository.saveAll(batch);
+                    if (!audited.isEmpty()) {
+                        auditLogService.logTransactionEvents(audited);
+                    }
+                    reviewCaseService.openCases(batch);
+                    alertService.enqueueEmailAlerts(frauds);
+                }
+                return taken;
+            });
+        } catch (RuntimeException e) {
+            retried = true;
+            failure = retryOrSpool(decisionsOf(r, from, to), e);
+        }
+
+        for (long sequence = from; sequence <= to; sequence++) {
+            TransactionEvent event = r.get(sequence);
+            if (event.rejected) {
+                continue;
+            }
+            inFlight.remove(event.request.getTransactionId());
+
+            if (duplicates.contains(event.request.getTransactionId())) {
+                rejectDuplicate(event);
+                continue;
+            }
+            event.persisted = failure == null;
+
+            // Degraded: audit row written by the deferred flush (a retried batch audits inline instead)
+            if (event.degraded && event.persisted && !retried) {
+                auditLogService.logTransactionEventDeferred(event.transaction);
+            }
+
+            // Committed, or acknowledged and spooled for replay
+            if (failure == null || ackMode == AckMode.DECISION) {
+                fraudMetrics.recordDecision(event.fraudScore);
+                driftMonitorService.record(event.request, event.fraudScore);
+            }
+
+            if (ackMode == AckMode.DURABLE) {
+                if (failure == null) {
+                    event.reply.complete(event.response);
+                } else {
+                    event.reply.completeExceptionally(failure);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retries a failed batch; if it still fails, spools it (DECISION mode).
+     *
+     * @return null once the batch has committed, otherwise the last failure
+     */
+    private RuntimeException retryOrSpool(List<DecisionEvent> decisions, RuntimeException firstFailure) {
+
+        RuntimeException failure = firstFailure;
+        long backoffMs = persistBackoffMs;
+
+        for (int attempt = 2; attempt <= persistAttempts; attempt++) {
+            log.warn("Pipeline batch of {} transactions failed to persist (attempt {} of {}): {}",
+                    decisions.size(), attempt - 1, persistAttempts, failure.getMessage());
+            try {
+                TimeUnit.MILLISECONDS.sleep(backoffMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            backoffMs *= 2;
+
+            try {
+                persistDecisions(decisions);
+                return null;
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+
+        if (ackMode == AckMode.DURABLE) {
+            log.error("Pipeline batch of {} transactions failed to persist, replies failed",
+                    decisions.size(), failure);
+            return failure;
+        }
+
+        // Already acknowledged: must reach the database eventually
+        try {
+            Path file = spool.write(decisions);
+            log.error("Pipeline batch of {} acknowledged transactions failed to persist, spooled to {}",
+                    decisions.size(), file, failure);
+        } catch (IOException e) {
+            log.error("Pipeline batch could not be spooled; acknowledged transactions lost: {}",
+                    decisions.stream().map(DecisionEvent::transactionId).toList(), e);
+        }
+        return failure;
+    }
+
+    @Scheduled(fixedDelayString = "${pipeline.spool-replay-ms:30000}")
+    public void replaySpool() {
+
+        try {
+            for (Path file : spool.pending()) {
+                List<DecisionEvent> decisions = spool.read(file);
+                persistDecisions(decisions);
+                spool.delete(file);
+                log.info("Replayed {} spooled pipeline transactions from {}", decisions.size(), file);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Database still unavailable (or spool unreadable): try again next round
+            log.warn("Pipeline spool replay from {} failed: {}", spool.getDirectory(), e.getMessage());
+        }
+    }
+
+    // --------------------------------------------------
+    // STAGE 3: DASHBOARD ALERTS (EMAIL IS IN THE OUTBOX ALREADY)
+    // --------------------------------------------------
+
+    private void alert(TransactionRingBuffer r, long from, long to) {
+
+        for (long sequence = from; sequence <= to; sequence++) {
+            TransactionEvent event = r.get(sequence);
+            try {
+                if (event.persisted) {
+                    if (event.fraudScore.getFraudDetected()) {
+                        alertService.sendDashboardNotification(event.transaction);
+                    }
+                    dashboardStreamService.publishTransaction(event.response);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Pipeline alert failed for {}: {}",
+                        event.request.getTransactionId(), e.getMessage());
+            } finally {
+                event.clear();
+            }
+        }
+    }
+
+    // --------------------------------------------------
+    // SHUTDOWN (DRAIN, THEN STOP)
+    // --------------------------------------------------
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (getBacklog() > 0 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        if (getBacklog() > 0) {
+            log.warn("Transaction pipeline stopped with {} events not drained", getBacklog());
+        }
+
+        for (PipelineStage stage : stages) {
+            stage.halt();
+        }
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    // Fresh entities each time: a failed attempt may already have assigned ids to the old ones
+    private void persistDecisions(List<DecisionEvent> decisions) {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // Taken by a concurrent request, or by an earlier attempt that
+            // committed before its failure was reported: skip either way
+            Set<String> ids = new HashSet<>();
+            for (DecisionEvent decision : decisions) {
+                ids.add(decision.transactionId());
+            }
+            Set<String> existing = new HashSet<>(transactionIdRegistry.claimAll(ids));
+
+            List<Transaction> batch = new ArrayList<>(decisions.size());
+            List<Transaction> frauds = new ArrayList<>();
+            for (DecisionEvent decision : decisions) {
+                if (existing.add(decision.transactionId())) {
+                    Transaction transaction = decision.toTransaction();
+                    batch.add(transaction);
+                    if (Boolean.TRUE.equals(transaction.getFraudDetected())) {
+                        frauds.add(transaction);
+                    }
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                transactionRepository.saveAll(batch);
+                auditLogService.logTransactionEvents(batch);
+                reviewCaseService.openCases(batch);
+                alertService.enqueueEmailAlerts(frauds);
+            }
+        });
+    }
+
+    // Lost the ID to a concurrent request after the decision was made: nothing was stored
+    private void rejectDuplicate(TransactionEvent event) {
+        event.rejected = true;
+        if (ackMode == AckMode.DURABLE) {
+            event.reply.completeExceptionally(new IllegalArgumentException("Duplicate transaction detected"));
+        } else {
+            log.warn("Acknowledged pipeline transaction {} was a duplicate and was not stored",
+                    event.request.getTransactionId());
+        }
+    }
+
+    private List<DecisionEvent> decisionsOf(TransactionRingBuffer r, long from, long to) {
+        List<DecisionEvent> decisions = new ArrayList<>((int) (to - from + 1));
+        for (long sequence = from; sequence <= to; sequence++) {
+            TransactionEvent event = r.get(sequence);
+            if (!event.rejected) {
+                decisions.add(DecisionEvent.from(event.transaction, event.fraudScore.getRuleTriggers()));
+            }
+        }
+        return decisions;
+    }
+
+    // Seeds a lane's velocity window for an account it has not seen within the window
+    private List<Long> committedTimes(String accountId) {
+        ZoneId zone = ZoneId.systemDefault();
+        return transactionRepository.findRecentTransactionTimes(
+                        accountId,
+                        LocalDateTime.now().minusMinutes(FraudPolicy.VELOCITY_WINDOW_MINUTES),
+                        PageRequest.of(0, FraudPolicy.VELOCITY_MIN_COUNT)
+                ).stream()
+                .map(time -> time.atZone(zone).toInstant().toEpochMilli())
+                .toList();
+    }
+
+    private void reject(TransactionEvent event, RuntimeException cause, boolean releaseId) {
+        event.rejected = true;
+        if (releaseId) {
+            inFlight.remove(event.request.getTransactionId());
+        }
+        event.reply.completeExceptionally(cause);
+    }
+}
@@ -0,0 +1,91 @@
+package com.bank.fraud.pipeline;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Pre-allocated, power-of-two ring of {@link TransactionEvent} slots.
+ *
+ * Producers (request threads) claim a sequence with a CAS, fill the slot
+ * and publish in claim order. A claim can never lap the slowest gating
+ * stage, so the ring is also the pipeline's only queue and its only
+ * back-pressure point.
+ */
+final class TransactionRingBuffer {
+
+    private final TransactionEvent[] entries;
+    private final int mask;
+
+    private final Sequence claimed = new Sequence(-1);
+    private final Sequence cursor = new Sequence(-1);   // Highest published sequence
+    private Sequence[] gatingSequences = new Sequence[0];
+    private long cachedGatingMinimum = -1;
+
+    TransactionRingBuffer(int size) {
+        if (Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Ring size must be a power of two: " + size);
+        }
+        this.entries = new TransactionEvent[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            entries[i] = new TransactionEvent();
+        }
+    }
+
+    void setGatingSequences(Sequence... sequences) {
+        this.gatingSequences = sequences;
+    }
+
+    /**
+     * @return the claimed sequence, or -1 if no slot freed up within the timeout
+     */
+    long tryClaim(long timeoutNanos) {
+
+        long deadline = System.nanoTime() + timeoutNanos;
+
+        while (true) {
+            long current = claimed.get();
+            long next = current + 1;
+            long wrapPoint = next - entries.length;
+
+            if (wrapPoint > cachedGatingMinimum) {
+                long gatingMinimum = Sequence.minimum(gatingSequences, current);
+                if (wrapPoint > gatingMinimum) {
+                    if (System.nanoTime() >= deadline) {
+                        return -1;
+                    }
+                    LockSupport.parkNanos(1_000);
+                    continue;
+                }
+                cachedGatingMinimum = gatingMinimum;
+            }
+
+            if (claimed.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    TransactionEvent get(long sequence) {
+        return entries[(int) sequence & mask];
+    }
+
+    void publish(long sequence) {
+        // Publish in claim order so consumers only ever need the cursor
+        while (cursor.get() != sequence - 1) {
+            Thread.onSpinWait();
+        }
+        cursor.set(sequence);
+    }
+
+    Sequence getCursor() {
+        return cursor;
+    }
+
+    int getSize() {
+        return entries.length;
+    }
+
+    long getClaimed() {
+        return claimed.get();
+    }
+}
@@ -0,0 +1,36 @@
+package com.bank.fraud.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.bank.fraud.AuditFlush")
+@Label("Audit Flush")
+@Description("A batch of audit rows written to MySQL (pipeline batch or deferred-audit drain)")
+@Category({FraudEvents.CATEGORY, "Audit"})
+@StackTrace(false)
+public class AuditFlushEvent extends jdk.jfr.Event {
+
+    @Label("Source")
+    String source;
+
+    @Label("Records")
+    int records;
+
+    public static AuditFlushEvent start(String source) {
+        AuditFlushEvent event = new AuditFlushEvent();
+        event.source = source;
+        event.begin();
+        return event;
+    }
+
+    public void finish(int records) {
+        end();
+        if (shouldCommit()) {
+            this.records = records;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.bank.fraud.profiling;
+
+/**
+ * Shared helpers for the custom JFR events.
+ *
+ * Recordings leave the process (dumps, support bundles), so events carry a
+ * mixed hash of the accountId rather than the id itself; the hash is stable
+ * across a recording, which is enough to correlate events for one account.
+ */
+public final class FraudEvents {
+
+    public static final String CATEGORY = "Fraud Detection";
+
+    private FraudEvents() {
+    }
+
+    public static int accountHash(String accountId) {
+        if (accountId == null) {
+            return 0;
+        }
+        int h = accountId.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
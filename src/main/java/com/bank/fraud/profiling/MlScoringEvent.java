@@ -0,0 +1,36 @@
+package com.bank.fraud.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.bank.fraud.MlScoring")
+@Label("ML Scoring")
+@Description("One call to the ML fraud scorer")
+@Category({FraudEvents.CATEGORY, "ML"})
+@StackTrace(false)
+public class MlScoringEvent extends jdk.jfr.Event {
+
+    @Label("Account Hash")
+    int accountHash;
+
+    @Label("Score")
+    int score;
+
+    public static MlScoringEvent start(String accountId) {
+        MlScoringEvent event = new MlScoringEvent();
+        event.accountHash = FraudEvents.accountHash(accountId);
+        event.begin();
+        return event;
+    }
+
+    public void finish(int score) {
+        end();
+        if (shouldCommit()) {
+            this.score = score;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.bank.fraud.profiling;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class ProfilingService {
+
+    /*
+     * JFR recordings for the fraud decision path.
+     *
+     * A continuous recording runs from startup with the JDK "default"
+     * settings (about 1% overhead) plus the custom fraud events, cut by
+     * thresholds so only slow stages and rules are kept; it is a ring
+     * bounded by max-age / max-size and can be dumped at any time.
+     * On-demand recordings use the "profile" settings and keep every
+     * fraud event, and stop on their own after the requested duration.
+     */
+
+    private static final Logger log = LoggerFactory.getLogger(ProfilingService.class);
+
+    private static final String CONTINUOUS_NAME = "fraud-continuous";
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final boolean continuousEnabled;
+    private final Duration continuousMaxAge;
+    private final long continuousMaxSizeBytes;
+    private final String stageThreshold;
+    private final String ruleThreshold;
+    private final String mlThreshold;
+    private final Path dumpDirectory;
+    private final int maxOnDemandRecordings;
+    private final Duration maxOnDemandDuration;
+
+    private final Map<Long, Recording> recordings = new ConcurrentHashMap<>();
+    private volatile Recording continuous;
+
+    public ProfilingService(
+            @Value("${profiling.continuous.enabled:true}") boolean continuousEnabled,
+            @Value("${profiling.continuous.max-age-minutes:60}") long continuousMaxAgeMinutes,
+            @Value("${profiling.continuous.max-size-mb:100}") long continuousMaxSizeMb,
+            @Value("${profiling.continuous.stage-threshold:5 ms}") String stageThreshold,
+            @Value("${profiling.continuous.rule-threshold:1 ms}") String ruleThreshold,
+            @Value("${profiling.continuous.ml-threshold:2 ms}") String mlThreshold,
+            @Value("${profiling.dump-directory:./profiling}") String dumpDirectory,
+            @Value("${profiling.max-on-demand-recordings:2}") int maxOnDemandRecordings,
+            @Value("${profiling.max-on-demand-duration-minutes:30}") long maxOnDemandDurationMinutes
+    ) {
+        this.continuousEnabled = continuousEnabled;
+        this.continuousMaxAge = Duration.ofMinutes(continuousMaxAgeMinutes);
+        this.continuousMaxSizeBytes = continuousMaxSizeMb * 1024 * 1024;
+        this.stageThreshold = stageThreshold;
+        this.ruleThreshold = ruleThreshold;
+        this.mlThreshold = mlThreshold;
+        this.dumpDirectory = Paths.get(dumpDirectory);
+        this.maxOnDemandRecordings = maxOnDemandRecordings;
+        this.maxOnDemandDuration = Duration.ofMinutes(maxOnDemandDurationMinutes);
+    }
+
+    // --------------------------------------------------
+    // CONTINUOUS RECORDING
+    // --------------------------------------------------
+
+    @PostConstruct
+    public void startContinuous() {
+
+        if (!continuousEnabled) {
+            return;
+        }
+        // Native images built without --enable-monitoring=jfr have no recorder
+        if (!FlightRecorder.isAvailable()) {
+            log.warn("JFR is not available in this runtime; continuous recording not started");
+            return;
+        }
+
+        Map<String, String> settings = new HashMap<>(jdkSettings("default"));
+        settings.putAll(fraudEventSettings(stageThreshold, ruleThreshold, mlThreshold));
+
+        Recording recording = new Recording(settings);
+        recording.setName(CONTINUOUS_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(continuousMaxAge);
+        recording.setMaxSize(continuousMaxSizeBytes);
+        recording.start();
+
+        continuous = recording;
+        recordings.put(recording.getId(), recording);
+        log.info("Continuous JFR recording {} started (max-age={}, max-size={} bytes)",
+                recording.getId(), continuousMaxAge, continuousMaxSizeBytes);
+    }
+
+    // --------------------------------------------------
+    // ON-DEMAND RECORDINGS
+    // --------------------------------------------------
+
+    public synchronized Map<String, Object> start(String name, long durationMinutes) {
+
+        if (!FlightRecorder.isAvailable()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "JFR is not available in this runtime");
+        }
+
+        long active = recordings.values().stream()
+                .filter(r -> r != continuous && r.getState() == RecordingState.RUNNING)
+                .count();
+        if (active >= maxOnDemandRecordings) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "At most " + maxOnDemandRecordings + " on-demand recordings may run at once");
+        }
+
+        Duration duration = Duration.ofMinutes(Math.max(1, durationMinutes));
+        if (duration.compareTo(maxOnDemandDuration) > 0) {
+            duration = maxOnDemandDuration;
+        }
+
+        Map<String, String> settings = new HashMap<>(jdkSettings("profile"));
+        settings.putAll(fraudEventSettings("0 ns", "0 ns", "0 ns"));
+
+        Recording recording = new Recording(settings);
+        recording.setName(name != null && !name.isBlank() ? name : "fraud-on-demand");
+        recording.setToDisk(true);
+        recording.setDuration(duration);
+        recording.start();
+
+        recordings.put(recording.getId(), recording);
+        log.info("On-demand JFR recording {} '{}' started for {}", recording.getId(), recording.getName(), duration);
+        return describe(recording);
+    }
+
+    public Map<String, Object> stop(long id) {
+        Recording recording = find(id);
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        return describe(recording);
+    }
+
+    /**
+     * Writes the recording (or, for a running one, what it holds so far)
+     * to the dump directory and returns the file.
+     */
+    public Path dump(long id) {
+        Recording recording = find(id);
+        Path file = dumpDirectory.resolve(
+                recording.getName() + "-" + id + "-" + LocalDateTime.now().format(FILE_TIME) + ".jfr");
+        try {
+            Files.createDirectories(dumpDirectory);
+            recording.dump(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to dump JFR recording " + id, e);
+        }
+        return file;
+    }
+
+    public void close(long id) {
+        Recording recording = find(id);
+        if (recording == continuous) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "The continuous recording cannot be closed");
+        }
+        recordings.remove(id);
+        recording.close();
+    }
+
+    public List<Map<String, Object>> list() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Recording recording : recordings.values()) {
+            result.add(describe(recording));
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Recording recording : recordings.values()) {
+            recording.close();
+        }
+        recordings.clear();
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private Recording find(long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No recording with id " + id);
+        }
+        return recording;
+    }
+
+    private Map<String, String> fraudEventSettings(String stage, String rule, String ml) {
+        Map<String, String> settings = new HashMap<>();
+        settings.put("com.bank.fraud.TransactionStage#enabled", "true");
+        settings.put("com.bank.fraud.TransactionStage#threshold", stage);
+        settings.put("com.bank.fraud.RuleEvaluation#enabled", "true");
+        settings.put("com.bank.fraud.RuleEvaluation#threshold", rule);
+        settings.put("com.bank.fraud.MlScoring#enabled", "true");
+        settings.put("com.bank.fraud.MlScoring#threshold", ml);
+        settings.put("com.bank.fraud.AuditFlush#enabled", "true");
+        settings.put("com.bank.fraud.AuditFlush#threshold", "0 ns");
+        return settings;
+    }
+
+    private Map<String, String> jdkSettings(String configurationName) {
+        try {
+            return Configuration.getConfiguration(configurationName).getSettings();
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JFR configuration '" + configurationName + "' not available", e);
+        }
+    }
+
+    private Map<String, Object> describe(Recording recording) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("id", recording.getId());
+        description.put("name", recording.getName());
+        description.put("state", recording.getState());
+        description.put("continuous", recording == continuous);
+        description.put("startTime", recording.getStartTime());
+        description.put("duration", recording.getDuration());
+        description.put("sizeBytes", recording.getSize());
+        return description;
+    }
+}
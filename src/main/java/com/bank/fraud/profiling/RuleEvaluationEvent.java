@@ -0,0 +1,53 @@
+package com.bank.fraud.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.bank.fraud.RuleEvaluation")
+@Label("Rule Evaluation")
+@Description("One fraud rule evaluated in FraudDetectionService")
+@Category({FraudEvents.CATEGORY, "Rules"})
+@StackTrace(false)
+public class RuleEvaluationEvent extends jdk.jfr.Event {
+
+    @Label("Rule")
+    String rule;
+
+    @Label("Account Hash")
+    int accountHash;
+
+    @Label("Fired")
+    boolean fired;
+
+    @Label("Points")
+    int points;
+
+    private transient int scoreBefore;
+
+    /**
+     * @param ruleScore the running rule score before this rule
+     */
+    public static RuleEvaluationEvent start(String rule, String accountId, int ruleScore) {
+        RuleEvaluationEvent event = new RuleEvaluationEvent();
+        event.rule = rule;
+        event.accountHash = FraudEvents.accountHash(accountId);
+        event.scoreBefore = ruleScore;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * @param ruleScore the running rule score after this rule
+     */
+    public void finish(int ruleScore) {
+        end();
+        if (shouldCommit()) {
+            this.points = ruleScore - scoreBefore;
+            this.fired = points > 0;
+            commit();
+        }
+    }
+}
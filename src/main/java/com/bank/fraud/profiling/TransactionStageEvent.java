@@ -0,0 +1,40 @@
+package com.bank.fraud.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.bank.fraud.TransactionStage")
+@Label("Transaction Stage")
+@Description("One stage of processTransaction: duplicate check, block check, scoring, persistence, alerting, audit")
+@Category({FraudEvents.CATEGORY, "Transaction"})
+@StackTrace(false)
+public class TransactionStageEvent extends jdk.jfr.Event {
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Account Hash")
+    int accountHash;
+
+    @Label("Risk Level")
+    String riskLevel;
+
+    public static TransactionStageEvent start(String stage, String accountId) {
+        TransactionStageEvent event = new TransactionStageEvent();
+        event.stage = stage;
+        event.accountHash = FraudEvents.accountHash(accountId);
+        event.begin();
+        return event;
+    }
+
+    public void finish(String riskLevel) {
+        end();
+        if (shouldCommit()) {
+            this.riskLevel = riskLevel;
+            commit();
+        }
+    }
+}
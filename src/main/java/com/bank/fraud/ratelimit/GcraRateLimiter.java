@@ -0,0 +1,75 @@
+package com.bank.fraud.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Generic cell rate algorithm, one AtomicLong per key.
+ *
+ * The only state is the theoretical arrival time (TAT) in nanos. A request
+ * is allowed if TAT - now <= burst tolerance, and then moves TAT forward
+ * by one emission interval with a CAS; no locks and no per-key objects
+ * beyond the AtomicLong. Keys whose TAT is in the past are equivalent to
+ * a full bucket and are swept.
+ */
+final class GcraRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final Map<String, AtomicLong> tats = new ConcurrentHashMap<>();
+
+    GcraRateLimiter(int requestsPerMinute, int burst) {
+        this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / requestsPerMinute;
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(0, burst - 1);
+    }
+
+    boolean tryAcquire(String key, long nowNanos) {
+
+        AtomicLong tat = tats.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+
+        while (true) {
+            long current = tat.get();
+            long effective = Math.max(current, nowNanos);
+            if (effective - nowNanos > burstToleranceNanos) {
+                return false;
+            }
+            if (tat.compareAndSet(current, effective + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gives back one reservation taken by tryAcquire, for a request that was
+     * turned away by another limit after all.
+     */
+    void release(String key) {
+        AtomicLong tat = tats.get(key);
+        if (tat != null) {
+            tat.addAndGet(-emissionIntervalNanos);
+        }
+    }
+
+    /**
+     * Removes keys whose bucket has fully refilled. A concurrent acquire on a
+     * key being removed at most loses one reservation.
+     */
+    int sweep(long nowNanos) {
+        int before = tats.size();
+        tats.entrySet().removeIf(entry -> entry.getValue().get() <= nowNanos);
+        return before - tats.size();
+    }
+
+    int removeKeys(Predicate<String> filter) {
+        int before = tats.size();
+        tats.keySet().removeIf(filter);
+        return before - tats.size();
+    }
+
+    int size() {
+        return tats.size();
+    }
+}
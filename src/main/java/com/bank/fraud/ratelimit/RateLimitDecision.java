@@ -0,0 +1,16 @@
+package com.bank.fraud.ratelimit;
+
+import java.util.List;
+
+/**
+ * Outcome of a rate check: which dimensions (account, device, ip) were over
+ * their limit. Empty means the request is within all limits.
+ */
+public record RateLimitDecision(List<String> limitedDimensions) {
+
+    public static final RateLimitDecision ALLOWED = new RateLimitDecision(List.of());
+
+    public boolean isLimited() {
+        return !limitedDimensions.isEmpty();
+    }
+}
@@ -0,0 +1,164 @@
+package com.bank.fraud.ratelimit;
+
+import com.bank.fraud.cluster.ClusterNode;
+import com.bank.fraud.cluster.ConsistentHashRing;
+import com.bank.fraud.cluster.OwnershipChangeListener;
+import com.bank.fraud.dto.TransactionRequestDTO;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+public class TransactionRateLimiter implements OwnershipChangeListener {
+
+    /*
+     * In-memory GCRA limits per accountId, deviceId and ipAddress.
+     *
+     * REJECT: checked at ingress, before admission, lanes or any DB work;
+     *         an over-limit request gets 429.
+     * SCORE:  checked inside fraud evaluation; each limited dimension adds
+     *         rule points instead of rejecting.
+     * OFF:    disabled.
+     *
+     * In cluster mode account buckets follow ownership and are dropped when
+     * an account moves. Device and IP buckets are not partitioned by
+     * account, so each node limits what it sees of them.
+     */
+
+    public enum Mode {
+        OFF,
+        REJECT,
+        SCORE
+    }
+
+    private final Mode mode;
+    private final int scorePoints;
+
+    private final GcraRateLimiter accountLimiter;
+    private final GcraRateLimiter deviceLimiter;
+    private final GcraRateLimiter ipLimiter;
+
+    private final LongAdder limited = new LongAdder();
+
+    public TransactionRateLimiter(
+            @Value("${rate-limit.mode:OFF}") Mode mode,
+            @Value("${rate-limit.score-points:30}") int scorePoints,
+            @Value("${rate-limit.account.per-minute:20}") int accountPerMinute,
+            @Value("${rate-limit.account.burst:10}") int accountBurst,
+            @Value("${rate-limit.device.per-minute:30}") int devicePerMinute,
+            @Value("${rate-limit.device.burst:15}") int deviceBurst,
+            @Value("${rate-limit.ip.per-minute:60}") int ipPerMinute,
+            @Value("${rate-limit.ip.burst:30}") int ipBurst
+    ) {
+        this.mode = mode;
+        this.scorePoints = scorePoints;
+        this.accountLimiter = new GcraRateLimiter(accountPerMinute, accountBurst);
+        this.deviceLimiter = new GcraRateLimiter(devicePerMinute, deviceBurst);
+        this.ipLimiter = new GcraRateLimiter(ipPerMinute, ipBurst);
+    }
+
+    // --------------------------------------------------
+    // CHECK
+    // --------------------------------------------------
+
+    /**
+     * Takes one request from every dimension. In REJECT mode a request that
+     * any dimension limits is refused, so the other dimensions get their
+     * reservation back; in SCORE mode the request goes ahead and keeps them.
+     */
+    public RateLimitDecision check(TransactionRequestDTO request) {
+
+        long now = System.nanoTime();
+        List<String> limitedDimensions = null;
+
+        boolean account = accountLimiter.tryAcquire(request.getAccountId(), now);
+        if (!account) {
+            limitedDimensions = add(limitedDimensions, "account");
+        }
+        boolean device = request.getDeviceId() != null && deviceLimiter.tryAcquire(request.getDeviceId(), now);
+        if (request.getDeviceId() != null && !device) {
+            limitedDimensions = add(limitedDimensions, "device");
+        }
+        boolean ip = request.getIpAddress() != null && ipLimiter.tryAcquire(request.getIpAddress(), now);
+        if (request.getIpAddress() != null && !ip) {
+            limitedDimensions = add(limitedDimensions, "ip");
+        }
+
+        if (limitedDimensions == null) {
+            return RateLimitDecision.ALLOWED;
+        }
+
+        if (mode == Mode.REJECT) {
+            if (account) {
+                accountLimiter.release(request.getAccountId());
+            }
+            if (device) {
+                deviceLimiter.release(request.getDeviceId());
+            }
+            if (ip) {
+                ipLimiter.release(request.getIpAddress());
+            }
+        }
+        limited.increment();
+        return new RateLimitDecision(limitedDimensions);
+    }
+
+    public boolean isRejectMode() {
+        return mode == Mode.REJECT;
+    }
+
+    public boolean isScoreMode() {
+        return mode == Mode.SCORE;
+    }
+
+    public int getScorePoints() {
+        return scorePoints;
+    }
+
+    // --------------------------------------------------
+    // EXPIRY + STATUS
+    // --------------------------------------------------
+
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval-ms:30000}")
+    public void sweepExpiredBuckets() {
+        if (mode == Mode.OFF) {
+            return;
+        }
+        long now = System.nanoTime();
+        accountLimiter.sweep(now);
+        deviceLimiter.sweep(now);
+        ipLimiter.sweep(now);
+    }
+
+    @Override
+    public void onOwnershipChanged(ClusterNode self, ConsistentHashRing previous, ConsistentHashRing current) {
+        accountLimiter.removeKeys(accountId -> OwnershipChangeListener.ownedElsewhere(accountId, self, current));
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("mode", mode);
+        status.put("limited", limited.sum());
+        status.put("trackedAccounts", accountLimiter.size());
+        status.put("trackedDevices", deviceLimiter.size());
+        status.put("trackedIps", ipLimiter.size());
+        return status;
+    }
+
+    // --------------------------------------------------
+    // HELPER METHOD
+    // --------------------------------------------------
+
+    private static List<String> add(List<String> list, String dimension) {
+        List<String> result = list != null ? list : new ArrayList<>(3);
+        result.add(dimension);
+        return result;
+    }
+}
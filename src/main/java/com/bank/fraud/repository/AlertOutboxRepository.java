@@ -0,0 +1,98 @@
+package com.bank.fraud.repository;
+
+import com.bank.fraud.model.AlertOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface AlertOutboxRepository extends JpaRepository<AlertOutbox, Long> {
+
+    // ---------- DISPATCH ----------
+
+    // Claim step: locks due rows, skipping those another dispatcher has locked;
+    // the caller moves them past the claim window in the same transaction
+    @Query(value = """
+        SELECT id
+        FROM alert_outbox
+        WHERE status = 'PENDING'
+          AND next_attempt_at <= :now
+        ORDER BY id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<Long> lockDueIds(
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit
+    );
+
+    List<AlertOutbox> findByIdInOrderById(Collection<Long> ids);
+
+    // Per-recipient cap: a digest's rows share recipient, account and sent_at
+    @Query(value = """
+        SELECT recipient, COUNT(DISTINCT account_id, sent_at)
+        FROM alert_outbox
+        WHERE status = 'SENT'
+          AND sent_at >= :since
+          AND recipient IN (:recipients)
+        GROUP BY recipient
+    """, nativeQuery = true)
+    List<Object[]> countDigestsSentSince(
+            @Param("recipients") Collection<String> recipients,
+            @Param("since") LocalDateTime since
+    );
+
+    @Modifying
+    @Query("""
+        UPDATE AlertOutbox a
+        SET a.status = 'SENT', a.sentAt = :sentAt
+        WHERE a.id IN :ids
+    """)
+    int markSent(
+            @Param("ids") Collection<Long> ids,
+            @Param("sentAt") LocalDateTime sentAt
+    );
+
+    @Modifying
+    @Query("""
+        UPDATE AlertOutbox a
+        SET a.nextAttemptAt = :nextAttemptAt
+        WHERE a.id IN :ids
+    """)
+    int deferUntil(
+            @Param("ids") Collection<Long> ids,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt
+    );
+
+    @Modifying
+    @Query("""
+        UPDATE AlertOutbox a
+        SET a.attempts = a.attempts + 1,
+            a.status = :status,
+            a.nextAttemptAt = :nextAttemptAt,
+            a.lastError = :lastError
+        WHERE a.id IN :ids
+    """)
+    int markFailedAttempt(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") String status,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("lastError") String lastError
+    );
+
+    // ---------- MONITORING + RETENTION ----------
+
+    long countByStatus(String status);
+
+    @Modifying
+    @Query("""
+        DELETE FROM AlertOutbox a
+        WHERE a.status = 'SENT'
+          AND a.sentAt < :cutoff
+    """)
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff);
+}
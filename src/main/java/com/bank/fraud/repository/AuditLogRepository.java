@@ -1,6 +1,7 @@
 package com.bank.fraud.repository;
 
 import com.bank.fraud.model.AuditLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -42,4 +43,44 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
     List<AuditLog> findByPerformedBy(
             @Param("performedBy") String performedBy
     );
+
+    // ---------- KEYSET PAGINATION (NOTIFICATIONS) ----------
+    // Backed by idx_audit_action_time / idx_audit_entity_time (column, eventTime, id)
+
+    @Query("""
+        SELECT a
+        FROM AuditLog a
+        WHERE (:entityType IS NULL OR a.entityType = :entityType)
+          AND (:action IS NULL OR a.action = :action)
+          AND (:fromTime IS NULL OR a.eventTime >= :fromTime)
+          AND (:toTime IS NULL OR a.eventTime < :toTime)
+          AND (:cursorTime IS NULL
+               OR a.eventTime < :cursorTime
+               OR (a.eventTime = :cursorTime AND a.id < :cursorId))
+        ORDER BY a.eventTime DESC, a.id DESC
+    """)
+    List<AuditLog> findPageBefore(
+            @Param("entityType") String entityType,
+            @Param("action") String action,
+            @Param("fromTime") LocalDateTime fromTime,
+            @Param("toTime") LocalDateTime toTime,
+            @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    @Query("""
+        SELECT a
+        FROM AuditLog a
+        WHERE (:entityType IS NULL OR a.entityType = :entityType)
+          AND (:action IS NULL OR a.action = :action)
+          AND a.eventTime >= :fromTime
+        ORDER BY a.eventTime ASC, a.id ASC
+    """)
+    List<AuditLog> findPageFrom(
+            @Param("entityType") String entityType,
+            @Param("action") String action,
+            @Param("fromTime") LocalDateTime fromTime,
+            Pageable pageable
+    );
 }
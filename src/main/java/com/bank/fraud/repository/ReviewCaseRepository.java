@@ -0,0 +1,37 @@
+package com.bank.fraud.repository;
+
+import com.bank.fraud.model.ReviewCase;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ReviewCaseRepository extends JpaRepository<ReviewCase, Long> {
+
+    // ---------- ANALYST VIEWS (index range reads) ----------
+
+    @Query("""
+        SELECT c
+        FROM ReviewCase c
+        WHERE c.status = 'OPEN'
+        ORDER BY c.priority DESC, c.id
+    """)
+    List<ReviewCase> findOpen(Pageable pageable);
+
+    List<ReviewCase> findByClaimedByAndStatusOrderByPriorityDesc(String claimedBy, String status);
+
+    @Query("""
+        SELECT c
+        FROM ReviewCase c
+        WHERE c.id IN :ids
+        ORDER BY c.priority DESC, c.id
+    """)
+    List<ReviewCase> findByIdsInPriorityOrder(@Param("ids") Collection<Long> ids);
+
+    // ---------- MONITORING ----------
+
+    long countByStatus(String status);
+}
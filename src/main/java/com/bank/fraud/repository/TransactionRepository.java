@@ -1,11 +1,13 @@
 package com.bank.fraud.repository;
 
 import com.bank.fraud.model.Transaction;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +36,20 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("fromTime") LocalDateTime fromTime
     );
 
+    // Newest first; callers pass a page as small as the velocity threshold
+    @Query("""
+        SELECT t.transactionTime
+        FROM Transaction t
+        WHERE t.accountId = :accountId
+          AND t.transactionTime >= :fromTime
+        ORDER BY t.transactionTime DESC
+    """)
+    List<LocalDateTime> findRecentTransactionTimes(
+            @Param("accountId") String accountId,
+            @Param("fromTime") LocalDateTime fromTime,
+            Pageable pageable
+    );
+
     @Query("""
         SELECT t
         FROM Transaction t
@@ -65,4 +81,13 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     // ---------- DUPLICATE PREVENTION ----------
 
     boolean existsByTransactionId(String transactionId);
+
+    @Query("""
+        SELECT t.transactionId
+        FROM Transaction t
+        WHERE t.transactionId IN :transactionIds
+    """)
+    List<String> findExistingTransactionIds(
+            @Param("transactionIds") Collection<String> transactionIds
+    );
 }
@@ -1,29 +1,104 @@
 package com.bank.fraud.service;
 
+import com.bank.fraud.cluster.ClusterNode;
+import com.bank.fraud.cluster.ConsistentHashRing;
+import com.bank.fraud.cluster.OwnershipChangeListener;
+import com.bank.fraud.metrics.FraudMetrics;
 import com.bank.fraud.model.BlockedAccount;
 import com.bank.fraud.repository.BlockedAccountRepository;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
-public class AccountBlockService {
+public class AccountBlockService implements OwnershipChangeListener {
 
-    private static final int MAX_FAILED_ATTEMPTS = 3;
     private static final int BLOCK_DURATION_HOURS = 24;
 
+    private static final Logger log = LoggerFactory.getLogger(AccountBlockService.class);
+
+    private static final String UNBLOCK_LOCK = "account-unblock";
+    private static final String UNBLOCK_REASON = "Auto-unblocked after timeout";
+
     private final BlockedAccountRepository blockedAccountRepository;
     private final AuditLogService auditLogService;
+    private final FraudMetrics fraudMetrics;
+    private final SchedulerLockService schedulerLockService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StrikeTracker strikeTracker;
+    private final double strikeThreshold;
+    private final int strikeFlushBatchSize;
+
+    // Accounts whose strikes changed since they were last written to blocked_accounts
+    private final Set<String> dirtyStrikes = ConcurrentHashMap.newKeySet();
+
+    private final boolean unblockEnabled;
+    private final int unblockChunkSize;
+    private final int unblockMaxChunks;
+    private final int unblockLeaseSeconds;
+
+    /*
+     * Active blocks held in memory: preloaded at startup, updated after
+     * each local block/unblock commits, and re-read from MySQL periodically
+     * to pick up changes made by other nodes.
+     *
+     * Only a hit is trusted. A block committed on another node is missing
+     * here until the next refresh, and a refresh that read MySQL before a
+     * local block committed can replace the set without it, so a miss is
+     * always confirmed against blocked_accounts.
+     */
+    private volatile Set<String> activeBlocks;
 
     public AccountBlockService(
             BlockedAccountRepository blockedAccountRepository,
-            AuditLogService auditLogService
+            AuditLogService auditLogService,
+            FraudMetrics fraudMetrics,
+            SchedulerLockService schedulerLockService,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${unblock.enabled:true}") boolean unblockEnabled,
+            @Value("${unblock.chunk-size:500}") int unblockChunkSize,
+            @Value("${unblock.max-chunks-per-run:200}") int unblockMaxChunks,
+            @Value("${unblock.lease-seconds:120}") int unblockLeaseSeconds,
+            @Value("${strikes.threshold:2.5}") double strikeThreshold,
+            @Value("${strikes.high.half-life-minutes:60}") long highHalfLifeMinutes,
+            @Value("${strikes.medium.half-life-minutes:20}") long mediumHalfLifeMinutes,
+            @Value("${strikes.medium.weight:0.34}") double mediumWeight,
+            @Value("${strikes.flush-batch-size:500}") int strikeFlushBatchSize
     ) {
         this.blockedAccountRepository = blockedAccountRepository;
         this.auditLogService = auditLogService;
+        this.fraudMetrics = fraudMetrics;
+        this.schedulerLockService = schedulerLockService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.unblockEnabled = unblockEnabled;
+        this.unblockChunkSize = unblockChunkSize;
+        this.unblockMaxChunks = unblockMaxChunks;
+        this.unblockLeaseSeconds = unblockLeaseSeconds;
+        this.strikeThreshold = strikeThreshold;
+        this.strikeFlushBatchSize = strikeFlushBatchSize;
+        this.strikeTracker = new StrikeTracker(highHalfLifeMinutes, mediumHalfLifeMinutes, mediumWeight);
     }
 
     // --------------------------------------------------
@@ -31,62 +106,350 @@ public class AccountBlockService {
     // --------------------------------------------------
 
     public boolean isAccountBlocked(String accountId) {
+        Set<String> blocks = activeBlocks;
+        boolean hit = blocks != null && blocks.contains(accountId);
+        fraudMetrics.cacheLookup(FraudMetrics.Cache.BLOCK, hit);
+        if (hit) {
+            return true;
+        }
         return blockedAccountRepository
                 .existsByAccountIdAndActiveBlockTrue(accountId);
     }
 
+    // --------------------------------------------------
+    // ACTIVE BLOCK CACHE (PRELOAD + PERIODIC REFRESH)
+    // --------------------------------------------------
+
+    @Scheduled(fixedDelayString = "${startup.block-cache-refresh-ms:5000}")
+    public void refreshBlockCache() {
+        Set<String> blocks = ConcurrentHashMap.newKeySet();
+        for (BlockedAccount blockedAccount : blockedAccountRepository.findAllActiveBlockedAccounts()) {
+            blocks.add(blockedAccount.getAccountId());
+        }
+        activeBlocks = blocks;
+    }
+
+    public int getCachedBlockCount() {
+        Set<String> blocks = activeBlocks;
+        return blocks == null ? -1 : blocks.size();
+    }
+
     // --------------------------------------------------
     // BLOCK ACCOUNT AFTER FRAUD DETECTION
     // --------------------------------------------------
 
-    @Transactional
+    /*
+     * Strikes decay over time (half-life per risk level) and are counted in
+     * memory; per-account lanes / cluster ownership mean one thread at a
+     * time updates a given account, and the hot path takes no row lock.
+     *
+     * The counters are written through to the account's blocked_accounts
+     * row (strike_high / strike_medium as of strikes_at): a strike only
+     * marks the account dirty after commit, and flushStrikes() writes the
+     * dirty accounts in batches. An account with no state here (restart,
+     * ownership move, swept) is seeded from its row on its next strike;
+     * that read also creates the row the first time an account strikes.
+     * Strikes recorded less than a flush interval before a crash or move
+     * are lost.
+     */
+
     public void blockAccount(String accountId, List<String> reasons) {
+        recordStrike(accountId, "HIGH", reasons);
+    }
 
-        BlockedAccount blockedAccount = blockedAccountRepository
-                .findByAccountId(accountId)
-                .orElseGet(() -> createNewBlockedAccount(accountId));
+    /**
+     * @return true if this strike blocked the account
+     */
+    public boolean recordStrike(String accountId, String riskLevel, List<String> reasons) {
+
+        if (!strikeTracker.contains(accountId)) {
+            restoreStrikes(accountId);
+        }
 
-        blockedAccount.setFailedAttempts(blockedAccount.getFailedAttempts() + 1);
+        double strikes = strikeTracker.record(accountId, riskLevel, System.currentTimeMillis());
+        if (strikes < strikeThreshold) {
+            afterCommit(() -> dirtyStrikes.add(accountId));
+            return false;
+        }
 
-        // Check threshold within time window
-        if (blockedAccount.getFailedAttempts() >= MAX_FAILED_ATTEMPTS) {
-            blockedAccount.setActiveBlock(true);
-            blockedAccount.setBlockedUntil(
-                    LocalDateTime.now().plusHours(BLOCK_DURATION_HOURS)
-            );
-            blockedAccount.setBlockReason(String.join(", ", reasons));
+        strikeTracker.reset(accountId);
+        transactionTemplate.executeWithoutResult(status -> writeBlock(accountId, strikes, reasons));
+        return true;
+    }
+
+    public double getStrikeScore(String accountId) {
+        return strikeTracker.score(accountId, System.currentTimeMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${strikes.sweep-interval-ms:60000}")
+    public void sweepDecayedStrikes() {
+        strikeTracker.sweep(System.currentTimeMillis());
+    }
+
+    /*
+     * Each batch is one short transaction:
+     *
+     *   SELECT ... FOR UPDATE SKIP LOCKED   (rows of the dirty accounts)
+     *   UPDATE ... strike columns           (one JDBC batch)
+     *
+     * A row locked by an in-flight block is skipped and retried next run;
+     * the block itself zeroes the strike columns. Counters are read after
+     * the rows are locked, so a flush never writes strikes from before a
+     * block over that block's reset.
+     */
+    @Scheduled(fixedDelayString = "${strikes.flush-interval-ms:1000}")
+    public void flushStrikes() {
+
+        List<String> skipped = new ArrayList<>();
+        while (!dirtyStrikes.isEmpty()) {
+            List<String> batch = new ArrayList<>(strikeFlushBatchSize);
+            Iterator<String> it = dirtyStrikes.iterator();
+            while (it.hasNext() && batch.size() < strikeFlushBatchSize) {
+                batch.add(it.next());
+                it.remove();
+            }
 
-            auditLogService.logAccountBlocked(accountId, blockedAccount.getBlockReason());
+            Set<String> written;
+            try {
+                written = transactionTemplate.execute(status -> writeStrikes(batch));
+            } catch (RuntimeException e) {
+                log.warn("Writing strike scores of {} accounts failed; retrying next run", batch.size(), e);
+                dirtyStrikes.addAll(batch);
+                break;
+            }
+
+            // Retried next run while the tracker still holds them
+            for (String accountId : batch) {
+                if ((written == null || !written.contains(accountId)) && strikeTracker.contains(accountId)) {
+                    skipped.add(accountId);
+                }
+            }
         }
+        dirtyStrikes.addAll(skipped);
+    }
 
-        blockedAccountRepository.save(blockedAccount);
+    // Strikes are only kept by the owner; the new owner reads them back from blocked_accounts
+    @Override
+    public void onOwnershipChanged(ClusterNode self, ConsistentHashRing previous, ConsistentHashRing current) {
+        flushStrikes();
+        int dropped = strikeTracker.removeAccounts(
+                accountId -> OwnershipChangeListener.ownedElsewhere(accountId, self, current));
+        if (dropped > 0) {
+            log.info("Dropped strike scores of {} accounts now owned by other nodes", dropped);
+        }
     }
 
     // --------------------------------------------------
     // AUTO UNBLOCK EXPIRED ACCOUNTS
     // --------------------------------------------------
 
-    @Transactional
+    /*
+     * Runs on every node, but only the holder of the account-unblock lease
+     * does any work. Each chunk is its own short transaction:
+     *
+     *   SELECT ... FOR UPDATE SKIP LOCKED LIMIT n   (expired active blocks)
+     *   UPDATE ... WHERE id IN (...)                (one statement)
+     *   audit rows                                  (one JDBC batch)
+     *
+     * so locks are held briefly and a large backlog never becomes one
+     * huge transaction. The lease is renewed between chunks.
+     */
+    @Scheduled(fixedDelayString = "${unblock.interval-ms:60000}")
     public void unblockExpiredAccounts() {
 
-        List<BlockedAccount> expiredBlocks =
-                blockedAccountRepository.findExpiredBlocks(LocalDateTime.now());
+        if (!unblockEnabled || !schedulerLockService.tryAcquire(UNBLOCK_LOCK, unblockLeaseSeconds)) {
+            return;
+        }
+
+        int total = 0;
+        long maxLagMillis = 0;
 
-        for (BlockedAccount blockedAccount : expiredBlocks) {
-            blockedAccount.setActiveBlock(false);
-            blockedAccount.setFailedAttempts(0);
-            blockedAccount.setBlockReason("Auto-unblocked after timeout");
+        try {
+            for (int chunk = 0; chunk < unblockMaxChunks; chunk++) {
+                UnblockChunk result = transactionTemplate.execute(status -> unblockChunk());
+                if (result == null || result.count() == 0) {
+                    break;
+                }
+                total += result.count();
+                maxLagMillis = Math.max(maxLagMillis, result.maxLagMillis());
 
-            blockedAccountRepository.save(blockedAccount);
+                if (result.count() < unblockChunkSize
+                        || !schedulerLockService.tryAcquire(UNBLOCK_LOCK, unblockLeaseSeconds)) {
+                    break;
+                }
+            }
+        } finally {
+            schedulerLockService.release(UNBLOCK_LOCK);
+        }
 
-            auditLogService.logAccountUnblocked(blockedAccount.getAccountId());
+        if (total > 0) {
+            log.info("Auto-unblocked {} accounts (max lag after expiry {} ms)", total, maxLagMillis);
         }
     }
 
     // --------------------------------------------------
-    // HELPER METHOD
+    // HELPER METHODS
     // --------------------------------------------------
 
+    private void writeBlock(String accountId, double strikes, List<String> reasons) {
+
+        BlockedAccount blockedAccount = blockedAccountRepository
+                .findByAccountId(accountId)
+                .orElseGet(() -> createNewBlockedAccount(accountId));
+
+        blockedAccount.setFailedAttempts((int) Math.round(strikes));
+        blockedAccount.setActiveBlock(true);
+        blockedAccount.setBlockedUntil(
+                LocalDateTime.now().plusHours(BLOCK_DURATION_HOURS)
+        );
+        blockedAccount.setBlockReason(String.join(", ", reasons));
+        // The tracker was reset for this block
+        blockedAccount.setStrikeHigh(0.0);
+        blockedAccount.setStrikeMedium(0.0);
+        blockedAccount.setStrikesAt(LocalDateTime.now());
+
+        auditLogService.logAccountBlocked(accountId, blockedAccount.getBlockReason());
+        afterCommit(() -> {
+            updateCache(accountId, true);
+            fraudMetrics.accountBlocked();
+        });
+
+        blockedAccountRepository.save(blockedAccount);
+    }
+
+    private void restoreStrikes(String accountId) {
+        BlockedAccount row = blockedAccountRepository.findByAccountId(accountId).orElse(null);
+        if (row == null) {
+            blockedAccountRepository.save(createNewBlockedAccount(accountId));
+            return;
+        }
+        if (row.getStrikesAt() != null) {
+            long atMillis = row.getStrikesAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            strikeTracker.restore(accountId, row.getStrikeHigh(), row.getStrikeMedium(), atMillis);
+        }
+    }
+
+    /**
+     * @return the accounts whose row was locked (and so written, or left alone if the tracker has no state)
+     */
+    private Set<String> writeStrikes(List<String> accountIds) {
+
+        // 1️⃣ Lock the rows (rows held by a block in flight are skipped, not waited on)
+        String placeholders = String.join(",", Collections.nCopies(accountIds.size(), "?"));
+        Set<String> locked = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT account_id FROM blocked_accounts WHERE account_id IN (" + placeholders + ")"
+                        + " FOR UPDATE SKIP LOCKED",
+                String.class,
+                accountIds.toArray()
+        ));
+
+        // 2️⃣ Counters decayed to now; accounts swept or dropped since are left as stored
+        long nowMillis = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochMilli(nowMillis), ZoneId.systemDefault());
+        List<Object[]> args = new ArrayList<>(locked.size());
+        for (String accountId : locked) {
+            StrikeTracker.Strikes strikes = strikeTracker.snapshot(accountId, nowMillis);
+            if (strikes != null) {
+                args.add(new Object[]{strikes.high(), strikes.medium(), now, accountId});
+            }
+        }
+
+        // 3️⃣ One JDBC batch
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE blocked_accounts SET strike_high = ?, strike_medium = ?, strikes_at = ?"
+                            + " WHERE account_id = ?",
+                    args
+            );
+        }
+        return locked;
+    }
+
+    private record UnblockChunk(int count, long maxLagMillis) {
+    }
+
+    private UnblockChunk unblockChunk() {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1️⃣ Claim a chunk of expired blocks (other writers' rows are skipped, not waited on)
+        List<Long> ids = new ArrayList<>();
+        List<String> accountIds = new ArrayList<>();
+        List<Long> lagsMillis = new ArrayList<>();
+        jdbcTemplate.query(
+                "SELECT id, account_id, blocked_until FROM blocked_accounts"
+                        + " WHERE active_block = 1 AND blocked_until <= ?"
+                        + " ORDER BY blocked_until LIMIT ? FOR UPDATE SKIP LOCKED",
+                rs -> {
+                    ids.add(rs.getLong("id"));
+                    accountIds.add(rs.getString("account_id"));
+                    LocalDateTime blockedUntil = rs.getObject("blocked_until", LocalDateTime.class);
+                    lagsMillis.add(Duration.between(blockedUntil, now).toMillis());
+                },
+                now, unblockChunkSize
+        );
+
+        if (ids.isEmpty()) {
+            return new UnblockChunk(0, 0);
+        }
+
+        // 2️⃣ One set-based update for the whole chunk
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(UNBLOCK_REASON);
+        args.addAll(ids);
+        jdbcTemplate.update(
+                "UPDATE blocked_accounts SET active_block = 0, failed_attempts = 0, block_reason = ?"
+                        + " WHERE id IN (" + placeholders + ")",
+                args.toArray()
+        );
+
+        // 3️⃣ Batched audit rows, same transaction
+        auditLogService.logAccountsUnblocked(accountIds);
+
+        // 4️⃣ Cache + metrics once committed
+        long maxLag = 0;
+        for (long lag : lagsMillis) {
+            maxLag = Math.max(maxLag, lag);
+        }
+        afterCommit(() -> {
+            for (String accountId : accountIds) {
+                updateCache(accountId, false);
+            }
+            fraudMetrics.accountsUnblocked(accountIds.size());
+            for (long lag : lagsMillis) {
+                fraudMetrics.recordUnblockLag(lag);
+            }
+        });
+
+        return new UnblockChunk(ids.size(), maxLag);
+    }
+
+    private void updateCache(String accountId, boolean blocked) {
+        Set<String> blocks = activeBlocks;
+        if (blocks == null) {
+            return;
+        }
+        if (blocked) {
+            blocks.add(accountId);
+        } else {
+            blocks.remove(accountId);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     private BlockedAccount createNewBlockedAccount(String accountId) {
         BlockedAccount account = new BlockedAccount();
         account.setAccountId(accountId);
@@ -1,18 +1,56 @@
 package com.bank.fraud.service;
 
+import com.bank.fraud.alert.AlertChannel;
+import com.bank.fraud.alert.AlertRenderer;
+import com.bank.fraud.model.AlertOutbox;
 import com.bank.fraud.model.Transaction;
+import com.bank.fraud.repository.AlertOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.MimeTypeUtils;
 
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 @Service
 public class AlertService {
 
-    // In real systems, these would be external integrations
-    // (Email service, SMS gateway, Kafka, WebSocket, etc.)
-
-    private static final DateTimeFormatter TIME_FORMAT =
-            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    // Email goes through the alert_outbox table: rows are written in the
+    // caller's transaction and delivered by AlertDispatcher, so no SMTP
+    // call ever sits on the decision path. Message bodies come from the
+    // precompiled templates in AlertRenderer.
+
+    private static final String STOMP_ALERT_TOPIC = "/topic/alerts";
+
+    private final DashboardStreamService dashboardStreamService;
+    private final AlertOutboxRepository alertOutboxRepository;
+    private final AlertRenderer alertRenderer;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final List<String> recipients;
+
+    public AlertService(
+            DashboardStreamService dashboardStreamService,
+            AlertOutboxRepository alertOutboxRepository,
+            AlertRenderer alertRenderer,
+            SimpMessageSendingOperations messagingTemplate,
+            @Value("${alerts.recipients:fraud-ops@bank.local}") String recipients
+    ) {
+        this.dashboardStreamService = dashboardStreamService;
+        this.alertOutboxRepository = alertOutboxRepository;
+        this.alertRenderer = alertRenderer;
+        this.messagingTemplate = messagingTemplate;
+        this.recipients = Arrays.stream(recipients.split(","))
+                .map(String::trim)
+                .filter(recipient -> !recipient.isEmpty())
+                .toList();
+    }
 
     // --------------------------------------------------
     // FRAUD ALERT (HIGH RISK)
@@ -20,50 +58,81 @@ public class AlertService {
 
     public void sendFraudAlert(Transaction transaction) {
 
-        // Build alert message
-        String alertMessage = buildFraudAlertMessage(transaction);
-
-        // 1️⃣ Send email alert (simulated)
-        sendEmailAlert(alertMessage);
+        // 1️⃣ Queue email alert (joins the caller's transaction)
+        enqueueEmailAlerts(List.of(transaction));
 
-        // 2️⃣ Push real-time dashboard alert (simulated)
-        sendDashboardNotification(alertMessage);
+        // 2️⃣ Push real-time dashboard alert
+        sendDashboardNotification(transaction);
 
         // 3️⃣ (Optional) Can be extended to SMS / Kafka / Slack
     }
 
+    // Batched variant for the pipeline's persistence stage
+    public void enqueueEmailAlerts(List<Transaction> transactions) {
+
+        if (transactions.isEmpty() || recipients.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<AlertOutbox> rows = new ArrayList<>(transactions.size() * recipients.size());
+        for (Transaction transaction : transactions) {
+            String message = alertRenderer.render(AlertChannel.TEXT, transaction);
+            String htmlMessage = alertRenderer.render(AlertChannel.HTML, transaction);
+            for (String recipient : recipients) {
+                rows.add(buildOutboxRow(transaction, recipient, message, htmlMessage, now));
+            }
+        }
+        alertOutboxRepository.saveAll(rows);
+    }
+
+    public void sendDashboardNotification(Transaction transaction) {
+        // Delivered to connected dashboards on the next stream tick
+        dashboardStreamService.publishAlert(transaction);
+
+        // STOMP subscribers get the pre-rendered JSON as soon as the decision commits
+        byte[] payload = alertRenderer.renderUtf8(AlertChannel.JSON, transaction);
+        afterCommit(() -> messagingTemplate.send(STOMP_ALERT_TOPIC, MessageBuilder
+                .withPayload(payload)
+                .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                .build()));
+    }
+
     // --------------------------------------------------
     // HELPER METHODS
     // --------------------------------------------------
 
-    private String buildFraudAlertMessage(Transaction transaction) {
-
-        return String.format(
-                "🚨 FRAUD ALERT 🚨\n" +
-                        "Transaction ID: %s\n" +
-                        "Account ID: %s\n" +
-                        "Amount: ₹%.2f\n" +
-                        "Risk Level: %s\n" +
-                        "Final Risk Score: %d\n" +
-                        "Time: %s\n",
-                transaction.getTransactionId(),
-                transaction.getAccountId(),
-                transaction.getAmount(),
-                transaction.getRiskLevel(),
-                transaction.getFinalRiskScore(),
-                transaction.getTransactionTime().format(TIME_FORMAT)
-        );
-    }
-
-    private void sendEmailAlert(String message) {
-        // Simulated email sending
-        System.out.println("[EMAIL ALERT SENT]");
-        System.out.println(message);
+    private AlertOutbox buildOutboxRow(
+            Transaction transaction,
+            String recipient,
+            String message,
+            String htmlMessage,
+            LocalDateTime now
+    ) {
+        AlertOutbox row = new AlertOutbox();
+        row.setTransactionId(transaction.getTransactionId());
+        row.setAccountId(transaction.getAccountId());
+        row.setRecipient(recipient);
+        row.setRiskLevel(transaction.getRiskLevel());
+        row.setMessage(message);
+        row.setHtmlMessage(htmlMessage);
+        row.setStatus("PENDING");
+        row.setAttempts(0);
+        row.setCreatedAt(now);
+        row.setNextAttemptAt(now);
+        return row;
     }
 
-    private void sendDashboardNotification(String message) {
-        // Simulated WebSocket / notification push
-        System.out.println("[DASHBOARD ALERT PUSHED]");
-        System.out.println(message);
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 }
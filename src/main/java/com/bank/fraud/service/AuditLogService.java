@@ -2,19 +2,35 @@ package com.bank.fraud.service;
 
 import com.bank.fraud.model.AuditLog;
 import com.bank.fraud.model.Transaction;
+import com.bank.fraud.profiling.AuditFlushEvent;
 import com.bank.fraud.repository.AuditLogRepository;
 
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 @Service
 public class AuditLogService {
 
     private final AuditLogRepository auditLogRepository;
 
-    public AuditLogService(AuditLogRepository auditLogRepository) {
+    // Audit rows parked by degraded-mode requests, written in batches off the hot path
+    private final BlockingQueue<AuditLog> deferredAuditLogs;
+
+    public AuditLogService(
+            AuditLogRepository auditLogRepository,
+            @Value("${admission.deferred-audit-capacity:50000}") int deferredAuditCapacity
+    ) {
         this.auditLogRepository = auditLogRepository;
+        this.deferredAuditLogs = new ArrayBlockingQueue<>(deferredAuditCapacity);
     }
 
     // --------------------------------------------------
@@ -22,6 +38,41 @@ public class AuditLogService {
     // --------------------------------------------------
 
     public void logTransactionEvent(Transaction transaction) {
+        auditLogRepository.save(buildTransactionAuditLog(transaction));
+    }
+
+    // Degraded mode: queue instead of writing; falls back to a direct write when full
+    public void logTransactionEventDeferred(Transaction transaction) {
+        AuditLog auditLog = buildTransactionAuditLog(transaction);
+        if (!deferredAuditLogs.offer(auditLog)) {
+            auditLogRepository.save(auditLog);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${admission.deferred-audit-flush-ms:500}")
+    @PreDestroy
+    public void flushDeferredAuditLogs() {
+        List<AuditLog> batch = new ArrayList<>();
+        while (deferredAuditLogs.drainTo(batch, 1000) > 0) {
+            AuditFlushEvent flush = AuditFlushEvent.start("DEFERRED");
+            auditLogRepository.saveAll(batch);
+            flush.finish(batch.size());
+            batch.clear();
+        }
+    }
+
+    // Batched variant for the pipeline's persistence stage
+    public void logTransactionEvents(List<Transaction> transactions) {
+        List<AuditLog> auditLogs = new ArrayList<>(transactions.size());
+        for (Transaction transaction : transactions) {
+            auditLogs.add(buildTransactionAuditLog(transaction));
+        }
+        AuditFlushEvent flush = AuditFlushEvent.start("BATCH");
+        auditLogRepository.saveAll(auditLogs);
+        flush.finish(auditLogs.size());
+    }
+
+    private AuditLog buildTransactionAuditLog(Transaction transaction) {
 
         AuditLog auditLog = new AuditLog();
         auditLog.setEntityType("TRANSACTION");
@@ -37,7 +88,7 @@ public class AuditLogService {
         auditLog.setEventTime(LocalDateTime.now());
         auditLog.setIpAddress(transaction.getIpAddress());
 
-        auditLogRepository.save(auditLog);
+        return auditLog;
     }
 
     // --------------------------------------------------
@@ -76,6 +127,26 @@ public class AuditLogService {
         auditLogRepository.save(auditLog);
     }
 
+    // Batched variant for the chunked auto-unblock job
+    public void logAccountsUnblocked(List<String> accountIds) {
+        List<AuditLog> auditLogs = new ArrayList<>(accountIds.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (String accountId : accountIds) {
+            AuditLog auditLog = new AuditLog();
+            auditLog.setEntityType("ACCOUNT");
+            auditLog.setEntityId(accountId);
+            auditLog.setAction("UNBLOCKED");
+            auditLog.setPerformedBy("SYSTEM");
+            auditLog.setDescription("Account automatically unblocked after timeout");
+            auditLog.setEventTime(now);
+            auditLog.setIpAddress("SYSTEM");
+            auditLogs.add(auditLog);
+        }
+        AuditFlushEvent flush = AuditFlushEvent.start("UNBLOCK");
+        auditLogRepository.saveAll(auditLogs);
+        flush.finish(auditLogs.size());
+    }
+
     // --------------------------------------------------
     // ADMIN / USER ACTION AUDIT LOG
     // --------------------------------------------------
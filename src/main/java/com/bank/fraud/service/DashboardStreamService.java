@@ -0,0 +1,241 @@
+package com.bank.fraud.service;
+
+import com.bank.fraud.dto.AnalyticsDTO;
+import com.bank.fraud.dto.DashboardDeltaDTO;
+import com.bank.fraud.dto.TransactionResponseDTO;
+import com.bank.fraud.model.Transaction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class DashboardStreamService {
+
+    /*
+     * Server push for the dashboard.
+     *
+     * One scheduled tick computes analytics once, diffs it against the
+     * previous tick and fans the same delta out to every connected viewer,
+     * so N open dashboards cost one aggregation per tick instead of N polls.
+     * New transactions / alerts are buffered between ticks and shipped in
+     * the same event. With no subscribers, the tick does no database work.
+     */
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardStreamService.class);
+
+    private final AnalyticsService analyticsService;
+    private final long emitterTimeoutMs;
+    private final int maxEventsPerTick;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    private final Queue<TransactionResponseDTO> pendingTransactions = new ConcurrentLinkedQueue<>();
+    private final Queue<DashboardDeltaDTO.AlertEvent> pendingAlerts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private volatile Map<String, Object> lastCounters;
+
+    public DashboardStreamService(
+            AnalyticsService analyticsService,
+            @Value("${dashboard.stream.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+            @Value("${dashboard.stream.max-events-per-tick:200}") int maxEventsPerTick
+    ) {
+        this.analyticsService = analyticsService;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.maxEventsPerTick = maxEventsPerTick;
+    }
+
+    // --------------------------------------------------
+    // SUBSCRIPTION
+    // --------------------------------------------------
+
+    public SseEmitter subscribe() {
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+
+        // Late joiners start from a full snapshot, then receive deltas
+        Map<String, Object> counters = lastCounters;
+        if (counters == null) {
+            counters = toCounters(analyticsService.getSystemAnalytics());
+        }
+
+        DashboardDeltaDTO snapshot = new DashboardDeltaDTO();
+        snapshot.setSequence(sequence.get());
+        snapshot.setSnapshot(true);
+        snapshot.setCounters(counters);
+        snapshot.setTransactions(List.of());
+        snapshot.setAlerts(List.of());
+        snapshot.setDropped(0L);
+
+        try {
+            emitter.send(SseEmitter.event().name("snapshot").data(snapshot));
+            emitters.add(emitter);
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return emitters.size();
+    }
+
+    // --------------------------------------------------
+    // EVENT INTAKE (CALLED FROM THE DECISION PATH)
+    // --------------------------------------------------
+
+    public void publishTransaction(TransactionResponseDTO transaction) {
+        afterCommit(() -> enqueue(pendingTransactions, transaction));
+    }
+
+    public void publishAlert(Transaction transaction) {
+        DashboardDeltaDTO.AlertEvent alert = new DashboardDeltaDTO.AlertEvent();
+        alert.setTransactionId(transaction.getTransactionId());
+        alert.setAccountId(transaction.getAccountId());
+        alert.setAmount(transaction.getAmount());
+        alert.setRiskLevel(transaction.getRiskLevel());
+        alert.setFinalRiskScore(transaction.getFinalRiskScore());
+        alert.setAlertTime(LocalDateTime.now());
+
+        afterCommit(() -> enqueue(pendingAlerts, alert));
+    }
+
+    // --------------------------------------------------
+    // TICK: ONE AGGREGATION, FANNED OUT TO ALL VIEWERS
+    // --------------------------------------------------
+
+    @Scheduled(fixedDelayString = "${dashboard.stream.tick-ms:2000}")
+    public void tick() {
+
+        // 1️⃣ Drain buffered events (even with no viewers, so they don't pile up)
+        List<TransactionResponseDTO> transactions = drain(pendingTransactions);
+        List<DashboardDeltaDTO.AlertEvent> alerts = drain(pendingAlerts);
+        long droppedSinceLastTick = dropped.getAndSet(0);
+
+        if (emitters.isEmpty()) {
+            lastCounters = null;
+            return;
+        }
+
+        // 2️⃣ Aggregate once and diff against the previous tick
+        Map<String, Object> counters;
+        try {
+            counters = toCounters(analyticsService.getSystemAnalytics());
+        } catch (RuntimeException e) {
+            log.warn("Dashboard aggregation failed, skipping tick: {}", e.getMessage());
+            return;
+        }
+
+        Map<String, Object> previous = lastCounters;
+        Map<String, Object> changed = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : counters.entrySet()) {
+            if (previous == null || !Objects.equals(previous.get(entry.getKey()), entry.getValue())) {
+                changed.put(entry.getKey(), entry.getValue());
+            }
+        }
+        lastCounters = counters;
+
+        // 3️⃣ Idle tick: keep-alive comment only (also reaps dead connections)
+        if (changed.isEmpty() && transactions.isEmpty() && alerts.isEmpty() && droppedSinceLastTick == 0) {
+            broadcast(SseEmitter.event().comment("keep-alive"));
+            return;
+        }
+
+        DashboardDeltaDTO delta = new DashboardDeltaDTO();
+        delta.setSequence(sequence.incrementAndGet());
+        delta.setSnapshot(false);
+        delta.setCounters(changed);
+        delta.setTransactions(transactions);
+        delta.setAlerts(alerts);
+        delta.setDropped(droppedSinceLastTick);
+
+        broadcast(SseEmitter.event().name("delta").data(delta));
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private void broadcast(SseEmitter.SseEventBuilder event) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                emitters.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private <T> void enqueue(Queue<T> queue, T event) {
+        // Bounded between ticks; overflow is reported so clients can resync
+        if (pendingCount.incrementAndGet() > maxEventsPerTick) {
+            pendingCount.decrementAndGet();
+            dropped.incrementAndGet();
+            return;
+        }
+        queue.add(event);
+    }
+
+    private <T> List<T> drain(Queue<T> queue) {
+        List<T> events = new ArrayList<>();
+        T event;
+        while ((event = queue.poll()) != null) {
+            events.add(event);
+            pendingCount.decrementAndGet();
+        }
+        return events;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private Map<String, Object> toCounters(AnalyticsDTO analytics) {
+        Map<String, Object> counters = new LinkedHashMap<>();
+        counters.put("totalTransactions", analytics.getTotalTransactions());
+        counters.put("successfulTransactions", analytics.getSuccessfulTransactions());
+        counters.put("failedTransactions", analytics.getFailedTransactions());
+        counters.put("fraudTransactions", analytics.getFraudTransactions());
+        counters.put("fraudRatePercentage", analytics.getFraudRatePercentage());
+        counters.put("averageFraudScore", analytics.getAverageFraudScore());
+        counters.put("detectionAccuracy", analytics.getDetectionAccuracy());
+        counters.put("lowRiskCount", analytics.getLowRiskCount());
+        counters.put("mediumRiskCount", analytics.getMediumRiskCount());
+        counters.put("highRiskCount", analytics.getHighRiskCount());
+        return counters;
+    }
+}
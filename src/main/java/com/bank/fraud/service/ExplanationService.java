@@ -0,0 +1,71 @@
+package com.bank.fraud.service;
+
+import com.bank.fraud.dto.ExplanationDTO;
+import com.bank.fraud.model.Transaction;
+import com.bank.fraud.repository.TransactionRepository;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class ExplanationService {
+
+    private final TransactionRepository transactionRepository;
+
+    public ExplanationService(TransactionRepository transactionRepository) {
+        this.transactionRepository = transactionRepository;
+    }
+
+    // --------------------------------------------------
+    // STORED EXPLANATION (NO RE-SCORING)
+    // --------------------------------------------------
+
+    @Transactional(readOnly = true)
+    public ExplanationDTO getExplanation(String transactionId) {
+
+        Transaction transaction = transactionRepository.findByTransactionId(transactionId)
+                .orElseThrow(() -> new ResponseStatusException(
+                        HttpStatus.NOT_FOUND, "Transaction not found: " + transactionId));
+
+        // Ids renamed since the row was written come back raw, without a message
+        FraudExplanation explanation = FraudExplanation.decode(transaction.getExplanation());
+
+        List<ExplanationDTO.RuleContribution> rules = new ArrayList<>(explanation.getRules().size());
+        for (FraudExplanation.RuleContribution rule : explanation.getRules()) {
+            rules.add(new ExplanationDTO.RuleContribution(
+                    rule.id(),
+                    rule.points(),
+                    rule.rule() != null ? rule.rule().getMessage() : null
+            ));
+        }
+
+        List<ExplanationDTO.FeatureContribution> features = new ArrayList<>(explanation.getFeatures().size());
+        for (FraudExplanation.FeatureContribution feature : explanation.getFeatures()) {
+            features.add(new ExplanationDTO.FeatureContribution(
+                    feature.id(),
+                    feature.points(),
+                    feature.feature() != null ? feature.feature().getDescription() : null
+            ));
+        }
+
+        ExplanationDTO dto = new ExplanationDTO();
+        dto.setTransactionId(transaction.getTransactionId());
+        dto.setRiskLevel(transaction.getRiskLevel());
+        dto.setRuleScore(transaction.getRuleScore());
+        dto.setMlScore(transaction.getMlScore());
+        dto.setFinalRiskScore(transaction.getFinalRiskScore());
+        dto.setRules(rules);
+        dto.setTopFeatures(features);
+
+        // Rows from before V8 carry no explanation at all
+        if (transaction.getExplanation() != null) {
+            dto.setMlUnexplained(Math.max(0, transaction.getMlScore() - explanation.getFeaturePoints()));
+        }
+        return dto;
+    }
+}
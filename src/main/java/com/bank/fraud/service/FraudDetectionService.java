@@ -2,7 +2,12 @@ package com.bank.fraud.service;
 
 import com.bank.fraud.dto.FraudScoreDTO;
 import com.bank.fraud.dto.TransactionRequestDTO;
+import com.bank.fraud.profiling.MlScoringEvent;
+import com.bank.fraud.profiling.RuleEvaluationEvent;
+import com.bank.fraud.ratelimit.RateLimitDecision;
+import com.bank.fraud.ratelimit.TransactionRateLimiter;
 import com.bank.fraud.repository.TransactionRepository;
+import com.bank.fraud.service.FraudExplanation.RuleContribution;
 
 import org.springframework.stereotype.Service;
 
@@ -13,18 +18,24 @@ import java.util.List;
 @Service
 public class FraudDetectionService {
 
+    // ML features kept in the stored explanation
+    private static final int EXPLAINED_FEATURES = 3;
+
     private final TransactionRepository transactionRepository;
     private final MLFraudScoringService mlFraudScoringService;
     private final RiskScoringService riskScoringService;
+    private final TransactionRateLimiter transactionRateLimiter;
 
     public FraudDetectionService(
             TransactionRepository transactionRepository,
             MLFraudScoringService mlFraudScoringService,
-            RiskScoringService riskScoringService
+            RiskScoringService riskScoringService,
+            TransactionRateLimiter transactionRateLimiter
     ) {
         this.transactionRepository = transactionRepository;
         this.mlFraudScoringService = mlFraudScoringService;
         this.riskScoringService = riskScoringService;
+        this.transactionRateLimiter = transactionRateLimiter;
     }
 
     // --------------------------------------------------
@@ -32,63 +43,144 @@ public class FraudDetectionService {
     // --------------------------------------------------
 
     public FraudScoreDTO evaluateFraud(TransactionRequestDTO request) {
+        return evaluateFraud(request, false);
+    }
+
+    /**
+     * @param ruleOnly skip the ML model and score on rules alone (degraded mode)
+     */
+    public FraudScoreDTO evaluateFraud(TransactionRequestDTO request, boolean ruleOnly) {
+        return evaluateFraud(request, ruleOnly, countRecentTransactions(request.getAccountId()));
+    }
+
+    /**
+     * @param recentTxnCount the account's earlier transactions inside the velocity
+     *                       window, for callers that track them themselves (pipeline lanes)
+     */
+    public FraudScoreDTO evaluateFraud(TransactionRequestDTO request, boolean ruleOnly, long recentTxnCount) {
+        return evaluate(request, ruleOnly, recentTxnCount, true);
+    }
+
+    /**
+     * Same scoring code with no side effects: no rate-limit reservations.
+     * For JIT warm-up on synthetic requests.
+     */
+    public FraudScoreDTO evaluateForWarmup(TransactionRequestDTO request, boolean ruleOnly) {
+        return evaluate(request, ruleOnly, countRecentTransactions(request.getAccountId()), false);
+    }
+
+    private FraudScoreDTO evaluate(TransactionRequestDTO request, boolean ruleOnly, long recentTxnCount, boolean live) {
 
         List<String> ruleTriggers = new ArrayList<>();
+        List<RuleContribution> ruleContributions = new ArrayList<>();
         int ruleScore = 0;
 
         // 1️⃣ Amount-based rule
-        if (request.getAmount() > 100000) {
-            ruleScore += 40;
-            ruleTriggers.add("Transaction amount exceeds ₹100,000");
-        } else if (request.getAmount() > 50000) {
-            ruleScore += 25;
-            ruleTriggers.add("Transaction amount exceeds ₹50,000");
-        } else if (request.getAmount() > 20000) {
-            ruleScore += 15;
-            ruleTriggers.add("Transaction amount exceeds ₹20,000");
-        } else if (request.getAmount() > 10000) {
-            ruleScore += 8;
-            ruleTriggers.add("Transaction amount exceeds ₹10,000");
+        RuleEvaluationEvent amountRule = RuleEvaluationEvent.start("AMOUNT", request.getAccountId(), ruleScore);
+        if (request.getAmount() > FraudPolicy.AMOUNT_TIER_100K) {
+            ruleScore += trigger(FraudRule.AMOUNT_OVER_100K, FraudPolicy.AMOUNT_OVER_100K_POINTS,
+                    ruleTriggers, ruleContributions);
+        } else if (request.getAmount() > FraudPolicy.AMOUNT_TIER_50K) {
+            ruleScore += trigger(FraudRule.AMOUNT_OVER_50K, FraudPolicy.AMOUNT_OVER_50K_POINTS,
+                    ruleTriggers, ruleContributions);
+        } else if (request.getAmount() > FraudPolicy.AMOUNT_TIER_20K) {
+            ruleScore += trigger(FraudRule.AMOUNT_OVER_20K, FraudPolicy.AMOUNT_OVER_20K_POINTS,
+                    ruleTriggers, ruleContributions);
+        } else if (request.getAmount() > FraudPolicy.AMOUNT_TIER_10K) {
+            ruleScore += trigger(FraudRule.AMOUNT_OVER_10K, FraudPolicy.AMOUNT_OVER_10K_POINTS,
+                    ruleTriggers, ruleContributions);
         }
+        amountRule.finish(ruleScore);
 
         // 2️⃣ Velocity rule (multiple transactions in short time)
-        LocalDateTime fiveMinutesAgo = LocalDateTime.now().minusMinutes(5);
-        long recentTxnCount = transactionRepository.countRecentTransactions(
-                request.getAccountId(),
-                fiveMinutesAgo
-        );
-
-        if (recentTxnCount >= 3) {
-            ruleScore += 30;
-            ruleTriggers.add("Multiple transactions in a short time window");
+        RuleEvaluationEvent velocityRule = RuleEvaluationEvent.start("VELOCITY", request.getAccountId(), ruleScore);
+        if (recentTxnCount >= FraudPolicy.VELOCITY_MIN_COUNT) {
+            ruleScore += trigger(FraudRule.VELOCITY, FraudPolicy.VELOCITY_POINTS, ruleTriggers, ruleContributions);
         }
+        velocityRule.finish(ruleScore);
 
         // 3️⃣ Late-night transaction rule
+        RuleEvaluationEvent lateNightRule = RuleEvaluationEvent.start("LATE_NIGHT", request.getAccountId(), ruleScore);
         int hour = LocalDateTime.now().getHour();
-        if (hour >= 23 || hour <= 4) {
-            ruleScore += 15;
-            ruleTriggers.add("Transaction occurred during late-night hours");
+        if (FraudPolicy.isLateNight(hour, FraudPolicy.LATE_NIGHT_START_HOUR, FraudPolicy.LATE_NIGHT_END_HOUR)) {
+            ruleScore += trigger(FraudRule.LATE_NIGHT, FraudPolicy.LATE_NIGHT_POINTS, ruleTriggers, ruleContributions);
         }
+        lateNightRule.finish(ruleScore);
 
         // 4️⃣ Location anomaly rule (simple simulation)
+        RuleEvaluationEvent locationRule = RuleEvaluationEvent.start("LOCATION", request.getAccountId(), ruleScore);
         if ("UNKNOWN".equalsIgnoreCase(request.getCity())) {
-            ruleScore += 25;
-            ruleTriggers.add("Unrecognized transaction location");
+            ruleScore += trigger(FraudRule.UNKNOWN_LOCATION, FraudPolicy.UNKNOWN_LOCATION_POINTS,
+                    ruleTriggers, ruleContributions);
         }
+        locationRule.finish(ruleScore);
+
+        // 5️⃣ Rate-limit rule (rate-limit.mode=SCORE; REJECT mode is enforced at ingress)
+        RuleEvaluationEvent rateLimitRule = RuleEvaluationEvent.start("RATE_LIMIT", request.getAccountId(), ruleScore);
+        if (live && transactionRateLimiter.isScoreMode()) {
+            RateLimitDecision rateLimit = transactionRateLimiter.check(request);
+            for (String dimension : rateLimit.limitedDimensions()) {
+                ruleScore += trigger(FraudRule.rateLimit(dimension),
+                        transactionRateLimiter.getScorePoints(), ruleTriggers, ruleContributions);
+            }
+        }
+        rateLimitRule.finish(ruleScore);
 
         // Cap rule score at 100
-        ruleScore = Math.min(ruleScore, 100);
+        ruleScore = Math.min(ruleScore, FraudPolicy.MAX_RULE_SCORE);
+
+        // Degraded mode: rules carry the full weight
+        if (ruleOnly) {
+            FraudScoreDTO ruleOnlyScore = riskScoringService.calculateFinalRisk(
+                    ruleScore, 0, ruleTriggers, FraudPolicy.RULE_ONLY_RULE_WEIGHT, FraudPolicy.RULE_ONLY_ML_WEIGHT);
+            ruleOnlyScore.setExplanation(new FraudExplanation(ruleContributions, List.of()));
+            ruleOnlyScore.setRuleOnly(true);
+            return ruleOnlyScore;
+        }
 
-        // 5️⃣ ML fraud probability (0–100)
-        int mlScore = mlFraudScoringService.predictFraudScore(request);
+        // 6️⃣ ML fraud probability (0–100)
+        MlScoringEvent mlEvent = MlScoringEvent.start(request.getAccountId());
+        MLFraudScoringService.Prediction prediction = mlFraudScoringService.predict(request);
+        int mlScore = prediction.score();
+        mlEvent.finish(mlScore);
 
-        // 6️⃣ Final risk scoring & classification
+        // 7️⃣ Final risk scoring & classification
         FraudScoreDTO fraudScoreDTO = riskScoringService.calculateFinalRisk(
                 ruleScore,
                 mlScore,
                 ruleTriggers
         );
+        fraudScoreDTO.setExplanation(new FraudExplanation(
+                ruleContributions,
+                FraudExplanation.topFeatures(prediction.contributions(), EXPLAINED_FEATURES)
+        ));
 
+        // Drift and metrics are recorded by the callers once the decision is stored
         return fraudScoreDTO;
     }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    /**
+     * Committed transactions of the account inside the velocity window.
+     */
+    public long countRecentTransactions(String accountId) {
+        return transactionRepository.countRecentTransactions(
+                accountId,
+                LocalDateTime.now().minusMinutes(FraudPolicy.VELOCITY_WINDOW_MINUTES)
+        );
+    }
+
+    private int trigger(
+            FraudRule rule,
+            int points,
+            List<String> ruleTriggers,
+            List<RuleContribution> ruleContributions
+    ) {
+        ruleTriggers.add(rule.getMessage());
+        ruleContributions.add(new RuleContribution(rule, points));
+        return points;
+    }
 }
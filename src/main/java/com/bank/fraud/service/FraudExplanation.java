@@ -0,0 +1,210 @@
+package com.bank.fraud.service;
+
+import com.bank.fraud.ml.ModelFeature;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Structured reason for a fraud decision: which rules fired with how many
+ * points, and the ML features that contributed most to the model score.
+ *
+ * Stored on the transaction row in a compact form,
+ * <pre>
+ *   1|amount_over_50k:25,velocity:30|amount:25,is_card:15
+ * </pre>
+ * (version | rule id:points | feature id:points). Messages are never
+ * stored; they come from the FraudRule / ModelFeature constants. An id
+ * that no longer matches a constant (a rule or feature renamed or removed
+ * since the row was written) decodes with a null constant and its raw id,
+ * so old rows still explain what they can. Only a
+ * small number of distinct explanations exist in practice, so both the
+ * encoded strings and decoded explanations are cached and shared.
+ */
+public final class FraudExplanation {
+
+    /**
+     * @param rule the rule, or null if id is not a current FraudRule
+     */
+    public record RuleContribution(FraudRule rule, String id, int points) {
+
+        public RuleContribution(FraudRule rule, int points) {
+            this(rule, rule.getId(), points);
+        }
+    }
+
+    /**
+     * @param feature the feature, or null if id is not a current ModelFeature
+     */
+    public record FeatureContribution(ModelFeature feature, String id, int points) {
+
+        public FeatureContribution(ModelFeature feature, int points) {
+            this(feature, feature.getId(), points);
+        }
+    }
+
+    private static final String VERSION = "1";
+    private static final int CACHE_LIMIT = 4096;
+
+    private static final Map<FraudExplanation, String> ENCODED = new ConcurrentHashMap<>();
+    private static final Map<String, FraudExplanation> DECODED = new ConcurrentHashMap<>();
+
+    private static final Map<String, FraudRule> RULES_BY_ID = new HashMap<>();
+    private static final Map<String, ModelFeature> FEATURES_BY_ID = new HashMap<>();
+
+    static {
+        for (FraudRule rule : FraudRule.values()) {
+            RULES_BY_ID.put(rule.getId(), rule);
+        }
+        for (ModelFeature feature : ModelFeature.values()) {
+            FEATURES_BY_ID.put(feature.getId(), feature);
+        }
+    }
+
+    private final List<RuleContribution> rules;
+    private final List<FeatureContribution> features;
+
+    public FraudExplanation(List<RuleContribution> rules, List<FeatureContribution> features) {
+        this.rules = List.copyOf(rules);
+        this.features = List.copyOf(features);
+    }
+
+    /**
+     * Keeps the top features by points (ties in declaration order), dropping zeros.
+     */
+    public static List<FeatureContribution> topFeatures(List<FeatureContribution> features, int limit) {
+        List<FeatureContribution> sorted = new ArrayList<>(features.size());
+        for (FeatureContribution feature : features) {
+            if (feature.points() != 0) {
+                sorted.add(feature);
+            }
+        }
+        sorted.sort(Comparator.comparingInt((FeatureContribution f) -> -Math.abs(f.points()))
+                .thenComparing(FeatureContribution::feature));
+        return sorted.size() <= limit ? sorted : sorted.subList(0, limit);
+    }
+
+    public List<RuleContribution> getRules() {
+        return rules;
+    }
+
+    public List<FeatureContribution> getFeatures() {
+        return features;
+    }
+
+    public int getFeaturePoints() {
+        int total = 0;
+        for (FeatureContribution feature : features) {
+            total += feature.points();
+        }
+        return total;
+    }
+
+    // --------------------------------------------------
+    // COMPACT ENCODING
+    // --------------------------------------------------
+
+    public String encode() {
+        String cached = ENCODED.get(this);
+        if (cached != null) {
+            return cached;
+        }
+
+        StringBuilder out = new StringBuilder(64).append(VERSION).append('|');
+        for (int i = 0; i < rules.size(); i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append(rules.get(i).id()).append(':').append(rules.get(i).points());
+        }
+        out.append('|');
+        for (int i = 0; i < features.size(); i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append(features.get(i).id()).append(':').append(features.get(i).points());
+        }
+
+        String encoded = out.toString();
+        remember(ENCODED, this, encoded);
+        return encoded;
+    }
+
+    /**
+     * @return the decoded explanation, or an empty one for rows written before explanations existed
+     */
+    public static FraudExplanation decode(String encoded) {
+
+        if (encoded == null || encoded.isEmpty()) {
+            return new FraudExplanation(Collections.emptyList(), Collections.emptyList());
+        }
+
+        FraudExplanation cached = DECODED.get(encoded);
+        if (cached != null) {
+            return cached;
+        }
+
+        String[] sections = encoded.split("\\|", -1);
+        if (sections.length != 3 || !VERSION.equals(sections[0])) {
+            throw new IllegalArgumentException("Unsupported explanation format: " + encoded);
+        }
+
+        List<RuleContribution> rules = new ArrayList<>();
+        for (String entry : entries(sections[1])) {
+            int colon = entry.lastIndexOf(':');
+            String id = entry.substring(0, colon);
+            rules.add(new RuleContribution(
+                    RULES_BY_ID.get(id),
+                    id,
+                    Integer.parseInt(entry.substring(colon + 1))
+            ));
+        }
+
+        List<FeatureContribution> features = new ArrayList<>();
+        for (String entry : entries(sections[2])) {
+            int colon = entry.lastIndexOf(':');
+            String id = entry.substring(0, colon);
+            features.add(new FeatureContribution(
+                    FEATURES_BY_ID.get(id),
+                    id,
+                    Integer.parseInt(entry.substring(colon + 1))
+            ));
+        }
+
+        FraudExplanation explanation = new FraudExplanation(rules, features);
+        remember(DECODED, encoded, explanation);
+        return explanation;
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private static String[] entries(String section) {
+        return section.isEmpty() ? new String[0] : section.split(",");
+    }
+
+    private static <K, V> void remember(Map<K, V> cache, K key, V value) {
+        if (cache.size() >= CACHE_LIMIT) {
+            cache.clear();
+        }
+        cache.put(key, value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof FraudExplanation that
+                && rules.equals(that.rules)
+                && features.equals(that.features);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * rules.hashCode() + features.hashCode();
+    }
+}
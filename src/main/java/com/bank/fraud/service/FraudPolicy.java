@@ -0,0 +1,66 @@
+package com.bank.fraud.service;
+
+/**
+ * The live fraud policy: rule thresholds and points, the velocity window,
+ * and the weights and bands that turn rule and ML scores into a risk level.
+ *
+ * FraudDetectionService and RiskScoringService score with these values, and
+ * a backtest request falls back to them for every field it leaves null, so
+ * "the live engine's setting" means the same thing in both places.
+ */
+public final class FraudPolicy {
+
+    // ---------- Amount rule (first tier exceeded applies) ----------
+
+    public static final double AMOUNT_TIER_100K = 100000;
+    public static final double AMOUNT_TIER_50K = 50000;
+    public static final double AMOUNT_TIER_20K = 20000;
+    public static final double AMOUNT_TIER_10K = 10000;
+
+    public static final int AMOUNT_OVER_100K_POINTS = 40;
+    public static final int AMOUNT_OVER_50K_POINTS = 25;
+    public static final int AMOUNT_OVER_20K_POINTS = 15;
+    public static final int AMOUNT_OVER_10K_POINTS = 8;
+
+    // ---------- Velocity rule: this many earlier transactions of the account inside the window ----------
+
+    public static final int VELOCITY_WINDOW_MINUTES = 5;
+    public static final int VELOCITY_MIN_COUNT = 3;
+    public static final int VELOCITY_POINTS = 30;
+
+    // ---------- Late-night rule (23 -> 4 covers 23:00–04:59) ----------
+
+    public static final int LATE_NIGHT_START_HOUR = 23;
+    public static final int LATE_NIGHT_END_HOUR = 4;
+    public static final int LATE_NIGHT_POINTS = 15;
+
+    // ---------- Location rule ----------
+
+    public static final int UNKNOWN_LOCATION_POINTS = 25;
+
+    public static final int MAX_RULE_SCORE = 100;
+
+    // ---------- Final risk ----------
+
+    public static final double RULE_WEIGHT = 0.4;
+    public static final double ML_WEIGHT = 0.6;
+
+    // Degraded mode: no ML score, rules carry the full weight
+    public static final double RULE_ONLY_RULE_WEIGHT = 1.0;
+    public static final double RULE_ONLY_ML_WEIGHT = 0.0;
+
+    public static final int LOW_RISK_MAX = 29;          // LOW up to and including this score
+    public static final int MEDIUM_RISK_MAX = 59;       // MEDIUM up to and including this score, HIGH above
+
+    private FraudPolicy() {
+    }
+
+    /**
+     * Wraps around midnight when start > end.
+     */
+    public static boolean isLateNight(int hour, int startHour, int endHour) {
+        return startHour <= endHour
+                ? hour >= startHour && hour <= endHour
+                : hour >= startHour || hour <= endHour;
+    }
+}
@@ -0,0 +1,55 @@
+package com.bank.fraud.service;
+
+/**
+ * Rules evaluated by FraudDetectionService.
+ *
+ * The id is stable and low-cardinality (metrics, explanations); the message
+ * is the human-readable text that goes into ruleTriggers.
+ */
+public enum FraudRule {
+
+    AMOUNT_OVER_100K("amount_over_100k", "Transaction amount exceeds ₹100,000"),
+    AMOUNT_OVER_50K("amount_over_50k", "Transaction amount exceeds ₹50,000"),
+    AMOUNT_OVER_20K("amount_over_20k", "Transaction amount exceeds ₹20,000"),
+    AMOUNT_OVER_10K("amount_over_10k", "Transaction amount exceeds ₹10,000"),
+    VELOCITY("velocity", "Multiple transactions in a short time window"),
+    LATE_NIGHT("late_night", "Transaction occurred during late-night hours"),
+    UNKNOWN_LOCATION("unknown_location", "Unrecognized transaction location"),
+    RATE_LIMIT_ACCOUNT("rate_limit_account", "Request rate exceeded for account"),
+    RATE_LIMIT_DEVICE("rate_limit_device", "Request rate exceeded for device"),
+    RATE_LIMIT_IP("rate_limit_ip", "Request rate exceeded for ip");
+
+    private final String id;
+    private final String message;
+
+    FraudRule(String id, String message) {
+        this.id = id;
+        this.message = message;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public static FraudRule fromId(String id) {
+        for (FraudRule rule : values()) {
+            if (rule.id.equals(id)) {
+                return rule;
+            }
+        }
+        throw new IllegalArgumentException("Unknown fraud rule: " + id);
+    }
+
+    public static FraudRule rateLimit(String dimension) {
+        return switch (dimension) {
+            case "account" -> RATE_LIMIT_ACCOUNT;
+            case "device" -> RATE_LIMIT_DEVICE;
+            case "ip" -> RATE_LIMIT_IP;
+            default -> throw new IllegalArgumentException("Unknown rate-limit dimension: " + dimension);
+        };
+    }
+}
@@ -1,9 +1,13 @@
 package com.bank.fraud.service;
 
 import com.bank.fraud.dto.TransactionRequestDTO;
+import com.bank.fraud.ml.ModelFeature;
+import com.bank.fraud.service.FraudExplanation.FeatureContribution;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 @Service
@@ -22,45 +26,59 @@ public class MLFraudScoringService {
 
     private static final Random RANDOM = new Random();
 
+    // Score plus the points each mapped feature added (the rest is model uncertainty)
+    public record Prediction(int score, List<FeatureContribution> contributions) {
+    }
+
     // --------------------------------------------------
     // MAIN ML PREDICTION METHOD
     // --------------------------------------------------
 
     public int predictFraudScore(TransactionRequestDTO request) {
+        return predict(request).score();
+    }
+
+    public Prediction predict(TransactionRequestDTO request) {
 
         int score = 0;
+        List<FeatureContribution> contributions = new ArrayList<>(4);
 
         // 1️⃣ Amount-based ML influence
         if (request.getAmount() > 100000) {
-            score += 40;
+            score += contribute(ModelFeature.AMOUNT, 40, contributions);
         } else if (request.getAmount() > 50000) {
-            score += 25;
+            score += contribute(ModelFeature.AMOUNT, 25, contributions);
         } else if (request.getAmount() > 20000) {
-            score += 15;
+            score += contribute(ModelFeature.AMOUNT, 15, contributions);
         }
 
         // 2️⃣ Transaction type risk
         if ("CARD".equalsIgnoreCase(request.getTransactionType())) {
-            score += 15;
+            score += contribute(ModelFeature.IS_CARD, 15, contributions);
         } else if ("WALLET".equalsIgnoreCase(request.getTransactionType())) {
-            score += 10;
+            score += contribute(ModelFeature.IS_WALLET, 10, contributions);
         }
 
         // 3️⃣ Time-based behavior
         int hour = LocalDateTime.now().getHour();
         if (hour >= 23 || hour <= 4) {
-            score += 15;
+            score += contribute(ModelFeature.IS_LATE_NIGHT, 15, contributions);
         }
 
         // 4️⃣ Location risk simulation
         if ("UNKNOWN".equalsIgnoreCase(request.getCity())) {
-            score += 20;
+            score += contribute(ModelFeature.IS_UNKNOWN_LOCATION, 20, contributions);
         }
 
         // 5️⃣ Add controlled randomness (simulates model uncertainty)
         score += RANDOM.nextInt(15); // 0–14
 
         // Cap ML score between 0 and 100
-        return Math.min(score, 100);
+        return new Prediction(Math.min(score, 100), contributions);
+    }
+
+    private int contribute(ModelFeature feature, int points, List<FeatureContribution> contributions) {
+        contributions.add(new FeatureContribution(feature, points));
+        return points;
     }
 }
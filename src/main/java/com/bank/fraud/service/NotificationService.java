@@ -0,0 +1,278 @@
+package com.bank.fraud.service;
+
+import com.bank.fraud.dto.NotificationPageDTO;
+import com.bank.fraud.model.AuditLog;
+import com.bank.fraud.repository.AuditLogRepository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+
+@Service
+public class NotificationService {
+
+    /*
+     * Notifications are paged by keyset on (eventTime, id), newest first.
+     * The cursor is an opaque base64 token of the last row's position, so
+     * every page is an index range scan regardless of how deep the client is.
+     *
+     * Delta polling cannot use that keyset: eventTime is stamped when the
+     * row is built, deferred audit rows commit up to a flush interval later,
+     * and pooled ids do not follow commit order, so a row can become visible
+     * behind a position the client has already passed. The delta cursor
+     * instead carries a scan start that trails the newest delivered row by
+     * the overlap window, plus the ids already delivered since that start;
+     * each poll re-scans the window and skips those ids.
+     */
+
+    public static final String DEFAULT_ACTION = "BLOCKED";
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    // Keeps the token well inside a URL; past this the window shrinks instead
+    static final int MAX_DELIVERED_IDS = 256;
+
+    private static final String DELTA_CURSOR_PREFIX = "d";
+
+    private final AuditLogRepository auditLogRepository;
+    private final Duration sinceOverlap;
+
+    public NotificationService(
+            AuditLogRepository auditLogRepository,
+            @Value("${notifications.since-overlap-seconds:10}") long sinceOverlapSeconds
+    ) {
+        this.auditLogRepository = auditLogRepository;
+        this.sinceOverlap = Duration.ofSeconds(sinceOverlapSeconds);
+    }
+
+    // --------------------------------------------------
+    // RECENT FRAUD / SECURITY NOTIFICATIONS (PAGED)
+    // --------------------------------------------------
+
+    @Transactional(readOnly = true)
+    public NotificationPageDTO getNotifications(
+            String entityType,
+            String action,
+            LocalDateTime from,
+            LocalDateTime to,
+            String cursor,
+            int limit
+    ) {
+        int pageSize = clampLimit(limit);
+        Position position = cursor == null || cursor.isBlank() ? null : decodeCursor(cursor);
+
+        // Fetch one extra row to know whether another page exists
+        List<AuditLog> rows = auditLogRepository.findPageBefore(
+                blankToNull(entityType),
+                blankToNull(action),
+                from,
+                to,
+                position == null ? null : position.eventTime(),
+                position == null ? null : position.id(),
+                PageRequest.of(0, pageSize + 1)
+        );
+
+        boolean hasMore = rows.size() > pageSize;
+        List<AuditLog> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = page.isEmpty() ? null : encodeCursor(page.get(page.size() - 1));
+        String latestCursor = page.isEmpty() ? null : latestCursor(page);
+
+        return new NotificationPageDTO(List.copyOf(page), nextCursor, hasMore, latestCursor);
+    }
+
+    // --------------------------------------------------
+    // DELTA MODE: ONLY NOTIFICATIONS NEWER THAN A CURSOR
+    // --------------------------------------------------
+
+    /**
+     * Returns rows not yet delivered through this cursor chain, oldest
+     * first, and a cursor to poll with next.
+     *
+     * Rows that commit up to since-overlap-seconds after their eventTime
+     * are still delivered. Delivery is at least once: a row can repeat
+     * after a legacy (time|id) cursor, or when more than
+     * MAX_DELIVERED_IDS rows share the window, so clients dedupe by id.
+     *
+     * Reads the primary: replica lag would add to the commit delay the
+     * window has to cover.
+     */
+    @Transactional
+    public NotificationPageDTO getNotificationsSince(
+            String entityType,
+            String action,
+            String since,
+            int limit
+    ) {
+        int pageSize = clampLimit(limit);
+        DeltaPosition position = decodeDeltaCursor(since);
+        int fetchSize = pageSize + position.deliveredIds().size() + 1;
+
+        List<AuditLog> rows = auditLogRepository.findPageFrom(
+                blankToNull(entityType),
+                blankToNull(action),
+                position.scanFrom(),
+                PageRequest.of(0, fetchSize)
+        );
+
+        // 1️⃣ Skip what was delivered before; remember it with this page for the next window
+        List<AuditLog> page = new ArrayList<>();
+        List<AuditLog> delivered = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        boolean hasMore = false;
+        for (AuditLog row : rows) {
+            seen.add(row.getId());
+            if (position.deliveredIds().contains(row.getId())) {
+                delivered.add(row);
+            } else if (page.size() < pageSize) {
+                page.add(row);
+                delivered.add(row);
+            } else {
+                hasMore = true;
+            }
+        }
+
+        // 2️⃣ Delivered ids past a full fetch were not read this time but are still in the window
+        List<Long> unread = new ArrayList<>();
+        if (rows.size() == fetchSize) {
+            for (Long id : position.deliveredIds()) {
+                if (!seen.contains(id)) {
+                    unread.add(id);
+                }
+            }
+        }
+
+        // 3️⃣ The window trails the newest delivered row
+        LocalDateTime scanFrom = position.scanFrom();
+        if (!page.isEmpty()) {
+            LocalDateTime trailing = page.get(page.size() - 1).getEventTime().minus(sinceOverlap);
+            if (trailing.isAfter(scanFrom)) {
+                scanFrom = trailing;
+            }
+        }
+
+        String nextCursor = encodeDeltaCursor(scanFrom, delivered, unread);
+        return new NotificationPageDTO(List.copyOf(page), nextCursor, hasMore, nextCursor);
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private record Position(LocalDateTime eventTime, Long id) {
+    }
+
+    private record DeltaPosition(LocalDateTime scanFrom, Set<Long> deliveredIds) {
+    }
+
+    // Seeds delta polling from a newest-first page: the window behind its top row is already delivered
+    private String latestCursor(List<AuditLog> newestFirst) {
+        LocalDateTime scanFrom = newestFirst.get(0).getEventTime().minus(sinceOverlap);
+        List<AuditLog> delivered = new ArrayList<>();
+        for (AuditLog row : newestFirst) {
+            if (row.getEventTime().isBefore(scanFrom)) {
+                break;
+            }
+            delivered.add(0, row);
+        }
+        return encodeDeltaCursor(scanFrom, delivered, List.of());
+    }
+
+    /**
+     * @param delivered rows in (eventTime, id) order
+     * @param unread    delivered ids newer than every row in delivered
+     */
+    private String encodeDeltaCursor(LocalDateTime scanFrom, List<AuditLog> delivered, List<Long> unread) {
+
+        List<AuditLog> window = new ArrayList<>();
+        for (AuditLog row : delivered) {
+            if (!row.getEventTime().isBefore(scanFrom)) {
+                window.add(row);
+            }
+        }
+
+        // Too many to carry: start the window later rather than grow the token
+        int excess = window.size() + unread.size() - MAX_DELIVERED_IDS;
+        if (excess > 0) {
+            window = window.subList(Math.min(excess, window.size()), window.size());
+            if (!window.isEmpty()) {
+                scanFrom = window.get(0).getEventTime();
+            }
+        }
+
+        StringJoiner ids = new StringJoiner(",");
+        for (AuditLog row : window) {
+            ids.add(Long.toString(row.getId()));
+        }
+        for (Long id : unread) {
+            ids.add(Long.toString(id));
+        }
+
+        String raw = DELTA_CURSOR_PREFIX + "|" + scanFrom + "|" + ids;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Also accepts a plain (time|id) position, as handed out before delta cursors existed
+    private DeltaPosition decodeDeltaCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length == 2) {
+                Position position = decodeCursor(cursor);
+                return new DeltaPosition(position.eventTime(), Set.of(position.id()));
+            }
+            if (parts.length != 3 || !DELTA_CURSOR_PREFIX.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid notification cursor");
+            }
+            Set<Long> deliveredIds = new HashSet<>();
+            for (String id : parts[2].split(",")) {
+                if (!id.isEmpty()) {
+                    deliveredIds.add(Long.parseLong(id));
+                }
+            }
+            return new DeltaPosition(LocalDateTime.parse(parts[1]), deliveredIds);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid notification cursor");
+        }
+    }
+
+    private String encodeCursor(AuditLog auditLog) {
+        String raw = auditLog.getEventTime() + "|" + auditLog.getId();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Position decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new Position(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid notification cursor");
+        }
+    }
+
+    private int clampLimit(int limit) {
+        return limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
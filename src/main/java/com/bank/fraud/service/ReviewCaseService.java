@@ -0,0 +1,297 @@
+package com.bank.fraud.service;
+
+import com.bank.fraud.model.ReviewCase;
+import com.bank.fraud.model.Transaction;
+import com.bank.fraud.repository.ReviewCaseRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class ReviewCaseService {
+
+    /*
+     * Analyst review queue in the review_cases table.
+     *
+     * MEDIUM decisions and HIGH ones at or below the borderline score open
+     * a case in the same transaction as the decision. Analysts claim the
+     * highest-priority open cases with SELECT ... FOR UPDATE SKIP LOCKED on
+     * (status, priority DESC, id): concurrent claimers skip each other's
+     * rows instead of waiting, and every claim is an index range read.
+     *
+     * A claim is a lease (DB clock). Renew, release and resolve only succeed
+     * for the current holder of an unexpired lease; expired leases are put
+     * back in the queue by requeueExpiredLeases. Every write runs in a
+     * TransactionTemplate, so it commits whether or not the pool
+     * auto-commits.
+     */
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewCaseService.class);
+
+    // priority = finalRiskScore * AMOUNT_SPAN + amount in paise (capped), so one
+    // descending index orders by risk score first, then amount
+    private static final long AMOUNT_SPAN = 10_000_000_000_000L;
+
+    private final ReviewCaseRepository reviewCaseRepository;
+    private final AuditLogService auditLogService;
+    private final AccountBlockService accountBlockService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int borderlineHighMaxScore;
+    private final int leaseSeconds;
+    private final int maxClaimBatch;
+    private final int requeueBatchSize;
+
+    public ReviewCaseService(
+            ReviewCaseRepository reviewCaseRepository,
+            AuditLogService auditLogService,
+            AccountBlockService accountBlockService,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${review.enabled:true}") boolean enabled,
+            @Value("${review.borderline-high-max-score:70}") int borderlineHighMaxScore,
+            @Value("${review.lease-seconds:900}") int leaseSeconds,
+            @Value("${review.max-claim-batch:20}") int maxClaimBatch,
+            @Value("${review.requeue-batch-size:1000}") int requeueBatchSize
+    ) {
+        this.reviewCaseRepository = reviewCaseRepository;
+        this.auditLogService = auditLogService;
+        this.accountBlockService = accountBlockService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.borderlineHighMaxScore = borderlineHighMaxScore;
+        this.leaseSeconds = leaseSeconds;
+        this.maxClaimBatch = maxClaimBatch;
+        this.requeueBatchSize = requeueBatchSize;
+    }
+
+    // --------------------------------------------------
+    // ROUTING (CALLER'S TRANSACTION)
+    // --------------------------------------------------
+
+    public boolean isReviewable(Transaction transaction) {
+        String riskLevel = transaction.getRiskLevel();
+        return enabled && ("MEDIUM".equals(riskLevel)
+                || ("HIGH".equals(riskLevel)
+                        && transaction.getFinalRiskScore() != null
+                        && transaction.getFinalRiskScore() <= borderlineHighMaxScore));
+    }
+
+    public void openCases(List<Transaction> transactions) {
+
+        List<ReviewCase> cases = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Transaction transaction : transactions) {
+            if (isReviewable(transaction)) {
+                cases.add(buildCase(transaction, now));
+            }
+        }
+
+        if (!cases.isEmpty()) {
+            reviewCaseRepository.saveAll(cases);
+        }
+    }
+
+    // --------------------------------------------------
+    // CLAIM / RENEW / RELEASE / RESOLVE
+    // --------------------------------------------------
+
+    public List<ReviewCase> claim(String analyst, int limit) {
+
+        int batch = Math.max(1, Math.min(limit, maxClaimBatch));
+
+        List<Long> ids = transactionTemplate.execute(status -> {
+
+            // 1️⃣ Lock the top open cases, skipping rows other analysts are claiming
+            List<Long> locked = jdbcTemplate.queryForList(
+                    "SELECT id FROM review_cases WHERE status = 'OPEN'"
+                            + " ORDER BY priority DESC, id LIMIT ? FOR UPDATE SKIP LOCKED",
+                    Long.class,
+                    batch
+            );
+
+            if (locked.isEmpty()) {
+                return locked;
+            }
+
+            // 2️⃣ Lease them in one statement
+            String placeholders = String.join(",", Collections.nCopies(locked.size(), "?"));
+            List<Object> args = new ArrayList<>(locked.size() + 2);
+            args.add(analyst);
+            args.add(leaseSeconds);
+            args.addAll(locked);
+            jdbcTemplate.update(
+                    "UPDATE review_cases SET status = 'CLAIMED', claimed_by = ?,"
+                            + " lease_until = NOW(6) + INTERVAL ? SECOND, claim_count = claim_count + 1"
+                            + " WHERE id IN (" + placeholders + ")",
+                    args.toArray()
+            );
+            return locked;
+        });
+
+        return ids == null || ids.isEmpty()
+                ? List.of()
+                : reviewCaseRepository.findByIdsInPriorityOrder(ids);
+    }
+
+    public ReviewCase renew(long caseId, String analyst) {
+        return transactionTemplate.execute(status -> {
+            requireLease(caseId, jdbcTemplate.update(
+                    "UPDATE review_cases SET lease_until = NOW(6) + INTERVAL ? SECOND"
+                            + " WHERE id = ? AND status = 'CLAIMED' AND claimed_by = ? AND lease_until > NOW(6)",
+                    leaseSeconds, caseId, analyst
+            ));
+            return getCase(caseId);
+        });
+    }
+
+    public void release(long caseId, String analyst) {
+        transactionTemplate.executeWithoutResult(status -> requireLease(caseId, jdbcTemplate.update(
+                "UPDATE review_cases SET status = 'OPEN', claimed_by = NULL, lease_until = NULL"
+                        + " WHERE id = ? AND status = 'CLAIMED' AND claimed_by = ? AND lease_until > NOW(6)",
+                caseId, analyst
+        )));
+    }
+
+    public ReviewCase resolve(long caseId, String analyst, String resolution, String note) {
+
+        ReviewCase resolved = transactionTemplate.execute(status -> {
+            requireLease(caseId, jdbcTemplate.update(
+                    "UPDATE review_cases SET status = 'RESOLVED', resolution = ?, resolution_note = ?,"
+                            + " resolved_at = NOW(6), lease_until = NULL"
+                            + " WHERE id = ? AND status = 'CLAIMED' AND claimed_by = ? AND lease_until > NOW(6)",
+                    resolution, note, caseId, analyst
+            ));
+
+            ReviewCase reviewCase = getCase(caseId);
+            auditLogService.logAdminAction(
+                    "TRANSACTION",
+                    reviewCase.getTransactionId(),
+                    "REVIEW_" + resolution,
+                    analyst,
+                    "Review case " + caseId + " resolved as " + resolution
+                            + (note == null || note.isBlank() ? "" : ": " + note),
+                    "SYSTEM"
+            );
+            return reviewCase;
+        });
+
+        // Analyst-confirmed fraud counts like a HIGH decision towards a block
+        if (resolved != null && "CONFIRMED_FRAUD".equals(resolution)) {
+            accountBlockService.recordStrike(
+                    resolved.getAccountId(),
+                    "HIGH",
+                    List.of("Fraud confirmed by analyst review")
+            );
+        }
+        return resolved;
+    }
+
+    // --------------------------------------------------
+    // ANALYST VIEWS
+    // --------------------------------------------------
+
+    @Transactional(readOnly = true)
+    public List<ReviewCase> getClaimedBy(String analyst) {
+        return reviewCaseRepository.findByClaimedByAndStatusOrderByPriorityDesc(analyst, "CLAIMED");
+    }
+
+    @Transactional(readOnly = true)
+    public List<ReviewCase> peekOpen(int limit) {
+        return reviewCaseRepository.findOpen(PageRequest.of(0, Math.max(1, Math.min(limit, 500))));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("open", reviewCaseRepository.countByStatus("OPEN"));
+        stats.put("claimed", reviewCaseRepository.countByStatus("CLAIMED"));
+        stats.put("leaseSeconds", leaseSeconds);
+        stats.put("borderlineHighMaxScore", borderlineHighMaxScore);
+        return stats;
+    }
+
+    // --------------------------------------------------
+    // EXPIRED LEASES BACK TO THE QUEUE
+    // --------------------------------------------------
+
+    // Idempotent bounded updates on idx_case_lease; safe to run on every node.
+    // Each batch commits on its own, so row locks are held for one batch only.
+    @Scheduled(fixedDelayString = "${review.requeue-interval-ms:30000}")
+    public void requeueExpiredLeases() {
+
+        int total = 0;
+        int updated;
+        do {
+            Integer batch = transactionTemplate.execute(status -> jdbcTemplate.update(
+                    "UPDATE review_cases SET status = 'OPEN', claimed_by = NULL, lease_until = NULL"
+                            + " WHERE status = 'CLAIMED' AND lease_until <= NOW(6) LIMIT ?",
+                    requeueBatchSize
+            ));
+            updated = batch == null ? 0 : batch;
+            total += updated;
+        } while (updated == requeueBatchSize);
+
+        if (total > 0) {
+            log.info("Requeued {} review cases with expired leases", total);
+        }
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private ReviewCase buildCase(Transaction transaction, LocalDateTime now) {
+        ReviewCase reviewCase = new ReviewCase();
+        reviewCase.setTransactionId(transaction.getTransactionId());
+        reviewCase.setAccountId(transaction.getAccountId());
+        reviewCase.setAmount(transaction.getAmount());
+        reviewCase.setFinalRiskScore(transaction.getFinalRiskScore());
+        reviewCase.setRiskLevel(transaction.getRiskLevel());
+        reviewCase.setPriority(priority(transaction.getFinalRiskScore(), transaction.getAmount()));
+        reviewCase.setStatus("OPEN");
+        reviewCase.setClaimCount(0);
+        reviewCase.setCreatedAt(now);
+        return reviewCase;
+    }
+
+    static long priority(Integer finalRiskScore, Double amount) {
+        long score = finalRiskScore == null ? 0 : finalRiskScore;
+        long paise = amount == null ? 0 : Math.min(AMOUNT_SPAN - 1, Math.max(0, Math.round(amount * 100)));
+        return score * AMOUNT_SPAN + paise;
+    }
+
+    private ReviewCase getCase(long caseId) {
+        return reviewCaseRepository.findById(caseId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Review case not found: " + caseId));
+    }
+
+    private void requireLease(long caseId, int updated) {
+        if (updated == 0) {
+            getCase(caseId);
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT,
+                    "Review case " + caseId + " is not leased to you (expired, released or claimed by another analyst)"
+            );
+        }
+    }
+}
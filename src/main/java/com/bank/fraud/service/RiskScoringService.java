@@ -8,14 +8,6 @@ import java.util.List;
 @Service
 public class RiskScoringService {
 
-    // Weight configuration (can be externalized later)
-    private static final double RULE_WEIGHT = 0.4;
-    private static final double ML_WEIGHT = 0.6;
-
-    // Risk thresholds
-    private static final int LOW_RISK_MAX = 29;
-    private static final int MEDIUM_RISK_MAX = 59;
-
     // --------------------------------------------------
     // FINAL RISK CALCULATION
     // --------------------------------------------------
@@ -25,20 +17,31 @@ public class RiskScoringService {
             int mlScore,
             List<String> ruleTriggers
     ) {
+        return calculateFinalRisk(ruleScore, mlScore, ruleTriggers, FraudPolicy.RULE_WEIGHT, FraudPolicy.ML_WEIGHT);
+    }
+
+    // Weight override used by shadow candidates and rule-only degraded mode
+    public FraudScoreDTO calculateFinalRisk(
+            int ruleScore,
+            int mlScore,
+            List<String> ruleTriggers,
+            double ruleWeight,
+            double mlWeight
+    ) {
 
         // 1️⃣ Calculate weighted final risk score
         int finalRiskScore = (int) Math.round(
-                (ruleScore * RULE_WEIGHT) + (mlScore * ML_WEIGHT)
+                (ruleScore * ruleWeight) + (mlScore * mlWeight)
         );
 
         // 2️⃣ Determine risk level
         String riskLevel;
         boolean fraudDetected;
 
-        if (finalRiskScore <= LOW_RISK_MAX) {
+        if (finalRiskScore <= FraudPolicy.LOW_RISK_MAX) {
             riskLevel = "LOW";
             fraudDetected = false;
-        } else if (finalRiskScore <= MEDIUM_RISK_MAX) {
+        } else if (finalRiskScore <= FraudPolicy.MEDIUM_RISK_MAX) {
             riskLevel = "MEDIUM";
             fraudDetected = false;
         } else {
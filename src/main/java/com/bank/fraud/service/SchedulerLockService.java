@@ -0,0 +1,65 @@
+package com.bank.fraud.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+
+@Service
+public class SchedulerLockService {
+
+    /*
+     * Lease locks in the scheduler_locks table, so a job scheduled on every
+     * node runs on one at a time. All times come from the database clock;
+     * a holder that dies just lets its lease expire.
+     *
+     * Every call commits on its own (REQUIRES_NEW): a lease must be
+     * visible to other nodes at once and must not depend on the
+     * connection's auto-commit setting or on a caller's transaction.
+     */
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate leaseTemplate;
+    private final String owner;
+
+    public SchedulerLockService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.leaseTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.leaseTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.owner = ManagementFactory.getRuntimeMXBean().getName()
+                + "/" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * Takes (or extends) the lease if it is free, expired, or already ours.
+     */
+    public boolean tryAcquire(String lockName, int leaseSeconds) {
+        return Boolean.TRUE.equals(leaseTemplate.execute(status -> {
+            jdbcTemplate.update(
+                    "INSERT IGNORE INTO scheduler_locks (lock_name, locked_by, locked_at, locked_until)"
+                            + " VALUES (?, '', NOW(6), NOW(6))",
+                    lockName
+            );
+            return jdbcTemplate.update(
+                    "UPDATE scheduler_locks"
+                            + " SET locked_by = ?, locked_at = NOW(6), locked_until = TIMESTAMPADD(SECOND, ?, NOW(6))"
+                            + " WHERE lock_name = ? AND (locked_until <= NOW(6) OR locked_by = ?)",
+                    owner, leaseSeconds, lockName, owner
+            ) == 1;
+        }));
+    }
+
+    public void release(String lockName) {
+        leaseTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE scheduler_locks SET locked_until = NOW(6) WHERE lock_name = ? AND locked_by = ?",
+                lockName, owner
+        ));
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+}
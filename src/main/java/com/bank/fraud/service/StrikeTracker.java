@@ -0,0 +1,145 @@
+package com.bank.fraud.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+/**
+ * Time-decayed strike scores per account.
+ *
+ * Each risk level keeps its own counter: the value as of its last strike,
+ * unrounded, and the time of that strike. Decay is applied on read, so a
+ * MEDIUM strike never moves the HIGH counter's clock and frequent strikes
+ * never round away the decay between them. Each counter halves every
+ * half-life of its risk level. Updates swap an immutable snapshot by CAS;
+ * no locks and no database access.
+ *
+ * Persistence is the caller's job: snapshot() gives the counters decayed
+ * to a point in time, and restore() seeds an account that has no state
+ * here (after a restart or an ownership move) from such a snapshot.
+ */
+final class StrikeTracker {
+
+    // Below this a counter is treated as fully decayed
+    private static final double NEGLIGIBLE = 0.01;
+
+    record Strikes(double high, long highAtMillis, double medium, long mediumAtMillis) {
+    }
+
+    private final double highHalfLifeMillis;
+    private final double mediumHalfLifeMillis;
+    private final double mediumWeight;
+
+    private final Map<String, AtomicReference<Strikes>> strikes = new ConcurrentHashMap<>();
+
+    StrikeTracker(long highHalfLifeMinutes, long mediumHalfLifeMinutes, double mediumWeight) {
+        this.highHalfLifeMillis = TimeUnit.MINUTES.toMillis(highHalfLifeMinutes);
+        this.mediumHalfLifeMillis = TimeUnit.MINUTES.toMillis(mediumHalfLifeMinutes);
+        this.mediumWeight = mediumWeight;
+    }
+
+    /**
+     * Adds a strike for the risk level (HIGH counts 1, MEDIUM its weight)
+     * and returns the decayed total.
+     */
+    double record(String accountId, String riskLevel, long nowMillis) {
+
+        boolean high = "HIGH".equals(riskLevel);
+        AtomicReference<Strikes> cell = strikes.computeIfAbsent(accountId,
+                k -> new AtomicReference<>(new Strikes(0, nowMillis, 0, nowMillis)));
+
+        while (true) {
+            Strikes current = cell.get();
+            Strikes next = high
+                    ? new Strikes(highAt(current, nowMillis) + 1, nowMillis, current.medium(), current.mediumAtMillis())
+                    : new Strikes(current.high(), current.highAtMillis(), mediumAt(current, nowMillis) + mediumWeight, nowMillis);
+
+            if (cell.compareAndSet(current, next)) {
+                return highAt(next, nowMillis) + mediumAt(next, nowMillis);
+            }
+        }
+    }
+
+    double score(String accountId, long nowMillis) {
+        AtomicReference<Strikes> cell = strikes.get(accountId);
+        if (cell == null) {
+            return 0.0;
+        }
+        Strikes current = cell.get();
+        return highAt(current, nowMillis) + mediumAt(current, nowMillis);
+    }
+
+    boolean contains(String accountId) {
+        return strikes.containsKey(accountId);
+    }
+
+    /**
+     * Both counters decayed to nowMillis, or null if the account has no state.
+     */
+    Strikes snapshot(String accountId, long nowMillis) {
+        AtomicReference<Strikes> cell = strikes.get(accountId);
+        if (cell == null) {
+            return null;
+        }
+        Strikes current = cell.get();
+        return new Strikes(highAt(current, nowMillis), nowMillis, mediumAt(current, nowMillis), nowMillis);
+    }
+
+    /**
+     * Seeds the counters as of atMillis; an account that already has state keeps it.
+     */
+    void restore(String accountId, double high, double medium, long atMillis) {
+        strikes.computeIfAbsent(accountId,
+                k -> new AtomicReference<>(new Strikes(high, atMillis, medium, atMillis)));
+    }
+
+    void reset(String accountId) {
+        strikes.remove(accountId);
+    }
+
+    /**
+     * Drops accounts whose strikes have decayed to nothing.
+     */
+    int sweep(long nowMillis) {
+        int before = strikes.size();
+        strikes.values().removeIf(cell -> {
+            Strikes current = cell.get();
+            return highAt(current, nowMillis) + mediumAt(current, nowMillis) < NEGLIGIBLE;
+        });
+        return before - strikes.size();
+    }
+
+    /**
+     * Drops the accounts matching the filter (accounts another node now owns).
+     */
+    int removeAccounts(Predicate<String> filter) {
+        int before = strikes.size();
+        strikes.keySet().removeIf(filter);
+        return before - strikes.size();
+    }
+
+    int size() {
+        return strikes.size();
+    }
+
+    // --------------------------------------------------
+    // DECAY
+    // --------------------------------------------------
+
+    private double highAt(Strikes strikes, long nowMillis) {
+        return decay(strikes.high(), nowMillis - strikes.highAtMillis(), highHalfLifeMillis);
+    }
+
+    private double mediumAt(Strikes strikes, long nowMillis) {
+        return decay(strikes.medium(), nowMillis - strikes.mediumAtMillis(), mediumHalfLifeMillis);
+    }
+
+    private static double decay(double value, long elapsedMillis, double halfLifeMillis) {
+        if (value == 0 || elapsedMillis <= 0) {
+            return value;
+        }
+        return value * Math.pow(0.5, elapsedMillis / halfLifeMillis);
+    }
+}
@@ -0,0 +1,83 @@
+package com.bank.fraud.service;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Service
+public class TransactionIdRegistry {
+
+    /*
+     * Reserves transaction IDs in the unpartitioned transaction_ids table,
+     * whose primary key is the only global uniqueness guarantee left after
+     * partitioning. Callers must already be inside the transaction that
+     * stores the decision: a rollback frees the ID again, and a concurrent
+     * insert of the same ID waits on the row lock until that transaction
+     * ends.
+     *
+     * The exists-checks on the transactions table stay in front as a cheap
+     * early reject; this insert is what makes the check atomic.
+     */
+
+    private static final String DUPLICATE = "Duplicate transaction detected";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TransactionIdRegistry(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the ID is already taken
+     */
+    public void claim(String transactionId) {
+        try {
+            jdbcTemplate.update("INSERT INTO transaction_ids (transaction_id) VALUES (?)", transactionId);
+        } catch (DuplicateKeyException e) {
+            throw new IllegalArgumentException(DUPLICATE);
+        }
+    }
+
+    /**
+     * Claims a batch of IDs in one statement when none is taken, otherwise
+     * row by row.
+     *
+     * @return the IDs that were already taken (and so not claimed now)
+     */
+    public Set<String> claimAll(Collection<String> transactionIds) {
+
+        if (transactionIds.isEmpty()) {
+            return Set.of();
+        }
+
+        // Same lock order in every batch, so two overlapping batches cannot deadlock
+        List<String> ids = new ArrayList<>(new TreeSet<>(transactionIds));
+
+        StringBuilder sql = new StringBuilder("INSERT INTO transaction_ids (transaction_id) VALUES ");
+        for (int i = 0; i < ids.size(); i++) {
+            sql.append(i == 0 ? "(?)" : ",(?)");
+        }
+        try {
+            jdbcTemplate.update(sql.toString(), ids.toArray());
+            return Set.of();
+        } catch (DuplicateKeyException e) {
+            // The failed statement is undone as a whole; the transaction carries on
+        }
+
+        Set<String> taken = new HashSet<>();
+        for (String id : ids) {
+            // Single-statement update counts are exact (unlike rewritten batches)
+            if (jdbcTemplate.update("INSERT IGNORE INTO transaction_ids (transaction_id) VALUES (?)", id) == 0) {
+                taken.add(id);
+            }
+        }
+        return taken;
+    }
+}
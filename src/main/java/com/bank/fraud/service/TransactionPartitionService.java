@@ -0,0 +1,223 @@
+package com.bank.fraud.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Pattern;
+
+@Service
+public class TransactionPartitionService {
+
+    /*
+     * Keeps the monthly RANGE partitions of the transactions table rolling:
+     * - splits p_future so that partitions exist a few months ahead
+     * - expires partitions that are entirely older than the retention window
+     *
+     * Partition pYYYYMM holds rows with transaction_time < first day of the
+     * following month (see V2__partition_transactions_by_month.sql).
+     */
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionPartitionService.class);
+
+    private static final String TABLE = "transactions";
+    private static final String FUTURE_PARTITION = "p_future";
+
+    // MySQL TO_DAYS('1970-01-01')
+    private static final long TO_DAYS_EPOCH_OFFSET = 719_528L;
+
+    private static final Pattern SAFE_NAME = Pattern.compile("p_?[a-z0-9]+");
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    public enum ExpiredAction {
+        NONE,       // only report
+        DROP,       // drop the partition and its rows
+        EXCHANGE    // swap the partition out into transactions_archive_<suffix>
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int precreateMonths;
+    private final int retentionMonths;
+    private final ExpiredAction expiredAction;
+
+    public TransactionPartitionService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${partitioning.transactions.enabled:true}") boolean enabled,
+            @Value("${partitioning.transactions.precreate-months:3}") int precreateMonths,
+            @Value("${partitioning.transactions.retention-months:13}") int retentionMonths,
+            @Value("${partitioning.transactions.expired-action:NONE}") ExpiredAction expiredAction
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.precreateMonths = precreateMonths;
+        this.retentionMonths = retentionMonths;
+        this.expiredAction = expiredAction;
+    }
+
+    // --------------------------------------------------
+    // SCHEDULED ROLLING
+    // --------------------------------------------------
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rollOnStartup() {
+        rollPartitions();
+    }
+
+    @Scheduled(cron = "${partitioning.transactions.cron:0 15 0 * * *}")
+    public synchronized void rollPartitions() {
+
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            List<PartitionInfo> partitions = loadPartitions();
+
+            if (partitions.isEmpty()) {
+                log.warn("Table {} is not partitioned; skipping partition rolling", TABLE);
+                return;
+            }
+
+            createUpcomingPartitions(partitions);
+            expireOldPartitions(loadPartitions());
+
+        } catch (RuntimeException e) {
+            log.error("Partition rolling for {} failed", TABLE, e);
+        }
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private void createUpcomingPartitions(List<PartitionInfo> partitions) {
+
+        boolean hasFuture = partitions.stream()
+                .anyMatch(p -> FUTURE_PARTITION.equals(p.name()));
+        if (!hasFuture) {
+            log.warn("Partition {} missing on {}; cannot split new months", FUTURE_PARTITION, TABLE);
+            return;
+        }
+
+        // Highest bounded partition decides where the next month starts
+        LocalDate nextStart = partitions.stream()
+                .filter(p -> p.upperBound() != null)
+                .map(PartitionInfo::upperBound)
+                .max(LocalDate::compareTo)
+                .orElse(LocalDate.now().withDayOfMonth(1));
+
+        LocalDate horizon = LocalDate.now().withDayOfMonth(1).plusMonths(precreateMonths + 1L);
+
+        while (nextStart.isBefore(horizon)) {
+            LocalDate upperBound = nextStart.plusMonths(1);
+            String name = "p" + nextStart.format(MONTH_SUFFIX);
+
+            jdbcTemplate.execute(
+                    "ALTER TABLE " + TABLE
+                            + " REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO ("
+                            + " PARTITION " + name + " VALUES LESS THAN (TO_DAYS('" + upperBound + "')),"
+                            + " PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN MAXVALUE)"
+            );
+            log.info("Created partition {} on {} (< {})", name, TABLE, upperBound);
+
+            nextStart = upperBound;
+        }
+    }
+
+    private void expireOldPartitions(List<PartitionInfo> partitions) {
+
+        LocalDate cutoff = LocalDate.now().withDayOfMonth(1).minusMonths(retentionMonths);
+
+        for (PartitionInfo partition : partitions) {
+
+            if (partition.upperBound() == null || partition.upperBound().isAfter(cutoff)) {
+                continue;
+            }
+
+            switch (expiredAction) {
+                case NONE -> log.info(
+                        "Partition {} on {} is past retention (< {}); expired-action is NONE",
+                        partition.name(), TABLE, partition.upperBound());
+                case DROP -> dropPartition(partition.name());
+                case EXCHANGE -> exchangePartition(partition.name());
+            }
+        }
+    }
+
+    private void dropPartition(String name) {
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + safe(name));
+        log.info("Dropped expired partition {} on {}", name, TABLE);
+    }
+
+    private void exchangePartition(String name) {
+
+        String archiveTable = TABLE + "_archive_" + safe(name).replaceFirst("^p_?", "");
+
+        // Empty, non-partitioned clone that receives the partition's rows
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + archiveTable + " LIKE " + TABLE);
+        if (isPartitioned(archiveTable)) {
+            jdbcTemplate.execute("ALTER TABLE " + archiveTable + " REMOVE PARTITIONING");
+        }
+
+        jdbcTemplate.execute(
+                "ALTER TABLE " + TABLE + " EXCHANGE PARTITION " + name + " WITH TABLE " + archiveTable
+        );
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + name);
+
+        log.info("Moved expired partition {} on {} to {}", name, TABLE, archiveTable);
+    }
+
+    private boolean isPartitioned(String table) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                FROM information_schema.partitions
+                WHERE table_schema = DATABASE()
+                  AND table_name = ?
+                  AND partition_name IS NOT NULL
+                """, Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    private List<PartitionInfo> loadPartitions() {
+        return jdbcTemplate.query("""
+                SELECT partition_name, partition_description
+                FROM information_schema.partitions
+                WHERE table_schema = DATABASE()
+                  AND table_name = ?
+                  AND partition_name IS NOT NULL
+                ORDER BY partition_ordinal_position
+                """,
+                (rs, rowNum) -> new PartitionInfo(
+                        rs.getString("partition_name"),
+                        toUpperBound(rs.getString("partition_description"))
+                ),
+                TABLE
+        );
+    }
+
+    private LocalDate toUpperBound(String description) {
+        if (description == null || "MAXVALUE".equalsIgnoreCase(description)) {
+            return null;
+        }
+        return LocalDate.ofEpochDay(Long.parseLong(description.trim()) - TO_DAYS_EPOCH_OFFSET);
+    }
+
+    private String safe(String partitionName) {
+        if (!SAFE_NAME.matcher(partitionName).matches()) {
+            throw new IllegalStateException("Unexpected partition name: " + partitionName);
+        }
+        return partitionName;
+    }
+
+    private record PartitionInfo(String name, LocalDate upperBound) {
+    }
+}
@@ -1,17 +1,26 @@
 package com.bank.fraud.service;
 
+import com.bank.fraud.drift.DriftMonitorService;
 import com.bank.fraud.dto.FraudScoreDTO;
 import com.bank.fraud.dto.TransactionRequestDTO;
 import com.bank.fraud.dto.TransactionResponseDTO;
+import com.bank.fraud.eventlog.EventLogService;
+import com.bank.fraud.metrics.FraudMetrics;
 import com.bank.fraud.model.Transaction;
+import com.bank.fraud.profiling.TransactionStageEvent;
 import com.bank.fraud.repository.TransactionRepository;
 import com.bank.fraud.repository.BlockedAccountRepository;
 import com.bank.fraud.repository.AuditLogRepository;
+import com.bank.fraud.shadow.ShadowScoringService;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 public class TransactionService {
@@ -22,6 +31,13 @@ public class TransactionService {
     private final AccountBlockService accountBlockService;
     private final AlertService alertService;
     private final AuditLogService auditLogService;
+    private final ReviewCaseService reviewCaseService;
+    private final ShadowScoringService shadowScoringService;
+    private final DashboardStreamService dashboardStreamService;
+    private final FraudMetrics fraudMetrics;
+    private final DriftMonitorService driftMonitorService;
+    private final ObjectProvider<EventLogService> eventLogService;
+    private final TransactionIdRegistry transactionIdRegistry;
 
     public TransactionService(
             TransactionRepository transactionRepository,
@@ -29,7 +45,14 @@ public class TransactionService {
             RiskScoringService riskScoringService,
             AccountBlockService accountBlockService,
             AlertService alertService,
-            AuditLogService auditLogService
+            AuditLogService auditLogService,
+            ReviewCaseService reviewCaseService,
+            ShadowScoringService shadowScoringService,
+            DashboardStreamService dashboardStreamService,
+            FraudMetrics fraudMetrics,
+            DriftMonitorService driftMonitorService,
+            ObjectProvider<EventLogService> eventLogService,
+            TransactionIdRegistry transactionIdRegistry
     ) {
         this.transactionRepository = transactionRepository;
         this.fraudDetectionService = fraudDetectionService;
@@ -37,6 +60,13 @@ public class TransactionService {
         this.accountBlockService = accountBlockService;
         this.alertService = alertService;
         this.auditLogService = auditLogService;
+        this.reviewCaseService = reviewCaseService;
+        this.shadowScoringService = shadowScoringService;
+        this.dashboardStreamService = dashboardStreamService;
+        this.fraudMetrics = fraudMetrics;
+        this.driftMonitorService = driftMonitorService;
+        this.eventLogService = eventLogService;
+        this.transactionIdRegistry = transactionIdRegistry;
     }
 
     // --------------------------------------------------
@@ -45,32 +75,65 @@ public class TransactionService {
 
     @Transactional
     public TransactionResponseDTO processTransaction(TransactionRequestDTO request) {
+        return processTransaction(request, false);
+    }
+
+    /**
+     * @param degraded under overload: rule-only scoring and deferred audit
+     */
+    @Transactional
+    public TransactionResponseDTO processTransaction(TransactionRequestDTO request, boolean degraded) {
 
         long startTime = System.currentTimeMillis();
+        String accountId = request.getAccountId();
+        TransactionStageEvent processStage = TransactionStageEvent.start("PROCESS", accountId);
 
-        // 1️⃣ Prevent duplicate transaction processing
-        if (transactionRepository.existsByTransactionId(request.getTransactionId())) {
+        // Event log mode: the transactions table lags the log by the projection delay
+        EventLogService eventLog = eventLogService.getIfAvailable();
+
+        // 1️⃣ Prevent duplicate transaction processing (log first: an entry leaves it only after its row commits)
+        TransactionStageEvent stage = TransactionStageEvent.start("DUPLICATE_CHECK", accountId);
+        if ((eventLog != null && eventLog.isUnprojected(request.getTransactionId()))
+                || transactionRepository.existsByTransactionId(request.getTransactionId())) {
             throw new IllegalArgumentException("Duplicate transaction detected");
         }
+        // The checks above race with a concurrent request; the ID's primary key does not
+        transactionIdRegistry.claim(request.getTransactionId());
+        stage.finish(null);
 
         // 2️⃣ Check if account is already blocked
-        if (accountBlockService.isAccountBlocked(request.getAccountId())) {
+        stage = TransactionStageEvent.start("BLOCK_CHECK", accountId);
+        if (accountBlockService.isAccountBlocked(accountId)) {
             throw new IllegalStateException("Account is temporarily blocked");
         }
+        stage.finish(null);
 
         // 3️⃣ Perform fraud detection (rules + ML)
-        FraudScoreDTO fraudScore = fraudDetectionService.evaluateFraud(request);
+        stage = TransactionStageEvent.start("SCORING", accountId);
+        FraudScoreDTO fraudScore = eventLog != null
+                ? fraudDetectionService.evaluateFraud(request, degraded, countRecentTransactions(eventLog, accountId))
+                : fraudDetectionService.evaluateFraud(request, degraded);
+        String riskLevel = fraudScore.getRiskLevel();
+        stage.finish(riskLevel);
+
+        // Candidate models / rule sets (async, never blocks this thread)
+        shadowScoringService.submit(request, fraudScore);
 
         // 4️⃣ Decide final transaction status
         String status;
-        if ("HIGH".equals(fraudScore.getRiskLevel())) {
+        if ("HIGH".equals(riskLevel)) {
             status = "BLOCKED";
+            stage = TransactionStageEvent.start("BLOCK_ACCOUNT", accountId);
             accountBlockService.blockAccount(
-                    request.getAccountId(),
+                    accountId,
                     fraudScore.getRuleTriggers()
             );
+            stage.finish(riskLevel);
         } else {
             status = "SUCCESS";
+            if ("MEDIUM".equals(riskLevel)) {
+                accountBlockService.recordStrike(accountId, riskLevel, fraudScore.getRuleTriggers());
+            }
         }
 
         // 5️⃣ Persist transaction
@@ -80,25 +143,79 @@ public class TransactionService {
                 status,
                 startTime
         );
+
+        // Event log mode: the fsynced log entry is the record; projectors
+        // write the row, audit entry, alerts and dashboard event from it
+        if (eventLog != null) {
+            stage = TransactionStageEvent.start("EVENT_LOG_APPEND", accountId);
+            eventLog.appendDecision(transaction, fraudScore.getRuleTriggers());
+            afterCommit(() -> recordDecision(request, fraudScore));
+            stage.finish(riskLevel);
+            processStage.finish(riskLevel);
+            return buildResponseDTO(transaction);
+        }
+
+        stage = TransactionStageEvent.start("PERSIST", accountId);
         transactionRepository.save(transaction);
+        reviewCaseService.openCases(List.of(transaction));
+        afterCommit(() -> recordDecision(request, fraudScore));
+        stage.finish(riskLevel);
 
         // 6️⃣ Trigger alerts if fraud detected
         if (fraudScore.getFraudDetected()) {
+            stage = TransactionStageEvent.start("ALERT", accountId);
             alertService.sendFraudAlert(transaction);
+            stage.finish(riskLevel);
         }
 
         // 7️⃣ Write audit log
-        auditLogService.logTransactionEvent(transaction);
+        stage = TransactionStageEvent.start("AUDIT", accountId);
+        if (degraded) {
+            auditLogService.logTransactionEventDeferred(transaction);
+        } else {
+            auditLogService.logTransactionEvent(transaction);
+        }
+        stage.finish(riskLevel);
+
+        // 8️⃣ Build response DTO (and push it to live dashboards on commit)
+        TransactionResponseDTO response = buildResponseDTO(transaction);
+        dashboardStreamService.publishTransaction(response);
 
-        // 8️⃣ Build response DTO
-        return buildResponseDTO(transaction);
+        processStage.finish(riskLevel);
+        return response;
     }
 
     // --------------------------------------------------
-    // HELPER METHODS
+    // HELPER METHODS (shared with the staged pipeline)
     // --------------------------------------------------
 
-    private Transaction buildTransactionEntity(
+    // Metrics and drift only count decisions that were actually stored
+    private void recordDecision(TransactionRequestDTO request, FraudScoreDTO fraudScore) {
+        fraudMetrics.recordDecision(fraudScore);
+        driftMonitorService.record(request, fraudScore);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Unprojected decisions first, for the same reason as the duplicate check
+    private long countRecentTransactions(EventLogService eventLog, String accountId) {
+        LocalDateTime fromTime = LocalDateTime.now().minusMinutes(FraudPolicy.VELOCITY_WINDOW_MINUTES);
+        long unprojected = eventLog.countUnprojected(accountId, fromTime);
+        return unprojected + fraudDetectionService.countRecentTransactions(accountId);
+    }
+
+    public Transaction buildTransactionEntity(
             TransactionRequestDTO request,
             FraudScoreDTO fraudScore,
             String status,
@@ -119,6 +236,9 @@ public class TransactionService {
         tx.setFinalRiskScore(fraudScore.getFinalRiskScore());
         tx.setRiskLevel(fraudScore.getRiskLevel());
         tx.setFraudDetected(fraudScore.getFraudDetected());
+        if (fraudScore.getExplanation() != null) {
+            tx.setExplanation(fraudScore.getExplanation().encode());
+        }
 
         tx.setStatus(status);
         tx.setTransactionTime(LocalDateTime.now());
@@ -127,7 +247,7 @@ public class TransactionService {
         return tx;
     }
 
-    private TransactionResponseDTO buildResponseDTO(Transaction transaction) {
+    public TransactionResponseDTO buildResponseDTO(Transaction transaction) {
         TransactionResponseDTO response = new TransactionResponseDTO();
         response.setTransactionId(transaction.getTransactionId());
         response.setAccountId(transaction.getAccountId());
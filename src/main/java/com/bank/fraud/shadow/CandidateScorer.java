@@ -0,0 +1,25 @@
+package com.bank.fraud.shadow;
+
+import com.bank.fraud.dto.FraudScoreDTO;
+import com.bank.fraud.dto.TransactionRequestDTO;
+
+/**
+ * A candidate model or rule set evaluated in shadow mode.
+ *
+ * Candidates run off the request thread and never influence the
+ * live decision; their output is only compared against it.
+ */
+public interface CandidateScorer {
+
+    /**
+     * Stable name used as the key in shadow reports.
+     */
+    String getName();
+
+    /**
+     * Scores the transaction. The live score is passed in so candidates
+     * can reuse already computed inputs (rule score, ML score) instead of
+     * repeating database or ML calls.
+     */
+    FraudScoreDTO score(TransactionRequestDTO request, FraudScoreDTO liveScore);
+}
@@ -0,0 +1,48 @@
+package com.bank.fraud.shadow;
+
+import com.bank.fraud.dto.FraudScoreDTO;
+import com.bank.fraud.dto.TransactionRequestDTO;
+import com.bank.fraud.service.RiskScoringService;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sample candidate: same rule and ML inputs as the live engine,
+ * but with configurable weights.
+ */
+@Component
+@ConditionalOnProperty(name = "shadow.candidates.rule-weighted.enabled", havingValue = "true")
+public class RuleWeightedCandidateScorer implements CandidateScorer {
+
+    private final RiskScoringService riskScoringService;
+    private final double ruleWeight;
+    private final double mlWeight;
+
+    public RuleWeightedCandidateScorer(
+            RiskScoringService riskScoringService,
+            @Value("${shadow.candidates.rule-weighted.rule-weight:0.6}") double ruleWeight,
+            @Value("${shadow.candidates.rule-weighted.ml-weight:0.4}") double mlWeight
+    ) {
+        this.riskScoringService = riskScoringService;
+        this.ruleWeight = ruleWeight;
+        this.mlWeight = mlWeight;
+    }
+
+    @Override
+    public String getName() {
+        return "rule-weighted";
+    }
+
+    @Override
+    public FraudScoreDTO score(TransactionRequestDTO request, FraudScoreDTO liveScore) {
+        return riskScoringService.calculateFinalRisk(
+                liveScore.getRuleScore(),
+                liveScore.getMlScore(),
+                liveScore.getRuleTriggers(),
+                ruleWeight,
+                mlWeight
+        );
+    }
+}
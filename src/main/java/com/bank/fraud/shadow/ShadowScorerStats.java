@@ -0,0 +1,72 @@
+package com.bank.fraud.shadow;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free counters for one candidate scorer.
+ *
+ * The agreement matrix is indexed [live risk level][candidate risk level]
+ * using LOW = 0, MEDIUM = 1, HIGH = 2.
+ */
+class ShadowScorerStats {
+
+    static final String[] RISK_LEVELS = {"LOW", "MEDIUM", "HIGH"};
+
+    private final AtomicLongArray matrix = new AtomicLongArray(9);
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    void record(String liveRiskLevel, String candidateRiskLevel, long elapsedNanos) {
+        matrix.incrementAndGet(indexOf(liveRiskLevel) * 3 + indexOf(candidateRiskLevel));
+        recordLatency(elapsedNanos);
+    }
+
+    void recordError(long elapsedNanos) {
+        errors.increment();
+        recordLatency(elapsedNanos);
+    }
+
+    private void recordLatency(long elapsedNanos) {
+        evaluations.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    long[][] matrixSnapshot() {
+        long[][] snapshot = new long[3][3];
+        for (int i = 0; i < 9; i++) {
+            snapshot[i / 3][i % 3] = matrix.get(i);
+        }
+        return snapshot;
+    }
+
+    long getEvaluations() {
+        return evaluations.sum();
+    }
+
+    long getErrors() {
+        return errors.sum();
+    }
+
+    long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    private static int indexOf(String riskLevel) {
+        if ("HIGH".equals(riskLevel)) {
+            return 2;
+        }
+        if ("MEDIUM".equals(riskLevel)) {
+            return 1;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,178 @@
+package com.bank.fraud.shadow;
+
+import com.bank.fraud.dto.FraudScoreDTO;
+import com.bank.fraud.dto.ShadowScoringReportDTO;
+import com.bank.fraud.dto.TransactionRequestDTO;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+public class ShadowScoringService {
+
+    /*
+     * Runs candidate scorers next to the live engine.
+     *
+     * The live path only pays for one non-blocking offer to a bounded
+     * queue. When the queue is full the shadow evaluation is dropped
+     * (counted as "shed") instead of slowing the request down.
+     */
+
+    private static final Logger log = LoggerFactory.getLogger(ShadowScoringService.class);
+
+    private final boolean enabled;
+    private final List<CandidateScorer> candidates;
+    private final Map<String, ShadowScorerStats> stats = new LinkedHashMap<>();
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+
+    public ShadowScoringService(
+            ObjectProvider<CandidateScorer> candidates,
+            @Value("${shadow.enabled:false}") boolean enabled,
+            @Value("${shadow.pool-size:2}") int poolSize,
+            @Value("${shadow.queue-capacity:1000}") int queueCapacity
+    ) {
+        this.candidates = candidates.orderedStream().toList();
+        this.enabled = enabled && !this.candidates.isEmpty();
+
+        for (CandidateScorer candidate : this.candidates) {
+            stats.put(candidate.getName(), new ShadowScorerStats());
+        }
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "shadow-scorer-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    // --------------------------------------------------
+    // SUBMIT FROM THE LIVE PATH (NEVER BLOCKS)
+    // --------------------------------------------------
+
+    public void submit(TransactionRequestDTO request, FraudScoreDTO liveScore) {
+
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> evaluateCandidates(request, liveScore));
+            submitted.increment();
+        } catch (RejectedExecutionException e) {
+            shed.increment();
+        }
+    }
+
+    // --------------------------------------------------
+    // REPORTING
+    // --------------------------------------------------
+
+    public ShadowScoringReportDTO getReport() {
+
+        ShadowScoringReportDTO report = new ShadowScoringReportDTO();
+        report.setEnabled(enabled);
+        report.setSubmitted(submitted.sum());
+        report.setShed(shed.sum());
+        report.setQueueDepth(executor.getQueue().size());
+
+        List<ShadowScoringReportDTO.CandidateReport> candidateReports = new ArrayList<>();
+
+        for (Map.Entry<String, ShadowScorerStats> entry : stats.entrySet()) {
+            ShadowScorerStats candidateStats = entry.getValue();
+            long[][] matrix = candidateStats.matrixSnapshot();
+
+            long agreed = matrix[0][0] + matrix[1][1] + matrix[2][2];
+            long compared = 0;
+            for (long[] row : matrix) {
+                for (long cell : row) {
+                    compared += cell;
+                }
+            }
+
+            long evaluations = candidateStats.getEvaluations();
+
+            ShadowScoringReportDTO.CandidateReport candidateReport =
+                    new ShadowScoringReportDTO.CandidateReport();
+            candidateReport.setName(entry.getKey());
+            candidateReport.setEvaluations(evaluations);
+            candidateReport.setErrors(candidateStats.getErrors());
+            candidateReport.setAgreementPercentage(
+                    compared == 0 ? 0.0 : round(agreed * 100.0 / compared)
+            );
+            candidateReport.setRiskLevels(List.of(ShadowScorerStats.RISK_LEVELS));
+            candidateReport.setAgreementMatrix(matrix);
+            candidateReport.setAverageLatencyMs(
+                    evaluations == 0 ? 0.0 : round(candidateStats.getTotalNanos() / 1_000_000.0 / evaluations)
+            );
+            candidateReport.setMaxLatencyMs(round(candidateStats.getMaxNanos() / 1_000_000.0));
+
+            candidateReports.add(candidateReport);
+        }
+
+        report.setCandidates(candidateReports);
+        return report;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private void evaluateCandidates(TransactionRequestDTO request, FraudScoreDTO liveScore) {
+
+        for (CandidateScorer candidate : candidates) {
+            ShadowScorerStats candidateStats = stats.get(candidate.getName());
+            long start = System.nanoTime();
+
+            try {
+                FraudScoreDTO candidateScore = candidate.score(request, liveScore);
+                candidateStats.record(
+                        liveScore.getRiskLevel(),
+                        candidateScore.getRiskLevel(),
+                        System.nanoTime() - start
+                );
+            } catch (RuntimeException e) {
+                candidateStats.recordError(System.nanoTime() - start);
+                log.debug("Shadow scorer {} failed for transaction {}",
+                        candidate.getName(), request.getTransactionId(), e);
+            }
+        }
+    }
+
+    private double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
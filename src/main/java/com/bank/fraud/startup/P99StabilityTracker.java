@@ -0,0 +1,83 @@
+package com.bank.fraud.startup;
+
+import java.util.Arrays;
+
+/**
+ * Detects when latency has settled after a cold start.
+ *
+ * Latencies are collected in fixed-size windows; the p99 of each full
+ * window is compared with the previous one, and once the required number
+ * of consecutive windows agree within the tolerance the tracker records
+ * the time it became stable and ignores further samples.
+ */
+final class P99StabilityTracker {
+
+    private final long[] window;
+    private final double tolerance;
+    private final int requiredStableWindows;
+
+    private int filled;
+    private long previousP99 = -1;
+    private int stableWindows;
+    private long windows;
+
+    private volatile boolean stable;
+    private volatile long stableAtMillis;
+    private volatile long lastP99Nanos = -1;
+
+    P99StabilityTracker(int windowSize, double tolerance, int requiredStableWindows) {
+        this.window = new long[windowSize];
+        this.tolerance = tolerance;
+        this.requiredStableWindows = requiredStableWindows;
+    }
+
+    void record(long latencyNanos) {
+        if (stable) {
+            return;
+        }
+        synchronized (this) {
+            if (stable) {
+                return;
+            }
+            window[filled++] = latencyNanos;
+            if (filled < window.length) {
+                return;
+            }
+            filled = 0;
+            windows++;
+
+            long[] sorted = window.clone();
+            Arrays.sort(sorted);
+            long p99 = sorted[(int) Math.ceil(sorted.length * 0.99) - 1];
+            lastP99Nanos = p99;
+
+            if (previousP99 > 0 && Math.abs(p99 - previousP99) <= previousP99 * tolerance) {
+                stableWindows++;
+            } else {
+                stableWindows = 0;
+            }
+            previousP99 = p99;
+
+            if (stableWindows >= requiredStableWindows) {
+                stableAtMillis = System.currentTimeMillis();
+                stable = true;
+            }
+        }
+    }
+
+    boolean isStable() {
+        return stable;
+    }
+
+    long getStableAtMillis() {
+        return stableAtMillis;
+    }
+
+    long getLastP99Nanos() {
+        return lastP99Nanos;
+    }
+
+    synchronized long getWindows() {
+        return windows;
+    }
+}
@@ -0,0 +1,118 @@
+package com.bank.fraud.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class StartupMetrics {
+
+    /*
+     * Startup time is measured from JVM start (so class loading and CDS
+     * effects are included) to ApplicationReadyEvent, which Spring Boot
+     * publishes after all runners - including the warm-up - have finished
+     * and just before readiness switches to ACCEPTING_TRAFFIC.
+     *
+     * Time-to-first-p99-stable is tracked twice: over the warm-up calls,
+     * and over real transactions after readiness, until each settles.
+     */
+
+    private static final Logger log = LoggerFactory.getLogger(StartupMetrics.class);
+
+    private final ApplicationContext applicationContext;
+    private final boolean trainingRun;
+
+    private final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+    private final P99StabilityTracker warmupTracker;
+    private final P99StabilityTracker trafficTracker;
+
+    private volatile long readyAtMillis;
+    private volatile long warmupIterations;
+    private volatile long warmupMillis;
+
+    public StartupMetrics(
+            ApplicationContext applicationContext,
+            @Value("${startup.training-run:false}") boolean trainingRun,
+            @Value("${startup.p99.window-size:200}") int windowSize,
+            @Value("${startup.p99.tolerance:0.1}") double tolerance,
+            @Value("${startup.p99.stable-windows:3}") int stableWindows
+    ) {
+        this.applicationContext = applicationContext;
+        this.trainingRun = trainingRun;
+        this.warmupTracker = new P99StabilityTracker(windowSize, tolerance, stableWindows);
+        this.trafficTracker = new P99StabilityTracker(windowSize, tolerance, stableWindows);
+    }
+
+    // --------------------------------------------------
+    // RECORDING
+    // --------------------------------------------------
+
+    void recordWarmupLatency(long latencyNanos) {
+        warmupTracker.record(latencyNanos);
+    }
+
+    boolean isWarmupStable() {
+        return warmupTracker.isStable();
+    }
+
+    void recordWarmup(long iterations, long millis) {
+        this.warmupIterations = iterations;
+        this.warmupMillis = millis;
+    }
+
+    public void recordRequestLatency(long latencyNanos) {
+        if (readyAtMillis == 0 || trafficTracker.isStable()) {
+            return;
+        }
+        trafficTracker.record(latencyNanos);
+        if (trafficTracker.isStable()) {
+            log.info("[STARTUP] traffic p99 stable {} ms after JVM start (p99={} µs)",
+                    trafficTracker.getStableAtMillis() - jvmStartMillis,
+                    trafficTracker.getLastP99Nanos() / 1000);
+        }
+    }
+
+    // --------------------------------------------------
+    // READY (+ CDS TRAINING EXIT)
+    // --------------------------------------------------
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+
+        readyAtMillis = System.currentTimeMillis();
+
+        log.info("[STARTUP] ready {} ms after JVM start (warm-up {} calls in {} ms, warm-up p99 stable: {})",
+                readyAtMillis - jvmStartMillis, warmupIterations, warmupMillis, warmupTracker.isStable());
+
+        if (trainingRun) {
+            // CDS training run: the class list is dumped when the JVM exits
+            log.info("[STARTUP] training run complete, exiting");
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("startupMillis", readyAtMillis == 0 ? null : readyAtMillis - jvmStartMillis);
+        status.put("warmupIterations", warmupIterations);
+        status.put("warmupMillis", warmupMillis);
+        status.put("warmupP99Stable", warmupTracker.isStable());
+        status.put("warmupP99Micros", warmupTracker.getLastP99Nanos() / 1000);
+        status.put("trafficP99Stable", trafficTracker.isStable());
+        status.put("trafficP99StableAfterMillis", trafficTracker.isStable()
+                ? trafficTracker.getStableAtMillis() - jvmStartMillis
+                : null);
+        status.put("trafficP99Micros", trafficTracker.getLastP99Nanos() / 1000);
+        status.put("trafficWindows", trafficTracker.getWindows());
+        return status;
+    }
+}
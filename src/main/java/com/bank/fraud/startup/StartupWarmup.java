@@ -0,0 +1,117 @@
+package com.bank.fraud.startup;
+
+import com.bank.fraud.dto.TransactionRequestDTO;
+import com.bank.fraud.service.AccountBlockService;
+import com.bank.fraud.service.AnalyticsService;
+import com.bank.fraud.service.FraudDetectionService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Preloads caches and exercises the decision path before readiness.
+ *
+ * Runners complete before ApplicationReadyEvent, so a load balancer
+ * watching readiness only sends traffic once the block cache and analytics
+ * are loaded and evaluateFraud (rules, velocity query, ML scorer) has run
+ * hot enough for its p99 to settle. Synthetic requests are never persisted,
+ * and go through evaluateForWarmup, so they take no rate-limit reservations
+ * and leave no trace in the fraud metrics or the drift reference.
+ */
+@Component
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private static final String[] CITIES = {"Bangalore", "Mumbai", "Delhi", "UNKNOWN"};
+    private static final String[] TYPES = {"UPI", "NEFT", "IMPS", "CARD"};
+
+    private final FraudDetectionService fraudDetectionService;
+    private final AccountBlockService accountBlockService;
+    private final AnalyticsService analyticsService;
+    private final StartupMetrics startupMetrics;
+
+    private final boolean enabled;
+    private final int minIterations;
+    private final int maxIterations;
+    private final int accounts;
+
+    public StartupWarmup(
+            FraudDetectionService fraudDetectionService,
+            AccountBlockService accountBlockService,
+            AnalyticsService analyticsService,
+            StartupMetrics startupMetrics,
+            @Value("${startup.warmup.enabled:true}") boolean enabled,
+            @Value("${startup.warmup.min-iterations:1000}") int minIterations,
+            @Value("${startup.warmup.max-iterations:10000}") int maxIterations,
+            @Value("${startup.warmup.accounts:50}") int accounts
+    ) {
+        this.fraudDetectionService = fraudDetectionService;
+        this.accountBlockService = accountBlockService;
+        this.analyticsService = analyticsService;
+        this.startupMetrics = startupMetrics;
+        this.enabled = enabled;
+        this.minIterations = minIterations;
+        this.maxIterations = maxIterations;
+        this.accounts = accounts;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+
+        // 1️⃣ Caches
+        accountBlockService.refreshBlockCache();
+        analyticsService.getCachedSystemAnalytics();
+
+        // 2️⃣ Decision path until p99 settles (or max iterations)
+        int iteration = 0;
+        while (iteration < maxIterations
+                && (iteration < minIterations || !startupMetrics.isWarmupStable())) {
+
+            TransactionRequestDTO request = syntheticRequest(iteration);
+            long callStart = System.nanoTime();
+            try {
+                fraudDetectionService.evaluateForWarmup(request, iteration % 4 == 0);
+            } catch (RuntimeException e) {
+                log.warn("[STARTUP] warm-up stopped after {} calls: {}", iteration, e.getMessage());
+                break;
+            }
+            startupMetrics.recordWarmupLatency(System.nanoTime() - callStart);
+            iteration++;
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        startupMetrics.recordWarmup(iteration, elapsed);
+        log.info("[STARTUP] warm-up: {} blocked accounts cached, {} scoring calls in {} ms",
+                accountBlockService.getCachedBlockCount(), iteration, elapsed);
+    }
+
+    // --------------------------------------------------
+    // HELPER METHOD
+    // --------------------------------------------------
+
+    private TransactionRequestDTO syntheticRequest(int i) {
+        TransactionRequestDTO request = new TransactionRequestDTO();
+        request.setTransactionId("WARMUP-" + UUID.randomUUID());
+        request.setAccountId("WARMUP" + (i % accounts));
+        request.setCustomerName("Warm-up");
+        request.setAmount(500.0 + (i * 7919L) % 150000);
+        request.setTransactionType(TYPES[i % TYPES.length]);
+        request.setCity(CITIES[i % CITIES.length]);
+        request.setIpAddress("127.0.0.1");
+        request.setDeviceId("warmup-device-" + (i % accounts));
+        return request;
+    }
+}
@@ -0,0 +1,8 @@
+-- =========================================
+-- ANALYST OUTCOMES FOR DETECTION ACCURACY
+-- DriftMonitorService counts resolved cases of the trailing window by
+-- (risk_level, resolution); the index covers that query.
+-- =========================================
+
+ALTER TABLE review_cases
+    ADD KEY idx_case_resolved (status, resolved_at, risk_level, resolution);
@@ -0,0 +1,16 @@
+-- =========================================
+-- GLOBAL TRANSACTION ID UNIQUENESS
+-- The partitioned transactions table cannot carry UNIQUE(transaction_id)
+-- (see V2), and an exists-check before insert lets two concurrent
+-- requests with the same ID both pass. Every decision inserts its ID
+-- here in the same database transaction, so the primary key rejects
+-- the second one.
+-- =========================================
+
+CREATE TABLE IF NOT EXISTS transaction_ids (
+    transaction_id  VARCHAR(30)  NOT NULL,
+    PRIMARY KEY (transaction_id)
+) ENGINE = InnoDB;
+
+INSERT IGNORE INTO transaction_ids (transaction_id)
+SELECT transaction_id FROM transactions;
@@ -0,0 +1,12 @@
+-- =========================================
+-- PERSISTED STRIKE SCORES
+-- AccountBlockService writes each account's strike counters, decayed to
+-- strikes_at, in batches after commit, and seeds its in-memory tracker
+-- from them after a restart or an ownership move. Rows without strikes
+-- yet keep NULL in strikes_at.
+-- =========================================
+
+ALTER TABLE blocked_accounts
+    ADD COLUMN strike_high    DOUBLE       NOT NULL DEFAULT 0 AFTER block_reason,
+    ADD COLUMN strike_medium  DOUBLE       NOT NULL DEFAULT 0 AFTER strike_high,
+    ADD COLUMN strikes_at     DATETIME(6)  NULL AFTER strike_medium;
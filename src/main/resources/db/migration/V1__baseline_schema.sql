@@ -0,0 +1,75 @@
+-- =========================================
+-- BASELINE SCHEMA
+-- Matches the JPA entities as previously generated by ddl-auto.
+-- Existing databases are baselined at this version (baseline-on-migrate).
+-- =========================================
+
+CREATE TABLE IF NOT EXISTS transactions (
+    id                  BIGINT       NOT NULL AUTO_INCREMENT,
+    transaction_id      VARCHAR(30)  NOT NULL,
+    account_id          VARCHAR(20)  NOT NULL,
+    customer_name       VARCHAR(50)  NOT NULL,
+    amount              DOUBLE       NOT NULL,
+    transaction_type    VARCHAR(30)  NOT NULL,
+    city                VARCHAR(50)  NOT NULL,
+    ip_address          VARCHAR(45)  NOT NULL,
+    device_id           VARCHAR(50)  NOT NULL,
+    rule_score          INT          NOT NULL,
+    ml_score            INT          NOT NULL,
+    final_risk_score    INT          NOT NULL,
+    risk_level          VARCHAR(20)  NOT NULL,
+    status              VARCHAR(20)  NOT NULL,
+    fraud_detected      BIT(1)       NOT NULL,
+    transaction_time    DATETIME(6)  NOT NULL,
+    processing_time_ms  BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_transaction_id (transaction_id),
+    KEY idx_account_id (account_id),
+    KEY idx_transaction_time (transaction_time),
+    KEY idx_status (status)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS blocked_accounts (
+    id                         BIGINT        NOT NULL AUTO_INCREMENT,
+    account_id                 VARCHAR(20)   NOT NULL,
+    failed_attempts            INT           NOT NULL,
+    first_failed_attempt_time  DATETIME(6)   NOT NULL,
+    blocked_until              DATETIME(6)   NOT NULL,
+    active_block               BIT(1)        NOT NULL,
+    block_reason               VARCHAR(100)  NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_blocked_account_id (account_id),
+    KEY idx_blocked_account_id (account_id),
+    KEY idx_block_until (blocked_until)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS audit_logs (
+    id            BIGINT        NOT NULL AUTO_INCREMENT,
+    entity_type   VARCHAR(50)   NOT NULL,
+    entity_id     VARCHAR(30)   NOT NULL,
+    action        VARCHAR(50)   NOT NULL,
+    performed_by  VARCHAR(50)   NOT NULL,
+    description   VARCHAR(255)  NOT NULL,
+    event_time    DATETIME(6)   NOT NULL,
+    ip_address    VARCHAR(45)   NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_audit_entity (entity_type),
+    KEY idx_audit_action (action),
+    KEY idx_audit_time (event_time)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS users (
+    id             BIGINT        NOT NULL AUTO_INCREMENT,
+    username       VARCHAR(50)   NOT NULL,
+    password       VARCHAR(255)  NOT NULL,
+    full_name      VARCHAR(50)   NOT NULL,
+    email          VARCHAR(100)  NOT NULL,
+    role           VARCHAR(20)   NOT NULL,
+    active         BIT(1)        NOT NULL,
+    created_at     DATETIME(6)   NOT NULL,
+    last_login_at  DATETIME(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_user_username (username),
+    KEY idx_user_username (username),
+    KEY idx_user_role (role)
+) ENGINE = InnoDB;
@@ -0,0 +1,45 @@
+-- =========================================
+-- MONTHLY RANGE PARTITIONING FOR TRANSACTIONS
+--
+-- MySQL requires every unique key to contain the partitioning column,
+-- so the primary key becomes (id, transaction_time) and the global
+-- UNIQUE(transaction_id) becomes a plain lookup index. Duplicate
+-- transaction IDs are still rejected by TransactionService
+-- (existsByTransactionId) before insert.
+--
+-- Only two partitions are created here; TransactionPartitionService
+-- splits p_future into monthly partitions on startup and daily after.
+-- =========================================
+
+-- Drop whichever unique index covers transaction_id
+-- (name differs between Flyway-created and ddl-auto-created tables)
+SET @uk_name := (
+    SELECT s.index_name
+    FROM information_schema.statistics s
+    WHERE s.table_schema = DATABASE()
+      AND s.table_name = 'transactions'
+      AND s.column_name = 'transaction_id'
+      AND s.non_unique = 0
+    LIMIT 1
+);
+SET @drop_uk := IF(
+    @uk_name IS NULL,
+    'SELECT 1',
+    CONCAT('ALTER TABLE transactions DROP INDEX `', @uk_name, '`')
+);
+PREPARE stmt FROM @drop_uk;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+ALTER TABLE transactions
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, transaction_time),
+    ADD KEY idx_transaction_ref (transaction_id),
+    ADD KEY idx_account_time (account_id, transaction_time),
+    DROP KEY idx_account_id;
+
+ALTER TABLE transactions
+    PARTITION BY RANGE (TO_DAYS(transaction_time)) (
+        PARTITION p_history VALUES LESS THAN (TO_DAYS('2026-01-01')),
+        PARTITION p_future  VALUES LESS THAN MAXVALUE
+    );
@@ -0,0 +1,29 @@
+-- =========================================
+-- POOLED ID ALLOCATION
+--
+-- MySQL has no sequences, so Hibernate emulates each @SequenceGenerator
+-- with a single-row table (column next_val). With the pooled-lo optimizer
+-- the stored value is the first id of the next block of 50, so each table
+-- starts just above the current maximum id.
+-- =========================================
+
+CREATE TABLE IF NOT EXISTS transactions_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO transactions_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 1 FROM transactions;
+
+CREATE TABLE IF NOT EXISTS audit_logs_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO audit_logs_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 1 FROM audit_logs;
+
+CREATE TABLE IF NOT EXISTS blocked_accounts_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO blocked_accounts_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 1 FROM blocked_accounts;
@@ -0,0 +1,12 @@
+-- =========================================
+-- KEYSET PAGINATION INDEXES FOR NOTIFICATIONS
+-- (filter column, event_time, id) serves
+--   WHERE action = ? AND (event_time, id) < (?, ?) ORDER BY event_time DESC, id DESC
+-- and replaces the single-column entity/action indexes (same prefix).
+-- =========================================
+
+ALTER TABLE audit_logs
+    ADD KEY idx_audit_action_time (action, event_time, id),
+    ADD KEY idx_audit_entity_time (entity_type, event_time, id),
+    DROP KEY idx_audit_action,
+    DROP KEY idx_audit_entity;
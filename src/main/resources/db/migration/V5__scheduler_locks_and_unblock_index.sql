@@ -0,0 +1,26 @@
+-- =========================================
+-- LEASE LOCKS FOR CLUSTER-WIDE SCHEDULED JOBS
+-- One row per job. A node holds the lock while locked_until (DB clock)
+-- is in the future; a crashed holder's lease simply runs out.
+-- =========================================
+
+CREATE TABLE IF NOT EXISTS scheduler_locks (
+    lock_name     VARCHAR(64)   NOT NULL,
+    locked_by     VARCHAR(128)  NOT NULL,
+    locked_at     DATETIME(6)   NOT NULL,
+    locked_until  DATETIME(6)   NOT NULL,
+    PRIMARY KEY (lock_name)
+) ENGINE = InnoDB;
+
+INSERT INTO scheduler_locks (lock_name, locked_by, locked_at, locked_until)
+VALUES ('account-unblock', '', NOW(6), NOW(6));
+
+-- =========================================
+-- AUTO-UNBLOCK SCAN
+--   WHERE active_block = 1 AND blocked_until <= ? ORDER BY blocked_until
+-- only touches expired active blocks instead of every past block.
+-- =========================================
+
+ALTER TABLE blocked_accounts
+    ADD KEY idx_block_active_until (active_block, blocked_until),
+    DROP KEY idx_block_until;
@@ -0,0 +1,33 @@
+-- =========================================
+-- ALERT OUTBOX
+-- Written in the same transaction as the decision; a background
+-- dispatcher claims due rows, digests them per recipient + account,
+-- sends over SMTP and retries failures with backoff.
+-- =========================================
+
+CREATE TABLE IF NOT EXISTS alert_outbox (
+    id                BIGINT         NOT NULL,
+    transaction_id    VARCHAR(30)    NOT NULL,
+    account_id        VARCHAR(20)    NOT NULL,
+    recipient         VARCHAR(100)   NOT NULL,
+    risk_level        VARCHAR(10)    NOT NULL,
+    message           VARCHAR(2000)  NOT NULL,
+    status            VARCHAR(10)    NOT NULL,
+    attempts          INT            NOT NULL,
+    created_at        DATETIME(6)    NOT NULL,
+    next_attempt_at   DATETIME(6)    NOT NULL,
+    sent_at           DATETIME(6)    NULL,
+    last_error        VARCHAR(255)   NULL,
+    PRIMARY KEY (id),
+    KEY idx_outbox_due (status, next_attempt_at, id),
+    KEY idx_outbox_sent (status, sent_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS alert_outbox_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO alert_outbox_seq (next_val) VALUES (1);
+
+INSERT INTO scheduler_locks (lock_name, locked_by, locked_at, locked_until)
+VALUES ('alert-dispatch', '', NOW(6), NOW(6));
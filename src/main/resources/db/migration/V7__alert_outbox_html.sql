@@ -0,0 +1,8 @@
+-- =========================================
+-- ALERT OUTBOX: HTML PART
+-- Rendered with the text message at enqueue time; the dispatcher sends
+-- multipart/alternative when present. NULL for rows queued before V7.
+-- =========================================
+
+ALTER TABLE alert_outbox
+    ADD COLUMN html_message VARCHAR(4000) NULL AFTER message;
@@ -0,0 +1,8 @@
+-- =========================================
+-- STRUCTURED DECISION EXPLANATION
+-- Compact "version|rule:points,...|feature:points,..." written with the
+-- decision (see FraudExplanation); NULL for rows decided before V8.
+-- =========================================
+
+ALTER TABLE transactions
+    ADD COLUMN explanation VARCHAR(512) NULL AFTER processing_time_ms;
@@ -0,0 +1,37 @@
+-- =========================================
+-- ANALYST REVIEW QUEUE
+-- MEDIUM and borderline HIGH decisions open a case. priority packs
+-- (final_risk_score, amount in paise) into one BIGINT so the claim
+--   WHERE status = 'OPEN' ORDER BY priority DESC, id LIMIT n
+--   FOR UPDATE SKIP LOCKED
+-- is a range read on idx_case_claim, however many cases are open.
+-- =========================================
+
+CREATE TABLE IF NOT EXISTS review_cases (
+    id                BIGINT         NOT NULL,
+    transaction_id    VARCHAR(30)    NOT NULL,
+    account_id        VARCHAR(20)    NOT NULL,
+    amount            DOUBLE         NOT NULL,
+    final_risk_score  INT            NOT NULL,
+    risk_level        VARCHAR(10)    NOT NULL,
+    priority          BIGINT         NOT NULL,
+    status            VARCHAR(10)    NOT NULL,
+    claimed_by        VARCHAR(50)    NULL,
+    lease_until       DATETIME(6)    NULL,
+    claim_count       INT            NOT NULL,
+    resolution        VARCHAR(20)    NULL,
+    resolution_note   VARCHAR(255)   NULL,
+    created_at        DATETIME(6)    NOT NULL,
+    resolved_at       DATETIME(6)    NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_case_transaction (transaction_id),
+    KEY idx_case_claim (status, priority DESC, id),
+    KEY idx_case_lease (status, lease_until),
+    KEY idx_case_analyst (claimed_by, status)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS review_cases_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO review_cases_seq (next_val) VALUES (1);
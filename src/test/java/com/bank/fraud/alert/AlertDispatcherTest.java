@@ -0,0 +1,204 @@
+package com.bank.fraud.alert;
+
+import com.bank.fraud.model.AlertOutbox;
+import com.bank.fraud.repository.AlertOutboxRepository;
+import com.bank.fraud.service.SchedulerLockService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Dispatch runs against the embedded SMTP sink, with the outbox
+ * repository and the scheduler lease mocked.
+ */
+class AlertDispatcherTest {
+
+    private static final String LOCK = "alert-dispatch";
+
+    private LocalSmtpSink sink;
+    private AlertOutboxRepository repository;
+    private SchedulerLockService lockService;
+    private ObjectProvider<JavaMailSender> mailSender;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws IOException {
+        int port;
+        try (ServerSocket probe = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            port = probe.getLocalPort();
+        }
+        sink = new LocalSmtpSink(port, 100);
+        sink.start();
+
+        JavaMailSenderImpl smtp = new JavaMailSenderImpl();
+        smtp.setHost(InetAddress.getLoopbackAddress().getHostAddress());
+        smtp.setPort(port);
+
+        mailSender = mock(ObjectProvider.class);
+        when(mailSender.getIfAvailable()).thenReturn(smtp);
+
+        repository = mock(AlertOutboxRepository.class);
+        lockService = mock(SchedulerLockService.class);
+        when(lockService.tryAcquire(eq(LOCK), anyInt())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        sink.stop();
+    }
+
+    @Test
+    void claimsDueRowsBeforeSendingOneDigestPerRecipientAndAccount() {
+        List<AlertOutbox> rows = List.of(
+                row(1L, "ops@bank.local", "ACC1"),
+                row(2L, "ops@bank.local", "ACC1"),
+                row(3L, "risk@bank.local", "ACC2")
+        );
+        dueRows(rows);
+
+        AlertDispatcher dispatcher = dispatcher(30);
+        dispatcher.dispatch();
+        dispatcher.closeTransport();
+
+        InOrder order = inOrder(repository);
+        ArgumentCaptor<LocalDateTime> claimedUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        order.verify(repository).lockDueIds(any(), eq(500));
+        order.verify(repository).deferUntil(eq(List.of(1L, 2L, 3L)), claimedUntil.capture());
+        order.verify(repository).findByIdInOrderById(List.of(1L, 2L, 3L));
+        order.verify(repository).markSent(eq(List.of(1L, 2L, 3L)), any());
+        assertThat(claimedUntil.getValue()).isAfter(LocalDateTime.now().plusSeconds(250));
+
+        List<LocalSmtpSink.ReceivedMail> received = sink.getReceived();
+        assertThat(received).hasSize(2);
+        assertThat(received.get(0).recipients()).containsExactly("ops@bank.local");
+        assertThat(received.get(0).data()).contains("2 alerts on account ACC1");
+        assertThat(received.get(1).recipients()).containsExactly("risk@bank.local");
+        assertThat(sink.getConnections()).isEqualTo(1);
+        verify(lockService).release(LOCK);
+    }
+
+    @Test
+    void digestsOverTheRecipientCapWaitForTheNextMinute() {
+        dueRows(List.of(
+                row(1L, "ops@bank.local", "ACC1"),
+                row(2L, "ops@bank.local", "ACC2")
+        ));
+
+        AlertDispatcher dispatcher = dispatcher(1);
+        dispatcher.dispatch();
+        dispatcher.closeTransport();
+
+        assertThat(sink.getReceived()).hasSize(1);
+        verify(repository).markSent(eq(List.of(1L)), any());
+
+        ArgumentCaptor<LocalDateTime> deferredUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).deferUntil(eq(List.of(2L)), deferredUntil.capture());
+        assertThat(deferredUntil.getValue().getSecond()).isZero();
+    }
+
+    @Test
+    void digestsSentByOtherNodesThisMinuteCountTowardsTheCap() {
+        dueRows(List.of(
+                row(1L, "ops@bank.local", "ACC1"),
+                row(2L, "risk@bank.local", "ACC2")
+        ));
+        List<Object[]> sentThisMinute = List.<Object[]>of(new Object[]{"ops@bank.local", 2L});
+        when(repository.countDigestsSentSince(anyCollection(), any())).thenReturn(sentThisMinute);
+
+        AlertDispatcher dispatcher = dispatcher(2);
+        dispatcher.dispatch();
+        dispatcher.closeTransport();
+
+        assertThat(sink.getReceived()).hasSize(1);
+        assertThat(sink.getReceived().get(0).recipients()).containsExactly("risk@bank.local");
+        verify(repository).markSent(eq(List.of(2L)), any());
+        verify(repository).deferUntil(eq(List.of(1L)), any());
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).countDigestsSentSince(anyCollection(), since.capture());
+        assertThat(since.getValue().getSecond()).isZero();
+    }
+
+    @Test
+    void nothingIsClaimedWithoutTheLease() {
+        when(lockService.tryAcquire(eq(LOCK), anyInt())).thenReturn(false);
+
+        dispatcher(30).dispatch();
+
+        verify(repository, never()).lockDueIds(any(), anyInt());
+        verify(lockService, never()).release(anyString());
+        assertThat(sink.getReceived()).isEmpty();
+    }
+
+    @Test
+    void emptyClaimSendsNothing() {
+        when(repository.lockDueIds(any(), anyInt())).thenReturn(List.of());
+
+        dispatcher(30).dispatch();
+
+        verify(repository, never()).deferUntil(anyCollection(), any());
+        verify(repository, never()).markSent(anyCollection(), any());
+        verify(lockService, times(1)).release(LOCK);
+        assertThat(sink.getConnections()).isZero();
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private AlertDispatcher dispatcher(int maxPerRecipientPerMinute) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        return new AlertDispatcher(repository, lockService, transactionTemplate, mailSender,
+                true, "fraud-alerts@bank.local", 500, maxPerRecipientPerMinute,
+                8, 30, 3600, 60, 300, 60000, 7);
+    }
+
+    private void dueRows(List<AlertOutbox> rows) {
+        List<Long> ids = rows.stream().map(AlertOutbox::getId).toList();
+        when(repository.lockDueIds(any(), anyInt())).thenReturn(ids);
+        when(repository.findByIdInOrderById(ids)).thenReturn(rows);
+    }
+
+    private static AlertOutbox row(long id, String recipient, String accountId) {
+        AlertOutbox row = new AlertOutbox();
+        ReflectionTestUtils.setField(row, "id", id);
+        row.setTransactionId("TXN" + id);
+        row.setAccountId(accountId);
+        row.setRecipient(recipient);
+        row.setRiskLevel("HIGH");
+        row.setMessage("Alert " + id + " on " + accountId);
+        row.setStatus("PENDING");
+        row.setAttempts(0);
+        row.setCreatedAt(LocalDateTime.now());
+        row.setNextAttemptAt(LocalDateTime.now());
+        return row;
+    }
+}
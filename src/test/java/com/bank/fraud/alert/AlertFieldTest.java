@@ -0,0 +1,108 @@
+package com.bank.fraud.alert;
+
+import com.bank.fraud.model.Transaction;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Placeholder values: amounts against String.format, timestamps, and
+ * escaping per channel.
+ */
+class AlertFieldTest {
+
+    @Test
+    void amountMatchesFormatOnHalfCentsAndEdges() {
+        double[] amounts = {
+                0, -0.0, 1, 1.005, 2.675, 0.125, 0.005, 1.115, 10.045, 1234.565,
+                -1.005, -0.001, -0.005, 0.994999, 0.995, 99.995, 999999.995,
+                Double.MIN_VALUE, 1e13 + 0.005, 4.5e13, 9.0e16, 1e20, -1e20, Double.MAX_VALUE
+        };
+        for (double amount : amounts) {
+            assertThat(amount(amount, AlertChannel.TEXT)).as("amount %s", amount).isEqualTo(format(amount));
+        }
+    }
+
+    @Test
+    void amountMatchesFormatOnRandomCentsAndMills() {
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            double amount = switch (i % 3) {
+                case 0 -> random.nextInt(100_000_000) / 100.0;     // whole cents
+                case 1 -> random.nextInt(100_000_000) / 1000.0;    // mills, a tenth on the half cent
+                default -> (random.nextDouble() - 0.5) * 2e6;
+            };
+            assertThat(amount(amount, AlertChannel.TEXT)).as("amount %s", amount).isEqualTo(format(amount));
+        }
+    }
+
+    @Test
+    void nonFiniteAmountsAreNullInJsonOnly() {
+        assertThat(amount(Double.NaN, AlertChannel.JSON)).isEqualTo("null");
+        assertThat(amount(Double.POSITIVE_INFINITY, AlertChannel.JSON)).isEqualTo("null");
+        assertThat(amount(Double.NaN, AlertChannel.TEXT)).isEqualTo(format(Double.NaN));
+        assertThat(amount(Double.NEGATIVE_INFINITY, AlertChannel.HTML)).isEqualTo(format(Double.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    void missingAmountRendersAsZero() {
+        StringBuilder out = new StringBuilder();
+        AlertField.AMOUNT.append(new Transaction(), AlertChannel.JSON, out);
+
+        assertThat(out).hasToString("0.00");
+    }
+
+    @Test
+    void timeIsZeroPadded() {
+        StringBuilder out = new StringBuilder();
+        AlertField.appendTime(LocalDateTime.of(987, 1, 2, 3, 4, 5), out);
+
+        assertThat(out).hasToString("0987-01-02 03:04:05");
+    }
+
+    @Test
+    void stringFieldsAreEscapedPerChannel() {
+        Transaction transaction = new Transaction();
+        transaction.setAccountId("<a href=\"x\">'&'</a>\\\n\t\u0001");
+
+        assertThat(field(AlertField.ACCOUNT_ID, transaction, AlertChannel.TEXT))
+                .isEqualTo("<a href=\"x\">'&'</a>\\\n\t\u0001");
+        assertThat(field(AlertField.ACCOUNT_ID, transaction, AlertChannel.HTML))
+                .isEqualTo("&lt;a href=&quot;x&quot;&gt;&#39;&amp;&#39;&lt;/a&gt;\\\n\t\u0001");
+        assertThat(field(AlertField.ACCOUNT_ID, transaction, AlertChannel.JSON))
+                .isEqualTo("<a href=\\\"x\\\">'&'</a>\\\\\\n\\t\\u0001");
+    }
+
+    @Test
+    void unknownPlaceholderIsRejected() {
+        assertThatThrownBy(() -> AlertField.ofPlaceholder("balance"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("{{balance}}");
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private static String amount(double amount, AlertChannel channel) {
+        StringBuilder out = new StringBuilder();
+        AlertField.appendAmount(amount, channel, out);
+        return out.toString();
+    }
+
+    private static String format(double amount) {
+        return String.format(Locale.ROOT, "%.2f", amount);
+    }
+
+    private static String field(AlertField field, Transaction transaction, AlertChannel channel) {
+        StringBuilder out = new StringBuilder();
+        field.append(transaction, channel, out);
+        return out.toString();
+    }
+}
@@ -0,0 +1,111 @@
+package com.bank.fraud.alert;
+
+import com.bank.fraud.model.Transaction;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The bundled templates, and the hand-written UTF-8 encoder against the JDK's.
+ */
+class AlertRendererTest {
+
+    private final AlertRenderer renderer = new AlertRenderer();
+
+    @Test
+    void textTemplateRendersEveryField() {
+        String text = renderer.render(AlertChannel.TEXT, transaction("ACC1", 12500.5));
+
+        assertThat(text).contains(
+                "Transaction ID: TXN1",
+                "Account ID: ACC1",
+                "Amount: ₹12500.50",
+                "Risk Level: HIGH",
+                "Final Risk Score: 87",
+                "Time: 2026-03-04 05:06:07"
+        );
+    }
+
+    @Test
+    void jsonTemplateIsValidJson() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+
+        JsonNode json = mapper.readTree(renderer.render(AlertChannel.JSON, transaction("A\"C\\C\n1", 1.005)));
+        assertThat(json.get("accountId").asText()).isEqualTo("A\"C\\C\n1");
+        assertThat(json.get("amount").decimalValue()).isEqualByComparingTo("1.01");
+        assertThat(json.get("finalRiskScore").asInt()).isEqualTo(87);
+
+        JsonNode nan = mapper.readTree(renderer.render(AlertChannel.JSON, transaction("ACC1", Double.NaN)));
+        assertThat(nan.get("amount").isNull()).isTrue();
+    }
+
+    @Test
+    void htmlTemplateEscapesFields() {
+        String html = renderer.render(AlertChannel.HTML, transaction("<b>ACC1</b>", 1));
+
+        assertThat(html).contains("<td>&lt;b&gt;ACC1&lt;/b&gt;</td>").doesNotContain("<b>ACC1");
+    }
+
+    @Test
+    void utf8BytesMatchTheJdkEncoder() {
+        String[] accountIds = {
+                "ACC1",                         // ASCII
+                "Zürich-ß",                     // two-byte
+                "₹ उदाहरण",                     // three-byte
+                "🚨💳",                         // surrogate pairs
+                "bad\uD800x\uDC00",             // lone surrogates
+                "end\uD83D"                     // high surrogate at the very end
+        };
+        for (AlertChannel channel : AlertChannel.values()) {
+            for (String accountId : accountIds) {
+                Transaction transaction = transaction(accountId, 42);
+                assertThat(renderer.renderUtf8(channel, transaction))
+                        .as("%s %s", channel, accountId)
+                        .isEqualTo(renderer.render(channel, transaction).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    @Test
+    void oversizedAlertDoesNotLeakIntoTheNext() {
+        String huge = "X".repeat(40_000);
+
+        assertThat(renderer.render(AlertChannel.TEXT, transaction(huge, 1))).contains(huge);
+        assertThat(renderer.renderUtf8(AlertChannel.TEXT, transaction(huge, 1)).length).isGreaterThan(40_000);
+
+        String small = renderer.render(AlertChannel.TEXT, transaction("ACC2", 1));
+        assertThat(small).contains("Account ID: ACC2").doesNotContain("XXX");
+        assertThat(renderer.renderUtf8(AlertChannel.TEXT, transaction("ACC2", 1)))
+                .isEqualTo(small.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void renderToAppends() {
+        StringBuilder out = new StringBuilder();
+        renderer.renderTo(AlertChannel.TEXT, transaction("ACC1", 1), out);
+        renderer.renderTo(AlertChannel.TEXT, transaction("ACC2", 1), out);
+
+        assertThat(out.toString()).contains("Account ID: ACC1", "Account ID: ACC2");
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private static Transaction transaction(String accountId, double amount) {
+        Transaction transaction = new Transaction();
+        transaction.setTransactionId("TXN1");
+        transaction.setAccountId(accountId);
+        transaction.setAmount(amount);
+        transaction.setRiskLevel("HIGH");
+        transaction.setFinalRiskScore(87);
+        transaction.setTransactionTime(LocalDateTime.of(2026, 3, 4, 5, 6, 7));
+        return transaction;
+    }
+}
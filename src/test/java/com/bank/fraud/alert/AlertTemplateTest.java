@@ -0,0 +1,81 @@
+package com.bank.fraud.alert;
+
+import com.bank.fraud.model.Transaction;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Template compilation into literal / field segments.
+ */
+class AlertTemplateTest {
+
+    @Test
+    void literalsAndFieldsAlternate() {
+        AlertTemplate template = AlertTemplate.compile(AlertChannel.TEXT, "Account {{accountId}} ({{ riskLevel }})");
+
+        assertThat(render(template, transaction("ACC1", "HIGH"))).isEqualTo("Account ACC1 (HIGH)");
+        assertThat(template.getLiteralLength()).isEqualTo("Account  ()".length());
+    }
+
+    @Test
+    void adjacentAndEdgePlaceholders() {
+        AlertTemplate template = AlertTemplate.compile(AlertChannel.TEXT, "{{accountId}}{{riskLevel}}");
+
+        assertThat(render(template, transaction("ACC1", "LOW"))).isEqualTo("ACC1LOW");
+        assertThat(template.getLiteralLength()).isZero();
+    }
+
+    @Test
+    void templateWithoutPlaceholdersRendersAsIs() {
+        AlertTemplate template = AlertTemplate.compile(AlertChannel.HTML, "<p>static & plain</p>");
+
+        assertThat(render(template, transaction("ACC1", "LOW"))).isEqualTo("<p>static & plain</p>");
+    }
+
+    @Test
+    void literalsAreNotEscapedButFieldsAre() {
+        AlertTemplate template = AlertTemplate.compile(AlertChannel.JSON, "{\"accountId\":\"{{accountId}}\"}");
+
+        assertThat(render(template, transaction("A\"1", "LOW"))).isEqualTo("{\"accountId\":\"A\\\"1\"}");
+    }
+
+    @Test
+    void rendersAppendToTheCallersBuilder() {
+        AlertTemplate template = AlertTemplate.compile(AlertChannel.TEXT, "[{{accountId}}]");
+        StringBuilder out = new StringBuilder("digest:");
+
+        template.render(transaction("ACC1", "LOW"), out);
+        template.render(transaction("ACC2", "LOW"), out);
+
+        assertThat(out).hasToString("digest:[ACC1][ACC2]");
+    }
+
+    @Test
+    void malformedTemplatesAreRejected() {
+        assertThatThrownBy(() -> AlertTemplate.compile(AlertChannel.TEXT, "Account {{accountId"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unclosed placeholder");
+        assertThatThrownBy(() -> AlertTemplate.compile(AlertChannel.TEXT, "{{balance}}"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private static String render(AlertTemplate template, Transaction transaction) {
+        StringBuilder out = new StringBuilder();
+        template.render(transaction, out);
+        return out.toString();
+    }
+
+    private static Transaction transaction(String accountId, String riskLevel) {
+        Transaction transaction = new Transaction();
+        transaction.setAccountId(accountId);
+        transaction.setRiskLevel(riskLevel);
+        return transaction;
+    }
+}
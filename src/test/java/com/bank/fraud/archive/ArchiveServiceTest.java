@@ -0,0 +1,147 @@
+package com.bank.fraud.archive;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Archival of audit_logs into segments against an in-memory database in
+ * MySQL mode, including a rerun after a crash between write and delete.
+ */
+class ArchiveServiceTest {
+
+    private static final LocalDate DAY = LocalDate.now().minusDays(100);
+
+    @TempDir
+    Path directory;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:archive;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        dataSource = new HikariDataSource(config);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE audit_logs (
+                    id            BIGINT        NOT NULL PRIMARY KEY,
+                    entity_type   VARCHAR(50)   NOT NULL,
+                    entity_id     VARCHAR(30)   NOT NULL,
+                    action        VARCHAR(50)   NOT NULL,
+                    performed_by  VARCHAR(50)   NOT NULL,
+                    description   VARCHAR(255)  NOT NULL,
+                    event_time    DATETIME(6)   NOT NULL,
+                    ip_address    VARCHAR(45)   NOT NULL
+                )
+                """);
+        jdbcTemplate.execute("CREATE TABLE transactions (transaction_time DATETIME(6))");
+        for (long id = 1; id <= 5; id++) {
+            jdbcTemplate.update(
+                    "INSERT INTO audit_logs VALUES (?, 'TRANSACTION', ?, 'CREATE', 'SYSTEM', 'd', ?, '10.0.0.1')",
+                    id, "TXN-" + id, DAY.atTime(10, 0).plusMinutes(id)
+            );
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE audit_logs");
+        jdbcTemplate.execute("DROP TABLE transactions");
+        dataSource.close();
+    }
+
+    @Test
+    void dayIsSplitIntoChunkSegmentsAndReadBackInOrder() {
+        service(2).archiveExpiredRows();
+
+        assertThat(segments()).containsExactly(
+                "part-0000000000000000001-0000000000000000002.fca",
+                "part-0000000000000000003-0000000000000000004.fca",
+                "part-0000000000000000005-0000000000000000005.fca"
+        );
+        assertThat(liveRows()).isZero();
+        assertThat(archivedIds()).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void rerunAfterCrashBeforeDeleteDoesNotArchiveTwice() throws IOException {
+        // A run with chunk size 2 wrote its first segment and died before the delete
+        writeSegment(1, 2, List.of(1L, 2L));
+
+        // Next run uses a different chunk size, so its chunk boundaries differ
+        service(3).archiveExpiredRows();
+
+        assertThat(liveRows()).isZero();
+        assertThat(archivedIds()).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void segmentMissingARowOfItsRangeStopsTheDay() throws IOException {
+        // Claims ids 1-3 but holds only 1 and 3: deleting the range would lose row 2
+        writeSegment(1, 3, List.of(1L, 3L));
+
+        service(2).archiveExpiredRows();
+
+        assertThat(liveRows()).isEqualTo(5);
+        assertThat(segments()).hasSize(1);
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private ArchiveService service(int chunkSize) {
+        return new ArchiveService(jdbcTemplate, true, directory.toString(), 90, chunkSize);
+    }
+
+    private void writeSegment(long firstId, long lastId, List<Long> ids) throws IOException {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id : ids) {
+            rows.add(new Object[]{
+                    id, "TRANSACTION", "TXN-" + id, "CREATE", "SYSTEM", "d",
+                    DAY.atTime(10, 0).plusMinutes(id), "10.0.0.1"
+            });
+        }
+        Path segment = directory.resolve("audit_logs").resolve(DAY.toString())
+                .resolve(String.format("part-%019d-%019d.fca", firstId, lastId));
+        ColumnarArchiveWriter.write(segment, ArchiveTable.AUDIT_LOGS.getColumns(), "event_time", rows);
+    }
+
+    private List<String> segments() {
+        try (Stream<Path> files = Files.list(directory.resolve("audit_logs").resolve(DAY.toString()))) {
+            return files.map(path -> path.getFileName().toString()).sorted().toList();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<Object> archivedIds() {
+        List<Map<String, Object>> rows = service(2).scan(
+                ArchiveTable.AUDIT_LOGS, new ArchiveScanFilter(null, LocalDateTime.now()), 100);
+        return rows.stream().map(row -> row.get("id")).toList();
+    }
+
+    private int liveRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_logs", Integer.class);
+    }
+}
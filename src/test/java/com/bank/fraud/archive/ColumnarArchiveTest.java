@@ -0,0 +1,161 @@
+package com.bank.fraud.archive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Segment write / read round trips for every column type.
+ */
+class ColumnarArchiveTest {
+
+    private static final List<ArchiveColumn> COLUMNS = List.of(
+            new ArchiveColumn("id", ColumnType.LONG),
+            new ArchiveColumn("name", ColumnType.STRING),
+            new ArchiveColumn("score", ColumnType.INT),
+            new ArchiveColumn("amount", ColumnType.DOUBLE),
+            new ArchiveColumn("flagged", ColumnType.BOOLEAN),
+            new ArchiveColumn("time", ColumnType.TIMESTAMP)
+    );
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 3, 10, 12, 0, 0, 123_456_000);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void everyColumnTypeRoundTrips() throws IOException {
+        List<Object[]> rows = List.of(
+                new Object[]{1L, "alpha", 0, 0.0, true, T0},
+                new Object[]{-5L, null, -42, -1234.5678, false, T0.minusYears(60)},     // deltas go negative
+                new Object[]{Long.MAX_VALUE, "", Integer.MAX_VALUE, Double.MAX_VALUE, true, T0.plusNanos(1_000)},
+                new Object[]{Long.MIN_VALUE, "alpha", Integer.MIN_VALUE, Double.MIN_VALUE, false, T0}
+        );
+
+        List<Map<String, Object>> read = writeAndReadAll(rows);
+
+        assertThat(read).hasSize(rows.size());
+        for (int r = 0; r < rows.size(); r++) {
+            for (int c = 0; c < COLUMNS.size(); c++) {
+                assertThat(read.get(r).get(COLUMNS.get(c).name()))
+                        .as("row %d, column %s", r, COLUMNS.get(c).name())
+                        .isEqualTo(rows.get(r)[c]);
+            }
+        }
+    }
+
+    @Test
+    void nullStringsStayNullAndAreNotInTheDictionary() throws IOException {
+        List<Object[]> rows = List.of(
+                new Object[]{1L, null, 1, 1.0, false, T0},
+                new Object[]{2L, "x", 2, 2.0, false, T0},
+                new Object[]{3L, null, 3, 3.0, false, T0}
+        );
+        assertThat(writeAndReadAll(rows)).extracting(row -> row.get("name")).containsExactly(null, "x", null);
+
+        // "null" is not a value: an equality predicate on it finds nothing
+        Path segment = directory.resolve("nulls.fca");
+        ColumnarArchiveWriter.write(segment, COLUMNS, "time", rows);
+        List<Object> matched = new ArrayList<>();
+        try (ColumnarArchiveReader reader = ColumnarArchiveReader.open(segment)) {
+            reader.scan(new ArchiveScanFilter(null, null).withEquals("name", "null"), row -> matched.add(row));
+        }
+        assertThat(matched).isEmpty();
+    }
+
+    @Test
+    void explanationColumnKeepsItsText() throws IOException {
+        List<ArchiveColumn> columns = ArchiveTable.TRANSACTIONS.getColumns();
+        String explanation = "1|amount_over_50k:25,velocity:30|amount:25,is_card:-4";
+
+        Object[] row = new Object[columns.size()];
+        for (int c = 0; c < columns.size(); c++) {
+            row[c] = switch (columns.get(c).type()) {
+                case STRING -> "v" + c;
+                case LONG -> (long) c;
+                case INT -> c;
+                case DOUBLE -> c + 0.25;
+                case BOOLEAN -> true;
+                case TIMESTAMP -> T0;
+            };
+        }
+        row[columns.size() - 1] = explanation;
+        Object[] unexplained = row.clone();
+        unexplained[0] = 99L;
+        unexplained[columns.size() - 1] = null;             // rows scored before explanations existed
+
+        Path segment = directory.resolve("transactions.fca");
+        ColumnarArchiveWriter.write(segment, columns, "transaction_time", List.of(row, unexplained));
+
+        List<ArchivedRow> read = new ArrayList<>();
+        try (ColumnarArchiveReader reader = ColumnarArchiveReader.open(segment)) {
+            reader.scan(new ArchiveScanFilter(null, null), read::add);
+        }
+        assertThat(read).extracting(r -> r.get("explanation")).containsExactly(explanation, null);
+        assertThat(read.get(0).get("fraud_detected")).isEqualTo(true);
+    }
+
+    @Test
+    void largeSegmentRoundTripsAndFiltersByTimeAndDictionary() throws IOException {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            rows.add(new Object[]{(long) i, "city-" + (i % 37), i % 100, i * 0.01, i % 3 == 0, T0.plusSeconds(i)});
+        }
+        Path segment = directory.resolve("large.fca");
+        ColumnarArchiveWriter.write(segment, COLUMNS, "time", rows);
+
+        ArchiveScanFilter filter = new ArchiveScanFilter(T0.plusSeconds(1_000), T0.plusSeconds(2_000))
+                .withEquals("name", "city-5");
+        List<ArchivedRow> read = new ArrayList<>();
+        try (ColumnarArchiveReader reader = ColumnarArchiveReader.open(segment)) {
+            assertThat(reader.getRowCount()).isEqualTo(rows.size());
+            assertThat(reader.readLongs("id")).hasSize(rows.size()).startsWith(0L, 1L, 2L);
+            reader.scan(filter, read::add);
+        }
+
+        assertThat(read).isNotEmpty().allSatisfy(row -> {
+            long id = (Long) row.get("id");
+            assertThat(id).isBetween(1_000L, 1_999L);
+            assertThat(id % 37).isEqualTo(5);
+            assertThat(row.get("time")).isEqualTo(T0.plusSeconds(id));
+            assertThat(row.get("flagged")).isEqualTo(id % 3 == 0);
+        });
+        assertThat(read).hasSize((int) LongStream.range(1_000, 2_000).filter(i -> i % 37 == 5).count());
+    }
+
+    @Test
+    void consumerCanStopTheScan() throws IOException {
+        List<Object[]> rows = List.of(
+                new Object[]{1L, "a", 1, 1.0, false, T0},
+                new Object[]{2L, "b", 2, 2.0, false, T0}
+        );
+        Path segment = directory.resolve("stop.fca");
+        ColumnarArchiveWriter.write(segment, COLUMNS, "time", rows);
+
+        List<ArchivedRow> read = new ArrayList<>();
+        try (ColumnarArchiveReader reader = ColumnarArchiveReader.open(segment)) {
+            assertThat(reader.scan(new ArchiveScanFilter(null, null), row -> read.add(row) && false)).isFalse();
+        }
+        assertThat(read).hasSize(1);
+    }
+
+    private List<Map<String, Object>> writeAndReadAll(List<Object[]> rows) throws IOException {
+        Path segment = directory.resolve("segment-" + System.nanoTime() + ".fca");
+        ColumnarArchiveWriter.write(segment, COLUMNS, "time", rows);
+
+        List<Map<String, Object>> read = new ArrayList<>();
+        try (ColumnarArchiveReader reader = ColumnarArchiveReader.open(segment)) {
+            reader.scan(new ArchiveScanFilter(null, null), row -> read.add(row.toMap()));
+        }
+        return read;
+    }
+}
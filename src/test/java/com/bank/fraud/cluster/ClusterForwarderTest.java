@@ -0,0 +1,39 @@
+package com.bank.fraud.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Startup validation of the shared cluster token.
+ */
+class ClusterForwarderTest {
+
+    private static final String TOKEN = "0123456789abcdef0123456789abcdef";
+
+    @Test
+    void missingPlaceholderOrShortTokenFailsStartup() {
+        for (String token : new String[]{null, "", "   ", "change-me-cluster-token", TOKEN.substring(1)}) {
+            assertThatThrownBy(() -> forwarder(token))
+                    .as("token %s", token)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("cluster.token");
+        }
+    }
+
+    @Test
+    void onlyTheConfiguredTokenIsAccepted() {
+        ClusterForwarder forwarder = forwarder(TOKEN);
+
+        assertThat(forwarder.isValidToken(TOKEN)).isTrue();
+        assertThat(forwarder.isValidToken(TOKEN.toUpperCase())).isFalse();
+        assertThat(forwarder.isValidToken(null)).isFalse();
+    }
+
+    private static ClusterForwarder forwarder(String token) {
+        return new ClusterForwarder(new ObjectMapper(), token, 500, 5000);
+    }
+}
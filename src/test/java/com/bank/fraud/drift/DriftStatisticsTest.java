@@ -0,0 +1,81 @@
+package com.bank.fraud.drift;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * PSI, KS and quantiles over bucket counts.
+ */
+class DriftStatisticsTest {
+
+    @Test
+    void psiIsZeroForTheSameDistribution() {
+        long[] current = {10, 20, 30, 40};
+        long[] reference = {100, 200, 300, 400};
+
+        assertThat(DriftStatistics.psi(current, reference, 0, 4, 1)).isCloseTo(0.0, within(1e-12));
+    }
+
+    @Test
+    void psiMatchesTheDefinition() {
+        long[] current = {50, 50};
+        long[] reference = {90, 10};
+
+        double expected = (0.5 - 0.9) * Math.log(0.5 / 0.9) + (0.5 - 0.1) * Math.log(0.5 / 0.1);
+        assertThat(DriftStatistics.psi(current, reference, 0, 2, 1)).isCloseTo(expected, within(1e-12));
+    }
+
+    @Test
+    void psiComparesBucketGroups() {
+        // Shifts inside a group of two buckets do not count
+        long[] current = {10, 40, 25, 25};
+        long[] reference = {40, 10, 25, 25};
+
+        assertThat(DriftStatistics.psi(current, reference, 0, 4, 2)).isCloseTo(0.0, within(1e-12));
+        assertThat(DriftStatistics.psi(current, reference, 0, 4, 1)).isGreaterThan(0.25);
+    }
+
+    @Test
+    void psiStaysFiniteWithEmptyBuckets() {
+        long[] current = {100, 0};
+        long[] reference = {0, 100};
+
+        double psi = DriftStatistics.psi(current, reference, 0, 2, 1);
+        assertThat(psi).isFinite().isGreaterThan(0.25);
+    }
+
+    @Test
+    void signalsAreReadAtTheirOffset() {
+        // Two signals side by side: [signal A: 2 buckets][signal B: 2 buckets]
+        long[] current = {999, 1, 50, 50};
+        long[] reference = {1, 999, 50, 50};
+
+        assertThat(DriftStatistics.psi(current, reference, 2, 2, 1)).isCloseTo(0.0, within(1e-12));
+        assertThat(DriftStatistics.ks(current, reference, 2, 2)).isCloseTo(0.0, within(1e-12));
+        assertThat(DriftStatistics.total(current, 2, 2)).isEqualTo(100);
+    }
+
+    @Test
+    void ksIsTheLargestCumulativeGap() {
+        assertThat(DriftStatistics.ks(new long[]{5, 5}, new long[]{50, 50}, 0, 2)).isCloseTo(0.0, within(1e-12));
+        assertThat(DriftStatistics.ks(new long[]{50, 50}, new long[]{100, 0}, 0, 2)).isCloseTo(0.5, within(1e-12));
+        assertThat(DriftStatistics.ks(new long[]{10, 0}, new long[]{0, 10}, 0, 2)).isCloseTo(1.0, within(1e-12));
+    }
+
+    @Test
+    void quantileIsTheFirstBucketReachingTheShare() {
+        long[] counts = {0, 10, 0, 10};
+
+        assertThat(DriftStatistics.quantile(counts, 0, 4, 0.0)).isEqualTo(1);
+        assertThat(DriftStatistics.quantile(counts, 0, 4, 0.5)).isEqualTo(1);
+        assertThat(DriftStatistics.quantile(counts, 0, 4, 0.51)).isEqualTo(3);
+        assertThat(DriftStatistics.quantile(counts, 0, 4, 1.0)).isEqualTo(3);
+    }
+
+    @Test
+    void quantileOfNoSamplesIsTheLastBucket() {
+        assertThat(DriftStatistics.quantile(new long[4], 0, 4, 0.5)).isEqualTo(3);
+    }
+}
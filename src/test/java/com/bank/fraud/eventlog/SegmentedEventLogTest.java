@@ -0,0 +1,209 @@
+package com.bank.fraud.eventlog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Group commit, segment roll, crash recovery and fail-stop on a failed sync.
+ */
+class SegmentedEventLogTest {
+
+    private static final int SEGMENT_BYTES = 256;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendsWaitingOnOneSyncShareTheNext() throws Exception {
+        CountDownLatch firstSyncEntered = new CountDownLatch(1);
+        CountDownLatch releaseFirstSync = new CountDownLatch(1);
+        AtomicInteger syncs = new AtomicInteger();
+
+        SegmentedEventLog eventLog = new SegmentedEventLog(directory, SEGMENT_BYTES, buffer -> {
+            if (syncs.incrementAndGet() == 1) {
+                firstSyncEntered.countDown();
+                await(releaseFirstSync);
+            }
+            buffer.force();
+        });
+
+        CompletableFuture<Long> first = eventLog.append(payload(0));
+        assertThat(firstSyncEntered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Queued behind the running sync
+        List<CompletableFuture<Long>> waiting = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            waiting.add(eventLog.append(payload(i)));
+        }
+        assertThat(waiting).noneMatch(CompletableFuture::isDone);
+
+        releaseFirstSync.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isZero();
+        for (int i = 0; i < waiting.size(); i++) {
+            assertThat(waiting.get(i).get(5, TimeUnit.SECONDS)).isEqualTo(i + 1);
+        }
+
+        assertThat(syncs.get()).isEqualTo(2);
+        assertThat(eventLog.getDurableOffset()).isEqualTo(3);
+        eventLog.close();
+    }
+
+    @Test
+    void concurrentAppendsGetDistinctOffsetsAndAllBecomeDurable() throws Exception {
+        SegmentedEventLog eventLog = SegmentedEventLog.open(directory, 64 * 1024);
+        List<CompletableFuture<Long>> appends = new ArrayList<>();
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread writer = new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    CompletableFuture<Long> append = eventLog.append(payload(i));
+                    synchronized (appends) {
+                        appends.add(append);
+                    }
+                }
+            });
+            writers.add(writer);
+            writer.start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        List<Long> offsets = new ArrayList<>();
+        for (CompletableFuture<Long> append : appends) {
+            offsets.add(append.get(5, TimeUnit.SECONDS));
+        }
+        assertThat(offsets).doesNotHaveDuplicates().hasSize(400).allMatch(offset -> offset >= 0 && offset < 400);
+        assertThat(eventLog.getDurableOffset()).isEqualTo(399);
+        eventLog.close();
+    }
+
+    @Test
+    void recordsRollIntoNewSegmentsAndSurviveReopen() throws Exception {
+        // Six 41-byte frames fit a 256-byte segment alongside the end marker
+        SegmentedEventLog eventLog = SegmentedEventLog.open(directory, SEGMENT_BYTES);
+        for (int i = 0; i < 13; i++) {
+            eventLog.append(payload(i)).get(5, TimeUnit.SECONDS);
+        }
+        assertThat(eventLog.getSegmentCount()).isEqualTo(3);
+        eventLog.close();
+
+        SegmentedEventLog reopened = SegmentedEventLog.open(directory, SEGMENT_BYTES);
+        assertThat(reopened.getNextOffset()).isEqualTo(13);
+        assertThat(reopened.append(payload(13)).get(5, TimeUnit.SECONDS)).isEqualTo(13);
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i <= 13; i++) {
+            expected.add(text(i));
+        }
+        assertThat(readAll(reopened)).isEqualTo(expected);
+        reopened.close();
+    }
+
+    @Test
+    void recoveryTruncatesATornTailRecord() throws Exception {
+        SegmentedEventLog eventLog = SegmentedEventLog.open(directory, SEGMENT_BYTES);
+        for (int i = 0; i < 3; i++) {
+            eventLog.append(payload(i)).get(5, TimeUnit.SECONDS);
+        }
+        eventLog.close();
+
+        // Crash mid-write of the third record: its payload never fully reached disk
+        int frameBytes = SegmentedEventLog.FRAME_HEADER_BYTES + payload(0).length;
+        Path segment = directory.resolve(String.format("%020d.log", 0));
+        corrupt(segment, 2 * frameBytes + SegmentedEventLog.FRAME_HEADER_BYTES);
+
+        SegmentedEventLog recovered = SegmentedEventLog.open(directory, SEGMENT_BYTES);
+        assertThat(recovered.getNextOffset()).isEqualTo(2);
+        assertThat(recovered.append(payload(7)).get(5, TimeUnit.SECONDS)).isEqualTo(2);
+        assertThat(readAll(recovered)).containsExactly(text(0), text(1), text(7));
+        recovered.close();
+    }
+
+    @Test
+    void failedSyncFailsPendingAppendsAndStopsTheLog() throws Exception {
+        AtomicInteger syncs = new AtomicInteger();
+        SegmentedEventLog eventLog = new SegmentedEventLog(directory, SEGMENT_BYTES, buffer -> {
+            if (syncs.incrementAndGet() == 2) {
+                throw new UncheckedIOException(new IOException("EIO"));
+            }
+            buffer.force();
+        });
+
+        assertThat(eventLog.append(payload(0)).get(5, TimeUnit.SECONDS)).isZero();
+        CompletableFuture<Long> lost = eventLog.append(payload(1));
+
+        assertThatThrownBy(() -> lost.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseMessage("EIO");
+        assertThatThrownBy(() -> eventLog.append(payload(2)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("restart");
+        assertThat(eventLog.getDurableOffset()).isZero();
+        eventLog.close();
+
+        // The failed record was cut back and is not recovered
+        SegmentedEventLog restarted = SegmentedEventLog.open(directory, SEGMENT_BYTES);
+        assertThat(restarted.getNextOffset()).isEqualTo(1);
+        assertThat(readAll(restarted)).containsExactly(text(0));
+        restarted.close();
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private static byte[] payload(int i) {
+        return text(i).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Same length for every i below 1000
+    private static String text(int i) {
+        return String.format("decision-%03d-%s", i, "x".repeat(20));
+    }
+
+    private static List<String> readAll(SegmentedEventLog eventLog) throws IOException {
+        List<String> payloads = new ArrayList<>();
+        try (EventLogReader reader = eventLog.reader(0)) {
+            for (LogRecord record : reader.poll(1000)) {
+                payloads.add(new String(record.payload(), StandardCharsets.UTF_8));
+            }
+        }
+        return payloads;
+    }
+
+    private static void corrupt(Path segment, int position) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            buffer.put(position, (byte) (buffer.get(position) ^ 0xFF));
+            buffer.force();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
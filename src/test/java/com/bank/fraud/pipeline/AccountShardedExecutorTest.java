@@ -0,0 +1,144 @@
+package com.bank.fraud.pipeline;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Lane routing, per-account ordering and bounded lane queues.
+ */
+class AccountShardedExecutorTest {
+
+    private AccountShardedExecutor executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void laneOfIsStableAndInRange() {
+        for (int i = 0; i < 1000; i++) {
+            String accountId = "ACC" + i;
+            int lane = AccountShardedExecutor.laneOf(accountId, 16);
+            assertThat(lane).isBetween(0, 15);
+            assertThat(AccountShardedExecutor.laneOf(accountId, 16)).isEqualTo(lane);
+        }
+    }
+
+    @Test
+    void sequentialAccountIdsSpreadOverEveryLane() {
+        int[] perLane = new int[16];
+        for (int i = 1; i <= 999; i++) {
+            perLane[AccountShardedExecutor.laneOf(String.format("ACC%03d", i), 16)]++;
+        }
+
+        // ~62 each on average; no lane empty or holding several times its share
+        for (int count : perLane) {
+            assertThat(count).isBetween(20, 150);
+        }
+    }
+
+    @Test
+    void tasksOfOneAccountRunInSubmissionOrder() throws Exception {
+        executor = new AccountShardedExecutor(4, 1000);
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        Set<String> threads = Collections.synchronizedSet(new HashSet<>());
+
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            int task = i;
+            results.add(executor.submit("ACC042", () -> {
+                order.add(task);
+                threads.add(Thread.currentThread().getName());
+                return task;
+            }));
+        }
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        assertThat(order).hasSize(500).isSorted();
+        assertThat(threads).containsExactly(
+                "account-lane-" + AccountShardedExecutor.laneOf("ACC042", 4));
+    }
+
+    @Test
+    void busyLaneDoesNotHoldUpOtherLanes() throws Exception {
+        executor = new AccountShardedExecutor(4, 1000);
+        String blocked = "ACC001";
+        String other = accountOnAnotherLane(blocked, 4);
+
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> stuck = executor.submit(blocked, () -> await(release));
+
+        assertThat(executor.submit(other, () -> "done").get(5, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(stuck).isNotDone();
+
+        release.countDown();
+        assertThat(stuck.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void fullLaneQueueRejectsInsteadOfQueueing() throws Exception {
+        executor = new AccountShardedExecutor(1, 2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> running = executor.submit("ACC001", () -> {
+            started.countDown();
+            return await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> queued1 = executor.submit("ACC001", () -> "one");
+        CompletableFuture<String> queued2 = executor.submit("ACC002", () -> "two");
+        CompletableFuture<String> rejected = executor.submit("ACC003", () -> "three");
+
+        assertThat(executor.getQueuedTasks()).isEqualTo(2);
+        assertThatThrownBy(rejected::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("Account lane saturated, retry later");
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued1.get(5, TimeUnit.SECONDS)).isEqualTo("one");
+        assertThat(queued2.get(5, TimeUnit.SECONDS)).isEqualTo("two");
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private static String accountOnAnotherLane(String accountId, int lanes) {
+        int lane = AccountShardedExecutor.laneOf(accountId, lanes);
+        for (int i = 0; ; i++) {
+            String candidate = "ACC-OTHER-" + i;
+            if (AccountShardedExecutor.laneOf(candidate, lanes) != lane) {
+                return candidate;
+            }
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.bank.fraud.pipeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Claim, publish and gating of the pre-allocated ring.
+ */
+class TransactionRingBufferTest {
+
+    private static final long NO_WAIT = 0;
+
+    @Test
+    void sizeMustBeAPowerOfTwo() {
+        assertThatThrownBy(() -> new TransactionRingBuffer(12))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new TransactionRingBuffer(16).getSize()).isEqualTo(16);
+    }
+
+    @Test
+    void claimsAreConsecutiveAndSlotsWrap() {
+        TransactionRingBuffer ring = new TransactionRingBuffer(4);
+        Sequence consumer = new Sequence(-1);
+        ring.setGatingSequences(consumer);
+
+        for (long expected = 0; expected < 4; expected++) {
+            assertThat(ring.tryClaim(NO_WAIT)).isEqualTo(expected);
+        }
+        assertThat(ring.getClaimed()).isEqualTo(3);
+
+        // Same slot object every lap: nothing is allocated per event
+        assertThat(ring.get(5)).isSameAs(ring.get(1));
+        assertThat(ring.get(0)).isNotSameAs(ring.get(1));
+    }
+
+    @Test
+    void claimCannotLapTheSlowestGatingSequence() {
+        TransactionRingBuffer ring = new TransactionRingBuffer(4);
+        Sequence fast = new Sequence(-1);
+        Sequence slow = new Sequence(-1);
+        ring.setGatingSequences(fast, slow);
+
+        for (int i = 0; i < 4; i++) {
+            ring.publish(ring.tryClaim(NO_WAIT));
+        }
+        fast.set(3);
+
+        // The slow stage still holds slot 0
+        assertThat(ring.tryClaim(TimeUnit.MILLISECONDS.toNanos(5))).isEqualTo(-1);
+        assertThat(ring.getClaimed()).isEqualTo(3);
+
+        slow.set(0);
+        assertThat(ring.tryClaim(NO_WAIT)).isEqualTo(4);
+        assertThat(ring.tryClaim(NO_WAIT)).isEqualTo(-1);
+    }
+
+    @Test
+    void cursorOnlyAdvancesInClaimOrder() throws Exception {
+        TransactionRingBuffer ring = new TransactionRingBuffer(8);
+        long first = ring.tryClaim(NO_WAIT);
+        long second = ring.tryClaim(NO_WAIT);
+
+        Thread later = new Thread(() -> ring.publish(second));
+        later.start();
+        later.join(50);
+
+        // The second producer waits for the first before the cursor moves past it
+        assertThat(later.isAlive()).isTrue();
+        assertThat(ring.getCursor().get()).isEqualTo(-1);
+
+        ring.publish(first);
+        later.join(5_000);
+        assertThat(later.isAlive()).isFalse();
+        assertThat(ring.getCursor().get()).isEqualTo(second);
+    }
+
+    @Test
+    void concurrentProducersAndAGatedConsumerSeeEverySequenceOnce() throws Exception {
+        // Small enough to finish quickly on one core, where publish() spins until the predecessor is scheduled
+        int producers = 3;
+        int perProducer = 2_000;
+        long total = (long) producers * perProducer;
+
+        TransactionRingBuffer ring = new TransactionRingBuffer(64);
+        Sequence consumed = new Sequence(-1);
+        ring.setGatingSequences(consumed);
+
+        AtomicReference<String> error = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            long next = 0;
+            while (next < total) {
+                long available = ring.getCursor().get();
+                for (; next <= available; next++) {
+                    if (ring.get(next).startMillis != next) {
+                        error.compareAndSet(null, "slot " + next + " held " + ring.get(next).startMillis);
+                    }
+                }
+                consumed.set(next - 1);
+                Thread.yield();
+            }
+        });
+        consumer.start();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    long sequence;
+                    do {
+                        sequence = ring.tryClaim(TimeUnit.MILLISECONDS.toNanos(10));
+                    } while (sequence < 0);
+                    ring.get(sequence).startMillis = sequence;
+                    ring.publish(sequence);
+                }
+            });
+            threads.add(producer);
+            producer.start();
+        }
+
+        for (Thread producer : threads) {
+            producer.join(30_000);
+        }
+        consumer.join(30_000);
+
+        assertThat(consumer.isAlive()).isFalse();
+        assertThat(error.get()).isNull();
+        assertThat(ring.getCursor().get()).isEqualTo(total - 1);
+        assertThat(consumed.get()).isEqualTo(total - 1);
+    }
+}
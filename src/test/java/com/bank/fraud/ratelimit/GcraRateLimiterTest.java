@@ -0,0 +1,125 @@
+package com.bank.fraud.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GCRA behaviour on an injected clock (nanos since an arbitrary origin).
+ */
+class GcraRateLimiterTest {
+
+    // 60 per minute: one emission interval is one second
+    private static final long T = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void burstIsAllowedAtOnceThenRejected() {
+        GcraRateLimiter limiter = new GcraRateLimiter(60, 3);
+
+        assertThat(limiter.tryAcquire("acc", 0)).isTrue();
+        assertThat(limiter.tryAcquire("acc", 0)).isTrue();
+        assertThat(limiter.tryAcquire("acc", 0)).isTrue();
+        assertThat(limiter.tryAcquire("acc", 0)).isFalse();
+    }
+
+    @Test
+    void afterTheBurstRequestsAreSpacedByTheEmissionInterval() {
+        GcraRateLimiter limiter = new GcraRateLimiter(60, 3);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("acc", 0);
+        }
+
+        assertThat(limiter.tryAcquire("acc", T - 1)).isFalse();
+        assertThat(limiter.tryAcquire("acc", T)).isTrue();
+        assertThat(limiter.tryAcquire("acc", T)).isFalse();
+        assertThat(limiter.tryAcquire("acc", 2 * T)).isTrue();
+    }
+
+    @Test
+    void steadyRateAtTheLimitIsNeverRejected() {
+        GcraRateLimiter limiter = new GcraRateLimiter(60, 1);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.tryAcquire("acc", i * T)).as("request %d", i).isTrue();
+        }
+        assertThat(limiter.tryAcquire("acc", 99 * T + T / 2)).isFalse();
+    }
+
+    @Test
+    void idleKeyRefillsToTheBurstButNotBeyond() {
+        GcraRateLimiter limiter = new GcraRateLimiter(60, 3);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("acc", 0);
+        }
+
+        long later = 100 * T;
+        assertThat(limiter.tryAcquire("acc", later)).isTrue();
+        assertThat(limiter.tryAcquire("acc", later)).isTrue();
+        assertThat(limiter.tryAcquire("acc", later)).isTrue();
+        assertThat(limiter.tryAcquire("acc", later)).isFalse();
+    }
+
+    @Test
+    void keysAreLimitedIndependently() {
+        GcraRateLimiter limiter = new GcraRateLimiter(60, 1);
+
+        assertThat(limiter.tryAcquire("a", 0)).isTrue();
+        assertThat(limiter.tryAcquire("a", 0)).isFalse();
+        assertThat(limiter.tryAcquire("b", 0)).isTrue();
+    }
+
+    @Test
+    void releaseAfterARejectInAnotherDimensionRestoresTheReservation() {
+        GcraRateLimiter accounts = new GcraRateLimiter(60, 2);
+        GcraRateLimiter devices = new GcraRateLimiter(60, 1);
+
+        // Device already used up by another account
+        assertThat(devices.tryAcquire("dev", 0)).isTrue();
+
+        // The account passes, the device does not: the request is refused, so the account gets its slot back
+        assertThat(accounts.tryAcquire("acc", 0)).isTrue();
+        assertThat(devices.tryAcquire("dev", 0)).isFalse();
+        accounts.release("acc");
+
+        // Both of the account's burst slots are still there for requests from other devices
+        assertThat(accounts.tryAcquire("acc", 0)).isTrue();
+        assertThat(accounts.tryAcquire("acc", 0)).isTrue();
+        assertThat(accounts.tryAcquire("acc", 0)).isFalse();
+    }
+
+    @Test
+    void releaseOfAnUnknownOrSweptKeyIsANoOp() {
+        GcraRateLimiter limiter = new GcraRateLimiter(60, 1);
+
+        limiter.release("never-seen");
+        assertThat(limiter.size()).isZero();
+
+        assertThat(limiter.tryAcquire("acc", 0)).isTrue();
+        limiter.sweep(10 * T);
+        limiter.release("acc");
+        assertThat(limiter.tryAcquire("acc", 10 * T)).isTrue();
+        assertThat(limiter.tryAcquire("acc", 10 * T)).isFalse();
+    }
+
+    @Test
+    void sweepRemovesOnlyFullyRefilledKeys() {
+        GcraRateLimiter limiter = new GcraRateLimiter(60, 3);
+        limiter.tryAcquire("idle", 0);                  // TAT = T
+        limiter.tryAcquire("busy", 0);
+        limiter.tryAcquire("busy", 0);
+        limiter.tryAcquire("busy", 0);                  // TAT = 3T
+
+        assertThat(limiter.sweep(T - 1)).isZero();
+        assertThat(limiter.sweep(T)).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+
+        // Its state was kept: one slot has refilled, not three
+        assertThat(limiter.tryAcquire("busy", T)).isTrue();
+        assertThat(limiter.tryAcquire("busy", T)).isFalse();
+
+        assertThat(limiter.sweep(4 * T)).isEqualTo(1);
+        assertThat(limiter.size()).isZero();
+    }
+}
@@ -0,0 +1,65 @@
+package com.bank.fraud.service;
+
+import com.bank.fraud.ml.ModelFeature;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compact encoding of stored explanations.
+ */
+class FraudExplanationTest {
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        FraudExplanation explanation = new FraudExplanation(
+                List.of(
+                        new FraudExplanation.RuleContribution(FraudRule.AMOUNT_OVER_50K, 25),
+                        new FraudExplanation.RuleContribution(FraudRule.VELOCITY, 30)
+                ),
+                List.of(
+                        new FraudExplanation.FeatureContribution(ModelFeature.AMOUNT, 25),
+                        new FraudExplanation.FeatureContribution(ModelFeature.IS_CARD, -4)
+                )
+        );
+
+        String encoded = explanation.encode();
+
+        assertThat(encoded).isEqualTo("1|amount_over_50k:25,velocity:30|amount:25,is_card:-4");
+        assertThat(FraudExplanation.decode(encoded)).isEqualTo(explanation);
+        assertThat(FraudExplanation.decode(encoded).getFeaturePoints()).isEqualTo(21);
+    }
+
+    @Test
+    void emptySectionsRoundTrip() {
+        FraudExplanation explanation = new FraudExplanation(List.of(), List.of());
+
+        assertThat(explanation.encode()).isEqualTo("1||");
+        assertThat(FraudExplanation.decode("1||")).isEqualTo(explanation);
+    }
+
+    @Test
+    void rowsWithoutExplanationDecodeEmpty() {
+        assertThat(FraudExplanation.decode(null).getRules()).isEmpty();
+        assertThat(FraudExplanation.decode("").getFeatures()).isEmpty();
+    }
+
+    @Test
+    void unknownIdsDecodeRawAndReEncodeUnchanged() {
+        String encoded = "1|retired_rule:15,velocity:30|old_feature:7";
+
+        FraudExplanation explanation = FraudExplanation.decode(encoded);
+
+        assertThat(explanation.getRules()).containsExactly(
+                new FraudExplanation.RuleContribution(null, "retired_rule", 15),
+                new FraudExplanation.RuleContribution(FraudRule.VELOCITY, "velocity", 30)
+        );
+        assertThat(explanation.getFeatures()).containsExactly(
+                new FraudExplanation.FeatureContribution(null, "old_feature", 7)
+        );
+        assertThat(explanation.encode()).isEqualTo(encoded);
+    }
+}
@@ -0,0 +1,140 @@
+package com.bank.fraud.service;
+
+import com.bank.fraud.dto.NotificationPageDTO;
+import com.bank.fraud.model.AuditLog;
+import com.bank.fraud.repository.AuditLogRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Delta polling over an in-memory audit table whose rows "commit" in a
+ * different order than their eventTime and id.
+ */
+class NotificationServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    private final List<AuditLog> committed = new ArrayList<>();
+    private NotificationService service;
+
+    @BeforeEach
+    void setUp() {
+        AuditLogRepository repository = mock(AuditLogRepository.class);
+        when(repository.findPageFrom(isNull(), any(), any(), any())).thenAnswer(invocation -> {
+            LocalDateTime from = invocation.getArgument(2);
+            Pageable pageable = invocation.getArgument(3);
+            return committed.stream()
+                    .filter(row -> !row.getEventTime().isBefore(from))
+                    .sorted(Comparator.comparing(AuditLog::getEventTime).thenComparing(AuditLog::getId))
+                    .limit(pageable.getPageSize())
+                    .toList();
+        });
+        service = new NotificationService(repository, 10);
+    }
+
+    @Test
+    void rowCommittingBehindTheCursorIsStillDelivered() {
+        commit(2, T0.plusSeconds(2));
+        NotificationPageDTO first = poll(legacyCursor(T0, 0));
+        assertThat(ids(first)).containsExactly(2L);
+
+        // Stamped earlier, with a lower id, but committed after the first poll
+        commit(1, T0.plusSeconds(1));
+        commit(3, T0.plusSeconds(3));
+        NotificationPageDTO second = poll(first.getNextCursor());
+
+        assertThat(ids(second)).containsExactly(1L, 3L);
+        assertThat(ids(poll(second.getNextCursor()))).isEmpty();
+    }
+
+    @Test
+    void rowsAreNotRepeatedAcrossPages() {
+        for (long id = 1; id <= 7; id++) {
+            commit(id, T0.plusSeconds(id));
+        }
+
+        List<Long> delivered = new ArrayList<>();
+        String cursor = legacyCursor(T0, 0);
+        NotificationPageDTO page;
+        do {
+            page = service.getNotificationsSince(null, "BLOCKED", cursor, 3);
+            delivered.addAll(ids(page));
+            cursor = page.getNextCursor();
+        } while (page.getHasMore());
+
+        assertThat(delivered).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        assertThat(ids(poll(cursor))).isEmpty();
+    }
+
+    @Test
+    void rowsOlderThanTheOverlapWindowAreNotRescanned() {
+        commit(1, T0);
+        NotificationPageDTO first = poll(legacyCursor(T0.minusSeconds(1), 0));
+        commit(2, T0.plusMinutes(1));
+        NotificationPageDTO second = poll(first.getNextCursor());
+        assertThat(ids(second)).containsExactly(2L);
+
+        // Commits more than the overlap after its eventTime: outside the guarantee
+        commit(3, T0.plusSeconds(30));
+        assertThat(ids(poll(second.getNextCursor()))).isEmpty();
+    }
+
+    @Test
+    void deliveredIdsInTheCursorAreCapped() {
+        for (long id = 1; id <= NotificationService.MAX_DELIVERED_IDS + 50; id++) {
+            commit(id, T0);
+        }
+
+        List<Long> delivered = new ArrayList<>();
+        String cursor = legacyCursor(T0.minusSeconds(1), 0);
+        for (int i = 0; i < 5; i++) {
+            NotificationPageDTO page = service.getNotificationsSince(null, "BLOCKED", cursor, 100);
+            delivered.addAll(ids(page));
+            cursor = page.getNextCursor();
+        }
+
+        // Past the cap some rows may repeat, but none is lost and the poller does not stall
+        assertThat(delivered).containsAll(committed.stream().map(AuditLog::getId).toList());
+    }
+
+    // --------------------------------------------------
+    // HELPER METHODS
+    // --------------------------------------------------
+
+    private NotificationPageDTO poll(String cursor) {
+        return service.getNotificationsSince(null, "BLOCKED", cursor, 50);
+    }
+
+    private void commit(long id, LocalDateTime eventTime) {
+        AuditLog row = new AuditLog();
+        ReflectionTestUtils.setField(row, "id", id);
+        row.setEventTime(eventTime);
+        row.setAction("BLOCKED");
+        committed.add(row);
+    }
+
+    private static List<Long> ids(NotificationPageDTO page) {
+        return page.getNotifications().stream().map(AuditLog::getId).toList();
+    }
+
+    private static String legacyCursor(LocalDateTime time, long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((time + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,88 @@
+package com.bank.fraud.service;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lease behaviour against an in-memory database in MySQL mode, with
+ * pooled connections that do not auto-commit (as in the prod profile).
+ */
+class SchedulerLockServiceTest {
+
+    private static final String LOCK = "test-lock";
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:locks;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        config.setAutoCommit(false);
+        config.setMaximumPoolSize(4);
+        dataSource = new HikariDataSource(config);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute("""
+                CREATE TABLE scheduler_locks (
+                    lock_name     VARCHAR(64)   NOT NULL PRIMARY KEY,
+                    locked_by     VARCHAR(128)  NOT NULL,
+                    locked_at     DATETIME(6)   NOT NULL,
+                    locked_until  DATETIME(6)   NOT NULL
+                )
+                """));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute("DROP TABLE scheduler_locks"));
+        dataSource.close();
+    }
+
+    @Test
+    void secondOwnerIsRefusedWhileLeaseIsLive() {
+        SchedulerLockService first = new SchedulerLockService(jdbcTemplate, transactionTemplate);
+        SchedulerLockService second = new SchedulerLockService(jdbcTemplate, transactionTemplate);
+
+        assertThat(first.tryAcquire(LOCK, 60)).isTrue();
+        assertThat(second.tryAcquire(LOCK, 60)).isFalse();
+        assertThat(lockedBy()).isEqualTo(first.getOwner());
+    }
+
+    @Test
+    void holderCanExtendItsLease() {
+        SchedulerLockService holder = new SchedulerLockService(jdbcTemplate, transactionTemplate);
+
+        assertThat(holder.tryAcquire(LOCK, 60)).isTrue();
+        assertThat(holder.tryAcquire(LOCK, 60)).isTrue();
+    }
+
+    @Test
+    void releasedLeaseCanBeTakenByAnotherOwner() {
+        SchedulerLockService first = new SchedulerLockService(jdbcTemplate, transactionTemplate);
+        SchedulerLockService second = new SchedulerLockService(jdbcTemplate, transactionTemplate);
+
+        assertThat(first.tryAcquire(LOCK, 60)).isTrue();
+        first.release(LOCK);
+
+        assertThat(second.tryAcquire(LOCK, 60)).isTrue();
+        assertThat(first.tryAcquire(LOCK, 60)).isFalse();
+        assertThat(lockedBy()).isEqualTo(second.getOwner());
+    }
+
+    private String lockedBy() {
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(
+                "SELECT locked_by FROM scheduler_locks WHERE lock_name = ?", String.class, LOCK));
+    }
+}
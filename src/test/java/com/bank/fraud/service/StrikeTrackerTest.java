@@ -0,0 +1,106 @@
+package com.bank.fraud.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Decay arithmetic of the per-account strike counters.
+ */
+class StrikeTrackerTest {
+
+    private static final long HIGH_HALF_LIFE = TimeUnit.MINUTES.toMillis(60);
+    private static final long MEDIUM_HALF_LIFE = TimeUnit.MINUTES.toMillis(20);
+    private static final double MEDIUM_WEIGHT = 0.34;
+
+    private final StrikeTracker tracker = new StrikeTracker(60, 20, MEDIUM_WEIGHT);
+
+    @Test
+    void highStrikeHalvesEveryHalfLife() {
+        assertThat(tracker.record("A1", "HIGH", 0)).isEqualTo(1.0);
+
+        assertThat(tracker.score("A1", HIGH_HALF_LIFE)).isCloseTo(0.5, within(1e-9));
+        assertThat(tracker.score("A1", 2 * HIGH_HALF_LIFE)).isCloseTo(0.25, within(1e-9));
+    }
+
+    @Test
+    void mediumStrikesDoNotStallHighDecay() {
+        tracker.record("A1", "HIGH", 0);
+        for (long t = 60_000; t <= HIGH_HALF_LIFE; t += 60_000) {
+            tracker.record("A1", "MEDIUM", t);
+        }
+
+        double medium = MEDIUM_WEIGHT * geometricSum(60, Math.pow(0.5, 60_000.0 / MEDIUM_HALF_LIFE));
+        assertThat(tracker.score("A1", HIGH_HALF_LIFE)).isCloseTo(0.5 + medium, within(1e-9));
+    }
+
+    @Test
+    void frequentStrikesStillDecay() {
+        // One MEDIUM strike a second: the decay between strikes is far below
+        // any fixed-point step, but the total must still level off
+        double ratio = Math.pow(0.5, 1_000.0 / MEDIUM_HALF_LIFE);
+        double score = 0;
+        for (int i = 0; i < 3_600; i++) {
+            score = tracker.record("A1", "MEDIUM", i * 1_000L);
+        }
+
+        assertThat(score).isCloseTo(MEDIUM_WEIGHT * geometricSum(3_600, ratio), within(1e-6));
+        assertThat(score).isLessThan(MEDIUM_WEIGHT / (1 - ratio));
+    }
+
+    @Test
+    void sweepDropsOnlyDecayedAccounts() {
+        tracker.record("OLD", "MEDIUM", 0);
+        tracker.record("NEW", "HIGH", 10 * MEDIUM_HALF_LIFE);
+
+        assertThat(tracker.sweep(10 * MEDIUM_HALF_LIFE)).isEqualTo(1);
+        assertThat(tracker.score("OLD", 10 * MEDIUM_HALF_LIFE)).isZero();
+        assertThat(tracker.score("NEW", 10 * MEDIUM_HALF_LIFE)).isEqualTo(1.0);
+    }
+
+    @Test
+    void resetAndRemoveAccountsForgetStrikes() {
+        tracker.record("A1", "HIGH", 0);
+        tracker.record("A2", "HIGH", 0);
+        tracker.record("B1", "HIGH", 0);
+
+        tracker.reset("A1");
+        assertThat(tracker.removeAccounts(id -> id.startsWith("A"))).isEqualTo(1);
+
+        assertThat(tracker.size()).isEqualTo(1);
+        assertThat(tracker.score("A2", 0)).isZero();
+        assertThat(tracker.score("B1", 0)).isEqualTo(1.0);
+    }
+
+    @Test
+    void restoredSnapshotKeepsDecaying() {
+        tracker.record("A1", "HIGH", 0);
+        tracker.record("A1", "MEDIUM", 0);
+        StrikeTracker.Strikes saved = tracker.snapshot("A1", MEDIUM_HALF_LIFE);
+
+        StrikeTracker restarted = new StrikeTracker(60, 20, MEDIUM_WEIGHT);
+        restarted.restore("A1", saved.high(), saved.medium(), saved.highAtMillis());
+
+        long later = HIGH_HALF_LIFE;
+        assertThat(restarted.score("A1", later)).isCloseTo(tracker.score("A1", later), within(1e-9));
+        assertThat(restarted.record("A1", "HIGH", later)).isCloseTo(0.5 + MEDIUM_WEIGHT / 8 + 1, within(1e-9));
+    }
+
+    @Test
+    void restoreDoesNotOverwriteLiveState() {
+        tracker.record("A1", "HIGH", 0);
+
+        tracker.restore("A1", 5, 5, 0);
+
+        assertThat(tracker.score("A1", 0)).isEqualTo(1.0);
+        assertThat(tracker.snapshot("NONE", 0)).isNull();
+    }
+
+    // 1 + r + r^2 + ... + r^(n-1)
+    private static double geometricSum(int n, double ratio) {
+        return (1 - Math.pow(ratio, n)) / (1 - ratio);
+    }
+}
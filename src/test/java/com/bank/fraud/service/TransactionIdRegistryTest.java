@@ -0,0 +1,93 @@
+package com.bank.fraud.service;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ID reservation against an in-memory database in MySQL mode.
+ */
+class TransactionIdRegistryTest {
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private TransactionIdRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:txids;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        config.setAutoCommit(false);
+        config.setMaximumPoolSize(4);
+        dataSource = new HikariDataSource(config);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute(
+                "CREATE TABLE transaction_ids (transaction_id VARCHAR(30) NOT NULL PRIMARY KEY)"));
+        registry = new TransactionIdRegistry(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute("DROP TABLE transaction_ids"));
+        dataSource.close();
+    }
+
+    @Test
+    void secondClaimOfAnIdIsADuplicate() {
+        transactionTemplate.executeWithoutResult(status -> registry.claim("TXN-1"));
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> registry.claim("TXN-1")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Duplicate transaction detected");
+    }
+
+    @Test
+    void rolledBackClaimFreesTheId() {
+        transactionTemplate.executeWithoutResult(status -> {
+            registry.claim("TXN-1");
+            status.setRollbackOnly();
+        });
+
+        transactionTemplate.executeWithoutResult(status -> registry.claim("TXN-1"));
+        assertThat(count()).isEqualTo(1);
+    }
+
+    @Test
+    void batchClaimReportsOnlyTakenIds() {
+        transactionTemplate.executeWithoutResult(status -> registry.claim("TXN-2"));
+
+        Set<String> taken = transactionTemplate.execute(
+                status -> registry.claimAll(List.of("TXN-3", "TXN-2", "TXN-1")));
+
+        assertThat(taken).containsExactly("TXN-2");
+        assertThat(count()).isEqualTo(3);
+    }
+
+    @Test
+    void batchWithoutDuplicatesClaimsEverything() {
+        Set<String> taken = transactionTemplate.execute(status -> registry.claimAll(List.of("TXN-1", "TXN-2")));
+
+        assertThat(taken).isEmpty();
+        assertThat(count()).isEqualTo(2);
+    }
+
+    private int count() {
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction_ids", Integer.class));
+    }
+}